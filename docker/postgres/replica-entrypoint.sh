@@ -0,0 +1,17 @@
+#!/bin/sh
+# Starts a streaming standby of $PRIMARY_HOST, cloning it on the first start
+set -e
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    mkdir -p "$PGDATA"
+    chown postgres:postgres "$PGDATA"
+    chmod 700 "$PGDATA"
+    until su-exec postgres env PGPASSWORD="$PRIMARY_PASSWORD" \
+            pg_basebackup -h "$PRIMARY_HOST" -U "$PRIMARY_USER" -D "$PGDATA" -R -X stream; do
+        echo "Waiting for primary $PRIMARY_HOST"
+        rm -rf "${PGDATA:?}"/*
+        sleep 1
+    done
+    echo "primary_conninfo = 'host=$PRIMARY_HOST user=$PRIMARY_USER password=$PRIMARY_PASSWORD'" \
+        >> "$PGDATA/postgresql.auto.conf"
+fi
+exec su-exec postgres postgres
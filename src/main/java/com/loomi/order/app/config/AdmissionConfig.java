@@ -0,0 +1,31 @@
+package com.loomi.order.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-admission")
+public class AdmissionConfig {
+
+    private boolean enabled = true;
+    private int initialLimit = 20;
+    private int minLimit = 4;
+    private int maxLimit = 200;
+    private long targetLatencyMs = 250;
+    private double backoffRatio = 0.9;
+    private long maxQueueWaitMs = 50;
+    private long retryAfterSeconds = 1;
+    private CustomerRateLimit customerRateLimit = new CustomerRateLimit();
+
+    @Data
+    public static class CustomerRateLimit {
+        private boolean enabled = false;
+        private int burst = 10;
+        private double refillPerSecond = 5;
+        private long idleEvictionMs = 300000;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.loomi.order.app.config;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "corporate-credit")
+public class CorporateCreditConfig {
+
+    private BigDecimal defaultLimit = new BigDecimal("100000");
+    private Map<String, BigDecimal> limits = new HashMap<>();
+    private int lockStripes = 64;
+    private long settlementIntervalMs = 3600000;
+    private int settlementBatchSize = 500;
+    private int settlementMaxBatchesPerRun = 20;
+
+    public BigDecimal limitFor(String cnpj) {
+        return limits.getOrDefault(cnpj, defaultLimit);
+    }
+
+}
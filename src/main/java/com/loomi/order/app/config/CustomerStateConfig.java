@@ -0,0 +1,18 @@
+package com.loomi.order.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "customer-state")
+public class CustomerStateConfig {
+
+    private boolean enabled = true;
+    private long restoreTimeoutMs = 30000;
+    private long pollTimeoutMs = 200;
+    private long invalidationTimeoutMs = 5000;
+    private int maxRecentOrders = 20;
+}
@@ -0,0 +1,18 @@
+package com.loomi.order.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "dlq-replay")
+public class DlqReplayConfig {
+
+    private String consumerGroup = "order-created-dlq-replay";
+    private double eventsPerSecond = 500;
+    private int maxPollRecords = 500;
+    private long pollTimeoutMs = 1000;
+    private int maxEmptyPolls = 5;
+}
@@ -0,0 +1,30 @@
+package com.loomi.order.app.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "kafka.topology")
+public class KafkaTopologyConfig {
+
+    private int defaultPartitions = 1;
+    private short replicationFactor = 1;
+    private int consumerInstances = 1;
+    private Map<String, Integer> partitions = new HashMap<>();
+
+    public int partitionsFor(String topic) {
+        return Math.max(1, partitions.getOrDefault(topic, defaultPartitions));
+    }
+
+    // Threads each instance needs so the whole group owns every partition, one partition per thread
+    public int consumerConcurrency(String topic) {
+        int instances = Math.max(1, consumerInstances);
+        return (partitionsFor(topic) + instances - 1) / instances;
+    }
+}
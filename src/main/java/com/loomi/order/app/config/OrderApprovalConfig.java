@@ -0,0 +1,16 @@
+package com.loomi.order.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-approval")
+public class OrderApprovalConfig {
+
+    private long reaperIntervalMs = 60000;
+    // Orders left in APPROVED longer than this go back to the approval queue
+    private long staleAfterMs = 1800000;
+}
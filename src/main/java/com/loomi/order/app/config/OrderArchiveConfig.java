@@ -0,0 +1,21 @@
+package com.loomi.order.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-archive")
+public class OrderArchiveConfig {
+
+    private boolean enabled = true;
+    private long intervalMs = 3600000;
+    // Terminal orders older than this move to orders_archive
+    private int retentionDays = 180;
+    private int batchSize = 500;
+    private int maxBatchesPerRun = 20;
+    // Monthly partitions kept ready beyond the current month
+    private int partitionsAhead = 3;
+}
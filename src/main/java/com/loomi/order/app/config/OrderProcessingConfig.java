@@ -14,5 +14,13 @@ public class OrderProcessingConfig {
 
     private BigDecimal highValueThreshold;
     private BigDecimal fraudThreshold;
+    private ParallelValidation parallelValidation = new ParallelValidation();
+
+    @Data
+    public static class ParallelValidation {
+        private boolean enabled = false;
+        private int threads = 4;
+        private int minItems = 4;
+    }
 
 }
@@ -0,0 +1,58 @@
+package com.loomi.order.app.config;
+
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.loomi.order.app.service.order.plan.ParallelItemValidator;
+
+@Configuration
+@ConditionalOnProperty(prefix = "order-processing.parallel-validation", name = "enabled", havingValue = "true")
+public class ParallelValidationConfig {
+
+    @Bean
+    ThreadPoolTaskExecutor itemValidationExecutor(
+            OrderProcessingConfig config,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        var threads = config.getParallelValidation().getThreads();
+        // Every validation thread can hold a connection next to the listener's own transaction
+        if (threads >= maximumPoolSize) {
+            throw new IllegalStateException("order-processing.parallel-validation.threads (" + threads
+                    + ") must stay below spring.datasource.hikari.maximum-pool-size (" + maximumPoolSize + ")");
+        }
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads * 64);
+        executor.setThreadNamePrefix("item-validation-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(task -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                if (context != null) {
+                    MDC.setContextMap(context);
+                }
+                try {
+                    task.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        });
+        return executor;
+    }
+
+    @Bean
+    ParallelItemValidator parallelItemValidator(
+            ThreadPoolTaskExecutor itemValidationExecutor,
+            OrderProcessingConfig config) {
+        return new ParallelItemValidator(
+                itemValidationExecutor.getThreadPoolExecutor(), config.getParallelValidation().getMinItems());
+    }
+}
@@ -0,0 +1,26 @@
+package com.loomi.order.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "pre-order")
+public class PreOrderConfig {
+
+    private long slotRefreshIntervalMs = 1000;
+    private Release release = new Release();
+
+    @Data
+    public static class Release {
+        private boolean enabled = true;
+        private long intervalMs = 60000;
+        private int chunkSize = 1000;
+        private int maxInFlight = 64;
+        private double eventsPerSecond = 2000;
+        private long leaseSeconds = 300;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.loomi.order.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "product-import")
+public class ProductImportConfig {
+
+    // Rows between progress log lines
+    private long progressIntervalRows = 100000;
+    // The import is rolled back once more rows than this are rejected; -1 never aborts
+    private long maxRejectedRows = 1000;
+    // Rejections listed in the report, the rest are only counted
+    private int maxReportedRejections = 100;
+    private int copyBufferBytes = 65536;
+    // Distinct products per upsert transaction, so row locks on products are held one batch at a time
+    private int upsertBatchSize = 5000;
+}
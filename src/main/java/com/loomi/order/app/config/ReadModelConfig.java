@@ -0,0 +1,26 @@
+package com.loomi.order.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "read-model")
+public class ReadModelConfig {
+
+    private boolean enabled = true;
+    private String consumerGroup = "order-summary-projector";
+    private int maxResults = 200;
+    private Datasource datasource = new Datasource();
+
+    // Blank url/username/password fall back to spring.datasource
+    @Data
+    public static class Datasource {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 5;
+    }
+}
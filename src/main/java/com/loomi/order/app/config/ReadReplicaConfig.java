@@ -0,0 +1,21 @@
+package com.loomi.order.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "read-replica")
+public class ReadReplicaConfig {
+
+    private boolean enabled = false;
+    // Blank username/password fall back to spring.datasource
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+    // The replica serves reads while it has replayed everything the primary had written one check earlier
+    private long lagCheckIntervalMs = 1000;
+}
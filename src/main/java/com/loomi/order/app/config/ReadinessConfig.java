@@ -0,0 +1,16 @@
+package com.loomi.order.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "readiness")
+public class ReadinessConfig {
+
+    private long maxConsumerLag = 1000;
+    private int maxInFlight = 50;
+
+}
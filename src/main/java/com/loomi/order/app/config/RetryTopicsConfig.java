@@ -0,0 +1,31 @@
+package com.loomi.order.app.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "kafka.retry-topics")
+public class RetryTopicsConfig {
+
+    private boolean enabled = true;
+    private List<Tier> tiers = new ArrayList<>(List.of(
+            new Tier(1000, 1),
+            new Tier(30000, 1),
+            new Tier(300000, 1)));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Tier {
+        private long delayMs;
+        private int concurrency = 1;
+    }
+}
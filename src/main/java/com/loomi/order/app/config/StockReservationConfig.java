@@ -0,0 +1,27 @@
+package com.loomi.order.app.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "stock-reservation")
+public class StockReservationConfig {
+
+    private long holdTtlMs = 300000;
+    private long reaperIntervalMs = 5000;
+    private int reaperBatchSize = 500;
+    private int reaperMaxBatchesPerRun = 20;
+    private Map<UUID, Integer> shardedProducts = new HashMap<>();
+
+    public int shardsFor(UUID productId) {
+        var shards = shardedProducts.get(productId);
+        return shards != null && shards > 1 ? shards : 0;
+    }
+}
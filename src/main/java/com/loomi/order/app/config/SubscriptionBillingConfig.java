@@ -0,0 +1,22 @@
+package com.loomi.order.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "subscription-billing")
+public class SubscriptionBillingConfig {
+
+    private boolean enabled = true;
+    private long intervalMs = 10000;
+    private int batchSize = 200;
+    private int maxBatchesPerRun = 50;
+    private int concurrency = 32;
+    private long leaseSeconds = 300;
+    private int maxAttempts = 3;
+    private long retryDelayMinutes = 60;
+
+}
@@ -0,0 +1,20 @@
+package com.loomi.order.app.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record ReadinessResponse(
+		String status,
+		// Lag of the partitions assigned to this instance; null while unknown
+		Long consumerLag,
+		int inFlight,
+		Map<Integer, Long> lagByPartition,
+		Instant timestamp) {
+
+	public static final String UP = "UP";
+	public static final String DEGRADED = "DEGRADED";
+
+	public boolean isReady() {
+		return UP.equals(status);
+	}
+}
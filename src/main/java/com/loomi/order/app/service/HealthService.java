@@ -2,13 +2,39 @@ package com.loomi.order.app.service;
 
 import org.springframework.stereotype.Service;
 
+import com.loomi.order.app.config.ReadinessConfig;
+import com.loomi.order.app.dto.ReadinessResponse;
+import com.loomi.order.domain.event.usecase.ConsumerBacklogProbe;
+
 import java.time.Instant;
 
 @Service
 public class HealthService {
 
+	private final ConsumerBacklogProbe backlogProbe;
+	private final ReadinessConfig readinessConfig;
+
+	public HealthService(ConsumerBacklogProbe backlogProbe, ReadinessConfig readinessConfig) {
+		this.backlogProbe = backlogProbe;
+		this.readinessConfig = readinessConfig;
+	}
+
 	public Instant getHealthStatus() {
 		return Instant.now();
 	}
-}
 
+	public ReadinessResponse getReadiness() {
+		// Only this instance's partitions count, and an unknown lag does not take the instance out
+		var lag = backlogProbe.assignedLag();
+		int inFlight = backlogProbe.inFlight();
+		boolean behind = (lag.isPresent() && lag.getAsLong() > readinessConfig.getMaxConsumerLag())
+				|| inFlight > readinessConfig.getMaxInFlight();
+
+		return new ReadinessResponse(
+				behind ? ReadinessResponse.DEGRADED : ReadinessResponse.UP,
+				lag.isPresent() ? lag.getAsLong() : null,
+				inFlight,
+				backlogProbe.lagByPartition(),
+				Instant.now());
+	}
+}
@@ -0,0 +1,108 @@
+package com.loomi.order.app.service.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.app.config.AdmissionConfig;
+import com.loomi.order.domain.exception.HttpException;
+import com.loomi.order.domain.order.exception.OrderAdmissionRejectedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class OrderAdmissionGate {
+
+    private final AdmissionConfig config;
+    private final AimdConcurrencyLimiter limiter;
+    private final Map<String, TokenBucket> customerBuckets = new ConcurrentHashMap<>();
+    private final Counter accepted;
+    private final Counter shedConcurrency;
+    private final Counter shedCustomerRate;
+    private final Timer queueTime;
+
+    public OrderAdmissionGate(AdmissionConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.limiter = new AimdConcurrencyLimiter(
+                config.getInitialLimit(),
+                config.getMinLimit(),
+                config.getMaxLimit(),
+                config.getTargetLatencyMs(),
+                config.getBackoffRatio());
+        this.accepted = meterRegistry.counter("order.admission.accepted");
+        this.shedConcurrency = meterRegistry.counter("order.admission.shed", "reason", "concurrency");
+        this.shedCustomerRate = meterRegistry.counter("order.admission.shed", "reason", "customer_rate");
+        this.queueTime = meterRegistry.timer("order.admission.queue");
+        meterRegistry.gauge("order.admission.limit", limiter, AimdConcurrencyLimiter::limit);
+        meterRegistry.gauge("order.admission.in_flight", limiter, AimdConcurrencyLimiter::inFlight);
+    }
+
+    public <T> T admit(String customerId, Supplier<T> call) {
+        if (!config.isEnabled()) {
+            return call.get();
+        }
+
+        checkCustomerRate(customerId);
+        acquire();
+
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            return call.get();
+        } catch (HttpException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            dropped = true;
+            throw e;
+        } finally {
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order-admission.customer-rate-limit.idle-eviction-ms:300000}")
+    public void evictIdleBuckets() {
+        long cutoff = System.nanoTime()
+                - TimeUnit.MILLISECONDS.toNanos(config.getCustomerRateLimit().getIdleEvictionMs());
+        customerBuckets.values().removeIf(bucket -> bucket.lastRefillNanos() < cutoff);
+    }
+
+    private void checkCustomerRate(String customerId) {
+        var rateLimit = config.getCustomerRateLimit();
+        if (!rateLimit.isEnabled() || customerId == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        var bucket = customerBuckets.computeIfAbsent(customerId,
+                id -> new TokenBucket(rateLimit.getBurst(), rateLimit.getRefillPerSecond(), now));
+        if (!bucket.tryConsume(now)) {
+            shedCustomerRate.increment();
+            long waitSeconds = TimeUnit.NANOSECONDS.toSeconds(bucket.nanosUntilNextToken(now)) + 1;
+            throw new OrderAdmissionRejectedException("customer rate limit exceeded", waitSeconds);
+        }
+    }
+
+    private void acquire() {
+        long start = System.nanoTime();
+        boolean admitted;
+        try {
+            admitted = limiter.tryAcquire(TimeUnit.MILLISECONDS.toNanos(config.getMaxQueueWaitMs()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        queueTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!admitted) {
+            shedConcurrency.increment();
+            throw new OrderAdmissionRejectedException("server is saturated", config.getRetryAfterSeconds());
+        }
+        accepted.increment();
+    }
+}
@@ -0,0 +1,133 @@
+package com.loomi.order.app.service.credit;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Service;
+
+import com.loomi.order.app.config.CorporateCreditConfig;
+import com.loomi.order.domain.credit.repository.CreditLedgerRepository;
+import com.loomi.order.domain.credit.usecase.CreditLedgerService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The ledger row is the source of truth; this keeps the last exposure seen for each CNPJ so requests that
+ * clearly exceed the limit are rejected without a write. Reservations of the same CNPJ on this instance are
+ * serialized on a lock stripe, which keeps them from piling up on the balance row lock.
+ */
+@Slf4j
+@Service
+public class CreditLedgerServiceImpl implements CreditLedgerService {
+
+    private final CreditLedgerRepository repository;
+    private final CorporateCreditConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, BigDecimal> balances = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes;
+
+    public CreditLedgerServiceImpl(
+            CreditLedgerRepository repository,
+            CorporateCreditConfig config,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.stripes = new ReentrantLock[config.getLockStripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    private ReentrantLock stripeFor(String cnpj) {
+        return stripes[Math.floorMod(cnpj.hashCode(), stripes.length)];
+    }
+
+    @Override
+    public boolean reserve(String cnpj, UUID orderId, BigDecimal amount, int paymentTermDays) {
+        var limit = config.limitFor(cnpj);
+        if (amount.compareTo(limit) > 0) {
+            meterRegistry.counter("credit.ledger.rejections", "source", "limit").increment();
+            return false;
+        }
+
+        var lock = stripeFor(cnpj);
+        lock.lock();
+        try {
+            var cached = balances.get(cnpj);
+            if (cached != null && cached.add(amount).compareTo(limit) > 0) {
+                // Other instances may have released since; re-read before turning the order away
+                cached = repository.exposure(cnpj);
+                balances.put(cnpj, cached);
+                if (cached.add(amount).compareTo(limit) > 0) {
+                    meterRegistry.counter("credit.ledger.rejections", "source", "cache").increment();
+                    return false;
+                }
+            }
+
+            var reserved = repository.reserve(cnpj, orderId, amount, paymentTermDays, limit);
+            if (reserved.isEmpty()) {
+                balances.put(cnpj, repository.exposure(cnpj));
+                meterRegistry.counter("credit.ledger.rejections", "source", "ledger").increment();
+                return false;
+            }
+            balances.put(cnpj, reserved.get());
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void release(UUID orderId) {
+        var released = repository.release(orderId);
+        refresh(released);
+        if (!released.isEmpty()) {
+            log.info("Released credit exposure of order {} for {} CNPJ(s)", orderId, released.size());
+        }
+    }
+
+    @Override
+    public int settleDue() {
+        int changed = 0;
+        for (int batch = 0; batch < config.getSettlementMaxBatchesPerRun(); batch++) {
+            var settled = repository.settleDue(config.getSettlementBatchSize());
+            if (settled.isEmpty()) {
+                break;
+            }
+            refresh(settled);
+            changed += settled.size();
+        }
+        if (changed > 0) {
+            meterRegistry.counter("credit.ledger.settlements").increment(changed);
+            log.info("Settled elapsed payment terms for {} CNPJ balance update(s)", changed);
+        }
+        return changed;
+    }
+
+    private void refresh(Map<String, BigDecimal> exposures) {
+        exposures.forEach((cnpj, exposure) -> {
+            var lock = stripeFor(cnpj);
+            lock.lock();
+            try {
+                balances.put(cnpj, exposure);
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    @Override
+    public BigDecimal exposure(String cnpj) {
+        return balances.computeIfAbsent(cnpj, repository::exposure);
+    }
+
+    @Override
+    public BigDecimal limitFor(String cnpj) {
+        return config.limitFor(cnpj);
+    }
+}
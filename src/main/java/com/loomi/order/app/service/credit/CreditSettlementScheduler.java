@@ -0,0 +1,24 @@
+package com.loomi.order.app.service.credit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.domain.credit.usecase.CreditLedgerService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Processed NET_30/60/90 orders keep their exposure until the payment term elapses; without this they would
+ * only ever be released by a cancellation.
+ */
+@Component
+@RequiredArgsConstructor
+public class CreditSettlementScheduler {
+
+    private final CreditLedgerService creditLedger;
+
+    @Scheduled(fixedDelayString = "${corporate-credit.settlement-interval-ms:3600000}")
+    public void settleElapsedTerms() {
+        creditLedger.settleDue();
+    }
+}
@@ -0,0 +1,36 @@
+package com.loomi.order.app.service.order;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.app.config.OrderApprovalConfig;
+import com.loomi.order.domain.order.repository.OrderRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Approved orders are claimed as {@code APPROVED} before the rest of the pipeline runs. If the instance dies
+ * before writing an outcome they would stay there; this puts them back in the approval queue, where the
+ * review checkpoint lets them resume as before.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalReaper {
+
+    private final OrderRepository orderRepository;
+    private final OrderApprovalConfig config;
+
+    @Scheduled(fixedDelayString = "${order-approval.reaper-interval-ms:60000}")
+    public void requeueStaleApprovals() {
+        var cutoff = LocalDateTime.now().minus(Duration.ofMillis(config.getStaleAfterMs()));
+        var requeued = orderRepository.requeueStaleApprovals(cutoff);
+        if (!requeued.isEmpty()) {
+            log.warn("Returned {} orders stuck in APPROVED to the approval queue: {}", requeued.size(), requeued);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.loomi.order.app.service.order;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.loomi.order.app.service.order.plan.ItemHandlerStage;
+import com.loomi.order.domain.credit.usecase.CreditLedgerService;
+import com.loomi.order.domain.customer.usecase.CustomerStateStore;
+import com.loomi.order.domain.event.usecase.OrderEventPublisher;
+import com.loomi.order.domain.order.dto.ApprovalDecision;
+import com.loomi.order.domain.order.dto.ApprovalOutcome;
+import com.loomi.order.domain.order.dto.OrderProcessResult;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.entity.OrderFailedEvent;
+import com.loomi.order.domain.order.entity.OrderProcessedEvent;
+import com.loomi.order.domain.order.repository.OrderCheckpointRepository;
+import com.loomi.order.domain.order.repository.OrderRepository;
+import com.loomi.order.domain.order.usecase.ApprovalService;
+import com.loomi.order.domain.order.valueobject.OrderError;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.usecase.StockReservationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decides a batch of pending approvals. Each side of the batch is claimed with a single guarded status
+ * update, so an order decided concurrently by another approver is reported as no longer pending. Approved
+ * orders resume validation from their review checkpoint, and each outcome is written and published as soon
+ * as that order is done, so a failure partway through the batch only leaves the remaining orders in
+ * {@code APPROVED} for {@link ApprovalReaper} to requeue. Processing resumes from the order's completed
+ * steps, and the final status is only written while the order is still {@code APPROVED}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApprovalServiceImpl implements ApprovalService {
+
+    private final OrderRepository orderRepository;
+    private final OrderCheckpointRepository checkpoints;
+    private final OrderProcessPipeline pipeline;
+    private final OrderEventPublisher producer;
+    private final StockReservationService stockReservations;
+    private final CreditLedgerService creditLedger;
+    private final CustomerStateStore customerStates;
+
+    @Override
+    public List<Order> pendingApprovals(int limit) {
+        return orderRepository.findPendingApproval(limit);
+    }
+
+    @Override
+    public List<ApprovalOutcome> decide(List<ApprovalDecision> decisions) {
+        var byOrder = new LinkedHashMap<UUID, ApprovalDecision>();
+        for (var decision : decisions) {
+            byOrder.put(decision.orderId(), decision);
+        }
+
+        var toApprove = new ArrayList<UUID>();
+        var toReject = new ArrayList<UUID>();
+        byOrder.values().forEach(decision -> (decision.decision() == ApprovalDecision.Decision.APPROVE
+                ? toApprove
+                : toReject).add(decision.orderId()));
+
+        var outcomes = new LinkedHashMap<UUID, ApprovalOutcome>();
+        reject(toReject, byOrder, outcomes);
+        approve(toApprove, outcomes);
+
+        return byOrder.keySet().stream()
+                .map(id -> outcomes.getOrDefault(id, ApprovalOutcome.of(id, ApprovalOutcome.Result.NOT_PENDING)))
+                .toList();
+    }
+
+    private void reject(
+            List<UUID> ids,
+            LinkedHashMap<UUID, ApprovalDecision> decisions,
+            LinkedHashMap<UUID, ApprovalOutcome> outcomes) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        for (var orderId : orderRepository.transitionStatus(ids, OrderStatus.PENDING_APPROVAL, OrderStatus.FAILED)) {
+            releaseReservations(orderId);
+            var reason = decisions.get(orderId).reason();
+            var error = reason == null || reason.isBlank()
+                    ? OrderError.APPROVAL_REJECTED.toString()
+                    : OrderError.APPROVAL_REJECTED + ": " + reason;
+            producer.sendOrderFailedEvent(OrderFailedEvent.fromOrder(orderId, error));
+            outcomes.put(orderId, new ApprovalOutcome(orderId, ApprovalOutcome.Result.REJECTED, List.of(error)));
+        }
+    }
+
+    private void approve(List<UUID> ids, LinkedHashMap<UUID, ApprovalOutcome> outcomes) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        var claimed = orderRepository.transitionStatus(ids, OrderStatus.PENDING_APPROVAL, OrderStatus.APPROVED);
+        if (claimed.isEmpty()) {
+            return;
+        }
+        var orders = orderRepository.findAllById(claimed);
+        var reviewStages = checkpoints.findReviewStages(claimed);
+
+        int processed = 0;
+        int lost = 0;
+        for (var order : orders) {
+            var stage = reviewStages.getOrDefault(order.id(), ItemHandlerStage.NAME);
+            var result = resume(order, stage);
+            order.status(result.isProcessed() ? OrderStatus.PROCESSED : OrderStatus.FAILED);
+            if (!orderRepository.updateIfStatus(order, OrderStatus.APPROVED)) {
+                // Requeued by the reaper and claimed again elsewhere; that run owns the outcome
+                log.warn("Approved order {} left APPROVED before it finished; leaving it to its new owner", order.id());
+                lost++;
+                continue;
+            }
+            if (result.isProcessed()) {
+                customerStates.recordProcessed(order);
+                producer.sendOrderProcessedEvent(OrderProcessedEvent.fromOrder(order.id()));
+                outcomes.put(order.id(), ApprovalOutcome.of(order.id(), ApprovalOutcome.Result.PROCESSED));
+                processed++;
+            } else {
+                releaseReservations(order.id());
+                producer.sendOrderFailedEvent(
+                        OrderFailedEvent.fromOrder(order.id(), String.join(", ", result.getErrors())));
+                outcomes.put(order.id(), new ApprovalOutcome(
+                        order.id(), ApprovalOutcome.Result.FAILED, result.getErrors()));
+            }
+        }
+        log.info("Approved {} orders: {} processed, {} failed, {} taken over",
+                orders.size(), processed, orders.size() - processed - lost, lost);
+    }
+
+    private OrderProcessResult resume(Order order, String reviewStage) {
+        try {
+            var validation = pipeline.resumeValidation(order, reviewStage);
+            if (!validation.isValid()) {
+                return OrderProcessResult.fail(validation.getErrors());
+            }
+            var orderId = order.id();
+            return pipeline.process(order, checkpoints.findCompletedSteps(orderId),
+                    (step, itemMetadata) -> checkpoints.saveCompletedStep(orderId, step, itemMetadata));
+        } catch (RuntimeException e) {
+            log.error("Error resuming approved order {}: {}", order.id(), e.getMessage(), e);
+            return OrderProcessResult.fail(OrderError.INTERNAL_ERROR.toString());
+        }
+    }
+
+    private void releaseReservations(UUID orderId) {
+        stockReservations.release(orderId);
+        creditLedger.release(orderId);
+    }
+}
@@ -2,71 +2,110 @@ package com.loomi.order.app.service.order;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import com.loomi.order.domain.order.dto.OrderProcessResult;
 import com.loomi.order.domain.order.entity.Order;
 import com.loomi.order.app.service.order.handler.OrderHandler;
 import com.loomi.order.app.service.order.handler.OrderItemHandler;
+import com.loomi.order.app.service.order.plan.ExecutionPlanCompiler;
+import com.loomi.order.app.service.order.plan.ProductMetadataResolver;
+import com.loomi.order.app.service.order.plan.ParallelItemValidator;
 import com.loomi.order.domain.order.valueobject.OrderError;
 import com.loomi.order.domain.order.valueobject.OrderItem;
-import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
 import com.loomi.order.domain.product.dto.ValidationResult;
 import com.loomi.order.domain.product.exception.ProductNotFoundException;
 import com.loomi.order.domain.product.repository.ProductRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Component
 public class OrderProcessPipeline {
 
     private final List<OrderHandler> globalHandlers;
-    private final Map<ProductType, OrderItemHandler> byTypeHandlers;
     private final ProductRepository productRepository;
+    private final ExecutionPlanCompiler planCompiler;
+    private final ProductMetadataResolver metadataResolver;
 
     public OrderProcessPipeline(
             List<OrderHandler> globalHandlers,
             List<OrderItemHandler> handlers,
-            ProductRepository productRepository) {
+            ProductRepository productRepository,
+            MeterRegistry meterRegistry) {
+        this(globalHandlers, handlers, productRepository, meterRegistry, Optional.empty());
+    }
+
+    @Autowired
+    public OrderProcessPipeline(
+            List<OrderHandler> globalHandlers,
+            List<OrderItemHandler> handlers,
+            ProductRepository productRepository,
+            MeterRegistry meterRegistry,
+            Optional<ParallelItemValidator> parallelValidator) {
         this.globalHandlers = globalHandlers;
         this.productRepository = productRepository;
-        this.byTypeHandlers = handlers.stream()
+        var byTypeHandlers = handlers.stream()
                 .collect(Collectors.toMap(OrderItemHandler::supportedType, Function.identity()));
-    }
-
-    private OrderItemHandler getHandlerFor(OrderItem item) {
-        return byTypeHandlers.get(item.productType());
+        this.metadataResolver = new ProductMetadataResolver(productRepository, meterRegistry);
+        this.planCompiler = new ExecutionPlanCompiler(
+                globalHandlers, byTypeHandlers, productRepository, meterRegistry, parallelValidator.orElse(null));
     }
 
     public ValidationResult validate(Order order) {
-        for (var item : order.items()) {
-            var product = productRepository.findById(item.productId())
-                    .orElseThrow(() -> new ProductNotFoundException(item.productId()));
-            var productHandler = getHandlerFor(item);
+        var plan = planCompiler.planFor(order);
+        var stages = plan.stages();
 
-            if (productHandler == null) {
-                return ValidationResult.fail(OrderError.INTERNAL_ERROR.toString());
-            }
+        for (int i = 0; i < stages.size(); i++) {
+            var validation = stages.get(i).validate(order);
+            plan.recordExecuted(i);
 
-            var validation = productHandler.validate(item, product, order);
             if (!validation.isValid()) {
+                plan.recordShortCircuit(i);
                 return ValidationResult.fail(validation.getErrors());
             }
 
             if (validation.isHumanReviewRequired()) {
-                return ValidationResult.requireHumanReview();
+                plan.recordShortCircuit(i);
+                return ValidationResult.requireHumanReview(stages.get(i).name());
             }
         }
 
-        for (var handler : globalHandlers) {
-            var validation = handler.validate(order);
-            if (!validation.isValid()) {
-                return ValidationResult.fail(validation.getErrors());
+        return ValidationResult.ok();
+    }
+
+    /**
+     * Continues the validation of an approved order from the stage that asked for review. Stages before it
+     * already passed; that stage runs again because it may have stopped halfway through the items, and from
+     * there on review requests count as granted without cutting the stage short.
+     */
+    public ValidationResult resumeValidation(Order order, String reviewStage) {
+        var plan = planCompiler.planFor(order);
+        var stages = plan.stages();
+        int from = 0;
+        for (int i = 0; i < stages.size(); i++) {
+            if (stages.get(i).name().equals(reviewStage)) {
+                from = i;
+                break;
             }
+        }
 
-            if (validation.isHumanReviewRequired()) {
-                return ValidationResult.requireHumanReview();
+        for (int i = from; i < stages.size(); i++) {
+            var validation = stages.get(i).validateReviewGranted(order);
+            plan.recordExecuted(i);
+
+            if (!validation.isValid()) {
+                plan.recordShortCircuit(i);
+                return ValidationResult.fail(validation.getErrors());
             }
         }
 
@@ -74,10 +113,41 @@ public class OrderProcessPipeline {
     }
 
     public OrderProcessResult process(Order order) {
-        for (var item : order.items()) {
+        return process(order, Map.of(), (step, itemMetadata) -> { });
+    }
+
+    /**
+     * Runs the process steps (one per item, then each global handler), skipping those in
+     * {@code completedSteps}, which already ran on an earlier delivery. A skipped item gets back the metadata
+     * saved with its step, so values its handler derived are still there. {@code onStepCompleted} receives
+     * the key of each successful step, and the item's metadata for item steps, so the caller can persist
+     * both before moving on.
+     */
+    public OrderProcessResult process(
+            Order order,
+            Map<String, RawProductMetadata> completedSteps,
+            BiConsumer<String, RawProductMetadata> onStepCompleted) {
+        var plan = planCompiler.planFor(order);
+        var items = order.items();
+        if (!completedSteps.isEmpty()) {
+            log.info("Resuming order {} after {} completed process steps", order.id(), completedSteps.size());
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            var item = items.get(i);
+            var step = itemStep(i, item);
+            if (completedSteps.containsKey(step)) {
+                var saved = completedSteps.get(step);
+                if (saved != null) {
+                    item.metadata(saved);
+                }
+                item.overlayProductMetadata(metadataResolver.lazy(item));
+                continue;
+            }
             var product = productRepository.findById(item.productId())
                     .orElseThrow(() -> new ProductNotFoundException(item.productId()));
-            var productHandler = byTypeHandlers.get(item.productType());
+            item.overlayProductMetadata(metadataResolver.resolve(item, product));
+            var productHandler = plan.handlerFor(item.productType());
 
             if (productHandler == null) {
                 return OrderProcessResult.fail(OrderError.INTERNAL_ERROR.toString());
@@ -88,14 +158,30 @@ public class OrderProcessPipeline {
             if (!processResult.isProcessed()) {
                 return OrderProcessResult.fail(processResult.getErrors());
             }
+            onStepCompleted.accept(step, item.metadata());
         }
 
         for (var handler : globalHandlers) {
+            var step = handlerStep(handler);
+            if (completedSteps.containsKey(step)) {
+                continue;
+            }
             var processResult = handler.process(order);
             if (!processResult.isProcessed()) {
                 return OrderProcessResult.fail(processResult.getErrors());
             }
+            onStepCompleted.accept(step, null);
         }
         return OrderProcessResult.ok();
     }
+
+    // Items never change after the order is created, so the position plus the product pins the item; global
+    // handlers are keyed by class, so reordering or adding handlers does not shift what counts as done.
+    static String itemStep(int index, OrderItem item) {
+        return "item:" + index + ":" + item.productId();
+    }
+
+    static String handlerStep(OrderHandler handler) {
+        return "handler:" + ClassUtils.getUserClass(handler).getSimpleName();
+    }
 }
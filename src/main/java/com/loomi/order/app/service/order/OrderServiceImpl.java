@@ -1,31 +1,42 @@
 package com.loomi.order.app.service.order;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.loomi.order.app.config.ReadModelConfig;
+import com.loomi.order.app.service.product.PreOrderSlotAllocator;
+import com.loomi.order.domain.credit.usecase.CreditLedgerService;
 import com.loomi.order.domain.exception.HttpException;
 import com.loomi.order.domain.order.dto.CreateOrder;
 import com.loomi.order.domain.order.dto.CreateOrderItem;
+import com.loomi.order.domain.order.dto.OrderSummary;
+import com.loomi.order.domain.order.dto.OrderSummaryChange;
 import com.loomi.order.domain.order.entity.Order;
 import com.loomi.order.domain.order.entity.OrderCreatedEvent;
 import com.loomi.order.domain.order.exception.OrderNotFoundException;
 import com.loomi.order.domain.event.usecase.OrderEventPublisher;
 import com.loomi.order.domain.order.repository.OrderRepository;
+import com.loomi.order.domain.order.repository.OrderSummaryRepository;
 import com.loomi.order.domain.order.usecase.OrderService;
+import com.loomi.order.domain.order.valueobject.MinorUnits;
 import com.loomi.order.domain.order.valueobject.OrderItem;
 import com.loomi.order.domain.order.valueobject.OrderStatus;
 import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.domain.product.entity.Product;
 import com.loomi.order.domain.product.exception.ProductIsNotActiveException;
 import com.loomi.order.domain.product.exception.ProductNotFoundException;
 import com.loomi.order.domain.product.repository.ProductRepository;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,16 +48,22 @@ public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final OrderEventPublisher orderEventPublisher;
+    private final PreOrderSlotAllocator slotAllocator;
+    private final CreditLedgerService creditLedger;
+    private final OrderSummaryRepository orderSummaries;
+    private final ReadModelConfig readModelConfig;
 
     @Override
+    @Transactional(readOnly = true)
     public Order consultOrder(UUID orderId) {
         return orderRepository.findById(orderId)
+                .or(() -> orderRepository.findArchivedById(orderId))
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
     }
 
     @Override
-    public List<Order> findOrdersByCustomerId(String customerId) {
-        return orderRepository.findByCustomerId(customerId);
+    public List<OrderSummary> findOrderSummaries(String customerId) {
+        return orderSummaries.findByCustomerId(customerId, readModelConfig.getMaxResults());
     }
 
     @Override
@@ -59,47 +76,113 @@ public class OrderServiceImpl implements OrderService {
         return savedOrder;
     }
 
+    @Override
+    @Transactional
+    public Order cancelOrder(UUID orderId) {
+        var order = orderRepository.findById(orderId).orElseThrow(() -> {
+            if (orderRepository.findArchivedById(orderId).isPresent()) {
+                return new HttpException(HttpStatus.CONFLICT, "Order " + orderId + " is archived");
+            }
+            return new OrderNotFoundException(orderId);
+        });
+        if (order.status() != OrderStatus.PROCESSED && order.status() != OrderStatus.PENDING_APPROVAL) {
+            throw new HttpException(HttpStatus.CONFLICT,
+                    "Order " + orderId + " cannot be cancelled in status " + order.status());
+        }
+
+        // Orders awaiting approval have not been processed yet, so everything they reserved is still on hold.
+        // Once processed, only items that carry a cancellation window (pre-orders) can still be taken back
+        if (order.status() == OrderStatus.PROCESSED) {
+            var today = LocalDate.now();
+            for (var item : order.items()) {
+                var deadline = item.maxCancellationDate();
+                if (deadline.isEmpty()) {
+                    throw new HttpException(HttpStatus.CONFLICT,
+                            "Order " + orderId + " has item " + item.productId() + " that can no longer be cancelled");
+                }
+                if (today.isAfter(deadline.get())) {
+                    throw new HttpException(HttpStatus.CONFLICT,
+                            "Cancellation window for order " + orderId + " closed on " + deadline.get());
+                }
+            }
+        }
+
+        if (orderRepository.transitionStatus(List.of(orderId), order.status(), OrderStatus.CANCELLED).isEmpty()) {
+            throw new HttpException(HttpStatus.CONFLICT,
+                    "Order " + orderId + " changed status while being cancelled");
+        }
+        order.status(OrderStatus.CANCELLED);
+        // No event is published for cancellations, so the read model is updated here
+        orderSummaries.applyAll(List.of(
+                OrderSummaryChange.status(orderId, OrderStatus.CANCELLED, LocalDateTime.now())));
+        int released = slotAllocator.release(order);
+        creditLedger.release(orderId);
+        log.info("Order {} cancelled, {} reservations returned to stock", orderId, released);
+        return order;
+    }
+
     private Order buildOrderWithPriceSnapshot(CreateOrder createOrder) {
-        var toValidateProducts = productRepository.findAllById(createOrder.items().stream()
-                .map(CreateOrderItem::productId)
-                .collect(Collectors.toList()));
+        var lines = collapseDuplicateLines(createOrder.items());
+        var toValidateProducts = productRepository.findAllById(new ArrayList<>(lines.keySet()));
 
         if (toValidateProducts.isEmpty()) {
             throw new HttpException(HttpStatus.BAD_REQUEST, "No products found");
         }
 
-        var orderItems = new ArrayList<OrderItem>();
-        for (var item : createOrder.items()) {
-            var product = toValidateProducts.stream()
-                    .filter(p -> p.id().equals(item.productId()))
-                    .findFirst()
-                    .orElseThrow(() -> new ProductNotFoundException(item.productId()));
-            
+        var productsById = new HashMap<UUID, Product>(toValidateProducts.size() * 2);
+        for (var product : toValidateProducts) {
+            productsById.put(product.id(), product);
+        }
+
+        var orderItems = new ArrayList<OrderItem>(lines.size());
+        long totalMinor = 0;
+        for (var item : lines.values()) {
+            var product = productsById.get(item.productId());
+            if (product == null) {
+                throw new ProductNotFoundException(item.productId());
+            }
+
             if (!product.isActive()) {
                 throw new ProductIsNotActiveException(product.id());
             }
 
-            var mergedMetadata = new RawProductMetadata();
-            mergedMetadata.putAll(product.metadata());
-            mergedMetadata.putAll(item.metadata());
-
-            orderItems.add(OrderItem.fromProduct(
-                    product,
-                    createOrder.customerId(),
-                    item.quantity(),
-                    mergedMetadata));
+            var orderItem = OrderItem.fromProduct(product, item.quantity(), item.metadata());
+            totalMinor = Math.addExact(totalMinor, orderItem.totalPriceMinor());
+            orderItems.add(orderItem);
         }
 
-        var totalAmount = orderItems.stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
         return Order.builder()
                 .customerId(createOrder.customerId())
                 .items(orderItems)
                 .status(OrderStatus.PENDING)
-                .totalAmount(totalAmount)
+                .totalAmount(MinorUnits.toDecimal(totalMinor))
+                .build();
+    }
+
+    // Repeated product ids become a single line; later lines win on conflicting metadata keys
+    private static Map<UUID, CreateOrderItem> collapseDuplicateLines(List<CreateOrderItem> items) {
+        var lines = new LinkedHashMap<UUID, CreateOrderItem>(items.size() * 2);
+        for (var item : items) {
+            var existing = lines.putIfAbsent(item.productId(), item);
+            if (existing != null) {
+                lines.put(item.productId(), mergeLines(existing, item));
+            }
+        }
+        return lines;
+    }
+
+    private static CreateOrderItem mergeLines(CreateOrderItem first, CreateOrderItem second) {
+        var metadata = new RawProductMetadata();
+        if (first.metadata() != null) {
+            metadata.putAll(first.metadata());
+        }
+        if (second.metadata() != null) {
+            metadata.putAll(second.metadata());
+        }
+        return CreateOrderItem.builder()
+                .productId(first.productId())
+                .quantity(Math.addExact(first.quantity(), second.quantity()))
+                .metadata(metadata)
                 .build();
-                
     }
 }
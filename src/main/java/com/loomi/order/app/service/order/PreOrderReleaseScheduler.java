@@ -0,0 +1,112 @@
+package com.loomi.order.app.service.order;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.app.config.PreOrderConfig;
+import com.loomi.order.app.service.admission.TokenBucket;
+import com.loomi.order.domain.event.usecase.OrderEventPublisher;
+import com.loomi.order.domain.order.dto.PreOrderRelease;
+import com.loomi.order.domain.order.entity.OrderReleasedEvent;
+import com.loomi.order.domain.order.repository.PreOrderReleaseRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes {@code ORDER_RELEASED} for every pre-order item whose release date has arrived. Work is claimed
+ * in chunks, each in its own short transaction, and a chunk is only marked released once all of its events
+ * were acknowledged. A crash leaves the chunk claimed until its lease runs out, and then any instance picks
+ * it up again, so progress restarts from the last completed chunk.
+ */
+@Slf4j
+@Component
+public class PreOrderReleaseScheduler {
+
+    private final PreOrderReleaseRepository releases;
+    private final OrderEventPublisher publisher;
+    private final PreOrderConfig.Release config;
+    private final MeterRegistry meterRegistry;
+    private final TokenBucket publishRate;
+
+    public PreOrderReleaseScheduler(
+            PreOrderReleaseRepository releases,
+            OrderEventPublisher publisher,
+            PreOrderConfig config,
+            MeterRegistry meterRegistry) {
+        this.releases = releases;
+        this.publisher = publisher;
+        this.config = config.getRelease();
+        this.meterRegistry = meterRegistry;
+        this.publishRate = new TokenBucket(
+                this.config.getMaxInFlight(), this.config.getEventsPerSecond(), System.nanoTime());
+    }
+
+    @Scheduled(fixedDelayString = "${pre-order.release.interval-ms:60000}")
+    public void releaseDue() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        releaseDue(LocalDate.now());
+    }
+
+    public int releaseDue(LocalDate today) {
+        var lease = Duration.ofSeconds(config.getLeaseSeconds());
+        int released = 0;
+        while (true) {
+            var chunk = releases.claimDue(today, config.getChunkSize(), lease);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            meterRegistry.counter("pre_order.release.skipped").increment(chunk.skipped());
+
+            if (!publish(chunk.releases())) {
+                log.warn("Chunk {} left claimed after a publish failure; it is retried once its lease expires",
+                        chunk.claimId());
+                meterRegistry.counter("pre_order.release.chunks", "outcome", "failed").increment();
+                break;
+            }
+            released += releases.complete(chunk.claimId());
+            meterRegistry.counter("pre_order.release.chunks", "outcome", "completed").increment();
+        }
+        if (released > 0) {
+            log.info("Released {} pre-order items due by {}", released, today);
+        }
+        return released;
+    }
+
+    private boolean publish(List<PreOrderRelease> chunk) {
+        var inFlight = new Semaphore(config.getMaxInFlight());
+        var sends = new ArrayList<CompletableFuture<Void>>(chunk.size());
+        try {
+            for (var release : chunk) {
+                awaitPublishToken();
+                inFlight.acquireUninterruptibly();
+                sends.add(publisher.sendOrderReleasedEvent(OrderReleasedEvent.fromRelease(release))
+                        .whenComplete((result, error) -> inFlight.release()));
+            }
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+            meterRegistry.counter("pre_order.release.events").increment(chunk.size());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Failed to publish pre-order releases", e);
+            return false;
+        }
+    }
+
+    private void awaitPublishToken() {
+        long now = System.nanoTime();
+        while (!publishRate.tryConsume(now)) {
+            LockSupport.parkNanos(publishRate.nanosUntilNextToken(now));
+            now = System.nanoTime();
+        }
+    }
+}
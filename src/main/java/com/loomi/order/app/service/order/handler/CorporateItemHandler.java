@@ -5,6 +5,7 @@ import java.util.Set;
 
 import org.springframework.stereotype.Component;
 
+import com.loomi.order.domain.credit.usecase.CreditLedgerService;
 import com.loomi.order.domain.order.dto.OrderProcessResult;
 import com.loomi.order.domain.order.entity.Order;
 import com.loomi.order.domain.order.valueobject.OrderError;
@@ -22,13 +23,14 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CorporateItemHandler implements OrderItemHandler {
 
-    private static final BigDecimal MAX_CREDIT_LIMIT = new BigDecimal("100000");
     private static final BigDecimal HIGH_VALUE_THRESHOLD = new BigDecimal("50000");
     private static final int VOLUME_DISCOUNT_THRESHOLD = 100;
     private static final double VOLUME_DISCOUNT_PERCENTAGE = 0.15;
     private static final Set<String> VALID_PAYMENT_TERMS = Set.of("NET_30", "NET_60", "NET_90");
     private static final int CNPJ_LENGTH = 14;
 
+    private final CreditLedgerService creditLedger;
+
     private ValidationResult validateMetadata(OrderItem item) {
         if (item.metadata() == null) {
             log.warn("Missing metadata for corporate product {}", item.productId());
@@ -69,6 +71,35 @@ public class CorporateItemHandler implements OrderItemHandler {
         return paymentTerms.trim().toUpperCase();
     }
 
+    private boolean isBilledTo(OrderItem item, String normalizedCnpj) {
+        return item.productType() == ProductType.CORPORATE
+                && item.metadata() != null
+                && normalizeCnpj(getCnpj(item)).equals(normalizedCnpj);
+    }
+
+    // Each CNPJ carries only its own items: every corporate item of the CNPJ reserves the same subtotal, which
+    // the ledger records once per order and CNPJ
+    private BigDecimal totalBilledTo(String normalizedCnpj, Order ctx) {
+        var total = BigDecimal.ZERO;
+        for (var item : ctx.items()) {
+            if (isBilledTo(item, normalizedCnpj)) {
+                total = total.add(item.getTotalPrice());
+            }
+        }
+        return total;
+    }
+
+    private int longestTermDays(String normalizedCnpj, Order ctx) {
+        int days = 0;
+        for (var item : ctx.items()) {
+            var paymentTerms = isBilledTo(item, normalizedCnpj) ? getPaymentTerms(item) : "";
+            if (VALID_PAYMENT_TERMS.contains(paymentTerms)) {
+                days = Math.max(days, Integer.parseInt(paymentTerms.substring("NET_".length())));
+            }
+        }
+        return days;
+    }
+
     @Override
     public ProductType supportedType() {
         return ProductType.CORPORATE;
@@ -99,9 +130,11 @@ public class CorporateItemHandler implements OrderItemHandler {
         }
 
         BigDecimal orderTotal = ctx.totalAmount();
-        if (orderTotal.compareTo(MAX_CREDIT_LIMIT) > 0) {
-            log.info("Order {} with total ${} exceeds credit limit of ${} for customer {}",
-                    ctx.id(), orderTotal, MAX_CREDIT_LIMIT, ctx.customerId());
+        String normalizedCnpj = normalizeCnpj(cnpj);
+        BigDecimal cnpjTotal = totalBilledTo(normalizedCnpj, ctx);
+        if (!creditLedger.reserve(normalizedCnpj, ctx.id(), cnpjTotal, longestTermDays(normalizedCnpj, ctx))) {
+            log.info("Order {} with ${} billed to CNPJ {} exceeds its available credit (limit ${}) for customer {}",
+                    ctx.id(), cnpjTotal, normalizedCnpj, creditLedger.limitFor(normalizedCnpj), ctx.customerId());
             return ValidationResult.fail(OrderError.CREDIT_LIMIT_EXCEEDED.toString());
         }
 
@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
+import com.loomi.order.domain.customer.usecase.CustomerStateStore;
 import com.loomi.order.domain.notification.usecase.EmailService;
 import com.loomi.order.domain.order.dto.OrderProcessResult;
 import com.loomi.order.domain.order.entity.Order;
@@ -14,7 +15,7 @@ import com.loomi.order.domain.order.valueobject.OrderStatus;
 import com.loomi.order.domain.product.dto.ProductType;
 import com.loomi.order.domain.product.dto.ValidationResult;
 import com.loomi.order.domain.product.entity.Product;
-import com.loomi.order.domain.product.repository.ProductRepository;
+import com.loomi.order.domain.product.usecase.StockReservationService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,9 +25,10 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class DigitalItemHandler implements OrderItemHandler {
 
-    private final ProductRepository productRepository;
+    private final StockReservationService stockReservations;
     private final OrderRepository orderRepository;
     private final EmailService emailService;
+    private final CustomerStateStore customerStates;
 
     private static int MAX_LICENSE_PER_ORDER_ITEM = 1;
 
@@ -42,21 +44,28 @@ public class DigitalItemHandler implements OrderItemHandler {
             return ValidationResult.fail(OrderError.DISTRIBUTION_RIGHTS_EXPIRED.toString());
         }
 
-        if (product.stockQuantity() == null || product.stockQuantity() < MAX_LICENSE_PER_ORDER_ITEM) {
+        if (product.availableStock() == null || product.availableStock() < MAX_LICENSE_PER_ORDER_ITEM) {
             log.error("License unavailable for product: {}", item.productId());
             return ValidationResult.fail(OrderError.LICENSE_UNAVAILABLE.toString());
         }
 
-        var customerAlreadyOwns = !orderRepository.findByCustomerIdAndProductIdAndStatus(
-                item.customerId(),
-                item.productId(),
-                OrderStatus.PROCESSED).isEmpty();
+        var customerAlreadyOwns = customerStates.find(ctx.customerId())
+                .map(state -> state.owns(item.productId()))
+                .orElseGet(() -> !orderRepository.findByCustomerIdAndProductIdAndStatus(
+                        ctx.customerId(),
+                        item.productId(),
+                        OrderStatus.PROCESSED).isEmpty());
 
         if (customerAlreadyOwns) {
             log.error("Customer already owns product: {}", item.productId());
             return ValidationResult.fail(OrderError.ALREADY_OWNED.toString());
         }
 
+        if (!stockReservations.hold(ctx.id(), item.productId(), MAX_LICENSE_PER_ORDER_ITEM)) {
+            log.error("Could not hold license for product: {}", item.productId());
+            return ValidationResult.fail(OrderError.LICENSE_UNAVAILABLE.toString());
+        }
+
         return ValidationResult.ok();
     }
 
@@ -64,11 +73,12 @@ public class DigitalItemHandler implements OrderItemHandler {
     public OrderProcessResult process(OrderItem item, Product product, Order ctx) {
         item.quantity(MAX_LICENSE_PER_ORDER_ITEM);
 
-        int currentStock = product.stockQuantity();
-        int remainingStock = currentStock - item.quantity();
-
-        product.stockQuantity(remainingStock);
-        productRepository.update(product);
+        var remaining = stockReservations.commit(ctx.id(), item.productId(), item.quantity());
+        if (remaining.isEmpty()) {
+            log.error("License no longer available for product: {}", item.productId());
+            return OrderProcessResult.fail(OrderError.LICENSE_UNAVAILABLE.toString());
+        }
+        int remainingStock = remaining.getAsInt();
         log.info("License reserved for product {}: {} units, remaining: {}",
                 item.productId(), item.quantity(), remainingStock);
 
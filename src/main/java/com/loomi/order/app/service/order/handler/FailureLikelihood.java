@@ -0,0 +1,11 @@
+package com.loomi.order.app.service.order.handler;
+
+/**
+ * How often a check rejects orders in practice. Among checks of the same {@link ValidationCost}, the ones that
+ * fail more often run first so a doomed order stops as early as possible.
+ */
+public enum FailureLikelihood {
+    LIKELY,
+    POSSIBLE,
+    RARE
+}
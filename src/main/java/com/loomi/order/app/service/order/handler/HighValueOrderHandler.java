@@ -15,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@org.springframework.core.annotation.Order(2)
 @RequiredArgsConstructor
 public class HighValueOrderHandler implements OrderHandler {
 
@@ -35,6 +36,12 @@ public class HighValueOrderHandler implements OrderHandler {
         return ValidationResult.ok();
     }
 
+    // Only logs; fails just for a missing total
+    @Override
+    public FailureLikelihood failureLikelihood() {
+        return FailureLikelihood.RARE;
+    }
+
     @Override
     public OrderProcessResult process(Order order) {
         return OrderProcessResult.ok();
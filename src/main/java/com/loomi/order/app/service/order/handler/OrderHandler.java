@@ -8,4 +8,12 @@ public interface OrderHandler {
     public ValidationResult validate(Order order);
 
     public OrderProcessResult process(Order order);
+
+    public default ValidationCost cost() {
+        return ValidationCost.IN_MEMORY;
+    }
+
+    public default FailureLikelihood failureLikelihood() {
+        return FailureLikelihood.POSSIBLE;
+    }
 }
@@ -8,6 +8,7 @@ import com.loomi.order.domain.order.valueobject.OrderStatus;
 import com.loomi.order.domain.product.dto.ValidationResult;
 
 @Service
+@org.springframework.core.annotation.Order(1)
 public class OrderIsPendingHandler implements OrderHandler {
     
     @Override
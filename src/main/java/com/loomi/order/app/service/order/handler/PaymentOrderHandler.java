@@ -14,12 +14,18 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@org.springframework.core.annotation.Order(3)
 @RequiredArgsConstructor
 public class PaymentOrderHandler implements OrderHandler {
 
     private final FraudService fraudService;
     private final PaymentService paymentService;
 
+    @Override
+    public ValidationCost cost() {
+        return ValidationCost.REMOTE;
+    }
+
     @Override
     public ValidationResult validate(Order order) {
         if (order.totalAmount() == null) {
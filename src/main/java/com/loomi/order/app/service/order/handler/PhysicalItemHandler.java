@@ -12,7 +12,7 @@ import com.loomi.order.domain.order.valueobject.OrderItem;
 import com.loomi.order.domain.product.dto.ProductType;
 import com.loomi.order.domain.product.dto.ValidationResult;
 import com.loomi.order.domain.product.entity.Product;
-import com.loomi.order.domain.product.repository.ProductRepository;
+import com.loomi.order.domain.product.usecase.StockReservationService;
 
 import io.micrometer.common.util.StringUtils;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +25,7 @@ public class PhysicalItemHandler implements OrderItemHandler {
 
     private static final int LOW_STOCK_THRESHOLD = 5;
 
-    private final ProductRepository productRepository;
+    private final StockReservationService stockReservations;
     private final AlertEventPublisher alertProducer;
     private final DeliveryService deliveryService;
 
@@ -75,9 +75,14 @@ public class PhysicalItemHandler implements OrderItemHandler {
             return ValidationResult.fail(OrderError.OUT_OF_STOCK.toString());
         }
 
-        if (product.stockQuantity() == null || product.stockQuantity() < item.quantity()) {
+        if (product.availableStock() == null || product.availableStock() < item.quantity()) {
             log.warn("Insufficient stock for product {} in order {}: required {}, available {}", 
-                    item.productId(), ctx.id(), item.quantity(), product.stockQuantity());
+                    item.productId(), ctx.id(), item.quantity(), product.availableStock());
+            return ValidationResult.fail(OrderError.OUT_OF_STOCK.toString());
+        }
+
+        if (!stockReservations.hold(ctx.id(), item.productId(), item.quantity())) {
+            log.warn("Could not hold {} units of product {} for order {}", item.quantity(), item.productId(), ctx.id());
             return ValidationResult.fail(OrderError.OUT_OF_STOCK.toString());
         }
 
@@ -87,8 +92,12 @@ public class PhysicalItemHandler implements OrderItemHandler {
     @Override
     public OrderProcessResult process(OrderItem item, Product product, Order ctx) {
         // Stock processing
-        int currentStock = product.stockQuantity();
-        int remainingStock = currentStock - item.quantity();
+        var remaining = stockReservations.commit(ctx.id(), item.productId(), item.quantity());
+        if (remaining.isEmpty()) {
+            log.warn("Stock for product {} is no longer available for order {}", item.productId(), ctx.id());
+            return OrderProcessResult.fail(OrderError.OUT_OF_STOCK.toString());
+        }
+        int remainingStock = remaining.getAsInt();
 
         if (remainingStock < LOW_STOCK_THRESHOLD) {
             log.info("Low stock alert for product {}: remaining stock {} is below threshold {}", 
@@ -100,8 +109,6 @@ public class PhysicalItemHandler implements OrderItemHandler {
             alertProducer.sendLowStockAlert(alertEvent);
         }
 
-        product.stockQuantity(remainingStock);
-        productRepository.update(product);
         var location = getWarehouseLocation(item);
         // Delivery time calculation
         int deliveryDays = deliveryService.calculateDeliveryDays(location);
@@ -9,8 +9,10 @@ import java.util.Optional;
 import com.loomi.order.domain.order.usecase.DeliveryService;
 import org.springframework.stereotype.Component;
 
+import com.loomi.order.app.service.product.PreOrderSlotAllocator;
 import com.loomi.order.domain.order.dto.OrderProcessResult;
 import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.repository.PreOrderReleaseRepository;
 import com.loomi.order.domain.order.valueobject.OrderError;
 import com.loomi.order.domain.order.valueobject.OrderItem;
 import com.loomi.order.domain.product.dto.ProductType;
@@ -30,6 +32,8 @@ public class PreOrderItemHandler implements OrderItemHandler {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
     private static final int CANCELLATION_DAYS_BEFORE_RELEASE = 7;
 
+    private final PreOrderSlotAllocator slotAllocator;
+    private final PreOrderReleaseRepository releaseRepository;
     private final DeliveryService deliveryService;
 
     private Optional<LocalDate> extractReleaseDate(Product product) {
@@ -74,7 +78,12 @@ public class PreOrderItemHandler implements OrderItemHandler {
             return ValidationResult.fail(OrderError.RELEASE_DATE_PASSED.toString());
         }
 
-        if (product.stockQuantity() == null || product.stockQuantity() < item.quantity()) {
+        if (product.availableStock() == null || product.availableStock() < item.quantity()) {
+            return ValidationResult.fail(OrderError.PRE_ORDER_SOLD_OUT.toString());
+        }
+
+        if (!slotAllocator.claim(ctx.id(), item.productId(), item.quantity())) {
+            log.warn("No pre-order slots left for product {} in order {}", item.productId(), ctx.id());
             return ValidationResult.fail(OrderError.PRE_ORDER_SOLD_OUT.toString());
         }
 
@@ -92,6 +101,11 @@ public class PreOrderItemHandler implements OrderItemHandler {
         LocalDate releaseDate = optReleaseDate.get();
         String releaseDateStr = releaseDate.format(DATE_FORMATTER);
 
+        if (slotAllocator.confirm(ctx.id(), item.productId(), item.quantity()).isEmpty()) {
+            log.error("Pre-order slot for product {} in order {} is no longer available", item.productId(), ctx.id());
+            return OrderProcessResult.fail(OrderError.PRE_ORDER_SOLD_OUT.toString());
+        }
+
         if (item.metadata() == null) {
             item.metadata(new RawProductMetadata());
         }
@@ -99,6 +113,7 @@ public class PreOrderItemHandler implements OrderItemHandler {
         LocalDate maxCancellationDate = releaseDate.minusDays(CANCELLATION_DAYS_BEFORE_RELEASE);
         item.metadata().put("maxCancellationDate", maxCancellationDate.format(DATE_FORMATTER));
         item.metadata().put("releaseDate", releaseDateStr);
+        releaseRepository.register(ctx.id(), item.productId(), releaseDate);
 
         if (item.metadata().containsKey("warehouseLocation")) {
             String warehouseLocation = item.metadata().get("warehouseLocation").toString();
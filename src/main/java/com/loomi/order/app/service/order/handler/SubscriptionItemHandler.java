@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import com.loomi.order.domain.customer.usecase.CustomerStateStore;
 import com.loomi.order.domain.order.dto.OrderProcessResult;
 import com.loomi.order.domain.order.entity.Order;
 import com.loomi.order.domain.order.repository.OrderRepository;
@@ -13,6 +14,7 @@ import com.loomi.order.domain.order.valueobject.OrderItem;
 import com.loomi.order.domain.product.dto.ProductType;
 import com.loomi.order.domain.product.dto.ValidationResult;
 import com.loomi.order.domain.product.entity.Product;
+import com.loomi.order.domain.subscription.repository.SubscriptionScheduleRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +25,8 @@ import lombok.extern.slf4j.Slf4j;
 public class SubscriptionItemHandler implements OrderItemHandler {
 
     private final OrderRepository orderRepository;
+    private final SubscriptionScheduleRepository subscriptionSchedule;
+    private final CustomerStateStore customerStates;
     private static final int MAX_ACTIVE_SUBSCRIPTIONS = 5;
 
     private ValidationResult hasSameSubscriptionGroupInOrder(OrderItem item, Order ctx) {
@@ -73,28 +77,34 @@ public class SubscriptionItemHandler implements OrderItemHandler {
             return ValidationResult.fail(OrderError.INCOMPATIBLE_SUBSCRIPTIONS.toString());
         }
 
-        var existingSubscriptionsWithSameGroup = orderRepository
-                .findActiveSubscriptionsByCustomerIdAndGroupId(item.customerId(), groupId);
+        var state = customerStates.find(ctx.customerId());
 
-        if (!existingSubscriptionsWithSameGroup.isEmpty()) {
+        boolean hasSameGroup = state
+                .map(customer -> customer.hasSubscriptionGroup(groupId))
+                .orElseGet(() -> !orderRepository
+                        .findActiveSubscriptionsByCustomerIdAndGroupId(ctx.customerId(), groupId).isEmpty());
+
+        if (hasSameGroup) {
             return ValidationResult.fail(OrderError.DUPLICATE_ACTIVE_SUBSCRIPTION.toString());
         }
 
-        var allActiveSubscriptions = orderRepository.findAllActiveSubscriptionsByCustomerId(item.customerId());
-        long subscriptionCount = allActiveSubscriptions.size();
+        long subscriptionCount = state
+                .map(customer -> customer.activeSubscriptions())
+                .orElseGet(() -> orderRepository.findAllActiveSubscriptionsByCustomerId(ctx.customerId()).size());
 
         if (subscriptionCount >= MAX_ACTIVE_SUBSCRIPTIONS) {
             return ValidationResult.fail(OrderError.SUBSCRIPTION_LIMIT_EXCEEDED.toString());
         }
 
-        log.info("Subscription item {} from order {} payment scheduled to {}", 
-        item.productId(), ctx.id(), LocalDateTime.now().plusMonths(1));
-
         return ValidationResult.ok();
     }
 
     @Override
     public OrderProcessResult process(OrderItem item, Product product, Order ctx) {
+        var firstChargeAt = LocalDateTime.now().plusMonths(1);
+        subscriptionSchedule.register(ctx.id(), item.productId(), ctx.customerId(), item.getTotalPrice(), firstChargeAt);
+        log.info("Subscription item {} from order {} payment scheduled to {}", item.productId(), ctx.id(), firstChargeAt);
+
         log.info("ITEM {} from ORDER {} processed successfully", item.productId(), ctx.id());
         return OrderProcessResult.ok();
     }
@@ -0,0 +1,7 @@
+package com.loomi.order.app.service.order.handler;
+
+public enum ValidationCost {
+    IN_MEMORY,
+    DATABASE,
+    REMOTE
+}
@@ -0,0 +1,54 @@
+package com.loomi.order.app.service.order.plan;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.loomi.order.app.service.order.handler.OrderItemHandler;
+import com.loomi.order.domain.product.dto.ProductType;
+
+import io.micrometer.core.instrument.Counter;
+
+public class ExecutionPlan {
+
+    private final Set<ProductType> shape;
+    private final List<PlanStage> stages;
+    private final Map<ProductType, OrderItemHandler> itemHandlers;
+    private final Counter[] executed;
+    private final Counter[] skipped;
+
+    ExecutionPlan(
+            Set<ProductType> shape,
+            List<PlanStage> stages,
+            Map<ProductType, OrderItemHandler> itemHandlers,
+            Counter[] executed,
+            Counter[] skipped) {
+        this.shape = shape;
+        this.stages = stages;
+        this.itemHandlers = itemHandlers;
+        this.executed = executed;
+        this.skipped = skipped;
+    }
+
+    public Set<ProductType> shape() {
+        return shape;
+    }
+
+    public List<PlanStage> stages() {
+        return stages;
+    }
+
+    public OrderItemHandler handlerFor(ProductType type) {
+        return itemHandlers.get(type);
+    }
+
+    public void recordExecuted(int stageIndex) {
+        executed[stageIndex].increment();
+    }
+
+    public void recordShortCircuit(int stageIndex) {
+        for (int i = stageIndex + 1; i < skipped.length; i++) {
+            skipped[i].increment();
+        }
+    }
+}
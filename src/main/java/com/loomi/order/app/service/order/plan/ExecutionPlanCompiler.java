@@ -0,0 +1,96 @@
+package com.loomi.order.app.service.order.plan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import com.loomi.order.app.service.order.handler.OrderHandler;
+import com.loomi.order.app.service.order.handler.OrderItemHandler;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.repository.ProductRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ExecutionPlanCompiler {
+
+    private final List<OrderHandler> globalHandlers;
+    private final Map<ProductType, OrderItemHandler> byTypeHandlers;
+    private final ProductRepository productRepository;
+    private final MeterRegistry meterRegistry;
+    private final Counter skippedItems;
+    private final ProductMetadataResolver metadataResolver;
+    private final ParallelItemValidator parallelValidator;
+    private final Map<Set<ProductType>, ExecutionPlan> plans = new ConcurrentHashMap<>();
+
+    public ExecutionPlanCompiler(
+            List<OrderHandler> globalHandlers,
+            Map<ProductType, OrderItemHandler> byTypeHandlers,
+            ProductRepository productRepository,
+            MeterRegistry meterRegistry,
+            ParallelItemValidator parallelValidator) {
+        this.globalHandlers = globalHandlers;
+        this.byTypeHandlers = byTypeHandlers;
+        this.productRepository = productRepository;
+        this.meterRegistry = meterRegistry;
+        this.skippedItems = meterRegistry.counter("order.pipeline.items.skipped");
+        this.metadataResolver = new ProductMetadataResolver(productRepository, meterRegistry);
+        this.parallelValidator = parallelValidator;
+    }
+
+    public ExecutionPlan planFor(Order order) {
+        var shape = EnumSet.noneOf(ProductType.class);
+        for (var item : order.items()) {
+            if (item.productType() != null) {
+                shape.add(item.productType());
+            }
+        }
+        return plans.computeIfAbsent(Collections.unmodifiableSet(shape), this::compile);
+    }
+
+    private ExecutionPlan compile(Set<ProductType> shape) {
+        var itemHandlers = new EnumMap<ProductType, OrderItemHandler>(ProductType.class);
+        for (var type : shape) {
+            var handler = byTypeHandlers.get(type);
+            if (handler != null) {
+                itemHandlers.put(type, handler);
+            }
+        }
+
+        var stages = new ArrayList<PlanStage>();
+        var declared = new ArrayList<>(globalHandlers);
+        AnnotationAwareOrderComparator.sort(declared);
+        for (var handler : declared) {
+            stages.add(new GlobalHandlerStage(handler));
+        }
+        if (!shape.isEmpty()) {
+            stages.add(new ItemHandlerStage(
+                    itemHandlers, productRepository, skippedItems, metadataResolver, parallelValidator));
+        }
+        // Cheapest first, then the most likely to fail; the stable sort keeps ties in @Order position
+        stages.sort(Comparator.comparing(PlanStage::cost).thenComparing(PlanStage::failureLikelihood));
+
+        var executed = new Counter[stages.size()];
+        var skipped = new Counter[stages.size()];
+        for (int i = 0; i < stages.size(); i++) {
+            var stage = stages.get(i).name();
+            executed[i] = meterRegistry.counter("order.pipeline.stage.executed", "stage", stage);
+            skipped[i] = meterRegistry.counter("order.pipeline.stage.skipped", "stage", stage);
+        }
+
+        log.info("Compiled execution plan for shape {}: {}", shape,
+                stages.stream().map(PlanStage::name).toList());
+        return new ExecutionPlan(shape, List.copyOf(stages), itemHandlers, executed, skipped);
+    }
+}
@@ -0,0 +1,40 @@
+package com.loomi.order.app.service.order.plan;
+
+import org.springframework.util.ClassUtils;
+
+import com.loomi.order.app.service.order.handler.FailureLikelihood;
+import com.loomi.order.app.service.order.handler.OrderHandler;
+import com.loomi.order.app.service.order.handler.ValidationCost;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.product.dto.ValidationResult;
+
+public class GlobalHandlerStage implements PlanStage {
+
+    private final OrderHandler handler;
+    private final String name;
+
+    public GlobalHandlerStage(OrderHandler handler) {
+        this.handler = handler;
+        this.name = ClassUtils.getUserClass(handler).getSimpleName();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public ValidationCost cost() {
+        return handler.cost();
+    }
+
+    @Override
+    public FailureLikelihood failureLikelihood() {
+        return handler.failureLikelihood();
+    }
+
+    @Override
+    public ValidationResult validate(Order order) {
+        return handler.validate(order);
+    }
+}
@@ -0,0 +1,112 @@
+package com.loomi.order.app.service.order.plan;
+
+import java.util.Map;
+
+import com.loomi.order.app.service.order.handler.FailureLikelihood;
+import com.loomi.order.app.service.order.handler.OrderItemHandler;
+import com.loomi.order.app.service.order.handler.ValidationCost;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.valueobject.OrderError;
+import com.loomi.order.domain.order.valueobject.OrderItem;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.ValidationResult;
+import com.loomi.order.domain.product.exception.ProductNotFoundException;
+import com.loomi.order.domain.product.repository.ProductRepository;
+
+import io.micrometer.core.instrument.Counter;
+
+public class ItemHandlerStage implements PlanStage {
+
+    public static final String NAME = "items";
+
+    private final Map<ProductType, OrderItemHandler> handlers;
+    private final ProductRepository productRepository;
+    private final Counter skippedItems;
+    private final ProductMetadataResolver metadataResolver;
+    private final ParallelItemValidator parallelValidator;
+
+    public ItemHandlerStage(
+            Map<ProductType, OrderItemHandler> handlers,
+            ProductRepository productRepository,
+            Counter skippedItems,
+            ProductMetadataResolver metadataResolver,
+            ParallelItemValidator parallelValidator) {
+        this.handlers = handlers;
+        this.productRepository = productRepository;
+        this.skippedItems = skippedItems;
+        this.metadataResolver = metadataResolver;
+        this.parallelValidator = parallelValidator;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    // Every item needs its product loaded, so this stage is never cheaper than a DB round trip
+    @Override
+    public ValidationCost cost() {
+        return ValidationCost.DATABASE;
+    }
+
+    // Stock, licenses, ownership and release dates are the most common reasons an order fails
+    @Override
+    public FailureLikelihood failureLikelihood() {
+        return FailureLikelihood.LIKELY;
+    }
+
+    @Override
+    public ValidationResult validate(Order order) {
+        return validate(order, false);
+    }
+
+    // Review requests count as passed, but every item still runs: the ones after the item that asked for
+    // review were never validated
+    @Override
+    public ValidationResult validateReviewGranted(Order order) {
+        return validate(order, true);
+    }
+
+    private ValidationResult validate(Order order, boolean reviewGranted) {
+        var items = order.items();
+        // Handlers may read sibling items before their own product is loaded
+        for (var item : items) {
+            item.overlayProductMetadata(metadataResolver.lazy(item));
+        }
+
+        if (parallelValidator != null && parallelValidator.appliesTo(items.size())) {
+            return parallelValidator.validate(items.size(),
+                    i -> validateItem(items.get(i), order, reviewGranted), skippedItems);
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            var validation = validateItem(items.get(i), order, reviewGranted);
+            if (!validation.isValid()) {
+                skippedItems.increment(items.size() - i - 1);
+                return ValidationResult.fail(validation.getErrors());
+            }
+
+            if (validation.isHumanReviewRequired()) {
+                skippedItems.increment(items.size() - i - 1);
+                return ValidationResult.requireHumanReview();
+            }
+        }
+        return ValidationResult.ok();
+    }
+
+    private ValidationResult validateItem(OrderItem item, Order order, boolean reviewGranted) {
+        var product = productRepository.findById(item.productId())
+                .orElseThrow(() -> new ProductNotFoundException(item.productId()));
+        item.overlayProductMetadata(metadataResolver.resolve(item, product));
+        var productHandler = handlers.get(item.productType());
+
+        if (productHandler == null) {
+            return ValidationResult.fail(OrderError.INTERNAL_ERROR.toString());
+        }
+
+        var validation = productHandler.validate(item, product, order);
+        return reviewGranted && validation.isValid() && validation.isHumanReviewRequired()
+                ? ValidationResult.ok()
+                : validation;
+    }
+}
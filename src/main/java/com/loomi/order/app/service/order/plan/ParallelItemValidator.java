@@ -0,0 +1,97 @@
+package com.loomi.order.app.service.order.plan;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import com.loomi.order.domain.product.dto.ValidationResult;
+
+import io.micrometer.core.instrument.Counter;
+
+public class ParallelItemValidator {
+
+    private final ExecutorService executor;
+    private final int minItems;
+
+    /**
+     * Each running check may hold a pooled DB connection of its own, outside the caller's transaction, so the
+     * executor's thread count is also the number of extra connections this can take.
+     */
+    public ParallelItemValidator(ExecutorService executor, int minItems) {
+        this.executor = executor;
+        this.minItems = minItems;
+    }
+
+    public boolean appliesTo(int itemCount) {
+        return itemCount >= minItems;
+    }
+
+    public ValidationResult validate(int itemCount, IntFunction<ValidationResult> check, Counter skippedItems) {
+        var firstDecisive = new AtomicInteger(itemCount);
+        var executed = new AtomicInteger();
+        var futures = new ArrayList<Future<ValidationResult>>(itemCount);
+
+        try {
+            for (int i = 0; i < itemCount; i++) {
+                final int index = i;
+                futures.add(executor.submit(() -> {
+                    // A sibling earlier in the order already decided the result
+                    if (index > firstDecisive.get()) {
+                        return null;
+                    }
+                    executed.incrementAndGet();
+                    try {
+                        var result = check.apply(index);
+                        if (isDecisive(result)) {
+                            firstDecisive.accumulateAndGet(index, Math::min);
+                        }
+                        return result;
+                    } catch (RuntimeException e) {
+                        firstDecisive.accumulateAndGet(index, Math::min);
+                        throw e;
+                    }
+                }));
+            }
+
+            // Results are consumed in item order, so the first decisive item wins no matter which finished first
+            for (int i = 0; i < itemCount; i++) {
+                var result = get(futures.get(i));
+                if (isDecisive(result)) {
+                    return result;
+                }
+            }
+            return ValidationResult.ok();
+        } finally {
+            // Nothing after the decisive item can change the result: queued siblings are dropped and running ones
+            // interrupted. A stock hold an interrupted sibling still completes is released with the order or expires.
+            for (var future : futures) {
+                future.cancel(true);
+            }
+            skippedItems.increment(itemCount - executed.get());
+        }
+    }
+
+    private static boolean isDecisive(ValidationResult result) {
+        return result != null && (!result.isValid() || result.isHumanReviewRequired());
+    }
+
+    private static ValidationResult get(Future<ValidationResult> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while validating order items", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.loomi.order.app.service.order.plan;
+
+import com.loomi.order.app.service.order.handler.FailureLikelihood;
+import com.loomi.order.app.service.order.handler.ValidationCost;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.product.dto.ValidationResult;
+
+public interface PlanStage {
+    String name();
+
+    ValidationCost cost();
+
+    FailureLikelihood failureLikelihood();
+
+    ValidationResult validate(Order order);
+
+    /**
+     * Validation after an approver granted the review this stage asked for. A stage that stops at the first
+     * review request must keep checking what came after it; by default the stage just runs again.
+     */
+    default ValidationResult validateReviewGranted(Order order) {
+        return validate(order);
+    }
+}
@@ -0,0 +1,51 @@
+package com.loomi.order.app.service.order.plan;
+
+import java.util.function.Supplier;
+
+import com.loomi.order.domain.order.valueobject.OrderItem;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.domain.product.entity.Product;
+import com.loomi.order.domain.product.repository.ProductRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Resolves the catalog metadata an item was created against. Items recording an older
+ * {@code productMetadataVersion} read it from the version history; only when that version is missing there
+ * (items created before the history existed) does the item fall back to the current catalog, counted in
+ * {@code order.pipeline.items.stale_metadata}.
+ */
+public class ProductMetadataResolver {
+
+    private final ProductRepository productRepository;
+    private final Counter staleMetadata;
+
+    public ProductMetadataResolver(ProductRepository productRepository, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.staleMetadata = meterRegistry.counter("order.pipeline.items.stale_metadata");
+    }
+
+    public RawProductMetadata resolve(OrderItem item, Product product) {
+        if (!item.hasStaleProductMetadata(product)) {
+            return product.metadata();
+        }
+        return productRepository.findMetadata(item.productId(), item.productMetadataVersion())
+                .orElseGet(() -> {
+                    staleMetadata.increment();
+                    return product.metadata();
+                });
+    }
+
+    public Supplier<RawProductMetadata> lazy(OrderItem item) {
+        return () -> {
+            if (item.productMetadataVersion() != null) {
+                var recorded = productRepository.findMetadata(item.productId(), item.productMetadataVersion());
+                if (recorded.isPresent()) {
+                    return recorded.get();
+                }
+            }
+            return productRepository.findById(item.productId()).map(Product::metadata).orElse(null);
+        };
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Service;
 
 import com.loomi.order.domain.order.entity.Order;
 import com.loomi.order.domain.payment.usecase.PaymentService;
+import com.loomi.order.domain.subscription.dto.SubscriptionCharge;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,4 +24,18 @@ public class PaymentServiceImpl implements PaymentService {
         
         log.info("Payment processed successfully for order: {}", order.id());
     }
+
+    @Override
+    public void chargeSubscription(SubscriptionCharge charge) {
+        log.info("Charging subscription {} for period {} (key {})",
+                charge.subscriptionId(), charge.dueAt(), charge.idempotencyKey());
+
+        try {
+            Thread.sleep(100); // Simulate network delay
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("Subscription {} charged {}", charge.subscriptionId(), charge.amount());
+    }
 }
@@ -0,0 +1,164 @@
+package com.loomi.order.app.service.payment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.app.config.SubscriptionBillingConfig;
+import com.loomi.order.domain.event.usecase.SubscriptionEventPublisher;
+import com.loomi.order.domain.order.entity.SubscriptionChargeEvent;
+import com.loomi.order.domain.payment.usecase.PaymentService;
+import com.loomi.order.domain.subscription.dto.SubscriptionCharge;
+import com.loomi.order.domain.subscription.repository.SubscriptionScheduleRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Charges subscriptions whose billing period is due. Each run claims batches of due rows with
+ * {@code FOR UPDATE SKIP LOCKED} and charges them on a bounded pool, since payment calls spend most of their
+ * time waiting on the gateway. Any node can claim any row, so rows left by a node that died are billed by the
+ * others once its lease runs out. A row stays claimed until its outcome is written, and the write only lands
+ * while the claim is still ours, so two nodes never advance the same billing period.
+ */
+@Slf4j
+@Component
+public class SubscriptionBillingScheduler {
+
+    private final SubscriptionScheduleRepository schedule;
+    private final PaymentService paymentService;
+    private final SubscriptionEventPublisher publisher;
+    private final SubscriptionBillingConfig config;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+
+    @Autowired
+    public SubscriptionBillingScheduler(
+            SubscriptionScheduleRepository schedule,
+            PaymentService paymentService,
+            SubscriptionEventPublisher publisher,
+            SubscriptionBillingConfig config,
+            MeterRegistry meterRegistry) {
+        this(schedule, paymentService, publisher, config, meterRegistry, newExecutor(config.getConcurrency()));
+    }
+
+    public SubscriptionBillingScheduler(
+            SubscriptionScheduleRepository schedule,
+            PaymentService paymentService,
+            SubscriptionEventPublisher publisher,
+            SubscriptionBillingConfig config,
+            MeterRegistry meterRegistry,
+            ExecutorService executor) {
+        this.schedule = schedule;
+        this.paymentService = paymentService;
+        this.publisher = publisher;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+    }
+
+    private static ExecutorService newExecutor(int threads) {
+        var counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, task -> {
+            var thread = new Thread(task, "subscription-billing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${subscription-billing.interval-ms:10000}")
+    public void billDue() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        chargeDue();
+    }
+
+    public int chargeDue() {
+        var lease = Duration.ofSeconds(config.getLeaseSeconds());
+        int charged = 0;
+        for (int i = 0; i < config.getMaxBatchesPerRun(); i++) {
+            var batch = schedule.claimDue(config.getBatchSize(), lease);
+            if (batch.isEmpty()) {
+                break;
+            }
+            meterRegistry.counter("subscription.billing.cancelled").increment(batch.cancelled());
+
+            var results = batch.charges().stream()
+                    .map(charge -> CompletableFuture.supplyAsync(() -> chargeSafely(batch.claimId(), charge), executor))
+                    .toList();
+            for (var result : results) {
+                if (result.join()) {
+                    charged++;
+                }
+            }
+            if (batch.size() < config.getBatchSize()) {
+                break;
+            }
+        }
+        if (charged > 0) {
+            log.info("Charged {} due subscriptions", charged);
+        }
+        return charged;
+    }
+
+    // A failure recording one outcome must not abort the rest of the run; that row stays claimed and is picked
+    // up again once its lease expires
+    private boolean chargeSafely(UUID claimId, SubscriptionCharge charge) {
+        try {
+            return charge(claimId, charge);
+        } catch (RuntimeException e) {
+            log.error("Could not record the charge of subscription {}", charge.subscriptionId(), e);
+            meterRegistry.counter("subscription.billing.charges", "outcome", "error").increment();
+            return false;
+        }
+    }
+
+    private boolean charge(UUID claimId, SubscriptionCharge charge) {
+        try {
+            paymentService.chargeSubscription(charge);
+        } catch (RuntimeException e) {
+            onFailure(claimId, charge, e);
+            return false;
+        }
+
+        if (!schedule.markCharged(charge.subscriptionId(), claimId)) {
+            log.warn("Claim on subscription {} expired before its charge was recorded", charge.subscriptionId());
+            meterRegistry.counter("subscription.billing.charges", "outcome", "lost_claim").increment();
+            return false;
+        }
+        meterRegistry.counter("subscription.billing.charges", "outcome", "charged").increment();
+        publisher.sendSubscriptionChargeEvent(SubscriptionChargeEvent.charged(charge));
+        return true;
+    }
+
+    private void onFailure(UUID claimId, SubscriptionCharge charge, RuntimeException error) {
+        int attempt = charge.attempts() + 1;
+        boolean suspend = attempt >= config.getMaxAttempts();
+        var retryAt = LocalDateTime.now().plusMinutes(config.getRetryDelayMinutes() * attempt);
+        var reason = error.getMessage() != null ? error.getMessage() : error.getClass().getName();
+        log.warn("Charge {} of subscription {} failed (attempt {}): {}",
+                charge.idempotencyKey(), charge.subscriptionId(), attempt, reason);
+
+        if (!schedule.markFailed(charge.subscriptionId(), claimId, retryAt, suspend, reason)) {
+            meterRegistry.counter("subscription.billing.charges", "outcome", "lost_claim").increment();
+            return;
+        }
+        meterRegistry.counter("subscription.billing.charges", "outcome", suspend ? "suspended" : "failed").increment();
+        publisher.sendSubscriptionChargeEvent(SubscriptionChargeEvent.failed(charge, suspend, reason));
+    }
+}
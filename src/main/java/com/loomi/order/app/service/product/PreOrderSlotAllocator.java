@@ -0,0 +1,82 @@
+package com.loomi.order.app.service.product;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.product.dto.ProductCatalogChangedEvent;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.StockLevel;
+import com.loomi.order.domain.product.usecase.StockReservationService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Pre-order slots are the product stock, claimed and returned through the reservation ledger so every
+ * consumer instance sees the same count. The sold/remaining counters are a local copy, adjusted on each
+ * claim or release made here and refreshed from the ledger to pick up the other instances.
+ */
+@Component
+@RequiredArgsConstructor
+public class PreOrderSlotAllocator {
+
+    private final StockReservationService reservations;
+    private final Map<UUID, StockLevel> slots = new ConcurrentHashMap<>();
+
+    public boolean claim(UUID orderId, UUID productId, int quantity) {
+        if (!reservations.hold(orderId, productId, quantity)) {
+            return false;
+        }
+        slots.computeIfPresent(productId, (id, level) -> level.claimed(quantity));
+        return true;
+    }
+
+    public OptionalInt confirm(UUID orderId, UUID productId, int quantity) {
+        return reservations.commit(orderId, productId, quantity);
+    }
+
+    /**
+     * Returns what a cancelled order still has on hold, plus its pre-order slots; stock already shipped stays sold.
+     */
+    public int release(Order order) {
+        int released = reservations.releaseUnshipped(order.id());
+        if (released == 0) {
+            return 0;
+        }
+        for (var item : order.items()) {
+            if (item.productType() == ProductType.PRE_ORDER) {
+                slots.computeIfPresent(item.productId(), (id, level) -> level.returned(item.quantity()));
+            }
+        }
+        return released;
+    }
+
+    public Optional<StockLevel> slots(UUID productId) {
+        return Optional.ofNullable(slots.get(productId));
+    }
+
+    // An import can add pre-order products or reset their stock; don't wait for the next refresh
+    @EventListener(ProductCatalogChangedEvent.class)
+    public void onCatalogChanged() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${pre-order.slot-refresh-interval-ms:1000}")
+    public void refresh() {
+        var levels = reservations.stockLevels(ProductType.PRE_ORDER);
+        var refreshed = new HashMap<UUID, StockLevel>(levels.size() * 2);
+        for (var level : levels) {
+            refreshed.put(level.productId(), level);
+        }
+        slots.putAll(refreshed);
+        slots.keySet().retainAll(refreshed.keySet());
+    }
+}
@@ -0,0 +1,28 @@
+package com.loomi.order.domain.credit.repository;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CreditLedgerRepository {
+
+    /**
+     * Appends a reserve entry and returns the CNPJ's new exposure, or empty if it would exceed {@code limit}.
+     * If the order already holds a reservation for the CNPJ, returns the current exposure unchanged.
+     */
+    Optional<BigDecimal> reserve(String cnpj, UUID orderId, BigDecimal amount, int paymentTermDays, BigDecimal limit);
+
+    /**
+     * Appends release entries for the order's open reservations and returns the new exposure per CNPJ.
+     */
+    Map<String, BigDecimal> release(UUID orderId);
+
+    /**
+     * Appends settle entries for up to {@code limit} reservations of processed orders whose payment term has
+     * elapsed and returns the new exposure of every CNPJ that changed.
+     */
+    Map<String, BigDecimal> settleDue(int limit);
+
+    BigDecimal exposure(String cnpj);
+}
@@ -0,0 +1,29 @@
+package com.loomi.order.domain.credit.usecase;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface CreditLedgerService {
+
+    /**
+     * Adds {@code amount} to the CNPJ's outstanding exposure on behalf of the order, unless that would take it
+     * past the CNPJ's credit limit. Reserving again for the same order and CNPJ is a no-op. Once the order is
+     * processed the exposure is settled after {@code paymentTermDays}.
+     */
+    boolean reserve(String cnpj, UUID orderId, BigDecimal amount, int paymentTermDays);
+
+    /**
+     * Removes every exposure the order reserved. Releasing twice is a no-op.
+     */
+    void release(UUID orderId);
+
+    /**
+     * Settles the exposure of processed orders whose payment term has elapsed and returns how many CNPJs
+     * changed.
+     */
+    int settleDue();
+
+    BigDecimal exposure(String cnpj);
+
+    BigDecimal limitFor(String cnpj);
+}
@@ -0,0 +1,70 @@
+package com.loomi.order.domain.customer.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.product.dto.ProductType;
+
+/**
+ * What the item handlers need to know about a customer's processed orders: the products they own, the
+ * subscription groups they are in and their latest orders. Built only from PROCESSED orders, which never
+ * change status again, so applying an order is append-only.
+ */
+public record CustomerState(
+        String customerId,
+        long version,
+        Set<UUID> ownedProducts,
+        Set<String> subscriptionGroups,
+        int activeSubscriptions,
+        List<OrderSummary> recentOrders) {
+
+    public record OrderSummary(UUID orderId, BigDecimal totalAmount, LocalDateTime createdAt) {
+    }
+
+    public static CustomerState empty(String customerId) {
+        return new CustomerState(customerId, 0, Set.of(), Set.of(), 0, List.of());
+    }
+
+    public CustomerState withVersion(long version) {
+        return new CustomerState(customerId, version, ownedProducts, subscriptionGroups, activeSubscriptions,
+                recentOrders);
+    }
+
+    public boolean owns(UUID productId) {
+        return ownedProducts.contains(productId);
+    }
+
+    public boolean hasSubscriptionGroup(String groupId) {
+        return subscriptionGroups.contains(groupId.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @param subscriptionGroups GROUP_ID of the order's subscription products
+     */
+    public CustomerState withProcessed(Order order, Collection<String> subscriptionGroups, int maxRecentOrders) {
+        if (recentOrders.stream().anyMatch(summary -> summary.orderId().equals(order.id()))) {
+            return this;
+        }
+        var owned = new HashSet<>(ownedProducts);
+        order.items().forEach(item -> owned.add(item.productId()));
+
+        var groups = new HashSet<>(this.subscriptionGroups);
+        subscriptionGroups.forEach(group -> groups.add(group.toLowerCase(Locale.ROOT)));
+        boolean subscribes = order.items().stream().anyMatch(item -> item.productType() == ProductType.SUBSCRIPTION);
+
+        var recent = new ArrayList<OrderSummary>(maxRecentOrders);
+        recent.add(new OrderSummary(order.id(), order.totalAmount(), order.createdAt()));
+        recentOrders.stream().limit(Math.max(0, maxRecentOrders - 1)).forEach(recent::add);
+
+        return new CustomerState(customerId, version + 1, Set.copyOf(owned), Set.copyOf(groups),
+                activeSubscriptions + (subscribes ? 1 : 0), List.copyOf(recent));
+    }
+}
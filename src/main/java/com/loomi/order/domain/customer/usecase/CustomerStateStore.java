@@ -0,0 +1,17 @@
+package com.loomi.order.domain.customer.usecase;
+
+import java.util.Optional;
+
+import com.loomi.order.domain.customer.dto.CustomerState;
+import com.loomi.order.domain.order.entity.Order;
+
+public interface CustomerStateStore {
+
+    /**
+     * State of a customer whose order-created partition this instance owns. Empty when the partition is
+     * owned elsewhere or still being restored, in which case callers read the database instead.
+     */
+    Optional<CustomerState> find(String customerId);
+
+    void recordProcessed(Order order);
+}
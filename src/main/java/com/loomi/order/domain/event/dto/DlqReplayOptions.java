@@ -0,0 +1,46 @@
+package com.loomi.order.domain.event.dto;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Selects which dead-lettered order events a replay re-publishes. Null bounds and an empty order id set
+ * match everything; {@code exceptionClass} matches the fully qualified or simple name of the failure or its
+ * cause. {@code eventsPerSecond} overrides the configured rate when set, and {@code limit} of zero means no
+ * limit. {@code restart} ignores the progress of earlier replays and reads from {@code from} (or the start).
+ */
+public record DlqReplayOptions(
+    Instant from,
+    Instant to,
+    String exceptionClass,
+    Set<UUID> orderIds,
+    Double eventsPerSecond,
+    long limit,
+    boolean dryRun,
+    boolean restart
+) {
+
+    public DlqReplayOptions {
+        orderIds = orderIds == null ? Set.of() : Set.copyOf(orderIds);
+    }
+
+    public boolean matches(long timestampMs, String exceptionFqcn, String causeFqcn) {
+        if (from != null && timestampMs < from.toEpochMilli()) {
+            return false;
+        }
+        if (to != null && timestampMs >= to.toEpochMilli()) {
+            return false;
+        }
+        return exceptionClass == null || exceptionClass.isBlank()
+                || isClass(exceptionFqcn) || isClass(causeFqcn);
+    }
+
+    public boolean filtersByOrder() {
+        return !orderIds.isEmpty();
+    }
+
+    private boolean isClass(String fqcn) {
+        return fqcn != null && (fqcn.equals(exceptionClass) || fqcn.endsWith("." + exceptionClass));
+    }
+}
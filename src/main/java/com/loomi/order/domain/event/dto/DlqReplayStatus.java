@@ -0,0 +1,30 @@
+package com.loomi.order.domain.event.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record DlqReplayStatus(
+    UUID replayId,
+    State state,
+    boolean dryRun,
+    long scanned,
+    long matched,
+    long replayed,
+    long failed,
+    double recordsPerSecond,
+    Instant startedAt,
+    Instant finishedAt,
+    String error
+) {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+}
@@ -0,0 +1,14 @@
+package com.loomi.order.domain.event.exception;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+
+import com.loomi.order.domain.exception.HttpException;
+
+public class DlqReplayInProgressException extends HttpException {
+
+    public DlqReplayInProgressException(UUID replayId) {
+        super(HttpStatus.CONFLICT, "DLQ replay " + replayId + " is already running");
+    }
+}
@@ -0,0 +1,17 @@
+package com.loomi.order.domain.event.usecase;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+public interface ConsumerBacklogProbe {
+
+    /**
+     * Lag of the order-created partitions assigned to this instance, or empty while the lag is unknown
+     * (the last refresh failed or none has completed yet).
+     */
+    OptionalLong assignedLag();
+
+    Map<Integer, Long> lagByPartition();
+
+    int inFlight();
+}
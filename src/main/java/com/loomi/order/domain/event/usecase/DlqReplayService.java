@@ -0,0 +1,17 @@
+package com.loomi.order.domain.event.usecase;
+
+import java.util.Optional;
+
+import com.loomi.order.domain.event.dto.DlqReplayOptions;
+import com.loomi.order.domain.event.dto.DlqReplayStatus;
+
+public interface DlqReplayService {
+
+    DlqReplayStatus start(DlqReplayOptions options);
+
+    DlqReplayStatus run(DlqReplayOptions options);
+
+    Optional<DlqReplayStatus> status();
+
+    Optional<DlqReplayStatus> cancel();
+}
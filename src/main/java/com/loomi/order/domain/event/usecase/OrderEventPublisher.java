@@ -1,9 +1,12 @@
 package com.loomi.order.domain.event.usecase;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.loomi.order.domain.order.entity.OrderCreatedEvent;
 import com.loomi.order.domain.order.entity.OrderFailedEvent;
 import com.loomi.order.domain.order.entity.OrderPendingApprovalEvent;
 import com.loomi.order.domain.order.entity.OrderProcessedEvent;
+import com.loomi.order.domain.order.entity.OrderReleasedEvent;
 
 public interface OrderEventPublisher {
 
@@ -15,4 +18,6 @@ public interface OrderEventPublisher {
     
     void sendOrderPendingApprovalEvent(OrderPendingApprovalEvent event);
 
+    CompletableFuture<Void> sendOrderReleasedEvent(OrderReleasedEvent event);
+
 }
@@ -0,0 +1,9 @@
+package com.loomi.order.domain.event.usecase;
+
+import com.loomi.order.domain.order.entity.SubscriptionChargeEvent;
+
+public interface SubscriptionEventPublisher {
+
+    void sendSubscriptionChargeEvent(SubscriptionChargeEvent event);
+
+}
@@ -0,0 +1,22 @@
+package com.loomi.order.domain.order.dto;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ApprovalDecision(
+    @NotNull UUID orderId,
+    @NotNull Decision decision,
+    @Size(max = 500) String reason
+) {
+
+    public enum Decision {
+        APPROVE,
+        REJECT
+    }
+}
@@ -0,0 +1,26 @@
+package com.loomi.order.domain.order.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ApprovalOutcome(
+    UUID orderId,
+    Result result,
+    List<String> errors
+) {
+
+    public enum Result {
+        PROCESSED,
+        FAILED,
+        REJECTED,
+        NOT_PENDING
+    }
+
+    public static ApprovalOutcome of(UUID orderId, Result result) {
+        return new ApprovalOutcome(orderId, result, List.of());
+    }
+}
@@ -6,4 +6,7 @@ public enum OrderEventType {
     ORDER_FAILED,
     ORDER_PENDING_APPROVAL,
     LOW_STOCK_ALERT,
+    ORDER_RELEASED,
+    SUBSCRIPTION_CHARGED,
+    SUBSCRIPTION_CHARGE_FAILED,
 }
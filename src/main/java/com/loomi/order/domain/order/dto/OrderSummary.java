@@ -0,0 +1,17 @@
+package com.loomi.order.domain.order.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+
+public record OrderSummary(
+    UUID orderId,
+    String customerId,
+    OrderStatus status,
+    BigDecimal totalAmount,
+    int itemCount,
+    LocalDateTime createdAt
+) {
+}
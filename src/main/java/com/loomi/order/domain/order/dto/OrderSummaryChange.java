@@ -0,0 +1,39 @@
+package com.loomi.order.domain.order.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.loomi.order.domain.order.entity.OrderCreatedEvent;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+
+/**
+ * One event applied to the order summary read model. Only the order-created event carries the order details;
+ * the others only move the status.
+ */
+public record OrderSummaryChange(
+    UUID orderId,
+    String customerId,
+    OrderStatus status,
+    BigDecimal totalAmount,
+    Integer itemCount,
+    LocalDateTime createdAt,
+    LocalDateTime statusChangedAt
+) {
+
+    public static OrderSummaryChange created(OrderCreatedEvent event) {
+        var payload = event.getPayload();
+        return new OrderSummaryChange(
+                payload.getId(),
+                payload.getCustomerId(),
+                payload.getStatus(),
+                payload.getTotalAmount(),
+                payload.getItems() == null ? 0 : payload.getItems().size(),
+                event.getTimestamp(),
+                event.getTimestamp());
+    }
+
+    public static OrderSummaryChange status(UUID orderId, OrderStatus status, LocalDateTime changedAt) {
+        return new OrderSummaryChange(orderId, null, status, null, null, null, changedAt);
+    }
+}
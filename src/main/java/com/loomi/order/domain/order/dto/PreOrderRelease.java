@@ -0,0 +1,11 @@
+package com.loomi.order.domain.order.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record PreOrderRelease(
+    UUID orderId,
+    UUID productId,
+    LocalDate releaseDate
+) {
+}
@@ -0,0 +1,19 @@
+package com.loomi.order.domain.order.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Due releases claimed by one worker. {@code skipped} counts claimed rows whose order is no longer
+ * {@code PROCESSED} (cancelled, failed); those are closed by the claim itself and carry no event.
+ */
+public record PreOrderReleaseChunk(
+    UUID claimId,
+    List<PreOrderRelease> releases,
+    int skipped
+) {
+
+    public boolean isEmpty() {
+        return releases.isEmpty() && skipped == 0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.loomi.order.domain.order.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.loomi.order.domain.order.dto.OrderEventType;
+import com.loomi.order.domain.order.dto.PreOrderRelease;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class OrderReleasedEvent {
+    @JsonProperty("eventId")
+    private UUID id;
+
+    @JsonProperty("eventType")
+    private OrderEventType type;
+
+    private LocalDateTime timestamp;
+
+    private OrderReleasedPayload payload;
+
+    public OrderReleasedEvent(OrderReleasedPayload payload) {
+        this.id = UUID.randomUUID();
+        this.type = OrderEventType.ORDER_RELEASED;
+        this.timestamp = LocalDateTime.now();
+        this.payload = payload;
+    }
+
+    public static OrderReleasedEvent fromRelease(PreOrderRelease release) {
+        var payload = new OrderReleasedPayload(
+                release.orderId(), release.productId(), release.releaseDate(), LocalDateTime.now());
+        return new OrderReleasedEvent(payload);
+    }
+}
@@ -0,0 +1,19 @@
+package com.loomi.order.domain.order.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderReleasedPayload {
+    private UUID orderId;
+    private UUID productId;
+    private LocalDate releaseDate;
+    private LocalDateTime releasedAt;
+}
@@ -0,0 +1,54 @@
+package com.loomi.order.domain.order.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.loomi.order.domain.order.dto.OrderEventType;
+import com.loomi.order.domain.subscription.dto.SubscriptionCharge;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class SubscriptionChargeEvent {
+    @JsonProperty("eventId")
+    private UUID id;
+
+    @JsonProperty("eventType")
+    private OrderEventType type;
+
+    private LocalDateTime timestamp;
+
+    private SubscriptionChargePayload payload;
+
+    public SubscriptionChargeEvent(OrderEventType type, SubscriptionChargePayload payload) {
+        this.id = UUID.randomUUID();
+        this.type = type;
+        this.timestamp = LocalDateTime.now();
+        this.payload = payload;
+    }
+
+    public static SubscriptionChargeEvent charged(SubscriptionCharge charge) {
+        return new SubscriptionChargeEvent(OrderEventType.SUBSCRIPTION_CHARGED, payload(charge, false, null));
+    }
+
+    public static SubscriptionChargeEvent failed(SubscriptionCharge charge, boolean suspended, String reason) {
+        return new SubscriptionChargeEvent(OrderEventType.SUBSCRIPTION_CHARGE_FAILED, payload(charge, suspended, reason));
+    }
+
+    private static SubscriptionChargePayload payload(SubscriptionCharge charge, boolean suspended, String reason) {
+        return new SubscriptionChargePayload(
+                charge.subscriptionId(),
+                charge.orderId(),
+                charge.productId(),
+                charge.customerId(),
+                charge.amount(),
+                charge.dueAt(),
+                charge.attempts() + 1,
+                suspended,
+                reason,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,25 @@
+package com.loomi.order.domain.order.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionChargePayload {
+    private UUID subscriptionId;
+    private UUID orderId;
+    private UUID productId;
+    private String customerId;
+    private BigDecimal amount;
+    private LocalDateTime dueAt;
+    private Integer attempt;
+    private boolean suspended;
+    private String reason;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,19 @@
+package com.loomi.order.domain.order.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.loomi.order.domain.exception.HttpException;
+
+public class OrderAdmissionRejectedException extends HttpException {
+
+    private final long retryAfterSeconds;
+
+    public OrderAdmissionRejectedException(String reason, long retryAfterSeconds) {
+        super(HttpStatus.TOO_MANY_REQUESTS, "Order admission rejected: " + reason);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long retryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,22 @@
+package com.loomi.order.domain.order.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+
+public interface OrderCheckpointRepository {
+
+    void saveReviewStage(UUID orderId, String stage);
+
+    Map<UUID, String> findReviewStages(Collection<UUID> orderIds);
+
+    /**
+     * Process steps already completed for the order, by step key. Item steps map to the metadata the item
+     * had when the step finished; global handler steps map to {@code null}.
+     */
+    Map<String, RawProductMetadata> findCompletedSteps(UUID orderId);
+
+    void saveCompletedStep(UUID orderId, String stepKey, RawProductMetadata itemMetadata);
+}
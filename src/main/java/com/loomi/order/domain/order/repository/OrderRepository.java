@@ -1,5 +1,7 @@
 package com.loomi.order.domain.order.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,8 +11,13 @@ import com.loomi.order.domain.order.valueobject.OrderStatus;
 
 public interface OrderRepository {
 
+    /**
+     * Live orders only; archived orders are read-only and are found with {@link #findArchivedById}.
+     */
     Optional<Order> findById(UUID id);
 
+    Optional<Order> findArchivedById(UUID id);
+
     Order save(Order order);
 
     List<Order> findAll();
@@ -19,6 +26,35 @@ public interface OrderRepository {
 
     void update(Order order);
 
+    void updateAll(List<Order> orders);
+
+    /**
+     * Writes the order only if it is still in {@code expected}, so a stale copy cannot overwrite a status
+     * another instance has moved on. Returns whether the write happened.
+     */
+    boolean updateIfStatus(Order order, OrderStatus expected);
+
+    List<Order> findAllById(Collection<UUID> ids);
+
+    /**
+     * Oldest first, straight from the partial index on pending approvals.
+     */
+    List<Order> findPendingApproval(int limit);
+
+    /**
+     * Moves the orders that are still in {@code from} to {@code to} in one statement and returns their ids.
+     */
+    List<UUID> transitionStatus(Collection<UUID> ids, OrderStatus from, OrderStatus to);
+
+    /**
+     * Moves orders that have sat in {@code APPROVED} since before {@code cutoff} back to
+     * {@code PENDING_APPROVAL} and returns their ids.
+     */
+    List<UUID> requeueStaleApprovals(LocalDateTime cutoff);
+
+    /**
+     * Includes archived orders, as do the other customer lookups below.
+     */
     List<Order> findByCustomerId(String customerId);
 
     List<Order> findByCustomerIdAndProductIdAndStatus(String customerId, UUID productId, OrderStatus status);
@@ -0,0 +1,13 @@
+package com.loomi.order.domain.order.repository;
+
+import java.util.List;
+
+import com.loomi.order.domain.order.dto.OrderSummary;
+import com.loomi.order.domain.order.dto.OrderSummaryChange;
+
+public interface OrderSummaryRepository {
+
+    void applyAll(List<OrderSummaryChange> changes);
+
+    List<OrderSummary> findByCustomerId(String customerId, int limit);
+}
@@ -0,0 +1,20 @@
+package com.loomi.order.domain.order.repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.loomi.order.domain.order.dto.PreOrderReleaseChunk;
+
+public interface PreOrderReleaseRepository {
+
+    void register(UUID orderId, UUID productId, LocalDate releaseDate);
+
+    /**
+     * Claims up to {@code limit} releases due on or before {@code today}, including chunks another worker
+     * claimed more than {@code lease} ago without completing them.
+     */
+    PreOrderReleaseChunk claimDue(LocalDate today, int limit, Duration lease);
+
+    int complete(UUID claimId);
+}
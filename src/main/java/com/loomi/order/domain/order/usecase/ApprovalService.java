@@ -0,0 +1,14 @@
+package com.loomi.order.domain.order.usecase;
+
+import java.util.List;
+
+import com.loomi.order.domain.order.dto.ApprovalDecision;
+import com.loomi.order.domain.order.dto.ApprovalOutcome;
+import com.loomi.order.domain.order.entity.Order;
+
+public interface ApprovalService {
+
+    List<Order> pendingApprovals(int limit);
+
+    List<ApprovalOutcome> decide(List<ApprovalDecision> decisions);
+}
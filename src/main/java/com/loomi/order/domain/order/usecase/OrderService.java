@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.UUID;
 
 import com.loomi.order.domain.order.dto.CreateOrder;
+import com.loomi.order.domain.order.dto.OrderSummary;
 import com.loomi.order.domain.order.entity.Order;
 
 public interface OrderService {
@@ -12,5 +13,7 @@ public interface OrderService {
 
     Order createOrder(CreateOrder createOrder);
 
-    List<Order> findOrdersByCustomerId(String customerId);
+    List<OrderSummary> findOrderSummaries(String customerId);
+
+    Order cancelOrder(UUID orderId);
 }
@@ -0,0 +1,31 @@
+package com.loomi.order.domain.order.valueobject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class MinorUnits {
+
+    public static final int SCALE = 2;
+
+    private MinorUnits() {
+    }
+
+    /**
+     * Computed amounts (a discount applied to a price, say) can carry more than two decimals; they are rounded
+     * half-even. Prices read from JSON are checked for exactness by {@link MinorUnitsDeserializer} instead.
+     */
+    public static long of(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_EVEN).movePointRight(SCALE).longValueExact();
+    }
+
+    public static boolean isExact(BigDecimal amount) {
+        return amount.stripTrailingZeros().scale() <= SCALE;
+    }
+
+    public static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+}
@@ -0,0 +1,81 @@
+package com.loomi.order.domain.order.valueobject;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+public class MinorUnitsDeserializer extends StdDeserializer<Long> {
+
+    public MinorUnitsDeserializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            try {
+                return Math.multiplyExact(parser.getLongValue(), 100L);
+            } catch (ArithmeticException e) {
+                throw context.weirdNumberException(parser.getNumberValue(), Long.class, "price out of range");
+            }
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_STRING) {
+            long parsed = parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            return parsed != Long.MIN_VALUE ? parsed : parseDecimal(parser, context);
+        }
+        return (Long) context.handleUnexpectedToken(Long.class, parser);
+    }
+
+    // A price is never rounded on the way in: more than two decimals is a malformed value, not a 500
+    private static long parseDecimal(JsonParser parser, DeserializationContext context) throws IOException {
+        var text = parser.getText().trim();
+        try {
+            var amount = new BigDecimal(text);
+            if (!MinorUnits.isExact(amount)) {
+                throw context.weirdStringException(text, Long.class,
+                        "price has more than " + MinorUnits.SCALE + " decimal places");
+            }
+            return MinorUnits.of(amount);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw context.weirdStringException(text, Long.class, "not a valid price");
+        }
+    }
+
+    private static long parse(char[] chars, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        boolean negative = i < end && chars[i] == '-';
+        if (negative) {
+            i++;
+        }
+
+        long units = 0;
+        int digits = 0;
+        for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++, digits++) {
+            units = units * 10 + (chars[i] - '0');
+        }
+        int fraction = 0;
+        if (i < end && chars[i] == '.') {
+            for (i++; i < end && chars[i] >= '0' && chars[i] <= '9'; i++) {
+                if (fraction < MinorUnits.SCALE) {
+                    units = units * 10 + (chars[i] - '0');
+                    fraction++;
+                } else if (chars[i] != '0') {
+                    return Long.MIN_VALUE;
+                }
+            }
+        }
+        if (i != end || digits == 0 || digits > 15) {
+            return Long.MIN_VALUE;
+        }
+        for (; fraction < MinorUnits.SCALE; fraction++) {
+            units *= 10;
+        }
+        return negative ? -units : units;
+    }
+}
@@ -16,5 +16,6 @@ public enum OrderError {
     INVALID_CORPORATE_DATA,
     PRE_ORDER_SOLD_OUT,
     RELEASE_DATE_PASSED,
-    INVALID_RELEASE_DATE
+    INVALID_RELEASE_DATE,
+    APPROVAL_REJECTED
 }
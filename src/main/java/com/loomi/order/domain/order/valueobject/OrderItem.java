@@ -1,11 +1,18 @@
 package com.loomi.order.domain.order.valueobject;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.loomi.order.domain.product.dto.ProductType;
 import com.loomi.order.domain.product.dto.RawProductMetadata;
@@ -15,6 +22,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.experimental.Accessors;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -28,27 +36,89 @@ import lombok.NoArgsConstructor;
 @Accessors(fluent = true, chain = true)
 @Getter(onMethod_ = @JsonProperty)
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class OrderItem {
     @NotNull
     private UUID productId;
 
-    private String customerId;
-    
     @Min(1)
     private int quantity;
 
     @NotNull
     private ProductType productType;
-    
-    @NotNull
+
     @Positive
-    private BigDecimal price;
-    
+    @JsonProperty("price")
+    @JsonDeserialize(using = MinorUnitsDeserializer.class)
+    @Getter(AccessLevel.NONE)
+    private long priceMinor;
+
     private RawProductMetadata metadata;
 
+    private Integer productMetadataVersion;
+
+    @JsonIgnore
+    public long priceMinor() {
+        return priceMinor;
+    }
+
+    @JsonProperty
+    public BigDecimal price() {
+        return MinorUnits.toDecimal(priceMinor);
+    }
+
+    public OrderItem price(BigDecimal price) {
+        this.priceMinor = MinorUnits.of(price);
+        return this;
+    }
+
+    @JsonIgnore
+    public long totalPriceMinor() {
+        return Math.multiplyExact(priceMinor, quantity);
+    }
+
     @JsonIgnore
     public BigDecimal getTotalPrice() {
-        return price.multiply(BigDecimal.valueOf(quantity));
+        return MinorUnits.toDecimal(totalPriceMinor());
+    }
+
+    public OrderItem overlayProductMetadata(Product product) {
+        metadataOrEmpty().overlay(product.metadata());
+        return this;
+    }
+
+    public OrderItem overlayProductMetadata(Map<String, Object> productMetadata) {
+        metadataOrEmpty().overlay(productMetadata);
+        return this;
+    }
+
+    public OrderItem overlayProductMetadata(Supplier<? extends Map<String, Object>> productMetadata) {
+        metadataOrEmpty().overlay(productMetadata);
+        return this;
+    }
+
+    @JsonIgnore
+    public Optional<LocalDate> maxCancellationDate() {
+        var value = metadata != null ? metadata.get("maxCancellationDate") : null;
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDate.parse(value.toString()));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public boolean hasStaleProductMetadata(Product product) {
+        return productMetadataVersion != null && !productMetadataVersion.equals(product.metadataVersion());
+    }
+
+    private RawProductMetadata metadataOrEmpty() {
+        if (metadata == null) {
+            metadata = new RawProductMetadata();
+        }
+        return metadata;
     }
 
     public static OrderItem fromProduct(Product product, Integer quantity, RawProductMetadata metadata) {
@@ -58,17 +128,14 @@ public class OrderItem {
             .productType(product.productType())
             .price(product.price())
             .metadata(metadata)
-            .build();
+            .productMetadataVersion(product.metadataVersion())
+            .build()
+            .overlayProductMetadata(product);
     }
 
-    public static OrderItem fromProduct(Product product, String customerId, Integer quantity, RawProductMetadata metadata) {
-        return OrderItem.builder()
-            .productId(product.id())
-            .customerId(customerId)
-            .quantity(quantity)
-            .productType(product.productType())
-            .price(product.price())
-            .metadata(metadata)
-            .build();
+    public static class OrderItemBuilder {
+        public OrderItemBuilder price(BigDecimal price) {
+            return priceMinor(MinorUnits.of(price));
+        }
     }
 }
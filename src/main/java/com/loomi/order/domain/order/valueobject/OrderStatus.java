@@ -5,4 +5,6 @@ public enum OrderStatus {
     PROCESSED,
     FAILED,
     PENDING_APPROVAL,
+    CANCELLED,
+    APPROVED,
 }
@@ -1,9 +1,12 @@
 package com.loomi.order.domain.payment.usecase;
 
 import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.subscription.dto.SubscriptionCharge;
 
 public interface PaymentService {
 
     void processOrderPayment(Order order);
+
+    void chargeSubscription(SubscriptionCharge charge);
     
 }
@@ -0,0 +1,27 @@
+package com.loomi.order.domain.product.dto;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+final class MetadataKeys {
+
+    private static final int MAX_KEYS = 4096;
+    private static final ConcurrentHashMap<String, String> POOL = new ConcurrentHashMap<>();
+
+    private MetadataKeys() {
+    }
+
+    static String intern(String key) {
+        if (key == null) {
+            return null;
+        }
+        var canonical = POOL.get(key);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (POOL.size() >= MAX_KEYS) {
+            return key;
+        }
+        canonical = POOL.putIfAbsent(key, key);
+        return canonical != null ? canonical : key;
+    }
+}
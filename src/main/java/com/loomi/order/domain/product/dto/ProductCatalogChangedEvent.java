@@ -0,0 +1,9 @@
+package com.loomi.order.domain.product.dto;
+
+import java.util.UUID;
+
+/**
+ * Published after a bulk catalog change is committed, so anything holding product data can reload it.
+ */
+public record ProductCatalogChangedEvent(UUID importId, long inserted, long updated) {
+}
@@ -0,0 +1,38 @@
+package com.loomi.order.domain.product.dto;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ProductImportFormat {
+    CSV("text/csv", ".csv"),
+    NDJSON("application/x-ndjson", ".ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ProductImportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public static Optional<ProductImportFormat> forContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        var mediaType = contentType.split(";", 2)[0].trim();
+        return Arrays.stream(values())
+                .filter(format -> format.contentType.equalsIgnoreCase(mediaType))
+                .findFirst();
+    }
+
+    public static Optional<ProductImportFormat> forFileName(String fileName) {
+        var lower = fileName.toLowerCase();
+        return Arrays.stream(values())
+                .filter(format -> lower.endsWith(format.extension) || lower.endsWith(format.extension + ".gz"))
+                .findFirst();
+    }
+}
@@ -0,0 +1,29 @@
+package com.loomi.order.domain.product.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * Outcome of a catalog import. {@code unchanged} counts accepted products whose stored row already matched;
+ * only the first rejections are listed, {@code rowsRejected} has the full count.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ProductImportReport(
+    UUID importId,
+    ProductImportFormat format,
+    long rowsRead,
+    long rowsRejected,
+    long inserted,
+    long updated,
+    long unchanged,
+    long elapsedMs,
+    List<Rejection> rejections
+) {
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Rejection(long line, String reason) {
+    }
+}
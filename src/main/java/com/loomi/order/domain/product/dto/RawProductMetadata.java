@@ -1,9 +1,76 @@
 package com.loomi.order.domain.product.dto;
 
 import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
+/**
+ * Metadata map that can be layered over a shared, read-only base (the product catalog metadata).
+ * Lookups fall back to the base; writes, iteration and serialization only see the entries held here.
+ */
 public class RawProductMetadata extends HashMap<String, Object> {
+
+    private transient volatile Supplier<? extends Map<String, Object>> baseSupplier;
+    private transient volatile Map<String, Object> base;
+
     public RawProductMetadata() {
         super();
     }
+
+    public RawProductMetadata overlay(Map<String, Object> base) {
+        this.base = base;
+        this.baseSupplier = null;
+        return this;
+    }
+
+    public RawProductMetadata overlay(Supplier<? extends Map<String, Object>> baseSupplier) {
+        this.base = null;
+        this.baseSupplier = baseSupplier;
+        return this;
+    }
+
+    @Override
+    public Object get(Object key) {
+        var value = super.get(key);
+        if (value != null || super.containsKey(key)) {
+            return value;
+        }
+        var resolved = base();
+        return resolved != null ? resolved.get(key) : null;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        var value = get(key);
+        return value != null || containsKey(key) ? value : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (super.containsKey(key)) {
+            return true;
+        }
+        var resolved = base();
+        return resolved != null && resolved.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return super.put(MetadataKeys.intern(key), value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> entries) {
+        entries.forEach(this::put);
+    }
+
+    private Map<String, Object> base() {
+        var resolved = base;
+        var supplier = baseSupplier;
+        if (resolved == null && supplier != null) {
+            resolved = supplier.get();
+            base = resolved;
+        }
+        return resolved;
+    }
 }
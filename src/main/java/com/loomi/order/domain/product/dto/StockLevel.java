@@ -0,0 +1,14 @@
+package com.loomi.order.domain.product.dto;
+
+import java.util.UUID;
+
+public record StockLevel(UUID productId, int reserved, int available) {
+
+    public StockLevel claimed(int quantity) {
+        return new StockLevel(productId, reserved + quantity, Math.max(0, available - quantity));
+    }
+
+    public StockLevel returned(int quantity) {
+        return new StockLevel(productId, Math.max(0, reserved - quantity), available + quantity);
+    }
+}
@@ -9,22 +9,27 @@ import lombok.AllArgsConstructor;
 public class ValidationResult {
     private final List<String> errors;
     private boolean isHumanReviewRequired;
+    private String reviewStage;
 
 
     public static ValidationResult ok() { 
-        return new ValidationResult(List.of(), false); 
+        return new ValidationResult(List.of(), false, null); 
     }
 
     public static ValidationResult fail(String... errors) {
-        return new ValidationResult(Arrays.asList(errors), false);
+        return new ValidationResult(Arrays.asList(errors), false, null);
     }
 
     public static ValidationResult fail(List<String> errors) {
-        return new ValidationResult(errors, false);
+        return new ValidationResult(errors, false, null);
     }
 
     public static ValidationResult requireHumanReview() {
-        return new ValidationResult(null, true);
+        return new ValidationResult(null, true, null);
+    }
+
+    public static ValidationResult requireHumanReview(String stage) {
+        return new ValidationResult(null, true, stage);
     }
 
     public boolean isValid() { return errors == null || errors.isEmpty(); }
@@ -32,4 +37,6 @@ public class ValidationResult {
     public boolean isHumanReviewRequired() { return isHumanReviewRequired; }
     
     public List<String> getErrors() { return errors; }
+
+    public String getReviewStage() { return reviewStage; }
 }
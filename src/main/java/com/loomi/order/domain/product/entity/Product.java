@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -41,6 +42,13 @@ public class Product {
 	@Column(name = "stock_quantity")
 	private Integer stockQuantity;
 
+	@Column(name = "stock_shards", insertable = false, updatable = false)
+	private Integer stockShards;
+
+	// Stock of a sharded SKU lives in product_stock_shards; stock_quantity only keeps the unsharded remainder
+	@Formula("(CASE WHEN stock_shards > 0 THEN (SELECT SUM(s.quantity) FROM product_stock_shards s WHERE s.product_id = id) END)")
+	private Integer shardedStock;
+
 	@Column(nullable = false, name = "is_active")
 	@Builder.Default
 	private Boolean isActive = true;
@@ -49,5 +57,15 @@ public class Product {
 	@Column(columnDefinition = "jsonb")
 	private RawProductMetadata metadata;
 
+	@Column(name = "metadata_version", insertable = false, updatable = false)
+	private Integer metadataVersion;
+
+	public Integer availableStock() {
+		if (shardedStock == null) {
+			return stockQuantity;
+		}
+		return stockQuantity == null ? shardedStock : stockQuantity + shardedStock;
+	}
+
 }
 
@@ -0,0 +1,12 @@
+package com.loomi.order.domain.product.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.loomi.order.domain.exception.HttpException;
+
+public class StockShardingInProgressException extends HttpException {
+
+    public StockShardingInProgressException() {
+        super(HttpStatus.CONFLICT, "Stock sharding is already being applied by another instance");
+    }
+}
@@ -4,12 +4,18 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.loomi.order.domain.product.dto.RawProductMetadata;
 import com.loomi.order.domain.product.entity.Product;
 
 public interface ProductRepository {
 
     Optional<Product> findById(UUID id);
 
+    /**
+     * Catalog metadata as it was at {@code version}; empty when that version predates the history table.
+     */
+    Optional<RawProductMetadata> findMetadata(UUID productId, int version);
+
     Product save(Product product);
 
     List<Product> findAll();
@@ -0,0 +1,11 @@
+package com.loomi.order.domain.product.usecase;
+
+import java.io.InputStream;
+
+import com.loomi.order.domain.product.dto.ProductImportFormat;
+import com.loomi.order.domain.product.dto.ProductImportReport;
+
+public interface ProductImportService {
+
+    ProductImportReport importCatalog(InputStream input, ProductImportFormat format);
+}
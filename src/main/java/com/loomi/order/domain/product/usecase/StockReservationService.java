@@ -0,0 +1,39 @@
+package com.loomi.order.domain.product.usecase;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.StockLevel;
+
+public interface StockReservationService {
+
+    /**
+     * Takes {@code quantity} units out of the available stock and keeps them on hold for the order
+     * until the hold is committed, released or expires. Placing the same hold twice is a no-op.
+     */
+    boolean hold(UUID orderId, UUID productId, int quantity);
+
+    /**
+     * Turns the order's hold into a sale and returns the remaining stock. If the hold already expired
+     * the stock is taken again; an empty result means it is no longer available.
+     */
+    OptionalInt commit(UUID orderId, UUID productId, int quantity);
+
+    /**
+     * Returns every unit held or committed for the order to the available stock.
+     */
+    int release(UUID orderId);
+
+    /**
+     * Returns the order's held units and its committed pre-order slots to the available stock. Units
+     * committed for other products have already shipped or been delivered, so they stay sold.
+     */
+    int releaseUnshipped(UUID orderId);
+
+    /**
+     * Units reserved (held or sold) and still available for every active product of the given type.
+     */
+    List<StockLevel> stockLevels(ProductType productType);
+}
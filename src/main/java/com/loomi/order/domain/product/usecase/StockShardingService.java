@@ -0,0 +1,14 @@
+package com.loomi.order.domain.product.usecase;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface StockShardingService {
+
+    /**
+     * Brings the stored sub-counters in line with {@code stock-reservation.sharded-products} of the instance
+     * serving the call and returns the new shard count of every product that changed. Meant to run once,
+     * after every instance carries the same configuration.
+     */
+    Map<UUID, Integer> applyConfiguredSharding();
+}
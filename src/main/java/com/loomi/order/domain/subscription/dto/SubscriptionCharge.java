@@ -0,0 +1,21 @@
+package com.loomi.order.domain.subscription.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SubscriptionCharge(
+    UUID subscriptionId,
+    UUID orderId,
+    UUID productId,
+    String customerId,
+    BigDecimal amount,
+    LocalDateTime dueAt,
+    int attempts
+) {
+
+    // Stable across retries of the same billing period, so the gateway can drop a repeated charge
+    public String idempotencyKey() {
+        return subscriptionId + ":" + dueAt;
+    }
+}
@@ -0,0 +1,19 @@
+package com.loomi.order.domain.subscription.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record SubscriptionChargeBatch(
+    UUID claimId,
+    List<SubscriptionCharge> charges,
+    int cancelled
+) {
+
+    public boolean isEmpty() {
+        return charges.isEmpty() && cancelled == 0;
+    }
+
+    public int size() {
+        return charges.size() + cancelled;
+    }
+}
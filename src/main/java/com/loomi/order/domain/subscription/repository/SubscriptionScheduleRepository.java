@@ -0,0 +1,23 @@
+package com.loomi.order.domain.subscription.repository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.loomi.order.domain.subscription.dto.SubscriptionChargeBatch;
+
+public interface SubscriptionScheduleRepository {
+
+    void register(UUID orderId, UUID productId, String customerId, BigDecimal amount, LocalDateTime firstDueAt);
+
+    /**
+     * Claims up to {@code limit} due rows from the whole schedule. Rows claimed by another node are skipped, and
+     * rows whose lease ran out are claimed again, so no node owns a fixed share.
+     */
+    SubscriptionChargeBatch claimDue(int limit, Duration lease);
+
+    boolean markCharged(UUID subscriptionId, UUID claimId);
+
+    boolean markFailed(UUID subscriptionId, UUID claimId, LocalDateTime retryAt, boolean suspend, String error);
+}
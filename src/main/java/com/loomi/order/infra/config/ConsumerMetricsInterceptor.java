@@ -0,0 +1,60 @@
+package com.loomi.order.infra.config;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.KafkaBackoffException;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.lang.NonNull;
+
+import com.loomi.order.infra.event.consumer.ConsumerProcessingMetrics;
+
+public class ConsumerMetricsInterceptor<K, V> implements RecordInterceptor<K, V> {
+
+    private final ConsumerProcessingMetrics metrics;
+    private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+
+    public ConsumerMetricsInterceptor(ConsumerProcessingMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ConsumerRecord<K, V> intercept(@NonNull ConsumerRecord<K, V> record, @NonNull Consumer<K, V> consumer) {
+        startNanos.set(System.nanoTime());
+        metrics.recordStarted();
+        return record;
+    }
+
+    @Override
+    public void success(@NonNull ConsumerRecord<K, V> record, @NonNull Consumer<K, V> consumer) {
+        finish(record.topic(), true);
+    }
+
+    @Override
+    public void failure(@NonNull ConsumerRecord<K, V> record, @NonNull Exception exception, @NonNull Consumer<K, V> consumer) {
+        if (isBackoff(exception)) {
+            if (startNanos.get() != null) {
+                startNanos.remove();
+                metrics.recordDeferred(record.topic());
+            }
+            return;
+        }
+        finish(record.topic(), false);
+    }
+
+    private void finish(String topic, boolean success) {
+        Long start = startNanos.get();
+        if (start != null) {
+            startNanos.remove();
+            metrics.recordFinished(topic, start, success);
+        }
+    }
+
+    private static boolean isBackoff(Throwable exception) {
+        for (Throwable t = exception; t != null; t = t.getCause()) {
+            if (t instanceof KafkaBackoffException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.loomi.order.domain.exception.HttpException;
+import com.loomi.order.domain.order.exception.OrderAdmissionRejectedException;
 import com.loomi.order.infra.web.dto.InvalidPropertyDto;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,13 @@ public class ControllerExceptionHandler {
         return ResponseEntity.status(e.status().value()).body(e.toJson());
     }
 
+    @ExceptionHandler(OrderAdmissionRejectedException.class)
+    public ResponseEntity<?> handleAdmissionRejected(OrderAdmissionRejectedException e) {
+        return ResponseEntity.status(e.status().value())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.retryAfterSeconds()))
+                .body(e.toJson());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<List<InvalidPropertyDto>> handleValidationErrors(MethodArgumentNotValidException e) {
         List<InvalidPropertyDto> dto = new ArrayList<>();
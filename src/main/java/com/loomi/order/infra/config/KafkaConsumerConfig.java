@@ -4,6 +4,10 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
@@ -14,24 +18,57 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.CompositeRecordInterceptor;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.BackOff;
 import org.springframework.util.backoff.ExponentialBackOff;
 import org.springframework.util.backoff.FixedBackOff;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loomi.order.app.config.DlqReplayConfig;
+import com.loomi.order.app.config.KafkaTopologyConfig;
+import com.loomi.order.app.config.ReadModelConfig;
+import com.loomi.order.domain.customer.dto.CustomerState;
 import com.loomi.order.domain.order.entity.OrderCreatedEvent;
+import com.loomi.order.domain.order.entity.OrderFailedEvent;
+import com.loomi.order.domain.order.entity.OrderPendingApprovalEvent;
+import com.loomi.order.domain.order.entity.OrderProcessedEvent;
+import com.loomi.order.infra.event.affinity.CustomerStateStoreImpl;
+import com.loomi.order.infra.event.codec.EventDeserializer;
+import com.loomi.order.infra.event.consumer.ConsumerProcessingMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class KafkaConsumerConfig {
     private final KafkaProperties kafkaProperties;
+    private final ConsumerProcessingMetrics processingMetrics;
+    private final KafkaTopologyConfig topology;
 
-    public KafkaConsumerConfig(KafkaProperties kafkaProperties) {
+    public KafkaConsumerConfig(KafkaProperties kafkaProperties, ConsumerProcessingMetrics processingMetrics,
+            KafkaTopologyConfig topology) {
         this.kafkaProperties = kafkaProperties;
+        this.processingMetrics = processingMetrics;
+        this.topology = topology;
     }
 
+    @Value("${kafka.topics.order-created}")
+    private String orderCreatedTopic;
+
+    @Value("${kafka.topics.order-processed}")
+    private String orderProcessedTopic;
+
+    @Value("${kafka.topics.order-failed}")
+    private String orderFailedTopic;
+
+    @Value("${kafka.topics.order-pending-approval}")
+    private String orderPendingApprovalTopic;
+
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
@@ -51,52 +88,143 @@ public class KafkaConsumerConfig {
     private long maxElapsedTimeMs;
 
     @Bean
-    ConsumerFactory<String, OrderCreatedEvent> orderCreatedConsumerFactory(ObjectMapper objectMapper) {
+    ConsumerFactory<String, OrderCreatedEvent> orderCreatedConsumerFactory(ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        // Scaling out moves only the partitions a new instance takes over; the rest keep consuming
+        props.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, CooperativeStickyAssignor.class.getName());
 
         JsonDeserializer<OrderCreatedEvent> deserializer = new JsonDeserializer<>(OrderCreatedEvent.class,
                 objectMapper);
         deserializer.addTrustedPackages("com.loomi.order"); // limite ao seu pacote
+        var factory = new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+                new EventDeserializer<>(deserializer));
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+
+    // Raw records, so a replay re-publishes exactly the bytes (JSON or binary frame) that were dead-lettered
+    @Bean
+    ConsumerFactory<String, byte[]> dlqReplayConsumerFactory(DlqReplayConfig replayConfig) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, replayConfig.getConsumerGroup());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, replayConfig.getMaxPollRecords());
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new ByteArrayDeserializer());
+    }
+
+    // No group: the customer state store assigns changelog partitions itself as it gains order-created ones
+    @Bean
+    ConsumerFactory<String, CustomerState> customerStateConsumerFactory(ObjectMapper objectMapper) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        JsonDeserializer<CustomerState> deserializer = new JsonDeserializer<>(CustomerState.class, objectMapper);
+        deserializer.addTrustedPackages("com.loomi.order");
         return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), deserializer);
     }
 
+    // One value type per lifecycle topic; a record that fails to decode reaches the projector as null
     @Bean
-    @Profile("!test")
-    DefaultErrorHandler orderCreatedErrorHandler(KafkaTemplate<Object, Object> kafkaTemplate) {
-        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+    ConsumerFactory<String, Object> orderSummaryConsumerFactory(ObjectMapper objectMapper,
+            ReadModelConfig readModelConfig, MeterRegistry meterRegistry) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, readModelConfig.getConsumerGroup());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, CooperativeStickyAssignor.class.getName());
+
+        Map<String, Deserializer<?>> byTopic = Map.of(
+                orderCreatedTopic, jsonDeserializer(OrderCreatedEvent.class, objectMapper),
+                orderProcessedTopic, jsonDeserializer(OrderProcessedEvent.class, objectMapper),
+                orderFailedTopic, jsonDeserializer(OrderFailedEvent.class, objectMapper),
+                orderPendingApprovalTopic, jsonDeserializer(OrderPendingApprovalEvent.class, objectMapper));
+        Deserializer<Object> json = (topic, data) -> {
+            var deserializer = byTopic.get(topic);
+            if (deserializer == null) {
+                throw new SerializationException("No read model mapping for topic " + topic);
+            }
+            return deserializer.deserialize(topic, data);
+        };
+        var factory = new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new EventDeserializer<>(json)));
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+
+    private static <T> JsonDeserializer<T> jsonDeserializer(Class<T> type, ObjectMapper objectMapper) {
+        var deserializer = new JsonDeserializer<>(type, objectMapper, false);
+        deserializer.addTrustedPackages("com.loomi.order");
+        return deserializer;
+    }
+
+    // Database errors are retried in place until the database is back: skipping a batch would leave the
+    // read model permanently behind, and the upserts make the redelivery harmless
+    @Bean
+    ConcurrentKafkaListenerContainerFactory<String, Object> orderSummaryListenerFactory(
+            ConsumerFactory<String, Object> orderSummaryConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderSummaryConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000, FixedBackOff.UNLIMITED_ATTEMPTS)));
+        return factory;
+    }
+
+    private DeadLetterPublishingRecoverer dlqRecoverer(KafkaTemplate<Object, Object> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
                 (record, ex) -> new org.apache.kafka.common.TopicPartition(orderCreatedDlqTopic, -1));
+    }
+
+    private DefaultErrorHandler countingErrorHandler(DeadLetterPublishingRecoverer recoverer, BackOff backOff) {
+        return new DefaultErrorHandler((record, ex) -> {
+            recoverer.accept(record, ex);
+            processingMetrics.dlqPublished();
+        }, backOff);
+    }
 
+    // Retries in place; only in effect with kafka.retry-topics.enabled=false, otherwise the retry topic
+    // support (OrderCreatedRetryTopicsConfig) installs its own error handler on the containers
+    @Bean
+    @Profile("!test")
+    DefaultErrorHandler orderCreatedErrorHandler(KafkaTemplate<Object, Object> kafkaTemplate) {
         ExponentialBackOff backOff = new ExponentialBackOff(initialIntervalMs, multiplier);
         backOff.setMaxInterval(maxIntervalMs);
         backOff.setMaxElapsedTime(maxElapsedTimeMs);
 
-        return new DefaultErrorHandler(recoverer, backOff);
+        return countingErrorHandler(dlqRecoverer(kafkaTemplate), backOff);
     }
 
     @Bean
     @Profile("test")
     DefaultErrorHandler orderCreatedErrorHandlerTest(KafkaTemplate<Object, Object> kafkaTemplate) {
-        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
-                (record, ex) -> new org.apache.kafka.common.TopicPartition(orderCreatedDlqTopic, -1));
-
         var backOff = new FixedBackOff(0, 0);
-        return new DefaultErrorHandler(recoverer, backOff);
+        return countingErrorHandler(dlqRecoverer(kafkaTemplate), backOff);
     }
 
     @Bean
     ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> orderCreatedListenerFactory(
             ConsumerFactory<String, OrderCreatedEvent> cf,
-            DefaultErrorHandler orderCreatedErrorHandler) {
+            DefaultErrorHandler orderCreatedErrorHandler,
+            CustomerStateStoreImpl customerStates) {
         ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(cf);
+        factory.setConcurrency(topology.consumerConcurrency(orderCreatedTopic));
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setConsumerRebalanceListener(customerStates);
         factory.setCommonErrorHandler(orderCreatedErrorHandler);
-        factory.setRecordInterceptor(new CorrelationIdInterceptor<>());
+        factory.setRecordInterceptor(new CompositeRecordInterceptor<>(
+                new CorrelationIdInterceptor<>(),
+                new ConsumerMetricsInterceptor<>(processingMetrics)));
         return factory;
     }
 
@@ -2,10 +2,14 @@ package com.loomi.order.infra.config;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
@@ -18,18 +22,25 @@ import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loomi.order.app.config.KafkaTopologyConfig;
+import com.loomi.order.domain.customer.dto.CustomerState;
 import com.loomi.order.domain.order.entity.LowStockAlertEvent;
 import com.loomi.order.domain.order.entity.OrderCreatedEvent;
 import com.loomi.order.domain.order.entity.OrderFailedEvent;
 import com.loomi.order.domain.order.entity.OrderPendingApprovalEvent;
 import com.loomi.order.domain.order.entity.OrderProcessedEvent;
+import com.loomi.order.domain.order.entity.OrderReleasedEvent;
+import com.loomi.order.domain.order.entity.SubscriptionChargeEvent;
+import com.loomi.order.infra.event.codec.EventSerializer;
 
 @Configuration
 public class KafkaProducerConfig {
     private final KafkaProperties kafkaProperties;
+    private final KafkaTopologyConfig topology;
 
-    public KafkaProducerConfig(KafkaProperties kafkaProperties) {
+    public KafkaProducerConfig(KafkaProperties kafkaProperties, KafkaTopologyConfig topology) {
         this.kafkaProperties = kafkaProperties;
+        this.topology = topology;
     }
 
     @Value("${kafka.topics.order-created}")
@@ -47,12 +58,28 @@ public class KafkaProducerConfig {
     @Value("${kafka.topics.order-pending-approval}")
     private String orderPendingApprovalTopic;
 
+    @Value("${kafka.topics.order-released}")
+    private String orderReleasedTopic;
+
+    @Value("${kafka.topics.subscription-charges}")
+    private String subscriptionChargesTopic;
+
     @Value("${kafka.topics.order-created-dlq:order-created-dlq}")
     private String orderCreatedDlqTopic;
+
+    @Value("${kafka.topics.customer-state-changelog:customer-state-changelog}")
+    private String customerStateChangelogTopic;
     
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${kafka.codec.binary-topics:}")
+    private Set<String> binaryTopics;
+
+    private <T> Serializer<T> eventSerializer(ObjectMapper objectMapper) {
+        return new EventSerializer<>(new JsonSerializer<>(objectMapper), binaryTopics);
+    }
+
     @Bean
     KafkaAdmin kafkaAdmin() {
         Map<String, Object> configs = new HashMap<>();
@@ -60,34 +87,56 @@ public class KafkaProducerConfig {
         return new KafkaAdmin(configs);
     }
 
+    private NewTopic topic(String name) {
+        return new NewTopic(name, topology.partitionsFor(name), topology.getReplicationFactor());
+    }
+
     @Bean
     NewTopic orderCreatedTopic() {
-        return new NewTopic(orderCreatedTopic, 1, (short) 1);
+        return topic(orderCreatedTopic);
     }
 
     @Bean
     NewTopic orderProcessedTopic() {
-        return new NewTopic(orderProcessedTopic, 1, (short) 1);
+        return topic(orderProcessedTopic);
     }
 
     @Bean
     NewTopic orderFailedTopic() {
-        return new NewTopic(orderFailedTopic, 1, (short) 1);
+        return topic(orderFailedTopic);
     }
 
     @Bean
     NewTopic lowStockAlertTopic() {
-        return new NewTopic(lowStockAlertTopic, 1, (short) 1);
+        return topic(lowStockAlertTopic);
     }
 
     @Bean
     NewTopic orderPendingApprovalTopic() {
-        return new NewTopic(orderPendingApprovalTopic, 1, (short) 1);
+        return topic(orderPendingApprovalTopic);
+    }
+
+    @Bean
+    NewTopic orderReleasedTopic() {
+        return topic(orderReleasedTopic);
+    }
+
+    @Bean
+    NewTopic subscriptionChargesTopic() {
+        return topic(subscriptionChargesTopic);
     }
 
     @Bean
     NewTopic orderCreatedDlqTopic() {
-        return new NewTopic(orderCreatedDlqTopic, 1, (short) 1);
+        return topic(orderCreatedDlqTopic);
+    }
+
+    // Compacted, and partitioned like order-created so each changelog partition follows its owner
+    @Bean
+    NewTopic customerStateChangelogTopic() {
+        return new NewTopic(customerStateChangelogTopic, topology.partitionsFor(orderCreatedTopic),
+                topology.getReplicationFactor())
+                .configs(Map.of(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT));
     }
 
     @Bean
@@ -98,7 +147,7 @@ public class KafkaProducerConfig {
         return new DefaultKafkaProducerFactory<>(
                 props,
                 new StringSerializer(),
-                new JsonSerializer<>(objectMapper));
+                eventSerializer(objectMapper));
     }
 
     @Bean
@@ -109,7 +158,7 @@ public class KafkaProducerConfig {
         return new DefaultKafkaProducerFactory<>(
                 props,
                 new StringSerializer(),
-                new JsonSerializer<>(objectMapper));
+                eventSerializer(objectMapper));
     }
 
     @Bean
@@ -120,7 +169,7 @@ public class KafkaProducerConfig {
         return new DefaultKafkaProducerFactory<>(
                 props,
                 new StringSerializer(),
-                new JsonSerializer<>(objectMapper));
+                eventSerializer(objectMapper));
     }
 
     @Bean
@@ -131,7 +180,7 @@ public class KafkaProducerConfig {
         return new DefaultKafkaProducerFactory<>(
                 props,
                 new StringSerializer(),
-                new JsonSerializer<>(objectMapper));
+                eventSerializer(objectMapper));
     }
 
     @Bean
@@ -142,7 +191,29 @@ public class KafkaProducerConfig {
         return new DefaultKafkaProducerFactory<>(
                 props,
                 new StringSerializer(),
-                new JsonSerializer<>(objectMapper));
+                eventSerializer(objectMapper));
+    }
+
+    @Bean
+    ProducerFactory<String, OrderReleasedEvent> orderReleasedProducerFactory(ObjectMapper objectMapper) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        return new DefaultKafkaProducerFactory<>(
+                props,
+                new StringSerializer(),
+                eventSerializer(objectMapper));
+    }
+
+    @Bean
+    ProducerFactory<String, SubscriptionChargeEvent> subscriptionChargeProducerFactory(ObjectMapper objectMapper) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        return new DefaultKafkaProducerFactory<>(
+                props,
+                new StringSerializer(),
+                eventSerializer(objectMapper));
     }
 
     @Bean
@@ -153,10 +224,38 @@ public class KafkaProducerConfig {
         DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(
                 props,
                 new StringSerializer(),
-                new JsonSerializer<>(objectMapper));
+                eventSerializer(objectMapper));
         return (ProducerFactory) factory;
     }
 
+    @Bean
+    ProducerFactory<String, byte[]> dlqReplayProducerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        return new DefaultKafkaProducerFactory<>(
+                props,
+                new StringSerializer(),
+                new ByteArraySerializer());
+    }
+
+    @Bean
+    ProducerFactory<String, CustomerState> customerStateProducerFactory(ObjectMapper objectMapper) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        return new DefaultKafkaProducerFactory<>(
+                props,
+                new StringSerializer(),
+                new JsonSerializer<>(objectMapper));
+    }
+
+    @Bean
+    KafkaTemplate<String, CustomerState> customerStateKafkaTemplate(
+            ProducerFactory<String, CustomerState> pf) {
+        return new KafkaTemplate<>(pf);
+    }
+
     @Bean
     KafkaTemplate<Object, Object> genericKafkaTemplate(
             ProducerFactory<Object, Object> pf) {
@@ -192,4 +291,22 @@ public class KafkaProducerConfig {
             ProducerFactory<String, OrderPendingApprovalEvent> pf) {
         return new KafkaTemplate<>(pf);
     }
+
+    @Bean
+    KafkaTemplate<String, OrderReleasedEvent> orderReleasedKafkaTemplate(
+            ProducerFactory<String, OrderReleasedEvent> pf) {
+        return new KafkaTemplate<>(pf);
+    }
+
+    @Bean
+    KafkaTemplate<String, SubscriptionChargeEvent> subscriptionChargeKafkaTemplate(
+            ProducerFactory<String, SubscriptionChargeEvent> pf) {
+        return new KafkaTemplate<>(pf);
+    }
+
+    @Bean
+    KafkaTemplate<String, byte[]> dlqReplayKafkaTemplate(
+            ProducerFactory<String, byte[]> pf) {
+        return new KafkaTemplate<>(pf);
+    }
 }
@@ -0,0 +1,92 @@
+package com.loomi.order.infra.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+
+import com.loomi.order.app.config.KafkaTopologyConfig;
+import com.loomi.order.app.config.RetryTopicsConfig;
+import com.loomi.order.domain.order.entity.OrderCreatedEvent;
+
+/**
+ * Moves failed order-created records to delayed retry topics ({@code order-created-retry-<delayMs>}) instead
+ * of retrying them in place, so one failing record no longer holds up its partition. Records that fail every
+ * tier land in the existing DLQ. Each tier runs in its own containers, with its own concurrency.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "kafka.retry-topics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderCreatedRetryTopicsConfig extends RetryTopicConfigurationSupport {
+
+    static final String RETRY_TOPIC_SUFFIX = "-retry";
+
+    private final RetryTopicsConfig config;
+    private final KafkaTopologyConfig topology;
+
+    @Value("${kafka.topics.order-created}")
+    private String orderCreatedTopic;
+
+    @Value("${kafka.topics.order-created-dlq:order-created-dlq}")
+    private String orderCreatedDlqTopic;
+
+    public OrderCreatedRetryTopicsConfig(RetryTopicsConfig config, KafkaTopologyConfig topology) {
+        this.config = config;
+        this.topology = topology;
+    }
+
+    @Bean
+    RetryTopicConfiguration orderCreatedRetryTopic(
+            KafkaTemplate<Object, Object> genericKafkaTemplate,
+            ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> orderCreatedListenerFactory) {
+        if (!orderCreatedDlqTopic.startsWith(orderCreatedTopic)) {
+            throw new IllegalStateException("DLQ topic " + orderCreatedDlqTopic
+                    + " must be named after " + orderCreatedTopic + " to be used as its dead-letter topic");
+        }
+        var delays = config.getTiers().stream().mapToLong(RetryTopicsConfig.Tier::getDelayMs).toArray();
+
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopic(orderCreatedTopic)
+                .listenerFactory(orderCreatedListenerFactory)
+                .maxAttempts(delays.length + 1)
+                .customBackoff(new TieredBackOffPolicy(delays))
+                .retryTopicSuffix(RETRY_TOPIC_SUFFIX)
+                .setTopicSuffixingStrategy(TopicSuffixingStrategy.SUFFIX_WITH_DELAY_VALUE)
+                .dltSuffix(orderCreatedDlqTopic.substring(orderCreatedTopic.length()))
+                .dltHandlerMethod("orderCreatedDltHandler", "handle")
+                // Retry topics mirror the main topic, so a retried record keeps its order-id partition
+                .autoCreateTopicsWith(topology.partitionsFor(orderCreatedTopic), topology.getReplicationFactor())
+                .create(genericKafkaTemplate);
+    }
+
+    @Override
+    protected void configureCustomizers(CustomizersConfigurer customizersConfigurer) {
+        customizersConfigurer.customizeListenerContainer(this::applyTierConcurrency);
+    }
+
+    void applyTierConcurrency(ConcurrentMessageListenerContainer<?, ?> container) {
+        var topics = container.getContainerProperties().getTopics();
+        if (topics == null) {
+            return;
+        }
+        int partitions = topology.partitionsFor(orderCreatedTopic);
+        for (var topic : List.of(topics)) {
+            for (var tier : config.getTiers()) {
+                // Tiers sharing a delay get an index appended to the topic name
+                var tierTopic = orderCreatedTopic + RETRY_TOPIC_SUFFIX + "-" + tier.getDelayMs();
+                if (topic.equals(tierTopic) || topic.startsWith(tierTopic + "-")) {
+                    container.setConcurrency(Math.max(1, Math.min(tier.getConcurrency(), partitions)));
+                    return;
+                }
+            }
+        }
+    }
+}
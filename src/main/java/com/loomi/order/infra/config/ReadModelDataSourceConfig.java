@@ -0,0 +1,40 @@
+package com.loomi.order.infra.config;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import com.loomi.order.app.config.ReadModelConfig;
+import com.loomi.order.app.config.ReadReplicaConfig;
+import com.loomi.order.infra.persistence.ReadModelDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+public class ReadModelDataSourceConfig {
+
+    // Its own pool, so storefront polling cannot take the connections the consumers write with. It reads the
+    // read replica when one is enabled, as the projection already lags the primary by more than the replica
+    @Bean(destroyMethod = "close")
+    ReadModelDataSource readModelDataSource(ReadModelConfig config, ReadReplicaConfig replica,
+            DataSourceProperties primary) {
+        var settings = config.getDatasource();
+        var defaultUrl = replica.isEnabled() ? replica.getUrl() : primary.determineUrl();
+        var defaultUsername = replica.isEnabled() ? orDefault(replica.getUsername(), primary.determineUsername())
+                : primary.determineUsername();
+        var defaultPassword = replica.isEnabled() ? orDefault(replica.getPassword(), primary.determinePassword())
+                : primary.determinePassword();
+        var pool = new HikariDataSource();
+        pool.setPoolName("read-model");
+        pool.setJdbcUrl(orDefault(settings.getUrl(), defaultUrl));
+        pool.setUsername(orDefault(settings.getUsername(), defaultUsername));
+        pool.setPassword(orDefault(settings.getPassword(), defaultPassword));
+        pool.setMaximumPoolSize(settings.getMaximumPoolSize());
+        pool.setReadOnly(true);
+        return new ReadModelDataSource(pool);
+    }
+
+    private static String orDefault(String value, String fallback) {
+        return StringUtils.hasText(value) ? value : fallback;
+    }
+}
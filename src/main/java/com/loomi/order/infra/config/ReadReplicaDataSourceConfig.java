@@ -0,0 +1,66 @@
+package com.loomi.order.infra.config;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.loomi.order.app.config.ReadReplicaConfig;
+import com.loomi.order.infra.persistence.routing.ReplicaLagMonitor;
+import com.loomi.order.infra.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Replaces Boot's single pool with a primary and a replica pool behind a routing data source; JPA, Flyway
+// and every injected DataSource get the routing one
+@Configuration
+@ConditionalOnProperty(prefix = "read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    HikariDataSource replicaDataSource(ReadReplicaConfig config, DataSourceProperties primary) {
+        var pool = new HikariDataSource();
+        pool.setPoolName("replica");
+        pool.setJdbcUrl(config.getUrl());
+        pool.setUsername(StringUtils.hasText(config.getUsername()) ? config.getUsername() : primary.determineUsername());
+        pool.setPassword(StringUtils.hasText(config.getPassword()) ? config.getPassword() : primary.determinePassword());
+        pool.setMaximumPoolSize(config.getMaximumPoolSize());
+        pool.setReadOnly(true);
+        return pool;
+    }
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(new JdbcTemplate(primaryDataSource), new JdbcTemplate(replicaDataSource),
+                meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        var proxy = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+        // Known up front, so the proxy does not open a connection to find them out
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+}
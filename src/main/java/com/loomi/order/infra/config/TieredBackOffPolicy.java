@@ -0,0 +1,56 @@
+package com.loomi.order.infra.config;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.backoff.SleepingBackOffPolicy;
+import org.springframework.retry.backoff.ThreadWaitSleeper;
+
+/**
+ * Backs off by an explicit list of delays, one per retry, repeating the last one if retried further. Used to
+ * give each retry topic its own delay instead of deriving them from an exponential curve.
+ */
+public class TieredBackOffPolicy implements SleepingBackOffPolicy<TieredBackOffPolicy> {
+
+    private final long[] delaysMs;
+    private final Sleeper sleeper;
+
+    public TieredBackOffPolicy(long... delaysMs) {
+        this(delaysMs, new ThreadWaitSleeper());
+    }
+
+    private TieredBackOffPolicy(long[] delaysMs, Sleeper sleeper) {
+        if (delaysMs.length == 0) {
+            throw new IllegalArgumentException("At least one retry delay is required");
+        }
+        this.delaysMs = delaysMs.clone();
+        this.sleeper = sleeper;
+    }
+
+    @Override
+    public TieredBackOffPolicy withSleeper(Sleeper sleeper) {
+        return new TieredBackOffPolicy(delaysMs, sleeper);
+    }
+
+    @Override
+    public BackOffContext start(RetryContext context) {
+        return new Attempt();
+    }
+
+    @Override
+    public void backOff(BackOffContext backOffContext) throws BackOffInterruptedException {
+        var attempt = (Attempt) backOffContext;
+        long delay = delaysMs[Math.min(attempt.next++, delaysMs.length - 1)];
+        try {
+            sleeper.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BackOffInterruptedException("Interrupted while backing off", e);
+        }
+    }
+
+    private static final class Attempt implements BackOffContext {
+        int next;
+    }
+}
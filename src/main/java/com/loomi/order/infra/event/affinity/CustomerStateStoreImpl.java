@@ -0,0 +1,427 @@
+package com.loomi.order.infra.event.affinity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.loomi.order.app.config.CustomerStateConfig;
+import com.loomi.order.domain.customer.dto.CustomerState;
+import com.loomi.order.domain.customer.usecase.CustomerStateStore;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.repository.OrderRepository;
+import com.loomi.order.domain.order.valueobject.OrderItem;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.repository.ProductRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the state of the customers whose order-created partitions this instance owns. Order-created is keyed
+ * by customer, so while a partition is owned every order of its customers is validated here, and the store is
+ * the only writer of their state. Each partition is restored from the same partition of a compacted changelog
+ * when it is assigned, and dropped when it is revoked.
+ * <p>
+ * A single reader thread tails the changelog of the owned partitions. An order processed on an instance that
+ * does not own its customer (an approval, a retry tier) writes a tombstone instead of a snapshot, and waits for
+ * the changelog to accept it before returning; the owner reloads that customer from the database when it reads
+ * the tombstone. Until then the owner must not trust what it holds: a partition whose changelog has unread
+ * records, and a customer whose tombstone was read but not reloaded yet, are answered from the database.
+ * Versions only grow, so a snapshot that lands behind a newer one is ignored.
+ */
+@Slf4j
+@Component
+public class CustomerStateStoreImpl implements CustomerStateStore, ConsumerRebalanceListener {
+
+    private static final String GROUP_ID = "GROUP_ID";
+
+    private final ConsumerFactory<String, CustomerState> consumerFactory;
+    private final KafkaTemplate<String, CustomerState> template;
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final CustomerStateConfig config;
+    private final MeterRegistry meterRegistry;
+    private final String orderCreatedTopic;
+    private final String changelogTopic;
+
+    private final Map<Integer, Map<String, CustomerState>> stores = new ConcurrentHashMap<>();
+    private final Set<Integer> ready = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, CompletableFuture<Void>> restores = new ConcurrentHashMap<>();
+    // Written by the reader thread: partitions with unread changelog records, customers awaiting a reload
+    private final Set<Integer> behind = ConcurrentHashMap.newKeySet();
+    private final Set<String> pendingReload = ConcurrentHashMap.newKeySet();
+    private final Queue<java.util.function.Consumer<Consumer<String, CustomerState>>> pending =
+            new ConcurrentLinkedQueue<>();
+    // Reader thread only
+    private final Map<TopicPartition, Long> restoreEnd = new HashMap<>();
+    private final Map<TopicPartition, Long> restoreStart = new HashMap<>();
+
+    private volatile int partitions;
+    private volatile boolean running = true;
+    private Thread reader;
+
+    public CustomerStateStoreImpl(
+            ConsumerFactory<String, CustomerState> customerStateConsumerFactory,
+            KafkaTemplate<String, CustomerState> customerStateKafkaTemplate,
+            OrderRepository orderRepository,
+            ProductRepository productRepository,
+            CustomerStateConfig config,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.topics.order-created}") String orderCreatedTopic,
+            @Value("${kafka.topics.customer-state-changelog:customer-state-changelog}") String changelogTopic) {
+        this.consumerFactory = customerStateConsumerFactory;
+        this.template = customerStateKafkaTemplate;
+        this.orderRepository = orderRepository;
+        this.productRepository = productRepository;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.orderCreatedTopic = orderCreatedTopic;
+        this.changelogTopic = changelogTopic;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        reader = new Thread(this::read, "customer-state-changelog");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        if (reader != null) {
+            reader.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    @Override
+    public Optional<CustomerState> find(String customerId) {
+        if (!config.isEnabled()) {
+            return Optional.empty();
+        }
+        int partition = partitionFor(customerId);
+        var store = partition < 0 || !ready.contains(partition) ? null : stores.get(partition);
+        if (store == null) {
+            meterRegistry.counter("customer.state.lookups", "outcome", "not_owned").increment();
+            return Optional.empty();
+        }
+        if (behind.contains(partition) || pendingReload.contains(customerId)) {
+            // A tombstone from another instance may be on its way; what is held here can miss its order
+            meterRegistry.counter("customer.state.lookups", "outcome", "pending_reload").increment();
+            return Optional.empty();
+        }
+        var state = store.get(customerId);
+        if (state != null) {
+            meterRegistry.counter("customer.state.lookups", "outcome", "hit").increment();
+            return Optional.of(state);
+        }
+        meterRegistry.counter("customer.state.lookups", "outcome", "loaded").increment();
+        return Optional.of(store.computeIfAbsent(customerId, key -> load(partition, key, 0)));
+    }
+
+    @Override
+    public void recordProcessed(Order order) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Only committed orders: a rolled back one must not count as owned
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(order);
+                }
+            });
+        } else {
+            apply(order);
+        }
+    }
+
+    private void apply(Order order) {
+        int partition = partitionFor(order.customerId());
+        var store = partition < 0 || !ready.contains(partition) ? null : stores.get(partition);
+        if (store == null) {
+            invalidate(partition < 0 ? null : partition, order.customerId());
+            return;
+        }
+        // Absent means not loaded yet; the database already has this order when it is
+        store.computeIfPresent(order.customerId(), (key, current) -> {
+            var next = current.withProcessed(order, subscriptionGroups(List.of(order)).values(),
+                    config.getMaxRecentOrders());
+            if (next != current) {
+                publish(partition, key, next);
+            }
+            return next;
+        });
+    }
+
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> assigned) {
+        var owned = orderCreatedPartitions(assigned);
+        if (!config.isEnabled() || owned.isEmpty()) {
+            return;
+        }
+        if (partitions == 0) {
+            try {
+                partitions = template.partitionsFor(orderCreatedTopic).size();
+            } catch (RuntimeException e) {
+                log.warn("Could not read the partitions of {}; customer state stays off: {}", orderCreatedTopic,
+                        e.getMessage());
+                return;
+            }
+        }
+        var futures = owned.stream().map(partition -> {
+            stores.put(partition, new ConcurrentHashMap<>());
+            var future = new CompletableFuture<Void>();
+            restores.put(partition, future);
+            return future;
+        }).toArray(CompletableFuture[]::new);
+        pending.add(consumer -> assign(consumer, owned));
+
+        // Records of these partitions are only polled after this returns, so they find their state restored
+        try {
+            CompletableFuture.allOf(futures).get(config.getRestoreTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Customer state of partitions {} still restoring; reading the database until it catches up", owned);
+        } catch (ExecutionException e) {
+            log.error("Could not restore customer state of partitions {}", owned, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> revoked) {
+        var released = orderCreatedPartitions(revoked);
+        if (!config.isEnabled() || released.isEmpty()) {
+            return;
+        }
+        for (var partition : released) {
+            ready.remove(partition);
+            stores.remove(partition);
+            var restore = restores.remove(partition);
+            if (restore != null) {
+                restore.cancel(false);
+            }
+        }
+        pending.add(consumer -> unassign(consumer, released));
+        log.info("Evicted customer state of partitions {}", released);
+    }
+
+    private void read() {
+        try (var consumer = consumerFactory.createConsumer()) {
+            while (running) {
+                try {
+                    poll(consumer);
+                } catch (RuntimeException e) {
+                    log.error("Error reading customer state changelog: {}", e.getMessage(), e);
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(config.getPollTimeoutMs()));
+                }
+            }
+        }
+    }
+
+    void poll(Consumer<String, CustomerState> consumer) {
+        java.util.function.Consumer<Consumer<String, CustomerState>> op;
+        while ((op = pending.poll()) != null) {
+            op.accept(consumer);
+        }
+        if (consumer.assignment().isEmpty()) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(config.getPollTimeoutMs()));
+            return;
+        }
+        var records = consumer.poll(Duration.ofMillis(config.getPollTimeoutMs()));
+        for (var record : records) {
+            if (record.value() == null && record.key() != null) {
+                pendingReload.add(record.key());
+            }
+        }
+        for (var partition : consumer.assignment()) {
+            var lag = consumer.currentLag(partition);
+            if (lag.isPresent() && lag.getAsLong() > 0) {
+                behind.add(partition.partition());
+            } else {
+                behind.remove(partition.partition());
+            }
+        }
+        for (var record : records) {
+            try {
+                apply(record);
+            } finally {
+                if (record.value() == null && record.key() != null) {
+                    pendingReload.remove(record.key());
+                }
+            }
+        }
+        for (var iterator = restoreEnd.entrySet().iterator(); iterator.hasNext();) {
+            var end = iterator.next();
+            if (consumer.position(end.getKey()) >= end.getValue()) {
+                iterator.remove();
+                int partition = end.getKey().partition();
+                ready.add(partition);
+                var restore = restores.remove(partition);
+                if (restore != null) {
+                    restore.complete(null);
+                }
+                log.info("Restored {} customers of partition {} in {} ms", stores.getOrDefault(partition, Map.of()).size(),
+                        partition, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - restoreStart.remove(end.getKey())));
+            }
+        }
+    }
+
+    private void assign(Consumer<String, CustomerState> consumer, Set<Integer> owned) {
+        var added = owned.stream().map(partition -> new TopicPartition(changelogTopic, partition)).toList();
+        var assignment = new HashSet<>(consumer.assignment());
+        assignment.addAll(added);
+        consumer.assign(assignment);
+        consumer.seekToBeginning(added);
+        restoreEnd.putAll(consumer.endOffsets(added));
+        added.forEach(partition -> restoreStart.put(partition, System.nanoTime()));
+    }
+
+    private void unassign(Consumer<String, CustomerState> consumer, Set<Integer> released) {
+        var assignment = new HashSet<>(consumer.assignment());
+        assignment.removeIf(partition -> released.contains(partition.partition()));
+        consumer.assign(assignment);
+        restoreEnd.keySet().removeIf(partition -> released.contains(partition.partition()));
+        restoreStart.keySet().removeIf(partition -> released.contains(partition.partition()));
+        behind.removeAll(released);
+    }
+
+    private void apply(ConsumerRecord<String, CustomerState> record) {
+        var store = stores.get(record.partition());
+        if (store == null || record.key() == null) {
+            return;
+        }
+        if (record.value() != null) {
+            store.merge(record.key(), record.value(),
+                    (current, next) -> next.version() > current.version() ? next : current);
+            return;
+        }
+        var removed = store.remove(record.key());
+        if (ready.contains(record.partition())) {
+            // Reload now rather than on the next order, so the latest snapshot in the changelog is a fresh one
+            long version = removed == null ? 0 : removed.version();
+            store.compute(record.key(), (key, current) -> load(record.partition(), key,
+                    Math.max(version, current == null ? 0 : current.version())));
+        }
+    }
+
+    private CustomerState load(int partition, String customerId, long previousVersion) {
+        var processed = orderRepository.findByCustomerId(customerId).stream()
+                .filter(order -> order.status() == OrderStatus.PROCESSED)
+                .sorted(Comparator.comparing(Order::createdAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .toList();
+        var groups = subscriptionGroups(processed);
+
+        var state = CustomerState.empty(customerId);
+        for (var order : processed) {
+            var orderGroups = order.items().stream()
+                    .filter(item -> item.productType() == ProductType.SUBSCRIPTION)
+                    .map(item -> groups.get(item.productId()))
+                    .filter(Objects::nonNull)
+                    .toList();
+            state = state.withProcessed(order, orderGroups, config.getMaxRecentOrders());
+        }
+        state = state.withVersion(previousVersion + 1);
+        publish(partition, customerId, state);
+        return state;
+    }
+
+    private Map<UUID, String> subscriptionGroups(List<Order> orders) {
+        var productIds = orders.stream()
+                .flatMap(order -> order.items().stream())
+                .filter(item -> item.productType() == ProductType.SUBSCRIPTION)
+                .map(OrderItem::productId)
+                .distinct()
+                .toList();
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        var groups = new HashMap<UUID, String>();
+        for (var product : productRepository.findAllById(productIds)) {
+            if (product.metadata() != null && product.metadata().get(GROUP_ID) != null) {
+                groups.put(product.id(), product.metadata().get(GROUP_ID).toString());
+            }
+        }
+        return groups;
+    }
+
+    // Waits for the broker: once the order's caller moves on, the owner's next fetch sees the tombstone
+    private void invalidate(Integer partition, String customerId) {
+        try {
+            template.send(new ProducerRecord<>(changelogTopic, partition, customerId, null))
+                    .get(config.getInvalidationTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Could not invalidate customer {} in the state changelog: {}", customerId, e.getMessage());
+            meterRegistry.counter("customer.state.changelog.failures").increment();
+        }
+    }
+
+    private void publish(Integer partition, String customerId, CustomerState state) {
+        template.send(new ProducerRecord<>(changelogTopic, partition, customerId, state))
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.warn("Could not write customer {} to the state changelog: {}", customerId, error.getMessage());
+                        meterRegistry.counter("customer.state.changelog.failures").increment();
+                    }
+                });
+    }
+
+    // Same as the producer's default partitioner for a String key
+    int partitionFor(String customerId) {
+        int count = partitions;
+        if (count == 0) {
+            return -1;
+        }
+        return Utils.toPositive(Utils.murmur2(customerId.getBytes(StandardCharsets.UTF_8))) % count;
+    }
+
+    private Set<Integer> orderCreatedPartitions(Collection<TopicPartition> topicPartitions) {
+        var owned = new HashSet<Integer>();
+        for (var topicPartition : topicPartitions) {
+            if (topicPartition.topic().equals(orderCreatedTopic)) {
+                owned.add(topicPartition.partition());
+            }
+        }
+        return owned;
+    }
+}
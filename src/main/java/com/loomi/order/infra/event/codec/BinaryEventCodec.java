@@ -0,0 +1,12 @@
+package com.loomi.order.infra.event.codec;
+
+public interface BinaryEventCodec<T> {
+
+    int typeId();
+
+    Class<T> type();
+
+    void write(T event, BinaryEventWriter writer);
+
+    T read(BinaryEventReader reader, int schemaVersion);
+}
@@ -0,0 +1,186 @@
+package com.loomi.order.infra.event.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+public class BinaryEventReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryEventReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        if (position >= buffer.length) {
+            throw new SerializationException("Unexpected end of binary event");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public long readVarLong() {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new SerializationException("Malformed varint in binary event");
+    }
+
+    public int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    public long readLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | readByte();
+        }
+        return value;
+    }
+
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    public byte[] readBytes() {
+        int length = readVarInt();
+        if (length < 0 || position + length > buffer.length) {
+            throw new SerializationException("Invalid length " + length + " in binary event");
+        }
+        var bytes = new byte[length];
+        System.arraycopy(buffer, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    public String readString() {
+        int length = readVarInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || position + length > buffer.length) {
+            throw new SerializationException("Invalid string length " + length + " in binary event");
+        }
+        var value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public UUID readUuid() {
+        return readBoolean() ? new UUID(readLong(), readLong()) : null;
+    }
+
+    public LocalDateTime readDateTime() {
+        if (!readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(readVarLong(), readVarInt(), ZoneOffset.UTC);
+    }
+
+    public BigDecimal readDecimal() {
+        if (!readBoolean()) {
+            return null;
+        }
+        int scale = readVarInt();
+        var unscaled = readByte() == 0
+                ? BigInteger.valueOf(readVarLong())
+                : new BigInteger(readBytes());
+        return new BigDecimal(unscaled, scale);
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> type) {
+        var name = readString();
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Unknown " + type.getSimpleName() + " value: " + name, e);
+        }
+    }
+
+    public Object readValue() {
+        int tag = readByte();
+        return switch (tag) {
+            case ValueTag.NULL -> null;
+            case ValueTag.STRING -> readString();
+            case ValueTag.INT -> readVarInt();
+            case ValueTag.LONG -> readVarLong();
+            case ValueTag.DOUBLE -> readDouble();
+            case ValueTag.BOOLEAN -> readBoolean();
+            case ValueTag.DECIMAL -> readDecimal();
+            case ValueTag.LIST -> {
+                int size = readCount();
+                var list = new ArrayList<Object>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue());
+                }
+                yield list;
+            }
+            case ValueTag.MAP -> readMap(new HashMap<>());
+            default -> throw new SerializationException("Unknown value tag " + tag + " in binary event");
+        };
+    }
+
+    public <M extends Map<String, Object>> M readMap(M target) {
+        int size = readNullableCount();
+        if (size == -1) {
+            return null;
+        }
+        for (int i = 0; i < size; i++) {
+            target.put(readString(), readValue());
+        }
+        return target;
+    }
+
+    public <T> List<T> readList(Supplier<T> element) {
+        int size = readNullableCount();
+        if (size == -1) {
+            return null;
+        }
+        var list = new ArrayList<T>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(element.get());
+        }
+        return list;
+    }
+
+    private int readNullableCount() {
+        int count = readVarInt();
+        return count == -1 ? -1 : checkCount(count);
+    }
+
+    private int readCount() {
+        return checkCount(readVarInt());
+    }
+
+    // Every element takes at least one byte, so a count beyond what is left is corrupt; checked before presizing
+    private int checkCount(int count) {
+        if (count < 0 || count > buffer.length - position) {
+            throw new SerializationException("Invalid element count " + count + " in binary event");
+        }
+        return count;
+    }
+}
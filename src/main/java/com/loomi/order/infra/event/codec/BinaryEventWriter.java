@@ -0,0 +1,171 @@
+package com.loomi.order.infra.event.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+public class BinaryEventWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    public void writeVarLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        ensureCapacity(10);
+        while ((zigzag & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        buffer[position++] = (byte) zigzag;
+    }
+
+    public void writeVarInt(int value) {
+        writeVarLong(value);
+    }
+
+    public void writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    public void writeDouble(double value) {
+        writeLong(Double.doubleToRawLongBits(value));
+    }
+
+    public void writeBytes(byte[] bytes) {
+        writeVarInt(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarInt(-1);
+            return;
+        }
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void writeUuid(UUID value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeLong(value.getMostSignificantBits());
+            writeLong(value.getLeastSignificantBits());
+        }
+    }
+
+    public void writeDateTime(LocalDateTime value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarInt(value.getNano());
+        }
+    }
+
+    public void writeDecimal(BigDecimal value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeVarInt(value.scale());
+            var unscaled = value.unscaledValue();
+            if (unscaled.bitLength() < 64) {
+                writeByte(0);
+                writeVarLong(unscaled.longValue());
+            } else {
+                writeByte(1);
+                writeBytes(unscaled.toByteArray());
+            }
+        }
+    }
+
+    public <E extends Enum<E>> void writeEnum(E value) {
+        writeString(value == null ? null : value.name());
+    }
+
+    public void writeValue(Object value) {
+        if (value == null) {
+            writeByte(ValueTag.NULL);
+        } else if (value instanceof String s) {
+            writeByte(ValueTag.STRING);
+            writeString(s);
+        } else if (value instanceof Integer i) {
+            writeByte(ValueTag.INT);
+            writeVarInt(i);
+        } else if (value instanceof Long l) {
+            writeByte(ValueTag.LONG);
+            writeVarLong(l);
+        } else if (value instanceof Double d) {
+            writeByte(ValueTag.DOUBLE);
+            writeDouble(d);
+        } else if (value instanceof Boolean b) {
+            writeByte(ValueTag.BOOLEAN);
+            writeBoolean(b);
+        } else if (value instanceof BigDecimal d) {
+            writeByte(ValueTag.DECIMAL);
+            writeDecimal(d);
+        } else if (value instanceof List<?> list) {
+            writeByte(ValueTag.LIST);
+            writeVarInt(list.size());
+            list.forEach(this::writeValue);
+        } else if (value instanceof Map<?, ?> map) {
+            writeByte(ValueTag.MAP);
+            writeMap(map);
+        } else {
+            throw new SerializationException("Unsupported metadata value type: " + value.getClass().getName());
+        }
+    }
+
+    public void writeMap(Map<?, ?> map) {
+        if (map == null) {
+            writeVarInt(-1);
+            return;
+        }
+        writeVarInt(map.size());
+        for (var entry : map.entrySet()) {
+            writeString(entry.getKey().toString());
+            writeValue(entry.getValue());
+        }
+    }
+
+    public <T> void writeList(List<T> list, Consumer<T> element) {
+        if (list == null) {
+            writeVarInt(-1);
+            return;
+        }
+        writeVarInt(list.size());
+        list.forEach(element);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.loomi.order.infra.event.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class EventDeserializer<T> implements Deserializer<T> {
+
+    private final Deserializer<T> jsonDeserializer;
+
+    public EventDeserializer(Deserializer<T> jsonDeserializer) {
+        this.jsonDeserializer = jsonDeserializer;
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return EventFrame.isBinary(data) ? binaryDecode(data) : jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        return EventFrame.isBinary(data) ? binaryDecode(data) : jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T binaryDecode(byte[] data) {
+        int schemaVersion = data[1] & 0xFF;
+        if (schemaVersion > EventFrame.SCHEMA_VERSION) {
+            throw new SerializationException("Unsupported event schema version " + schemaVersion);
+        }
+        var codec = OrderEventCodecs.forTypeId(data[2] & 0xFF);
+        if (codec == null) {
+            throw new SerializationException("Unknown binary event type " + (data[2] & 0xFF));
+        }
+        return (T) codec.read(new BinaryEventReader(data, EventFrame.HEADER_SIZE), schemaVersion);
+    }
+}
@@ -0,0 +1,15 @@
+package com.loomi.order.infra.event.codec;
+
+public final class EventFrame {
+
+    public static final byte MAGIC = (byte) 0xB1;
+    public static final int SCHEMA_VERSION = 3;
+    public static final int HEADER_SIZE = 3;
+
+    private EventFrame() {
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length >= HEADER_SIZE && data[0] == MAGIC;
+    }
+}
@@ -0,0 +1,52 @@
+package com.loomi.order.infra.event.codec;
+
+import java.util.Set;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+public class EventSerializer<T> implements Serializer<T> {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final Serializer<T> jsonSerializer;
+    private final Set<String> binaryTopics;
+
+    public EventSerializer(Serializer<T> jsonSerializer, Set<String> binaryTopics) {
+        this.jsonSerializer = jsonSerializer;
+        this.binaryTopics = Set.copyOf(binaryTopics);
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        var binary = binaryEncode(topic, data);
+        return binary != null ? binary : jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, T data) {
+        var binary = binaryEncode(topic, data);
+        return binary != null ? binary : jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+
+    private byte[] binaryEncode(String topic, T data) {
+        if (data == null || !binaryTopics.contains(topic)) {
+            return null;
+        }
+        BinaryEventCodec<T> codec = OrderEventCodecs.forType(data.getClass());
+        if (codec == null) {
+            return null;
+        }
+        var writer = new BinaryEventWriter(INITIAL_BUFFER_SIZE);
+        writer.writeByte(EventFrame.MAGIC);
+        writer.writeByte(EventFrame.SCHEMA_VERSION);
+        writer.writeByte(codec.typeId());
+        codec.write(data, writer);
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,279 @@
+package com.loomi.order.infra.event.codec;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.loomi.order.domain.order.dto.OrderEventType;
+import com.loomi.order.domain.order.entity.LowStockAlertEvent;
+import com.loomi.order.domain.order.entity.LowStockAlertPayload;
+import com.loomi.order.domain.order.entity.OrderCreatedEvent;
+import com.loomi.order.domain.order.entity.OrderCreatedPayload;
+import com.loomi.order.domain.order.entity.OrderFailedEvent;
+import com.loomi.order.domain.order.entity.OrderFailedPayload;
+import com.loomi.order.domain.order.entity.OrderPendingApprovalEvent;
+import com.loomi.order.domain.order.entity.OrderProcessedEvent;
+import com.loomi.order.domain.order.entity.OrderProcessedPayload;
+import com.loomi.order.domain.order.valueobject.OrderItem;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+
+public final class OrderEventCodecs {
+
+    private static final Map<Class<?>, BinaryEventCodec<?>> BY_TYPE;
+    private static final Map<Integer, BinaryEventCodec<?>> BY_ID;
+
+    static {
+        List<BinaryEventCodec<?>> codecs = List.of(
+                new OrderCreatedCodec(),
+                new OrderProcessedCodec(),
+                new OrderFailedCodec(),
+                new OrderPendingApprovalCodec(),
+                new LowStockAlertCodec());
+        BY_TYPE = codecs.stream().collect(Collectors.toUnmodifiableMap(BinaryEventCodec::type, Function.identity()));
+        BY_ID = codecs.stream().collect(Collectors.toUnmodifiableMap(BinaryEventCodec::typeId, Function.identity()));
+    }
+
+    private OrderEventCodecs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> BinaryEventCodec<T> forType(Class<?> type) {
+        return (BinaryEventCodec<T>) BY_TYPE.get(type);
+    }
+
+    public static BinaryEventCodec<?> forTypeId(int typeId) {
+        return BY_ID.get(typeId);
+    }
+
+    private static void writeItem(OrderItem item, BinaryEventWriter writer) {
+        writer.writeUuid(item.productId());
+        writer.writeVarInt(item.quantity());
+        writer.writeEnum(item.productType());
+        writer.writeVarLong(item.priceMinor());
+        writer.writeMap(item.metadata());
+        writer.writeVarInt(item.productMetadataVersion() != null ? item.productMetadataVersion() : 0);
+    }
+
+    private static OrderItem readItem(BinaryEventReader reader, int schemaVersion) {
+        var productId = reader.readUuid();
+        if (schemaVersion < 2) {
+            reader.readString();
+        }
+        var builder = OrderItem.builder()
+                .productId(productId)
+                .quantity(reader.readVarInt())
+                .productType(reader.readEnum(ProductType.class));
+        if (schemaVersion < 2) {
+            builder.price(reader.readDecimal());
+        } else {
+            builder.priceMinor(reader.readVarLong());
+        }
+        builder.metadata(reader.readMap(new RawProductMetadata()));
+        if (schemaVersion >= 3) {
+            var metadataVersion = reader.readVarInt();
+            builder.productMetadataVersion(metadataVersion != 0 ? metadataVersion : null);
+        }
+        return builder.build();
+    }
+
+    static final class OrderCreatedCodec implements BinaryEventCodec<OrderCreatedEvent> {
+
+        @Override
+        public int typeId() {
+            return 1;
+        }
+
+        @Override
+        public Class<OrderCreatedEvent> type() {
+            return OrderCreatedEvent.class;
+        }
+
+        @Override
+        public void write(OrderCreatedEvent event, BinaryEventWriter writer) {
+            writer.writeUuid(event.getId());
+            writer.writeEnum(event.getType());
+            writer.writeDateTime(event.getTimestamp());
+            var payload = event.getPayload();
+            writer.writeBoolean(payload != null);
+            if (payload != null) {
+                writer.writeUuid(payload.getId());
+                writer.writeString(payload.getCustomerId());
+                writer.writeEnum(payload.getStatus());
+                writer.writeDecimal(payload.getTotalAmount());
+                writer.writeList(payload.getItems(), item -> writeItem(item, writer));
+            }
+        }
+
+        @Override
+        public OrderCreatedEvent read(BinaryEventReader reader, int schemaVersion) {
+            var event = new OrderCreatedEvent();
+            event.setId(reader.readUuid());
+            event.setType(reader.readEnum(OrderEventType.class));
+            event.setTimestamp(reader.readDateTime());
+            if (reader.readBoolean()) {
+                event.setPayload(new OrderCreatedPayload(
+                        reader.readUuid(),
+                        reader.readString(),
+                        reader.readEnum(OrderStatus.class),
+                        reader.readDecimal(),
+                        reader.readList(() -> readItem(reader, schemaVersion))));
+            }
+            return event;
+        }
+    }
+
+    static final class OrderProcessedCodec implements BinaryEventCodec<OrderProcessedEvent> {
+
+        @Override
+        public int typeId() {
+            return 2;
+        }
+
+        @Override
+        public Class<OrderProcessedEvent> type() {
+            return OrderProcessedEvent.class;
+        }
+
+        @Override
+        public void write(OrderProcessedEvent event, BinaryEventWriter writer) {
+            writer.writeUuid(event.getId());
+            writer.writeEnum(event.getType());
+            writer.writeDateTime(event.getTimestamp());
+            var payload = event.getPayload();
+            writer.writeBoolean(payload != null);
+            if (payload != null) {
+                writer.writeUuid(payload.getOrderId());
+                writer.writeDateTime(payload.getProcessedAt());
+            }
+        }
+
+        @Override
+        public OrderProcessedEvent read(BinaryEventReader reader, int schemaVersion) {
+            var event = new OrderProcessedEvent();
+            event.setId(reader.readUuid());
+            event.setType(reader.readEnum(OrderEventType.class));
+            event.setTimestamp(reader.readDateTime());
+            if (reader.readBoolean()) {
+                event.setPayload(new OrderProcessedPayload(reader.readUuid(), reader.readDateTime()));
+            }
+            return event;
+        }
+    }
+
+    static final class OrderFailedCodec implements BinaryEventCodec<OrderFailedEvent> {
+
+        @Override
+        public int typeId() {
+            return 3;
+        }
+
+        @Override
+        public Class<OrderFailedEvent> type() {
+            return OrderFailedEvent.class;
+        }
+
+        @Override
+        public void write(OrderFailedEvent event, BinaryEventWriter writer) {
+            writer.writeUuid(event.getId());
+            writer.writeEnum(event.getType());
+            writer.writeDateTime(event.getTimestamp());
+            var payload = event.getPayload();
+            writer.writeBoolean(payload != null);
+            if (payload != null) {
+                writer.writeUuid(payload.getOrderId());
+                writer.writeString(payload.getReason());
+                writer.writeDateTime(payload.getFailedAt());
+            }
+        }
+
+        @Override
+        public OrderFailedEvent read(BinaryEventReader reader, int schemaVersion) {
+            var event = new OrderFailedEvent();
+            event.setId(reader.readUuid());
+            event.setType(reader.readEnum(OrderEventType.class));
+            event.setTimestamp(reader.readDateTime());
+            if (reader.readBoolean()) {
+                event.setPayload(new OrderFailedPayload(reader.readUuid(), reader.readString(), reader.readDateTime()));
+            }
+            return event;
+        }
+    }
+
+    static final class OrderPendingApprovalCodec implements BinaryEventCodec<OrderPendingApprovalEvent> {
+
+        @Override
+        public int typeId() {
+            return 4;
+        }
+
+        @Override
+        public Class<OrderPendingApprovalEvent> type() {
+            return OrderPendingApprovalEvent.class;
+        }
+
+        @Override
+        public void write(OrderPendingApprovalEvent event, BinaryEventWriter writer) {
+            writer.writeUuid(event.getId());
+            writer.writeEnum(event.getType());
+            writer.writeDateTime(event.getTimestamp());
+            writer.writeUuid(event.getOrderId());
+        }
+
+        @Override
+        public OrderPendingApprovalEvent read(BinaryEventReader reader, int schemaVersion) {
+            var event = new OrderPendingApprovalEvent();
+            event.setId(reader.readUuid());
+            event.setType(reader.readEnum(OrderEventType.class));
+            event.setTimestamp(reader.readDateTime());
+            event.setOrderId(reader.readUuid());
+            return event;
+        }
+    }
+
+    static final class LowStockAlertCodec implements BinaryEventCodec<LowStockAlertEvent> {
+
+        @Override
+        public int typeId() {
+            return 5;
+        }
+
+        @Override
+        public Class<LowStockAlertEvent> type() {
+            return LowStockAlertEvent.class;
+        }
+
+        @Override
+        public void write(LowStockAlertEvent event, BinaryEventWriter writer) {
+            writer.writeUuid(event.getId());
+            writer.writeEnum(event.getType());
+            writer.writeDateTime(event.getTimestamp());
+            var payload = event.getPayload();
+            writer.writeBoolean(payload != null);
+            if (payload != null) {
+                writer.writeUuid(payload.getProductId());
+                writer.writeValue(payload.getCurrentStock());
+                writer.writeValue(payload.getThreshold());
+                writer.writeDateTime(payload.getTimestamp());
+            }
+        }
+
+        @Override
+        public LowStockAlertEvent read(BinaryEventReader reader, int schemaVersion) {
+            var event = new LowStockAlertEvent();
+            event.setId(reader.readUuid());
+            event.setType(reader.readEnum(OrderEventType.class));
+            event.setTimestamp(reader.readDateTime());
+            if (reader.readBoolean()) {
+                event.setPayload(new LowStockAlertPayload(
+                        reader.readUuid(),
+                        (Integer) reader.readValue(),
+                        (Integer) reader.readValue(),
+                        reader.readDateTime()));
+            }
+            return event;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.loomi.order.infra.event.consumer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.domain.event.usecase.ConsumerBacklogProbe;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Polls the committed offsets of the order-created group. The gauges cover the whole group; readiness only
+ * looks at the partitions this instance currently owns, so a backlog takes out the instances that have it
+ * rather than the whole fleet.
+ */
+@Slf4j
+@Component
+public class ConsumerLagMonitor implements ConsumerBacklogProbe {
+
+    private static final long ADMIN_TIMEOUT_SECONDS = 5;
+
+    private final KafkaAdmin kafkaAdmin;
+    private final MeterRegistry meterRegistry;
+    private final ConsumerProcessingMetrics processingMetrics;
+    private final Map<Integer, AtomicLong> partitionLag = new ConcurrentHashMap<>();
+    private final AtomicLong totalLag = new AtomicLong();
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private volatile AdminClient adminClient;
+    private volatile boolean stale = true;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Value("${kafka.topics.order-created}")
+    private String orderCreatedTopic;
+
+    public ConsumerLagMonitor(KafkaAdmin kafkaAdmin, MeterRegistry meterRegistry,
+            ConsumerProcessingMetrics processingMetrics, KafkaListenerEndpointRegistry listenerRegistry) {
+        this.kafkaAdmin = kafkaAdmin;
+        this.listenerRegistry = listenerRegistry;
+        this.meterRegistry = meterRegistry;
+        this.processingMetrics = processingMetrics;
+        meterRegistry.gauge("order.consumer.lag.total", totalLag);
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.lag.poll-interval-ms:5000}")
+    public void refresh() {
+        try {
+            var admin = admin();
+            var partitions = admin.describeTopics(List.of(orderCreatedTopic))
+                    .allTopicNames().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .get(orderCreatedTopic).partitions().stream()
+                    .map(info -> new TopicPartition(orderCreatedTopic, info.partition()))
+                    .toList();
+
+            Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(groupId)
+                    .partitionsToOffsetAndMetadata().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            var latest = admin.listOffsets(partitions.stream()
+                    .collect(Collectors.toMap(Function.identity(), tp -> OffsetSpec.latest())))
+                    .all().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            var earliest = admin.listOffsets(partitions.stream()
+                    .collect(Collectors.toMap(Function.identity(), tp -> OffsetSpec.earliest())))
+                    .all().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            long total = 0;
+            for (var partition : partitions) {
+                long end = latest.get(partition).offset();
+                var offset = committed.get(partition);
+                long position = offset != null ? offset.offset() : earliest.get(partition).offset();
+                long lag = Math.max(0, end - position);
+                lagGauge(partition.partition()).set(lag);
+                total += lag;
+            }
+            totalLag.set(total);
+            stale = false;
+        } catch (InterruptedException e) {
+            stale = true;
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // Never keep serving the last good value: readiness stops judging by lag until a refresh succeeds
+            stale = true;
+            log.warn("Could not refresh consumer lag for group {}: {}", groupId, e.getMessage());
+        }
+    }
+
+    @Override
+    public OptionalLong assignedLag() {
+        if (stale) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(lagByPartition().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Override
+    public Map<Integer, Long> lagByPartition() {
+        var snapshot = new TreeMap<Integer, Long>();
+        for (var container : listenerRegistry.getAllListenerContainers()) {
+            var assigned = container.getAssignedPartitions();
+            if (assigned == null) {
+                continue;
+            }
+            for (var partition : assigned) {
+                var lag = partitionLag.get(partition.partition());
+                if (partition.topic().equals(orderCreatedTopic) && lag != null) {
+                    snapshot.put(partition.partition(), lag.get());
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    @Override
+    public int inFlight() {
+        return processingMetrics.inFlight();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+
+    private AtomicLong lagGauge(int partition) {
+        return partitionLag.computeIfAbsent(partition, p -> {
+            var lag = new AtomicLong();
+            Gauge.builder("order.consumer.lag", lag, AtomicLong::get)
+                    .tag("topic", orderCreatedTopic)
+                    .tag("partition", String.valueOf(p))
+                    .register(meterRegistry);
+            return lag;
+        });
+    }
+
+    private AdminClient admin() {
+        if (adminClient == null) {
+            synchronized (this) {
+                if (adminClient == null) {
+                    adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+                }
+            }
+        }
+        return adminClient;
+    }
+}
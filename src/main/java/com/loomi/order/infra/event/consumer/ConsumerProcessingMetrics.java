@@ -0,0 +1,69 @@
+package com.loomi.order.infra.event.consumer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class ConsumerProcessingMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Counter> tierOutcomes = new ConcurrentHashMap<>();
+    private final Counter succeeded;
+    private final Counter failed;
+    private final Counter dlqPublished;
+    private final Timer processing;
+
+    public ConsumerProcessingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("order.consumer.in_flight", inFlight);
+        this.succeeded = meterRegistry.counter("order.consumer.records", "outcome", "success");
+        this.failed = meterRegistry.counter("order.consumer.records", "outcome", "failure");
+        this.dlqPublished = meterRegistry.counter("order.consumer.dlq.published");
+        this.processing = Timer.builder("order.consumer.processing")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    public void recordStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    private void recordFinished(long startNanos, boolean success) {
+        inFlight.decrementAndGet();
+        processing.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        (success ? succeeded : failed).increment();
+    }
+
+    public void recordFinished(String topic, long startNanos, boolean success) {
+        recordFinished(startNanos, success);
+        tierOutcome(topic, success ? "success" : "failure").increment();
+    }
+
+    // A retry-topic record polled before its delay elapsed; it is redelivered later and is not an attempt
+    public void recordDeferred(String topic) {
+        inFlight.decrementAndGet();
+        tierOutcome(topic, "deferred").increment();
+    }
+
+    public void dlqPublished() {
+        dlqPublished.increment();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private Counter tierOutcome(String topic, String outcome) {
+        return tierOutcomes.computeIfAbsent(topic + ':' + outcome,
+                key -> meterRegistry.counter("order.consumer.tier.records", "tier", topic, "outcome", outcome));
+    }
+}
@@ -0,0 +1,23 @@
+package com.loomi.order.infra.event.consumer;
+
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.domain.order.entity.OrderCreatedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCreatedDltHandler {
+
+    private final ConsumerProcessingMetrics processingMetrics;
+
+    public void handle(OrderCreatedEvent event, Acknowledgment ack) {
+        processingMetrics.dlqPublished();
+        log.error("Order {} exhausted its retries and was dead-lettered", event.getPayload().getId());
+        ack.acknowledge();
+    }
+}
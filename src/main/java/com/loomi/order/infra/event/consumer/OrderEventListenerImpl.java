@@ -9,6 +9,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.loomi.order.app.service.order.OrderProcessPipeline;
+import com.loomi.order.domain.credit.usecase.CreditLedgerService;
+import com.loomi.order.domain.customer.usecase.CustomerStateStore;
 import com.loomi.order.domain.event.usecase.OrderEventListener;
 import com.loomi.order.domain.order.entity.Order;
 import com.loomi.order.domain.order.entity.OrderCreatedEvent;
@@ -17,9 +19,11 @@ import com.loomi.order.domain.order.entity.OrderPendingApprovalEvent;
 import com.loomi.order.domain.order.entity.OrderProcessedEvent;
 import com.loomi.order.domain.order.exception.OrderNotFoundException;
 import com.loomi.order.domain.event.usecase.OrderEventPublisher;
+import com.loomi.order.domain.order.repository.OrderCheckpointRepository;
 import com.loomi.order.domain.order.repository.OrderRepository;
 import com.loomi.order.domain.order.usecase.OrderEventIdempotencyService;
 import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.usecase.StockReservationService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +37,10 @@ public class OrderEventListenerImpl implements OrderEventListener {
     private final OrderEventPublisher producer;
     private final OrderProcessPipeline pipeline;
     private final OrderEventIdempotencyService orderEventIdempotencyService;
+    private final StockReservationService stockReservations;
+    private final CreditLedgerService creditLedger;
+    private final OrderCheckpointRepository checkpoints;
+    private final CustomerStateStore customerStates;
 
     private OrderFailedEvent buildFailedEvent(UUID orderId, List<String> errors) {
         return OrderFailedEvent.fromOrder(orderId, String.join(", ", errors));
@@ -45,13 +53,16 @@ public class OrderEventListenerImpl implements OrderEventListener {
     private void failOrder(Order order, List<String> errors) {
         order.status(OrderStatus.FAILED);
         orderRepository.update(order);
+        stockReservations.release(order.id());
+        creditLedger.release(order.id());
         log.error("Order {} failed with reason: {}", order.id(), errors);
         producer.sendOrderFailedEvent(buildFailedEvent(order.id(), errors));
     }
     
-    private void requireApprovalOnOrder(Order order) {
+    private void requireApprovalOnOrder(Order order, String reviewStage) {
         order.status(OrderStatus.PENDING_APPROVAL);
         orderRepository.update(order);
+        checkpoints.saveReviewStage(order.id(), reviewStage);
         log.info("Order {} requires manual approval", order.id());
         producer.sendOrderPendingApprovalEvent(OrderPendingApprovalEvent.fromOrder(order.id()));
     }
@@ -59,6 +70,7 @@ public class OrderEventListenerImpl implements OrderEventListener {
     private void processOrder(Order order) {
         order.status(OrderStatus.PROCESSED);
         orderRepository.update(order);
+        customerStates.recordProcessed(order);
         producer.sendOrderProcessedEvent(OrderProcessedEvent.fromOrder(order.id()));
     }
 
@@ -92,12 +104,13 @@ public class OrderEventListenerImpl implements OrderEventListener {
             }
 
             if (validations.isHumanReviewRequired()) {
-                requireApprovalOnOrder(order);
+                requireApprovalOnOrder(order, validations.getReviewStage());
                 ack.acknowledge();
                 return;
             }
 
-            var processResult = pipeline.process(order);
+            var processResult = pipeline.process(order, checkpoints.findCompletedSteps(orderId),
+                    (step, itemMetadata) -> checkpoints.saveCompletedStep(orderId, step, itemMetadata));
 
             if (processResult.isFailed()) {
                 failOrder(order, processResult.getErrors());
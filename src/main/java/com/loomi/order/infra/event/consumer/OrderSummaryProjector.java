@@ -0,0 +1,91 @@
+package com.loomi.order.infra.event.consumer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.domain.order.dto.OrderSummaryChange;
+import com.loomi.order.domain.order.entity.OrderCreatedEvent;
+import com.loomi.order.domain.order.entity.OrderFailedEvent;
+import com.loomi.order.domain.order.entity.OrderPendingApprovalEvent;
+import com.loomi.order.domain.order.entity.OrderProcessedEvent;
+import com.loomi.order.domain.order.repository.OrderSummaryRepository;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the order_summaries read model up to date from the order lifecycle topics, in its own consumer group
+ * so a slow projection never holds back order processing. Upserts are idempotent and ordered by the time of
+ * each status change, so redelivered or out-of-order batches converge on the same rows.
+ */
+@Slf4j
+@Component
+public class OrderSummaryProjector {
+
+    private final OrderSummaryRepository summaries;
+    private final Timer projectionLag;
+
+    public OrderSummaryProjector(OrderSummaryRepository summaries, MeterRegistry meterRegistry) {
+        this.summaries = summaries;
+        this.projectionLag = Timer.builder("order.summary.projection.lag")
+                .description("Time between an order event being published and projected into order_summaries")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(
+            topics = {
+                "${kafka.topics.order-created}",
+                "${kafka.topics.order-processed}",
+                "${kafka.topics.order-failed}",
+                "${kafka.topics.order-pending-approval}"
+            },
+            groupId = "${read-model.consumer-group:order-summary-projector}",
+            containerFactory = "orderSummaryListenerFactory",
+            autoStartup = "${read-model.enabled:true}")
+    public void project(List<ConsumerRecord<String, Object>> records) {
+        var changes = new ArrayList<OrderSummaryChange>(records.size());
+        for (var record : records) {
+            var change = toChange(record.value());
+            if (change == null) {
+                log.warn("Skipping undecodable record {}-{}@{} in the order summary projection",
+                        record.topic(), record.partition(), record.offset());
+                continue;
+            }
+            changes.add(change);
+        }
+        if (!changes.isEmpty()) {
+            summaries.applyAll(changes);
+        }
+
+        long now = System.currentTimeMillis();
+        for (var record : records) {
+            projectionLag.record(Duration.ofMillis(Math.max(0, now - record.timestamp())));
+        }
+    }
+
+    static OrderSummaryChange toChange(Object event) {
+        if (event instanceof OrderCreatedEvent created) {
+            return OrderSummaryChange.created(created);
+        }
+        if (event instanceof OrderProcessedEvent processed) {
+            return OrderSummaryChange.status(processed.getPayload().getOrderId(), OrderStatus.PROCESSED,
+                    processed.getTimestamp());
+        }
+        if (event instanceof OrderFailedEvent failed) {
+            return OrderSummaryChange.status(failed.getPayload().getOrderId(), OrderStatus.FAILED,
+                    failed.getTimestamp());
+        }
+        if (event instanceof OrderPendingApprovalEvent pending) {
+            return OrderSummaryChange.status(pending.getOrderId(), OrderStatus.PENDING_APPROVAL,
+                    pending.getTimestamp());
+        }
+        return null;
+    }
+}
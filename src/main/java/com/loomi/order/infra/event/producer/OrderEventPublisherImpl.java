@@ -1,6 +1,7 @@
 package com.loomi.order.infra.event.producer;
 
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.internals.RecordHeaders;
@@ -13,6 +14,7 @@ import com.loomi.order.domain.order.entity.OrderCreatedEvent;
 import com.loomi.order.domain.order.entity.OrderFailedEvent;
 import com.loomi.order.domain.order.entity.OrderPendingApprovalEvent;
 import com.loomi.order.domain.order.entity.OrderProcessedEvent;
+import com.loomi.order.domain.order.entity.OrderReleasedEvent;
 import com.loomi.order.domain.event.usecase.OrderEventPublisher;
 
 import jakarta.validation.constraints.NotNull;
@@ -29,6 +31,7 @@ public class OrderEventPublisherImpl implements OrderEventPublisher {
     private final KafkaTemplate<String, OrderProcessedEvent> orderProcessedTemplate;
     private final KafkaTemplate<String, OrderFailedEvent> orderFailedTemplate;
     private final KafkaTemplate<String, OrderPendingApprovalEvent> orderPendingApprovalTemplate;
+    private final KafkaTemplate<String, OrderReleasedEvent> orderReleasedTemplate;
 
     @Value("${kafka.topics.order-created}")
     private String orderCreatedTopic;
@@ -42,9 +45,13 @@ public class OrderEventPublisherImpl implements OrderEventPublisher {
     @Value("${kafka.topics.order-pending-approval}")
     private String orderPendingApprovalTopic;
 
+    @Value("${kafka.topics.order-released}")
+    private String orderReleasedTopic;
+
     @Override
     public void sendOrderCreatedEvent(@NotNull OrderCreatedEvent event) {
-        String key = event.getId().toString();
+        // By customer, so one instance owns each customer's orders and their state (CustomerStateStore)
+        String key = event.getPayload().getCustomerId();
         ProducerRecord<String, OrderCreatedEvent> record = createProducerRecord(orderCreatedTopic, key, event);
         orderCreatedTemplate.send(record);
     }
@@ -70,6 +77,13 @@ public class OrderEventPublisherImpl implements OrderEventPublisher {
         orderPendingApprovalTemplate.send(record);
     }
 
+    @Override
+    public CompletableFuture<Void> sendOrderReleasedEvent(@NotNull OrderReleasedEvent event) {
+        String key = event.getPayload().getOrderId().toString();
+        ProducerRecord<String, OrderReleasedEvent> record = createProducerRecord(orderReleasedTopic, key, event);
+        return orderReleasedTemplate.send(record).thenApply(result -> null);
+    }
+
     private <T> ProducerRecord<String, T> createProducerRecord(String topic, String key, T value) {
         RecordHeaders headers = new RecordHeaders();
         String correlationId = MDC.get(CORRELATION_ID_MDC_KEY);
@@ -0,0 +1,27 @@
+package com.loomi.order.infra.event.producer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import com.loomi.order.domain.event.usecase.SubscriptionEventPublisher;
+import com.loomi.order.domain.order.entity.SubscriptionChargeEvent;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class SubscriptionEventPublisherImpl implements SubscriptionEventPublisher {
+
+    private final KafkaTemplate<String, SubscriptionChargeEvent> subscriptionChargeTemplate;
+
+    @Value("${kafka.topics.subscription-charges}")
+    private String subscriptionChargesTopic;
+
+    @Override
+    public void sendSubscriptionChargeEvent(@NotNull SubscriptionChargeEvent event) {
+        String key = event.getPayload().getSubscriptionId().toString();
+        subscriptionChargeTemplate.send(subscriptionChargesTopic, key, event);
+    }
+}
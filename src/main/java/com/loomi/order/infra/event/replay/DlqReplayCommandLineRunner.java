@@ -0,0 +1,71 @@
+package com.loomi.order.infra.event.replay;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.domain.event.dto.DlqReplayOptions;
+import com.loomi.order.domain.event.dto.DlqReplayStatus;
+import com.loomi.order.domain.event.usecase.DlqReplayService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Runs a DLQ replay from the command line and exits, e.g.
+ * {@code java -jar order.jar --replay-dlq --replay-from=2026-03-01T00:00:00Z --replay-exception-class=TimeoutException --replay-dry-run}.
+ * Other options: {@code --replay-to}, {@code --replay-order-ids} (comma separated), {@code --replay-rate},
+ * {@code --replay-limit} and {@code --replay-restart}.
+ */
+@Component
+@RequiredArgsConstructor
+public class DlqReplayCommandLineRunner implements ApplicationRunner {
+
+    static final String TRIGGER = "replay-dlq";
+
+    private final DlqReplayService replayService;
+    private final ApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(TRIGGER)) {
+            return;
+        }
+        var status = replayService.run(options(args));
+        int exitCode = status.state() == DlqReplayStatus.State.COMPLETED ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    static DlqReplayOptions options(ApplicationArguments args) {
+        var orderIds = value(args, "replay-order-ids");
+        var rate = value(args, "replay-rate");
+        var limit = value(args, "replay-limit");
+        var from = value(args, "replay-from");
+        var to = value(args, "replay-to");
+        return new DlqReplayOptions(
+                from == null ? null : Instant.parse(from),
+                to == null ? null : Instant.parse(to),
+                value(args, "replay-exception-class"),
+                orderIds == null ? null : Arrays.stream(orderIds.split(","))
+                        .map(String::trim)
+                        .filter(id -> !id.isEmpty())
+                        .map(UUID::fromString)
+                        .collect(Collectors.toSet()),
+                rate == null ? null : Double.valueOf(rate),
+                limit == null ? 0 : Long.parseLong(limit),
+                args.containsOption("replay-dry-run"),
+                args.containsOption("replay-restart"));
+    }
+
+    private static String value(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+}
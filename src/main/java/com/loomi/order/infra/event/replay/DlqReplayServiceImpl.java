@@ -0,0 +1,376 @@
+package com.loomi.order.infra.event.replay;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loomi.order.app.config.DlqReplayConfig;
+import com.loomi.order.app.service.admission.TokenBucket;
+import com.loomi.order.domain.event.dto.DlqReplayOptions;
+import com.loomi.order.domain.event.dto.DlqReplayStatus;
+import com.loomi.order.domain.event.exception.DlqReplayInProgressException;
+import com.loomi.order.domain.event.usecase.DlqReplayService;
+import com.loomi.order.domain.order.entity.OrderCreatedEvent;
+import com.loomi.order.infra.event.codec.EventDeserializer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams the order-created DLQ and re-publishes matching records, byte for byte, to the order-created topic.
+ * Progress is the committed offsets of a consumer group derived from the replay's filter: each polled batch
+ * is committed once all of its sends are acknowledged, so a replay that is cancelled or fails resumes where
+ * it stopped when run again with the same filter, and records are never skipped, at worst re-sent (the
+ * consumer deduplicates them by event id). A replay with a different filter has its own group and starts
+ * from its own {@code from}. Only the records that were in the DLQ when the replay started are read. One
+ * replay runs at a time per instance.
+ */
+@Slf4j
+@Component
+public class DlqReplayServiceImpl implements DlqReplayService {
+
+    static final String REPLAY_ID_HEADER = "x-dlq-replay-id";
+    private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+    private static final long PROGRESS_LOG_EVERY = 10_000;
+
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final KafkaTemplate<String, byte[]> template;
+    private final DlqReplayConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Deserializer<OrderCreatedEvent> eventDeserializer;
+    private final String dlqTopic;
+    private final String orderCreatedTopic;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        var thread = new Thread(task, "dlq-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<Replay> current = new AtomicReference<>();
+
+    @Autowired
+    public DlqReplayServiceImpl(
+            ConsumerFactory<String, byte[]> dlqReplayConsumerFactory,
+            KafkaTemplate<String, byte[]> dlqReplayKafkaTemplate,
+            DlqReplayConfig config,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            @Value("${kafka.topics.order-created-dlq:order-created-dlq}") String dlqTopic,
+            @Value("${kafka.topics.order-created}") String orderCreatedTopic) {
+        this.consumerFactory = dlqReplayConsumerFactory;
+        this.template = dlqReplayKafkaTemplate;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        var json = new JsonDeserializer<>(OrderCreatedEvent.class, objectMapper);
+        json.addTrustedPackages("com.loomi.order");
+        this.eventDeserializer = new EventDeserializer<>(json);
+        this.dlqTopic = dlqTopic;
+        this.orderCreatedTopic = orderCreatedTopic;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        cancel();
+        executor.shutdown();
+    }
+
+    @Override
+    public DlqReplayStatus start(DlqReplayOptions options) {
+        var replay = claim(options);
+        executor.execute(() -> execute(replay));
+        return replay.snapshot();
+    }
+
+    @Override
+    public DlqReplayStatus run(DlqReplayOptions options) {
+        var replay = claim(options);
+        execute(replay);
+        return replay.snapshot();
+    }
+
+    @Override
+    public Optional<DlqReplayStatus> status() {
+        return Optional.ofNullable(current.get()).map(Replay::snapshot);
+    }
+
+    @Override
+    public Optional<DlqReplayStatus> cancel() {
+        var replay = current.get();
+        if (replay == null) {
+            return Optional.empty();
+        }
+        replay.cancelled = true;
+        return Optional.of(replay.snapshot());
+    }
+
+    private Replay claim(DlqReplayOptions options) {
+        var replay = new Replay(options);
+        var previous = current.get();
+        if ((previous != null && previous.state == DlqReplayStatus.State.RUNNING)
+                || !current.compareAndSet(previous, replay)) {
+            throw new DlqReplayInProgressException(current.get().id);
+        }
+        return replay;
+    }
+
+    private void execute(Replay replay) {
+        var group = progressGroup(config.getConsumerGroup(), replay.options);
+        log.info("Starting DLQ replay {} in group {} with {}", replay.id, group, replay.options);
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(group, null)) {
+            replay(consumer, replay);
+            replay.finish(replay.cancelled ? DlqReplayStatus.State.CANCELLED : DlqReplayStatus.State.COMPLETED, null);
+        } catch (RuntimeException e) {
+            log.error("DLQ replay {} stopped: {}", replay.id, e.getMessage(), e);
+            replay.finish(DlqReplayStatus.State.FAILED, e.getMessage());
+        }
+        var status = replay.snapshot();
+        log.info("DLQ replay {} {}: scanned {}, matched {}, replayed {}, failed {} ({} records/s)",
+                status.replayId(), status.state(), status.scanned(), status.matched(), status.replayed(),
+                status.failed(), String.format("%.1f", status.recordsPerSecond()));
+    }
+
+    private void replay(Consumer<String, byte[]> consumer, Replay replay) {
+        var options = replay.options;
+        var partitions = consumer.partitionsFor(dlqTopic).stream()
+                .map(info -> new TopicPartition(dlqTopic, info.partition()))
+                .toList();
+        consumer.assign(partitions);
+        var end = consumer.endOffsets(partitions);
+        seekToStart(consumer, partitions, options);
+
+        double rate = options.eventsPerSecond() != null ? options.eventsPerSecond() : config.getEventsPerSecond();
+        var publishRate = new TokenBucket(Math.max(1, (int) (rate / 10)), rate, System.nanoTime());
+        long nextProgressLog = PROGRESS_LOG_EVERY;
+        int emptyPolls = 0;
+
+        while (!replay.done() && !reachedEnd(consumer, partitions, end)) {
+            var records = consumer.poll(Duration.ofMillis(config.getPollTimeoutMs()));
+            if (records.isEmpty()) {
+                // Transaction markers and compacted gaps can keep the position short of the end offset
+                if (++emptyPolls >= config.getMaxEmptyPolls()) {
+                    break;
+                }
+                continue;
+            }
+            emptyPolls = 0;
+
+            var sends = new ArrayList<CompletableFuture<?>>();
+            var checkpoint = new HashMap<TopicPartition, OffsetAndMetadata>();
+            for (var record : records) {
+                var partition = new TopicPartition(record.topic(), record.partition());
+                if (record.offset() >= end.get(partition)) {
+                    consumer.pause(List.of(partition));
+                    continue;
+                }
+                if (replay.done()) {
+                    break;
+                }
+                replay.scanned.incrementAndGet();
+                if (matches(record, options)) {
+                    replay.matched.incrementAndGet();
+                    if (options.dryRun()) {
+                        meterRegistry.counter("dlq.replay.records", "outcome", "dry_run").increment();
+                    } else {
+                        awaitPublishToken(publishRate);
+                        sends.add(template.send(toOrderCreated(record, replay.id)));
+                    }
+                } else {
+                    meterRegistry.counter("dlq.replay.records", "outcome", "skipped").increment();
+                }
+                checkpoint.put(partition, new OffsetAndMetadata(record.offset() + 1));
+            }
+
+            if (!awaitSends(sends, replay)) {
+                throw new IllegalStateException(
+                        "Could not re-publish every record of the batch; progress kept at the last checkpoint");
+            }
+            if (!options.dryRun() && !checkpoint.isEmpty()) {
+                consumer.commitSync(checkpoint);
+            }
+            if (replay.scanned.get() >= nextProgressLog) {
+                log.info("DLQ replay {} progress: scanned {}, replayed {}",
+                        replay.id, replay.scanned.get(), replay.replayed.get());
+                nextProgressLog += PROGRESS_LOG_EVERY;
+            }
+        }
+    }
+
+    private void seekToStart(
+            Consumer<String, byte[]> consumer, List<TopicPartition> partitions, DlqReplayOptions options) {
+        Map<TopicPartition, OffsetAndMetadata> committed = options.restart()
+                ? Map.of()
+                : consumer.committed(Set.copyOf(partitions));
+        var fromTime = options.from() == null
+                ? Map.<TopicPartition, OffsetAndTimestamp>of()
+                : consumer.offsetsForTimes(partitions.stream()
+                        .collect(Collectors.toMap(Function.identity(), tp -> options.from().toEpochMilli())));
+
+        // The group only ever holds progress of this same filter, so its checkpoint already lies past from
+        for (var partition : partitions) {
+            var checkpoint = committed.get(partition);
+            var timeOffset = fromTime.get(partition);
+            if (checkpoint != null) {
+                consumer.seek(partition, checkpoint.offset());
+            } else if (timeOffset != null) {
+                consumer.seek(partition, timeOffset.offset());
+            } else if (options.from() != null) {
+                consumer.seekToEnd(List.of(partition));
+            } else {
+                consumer.seekToBeginning(List.of(partition));
+            }
+        }
+    }
+
+    /**
+     * One group per filter (time range, exception class and order ids). Offsets committed past records that a
+     * filter skipped then never hide them from a replay with another filter.
+     */
+    public static String progressGroup(String baseGroup, DlqReplayOptions options) {
+        var filter = String.join("|",
+                String.valueOf(options.from()),
+                String.valueOf(options.to()),
+                String.valueOf(options.exceptionClass()),
+                options.orderIds().stream().map(UUID::toString).sorted().collect(Collectors.joining(",")));
+        return baseGroup + "-" + UUID.nameUUIDFromBytes(filter.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean reachedEnd(
+            Consumer<String, byte[]> consumer, List<TopicPartition> partitions, Map<TopicPartition, Long> end) {
+        for (var partition : partitions) {
+            if (consumer.position(partition) < end.get(partition)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(ConsumerRecord<String, byte[]> record, DlqReplayOptions options) {
+        if (!options.matches(record.timestamp(),
+                header(record, KafkaHeaders.DLT_EXCEPTION_FQCN),
+                header(record, KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN))) {
+            return false;
+        }
+        return !options.filtersByOrder() || orderId(record).filter(options.orderIds()::contains).isPresent();
+    }
+
+    private Optional<UUID> orderId(ConsumerRecord<String, byte[]> record) {
+        try {
+            var event = eventDeserializer.deserialize(record.topic(), record.headers(), record.value());
+            return Optional.ofNullable(event).map(e -> e.getPayload().getId());
+        } catch (RuntimeException e) {
+            log.debug("Could not decode DLQ record {}-{}@{}: {}",
+                    record.topic(), record.partition(), record.offset(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String header(ConsumerRecord<String, byte[]> record, String name) {
+        var header = record.headers().lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private ProducerRecord<String, byte[]> toOrderCreated(ConsumerRecord<String, byte[]> record, UUID replayId) {
+        var headers = new RecordHeaders();
+        for (var header : record.headers()) {
+            if (!header.key().startsWith(DLT_HEADER_PREFIX)) {
+                headers.add(header);
+            }
+        }
+        headers.add(REPLAY_ID_HEADER, replayId.toString().getBytes(StandardCharsets.UTF_8));
+        return new ProducerRecord<>(orderCreatedTopic, null, record.key(), record.value(), headers);
+    }
+
+    private boolean awaitSends(List<CompletableFuture<?>> sends, Replay replay) {
+        boolean allSent = true;
+        for (var send : sends) {
+            try {
+                send.join();
+                replay.replayed.incrementAndGet();
+                meterRegistry.counter("dlq.replay.records", "outcome", "replayed").increment();
+            } catch (CompletionException e) {
+                allSent = false;
+                replay.failed.incrementAndGet();
+                meterRegistry.counter("dlq.replay.records", "outcome", "failed").increment();
+                log.warn("DLQ replay {} could not re-publish a record: {}", replay.id, e.getMessage());
+            }
+        }
+        return allSent;
+    }
+
+    private static void awaitPublishToken(TokenBucket publishRate) {
+        long now = System.nanoTime();
+        while (!publishRate.tryConsume(now)) {
+            LockSupport.parkNanos(publishRate.nanosUntilNextToken(now));
+            now = System.nanoTime();
+        }
+    }
+
+    private static final class Replay {
+        final UUID id = UUID.randomUUID();
+        final DlqReplayOptions options;
+        final Instant startedAt = Instant.now();
+        final AtomicLong scanned = new AtomicLong();
+        final AtomicLong matched = new AtomicLong();
+        final AtomicLong replayed = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        volatile boolean cancelled;
+        volatile DlqReplayStatus.State state = DlqReplayStatus.State.RUNNING;
+        volatile Instant finishedAt;
+        volatile String error;
+
+        Replay(DlqReplayOptions options) {
+            this.options = options;
+        }
+
+        boolean done() {
+            return cancelled || (options.limit() > 0 && matched.get() >= options.limit());
+        }
+
+        void finish(DlqReplayStatus.State state, String error) {
+            this.error = error;
+            this.finishedAt = Instant.now();
+            this.state = state;
+        }
+
+        DlqReplayStatus snapshot() {
+            var until = finishedAt != null ? finishedAt : Instant.now();
+            double seconds = Math.max(0.001, Duration.between(startedAt, until).toMillis() / 1000.0);
+            long published = options.dryRun() ? matched.get() : replayed.get();
+            return new DlqReplayStatus(id, state, options.dryRun(), scanned.get(), matched.get(), replayed.get(),
+                    failed.get(), published / seconds, startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.loomi.order.infra.persistence;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Connection pool of the read models. Not a {@link javax.sql.DataSource} bean, so JPA, Flyway and the
+ * transaction manager keep using the primary one.
+ */
+public class ReadModelDataSource implements AutoCloseable {
+
+    private final HikariDataSource pool;
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public ReadModelDataSource(HikariDataSource pool) {
+        this.pool = pool;
+        this.jdbc = new NamedParameterJdbcTemplate(pool);
+    }
+
+    public NamedParameterJdbcTemplate jdbc() {
+        return jdbc;
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+}
@@ -0,0 +1,26 @@
+package com.loomi.order.infra.persistence.credit;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Table(name = "credit_balances")
+@Data
+public class CreditBalanceEntity {
+
+    @Id
+    @Column(length = 14)
+    private String cnpj;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal exposure;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
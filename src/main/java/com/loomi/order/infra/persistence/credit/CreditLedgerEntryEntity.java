@@ -0,0 +1,47 @@
+package com.loomi.order.infra.persistence.credit;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Table(name = "credit_ledger_entries")
+@Data
+public class CreditLedgerEntryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 14)
+    private String cnpj;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private String entryType;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "payment_term_days")
+    private Integer paymentTermDays;
+
+    @Column(name = "reserve_id")
+    private Long reserveId;
+
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
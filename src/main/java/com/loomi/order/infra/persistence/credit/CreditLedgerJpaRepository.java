@@ -0,0 +1,109 @@
+package com.loomi.order.infra.persistence.credit;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CreditLedgerJpaRepository extends JpaRepository<CreditLedgerEntryEntity, Long> {
+
+    interface BalanceView {
+        String getCnpj();
+
+        BigDecimal getExposure();
+    }
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO credit_balances (cnpj) VALUES (:cnpj)
+        ON CONFLICT (cnpj) DO NOTHING
+        """, nativeQuery = true)
+    int openBalance(@Param("cnpj") String cnpj);
+
+    @Query(value = "SELECT exposure FROM credit_balances WHERE cnpj = :cnpj", nativeQuery = true)
+    Optional<BigDecimal> findExposure(@Param("cnpj") String cnpj);
+
+    boolean existsByOrderIdAndCnpjAndEntryTypeAndClosedAtIsNull(UUID orderId, String cnpj, String entryType);
+
+    // The balance row lock serializes reservations of one CNPJ; the entry is only appended if the limit held
+    @Query(value = """
+        WITH updated AS (
+            UPDATE credit_balances
+            SET exposure = exposure + :amount, updated_at = CURRENT_TIMESTAMP
+            WHERE cnpj = :cnpj AND exposure + :amount <= :limit
+            RETURNING exposure
+        ), entry AS (
+            INSERT INTO credit_ledger_entries (cnpj, order_id, entry_type, amount, payment_term_days)
+            SELECT :cnpj, :orderId, 'RESERVE', :amount, :paymentTermDays FROM updated
+        )
+        SELECT exposure FROM updated
+        """, nativeQuery = true)
+    Optional<BigDecimal> reserve(
+            @Param("cnpj") String cnpj,
+            @Param("orderId") UUID orderId,
+            @Param("amount") BigDecimal amount,
+            @Param("paymentTermDays") int paymentTermDays,
+            @Param("limit") BigDecimal limit
+    );
+
+    // Closing the reservation row first makes a concurrent release or settlement of the same reservation find it
+    // already closed once it gets the row lock, so only one closing entry is written
+    @Query(value = """
+        WITH closed AS (
+            UPDATE credit_ledger_entries SET closed_at = CURRENT_TIMESTAMP
+            WHERE order_id = :orderId AND entry_type = 'RESERVE' AND closed_at IS NULL
+            RETURNING id, cnpj, order_id, amount
+        ), released AS (
+            INSERT INTO credit_ledger_entries (cnpj, order_id, entry_type, amount, reserve_id)
+            SELECT cnpj, order_id, 'RELEASE', -amount, id FROM closed
+            RETURNING cnpj, amount
+        ), updated AS (
+            UPDATE credit_balances b
+            SET exposure = b.exposure + r.amount, updated_at = CURRENT_TIMESTAMP
+            FROM released r
+            WHERE b.cnpj = r.cnpj
+            RETURNING b.cnpj, b.exposure
+        )
+        SELECT cnpj, exposure FROM updated
+        """, nativeQuery = true)
+    List<BalanceView> release(@Param("orderId") UUID orderId);
+
+    // Open reservations of processed orders whose payment term has run out since the order was processed. Entries
+    // written before payment terms were recorded wait for the longest term. Only open rows are in the partial index
+    // the scan walks, so settled history does not slow it down
+    @Query(value = """
+        WITH due AS (
+            SELECT e.id FROM credit_ledger_entries e
+            JOIN orders_history o ON o.id = e.order_id
+            WHERE e.entry_type = 'RESERVE' AND e.closed_at IS NULL
+            AND o.status = 'PROCESSED'
+            AND o.updated_at + make_interval(days => COALESCE(e.payment_term_days, 90)) <= CURRENT_TIMESTAMP
+            ORDER BY e.id
+            LIMIT :limit
+        ), closed AS (
+            UPDATE credit_ledger_entries e SET closed_at = CURRENT_TIMESTAMP
+            FROM due d
+            WHERE e.id = d.id AND e.closed_at IS NULL
+            RETURNING e.id, e.cnpj, e.order_id, e.amount
+        ), settled AS (
+            INSERT INTO credit_ledger_entries (cnpj, order_id, entry_type, amount, reserve_id)
+            SELECT cnpj, order_id, 'SETTLE', -amount, id FROM closed
+            RETURNING cnpj, amount
+        ), totals AS (
+            SELECT cnpj, SUM(amount) AS amount FROM settled GROUP BY cnpj
+        ), updated AS (
+            UPDATE credit_balances b
+            SET exposure = b.exposure + t.amount, updated_at = CURRENT_TIMESTAMP
+            FROM totals t
+            WHERE b.cnpj = t.cnpj
+            RETURNING b.cnpj, b.exposure
+        )
+        SELECT cnpj, exposure FROM updated
+        """, nativeQuery = true)
+    List<BalanceView> settleDue(@Param("limit") int limit);
+}
@@ -0,0 +1,61 @@
+package com.loomi.order.infra.persistence.credit;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.loomi.order.domain.credit.repository.CreditLedgerRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class CreditLedgerRepositoryImpl implements CreditLedgerRepository {
+
+    private final CreditLedgerJpaRepository jpaRepository;
+
+    // Commits on its own so the exposure is visible to other consumers while the order is still in flight
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<BigDecimal> reserve(
+            String cnpj, UUID orderId, BigDecimal amount, int paymentTermDays, BigDecimal limit) {
+        jpaRepository.openBalance(cnpj);
+        // A released or settled reservation no longer counts; the order reserves again with a new entry
+        if (jpaRepository.existsByOrderIdAndCnpjAndEntryTypeAndClosedAtIsNull(orderId, cnpj, "RESERVE")) {
+            return jpaRepository.findExposure(cnpj);
+        }
+        return jpaRepository.reserve(cnpj, orderId, amount, paymentTermDays, limit);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<String, BigDecimal> release(UUID orderId) {
+        var balances = new HashMap<String, BigDecimal>();
+        for (var row : jpaRepository.release(orderId)) {
+            balances.put(row.getCnpj(), row.getExposure());
+        }
+        return balances;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<String, BigDecimal> settleDue(int limit) {
+        var balances = new HashMap<String, BigDecimal>();
+        for (var row : jpaRepository.settleDue(limit)) {
+            balances.put(row.getCnpj(), row.getExposure());
+        }
+        return balances;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal exposure(String cnpj) {
+        return jpaRepository.findExposure(cnpj).orElse(BigDecimal.ZERO);
+    }
+}
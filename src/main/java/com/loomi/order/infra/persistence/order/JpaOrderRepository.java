@@ -1,9 +1,15 @@
 package com.loomi.order.infra.persistence.order;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,12 +18,49 @@ import com.loomi.order.domain.order.valueobject.OrderStatus;
 
 public interface JpaOrderRepository extends JpaRepository<Order, UUID> {
     
-    List<Order> findByCustomerId(String customerId);
-    
-    List<Order> findByCustomerIdAndStatus(String customerId, OrderStatus status);
+    // Customer lookups read orders_history, so archived orders still count as owned products and subscriptions
+    @Query(value = "SELECT * FROM orders_history WHERE customer_id = :customerId", nativeQuery = true)
+    List<Order> findByCustomerId(@Param("customerId") String customerId);
+
+    @Query(value = "SELECT * FROM orders_history WHERE customer_id = :customerId AND status = :status",
+            nativeQuery = true)
+    List<Order> findByCustomerIdAndStatus(@Param("customerId") String customerId, @Param("status") String status);
+
+    @Query(value = """
+        SELECT id, customer_id, status, created_at, updated_at, total_amount, items
+        FROM orders_archive WHERE id = :id
+        """, nativeQuery = true)
+    Optional<Order> findArchivedById(@Param("id") UUID id);
+
+    List<Order> findByStatusOrderByCreatedAtAscIdAsc(OrderStatus status, Pageable pageable);
 
+    // Guarded on the current status, so two approvers deciding the same order cannot both win
     @Query(value = """
-        SELECT DISTINCT o.* FROM orders o
+        WITH moved AS (
+            UPDATE orders SET status = :to, updated_at = CURRENT_TIMESTAMP
+            WHERE id IN (:ids) AND status = :from
+            RETURNING id
+        )
+        SELECT id FROM moved
+        """, nativeQuery = true)
+    List<UUID> transitionStatus(
+        @Param("ids") Collection<UUID> ids,
+        @Param("from") String from,
+        @Param("to") String to
+    );
+
+    @Query(value = """
+        WITH requeued AS (
+            UPDATE orders SET status = 'PENDING_APPROVAL', updated_at = CURRENT_TIMESTAMP
+            WHERE status = 'APPROVED' AND updated_at < :cutoff
+            RETURNING id
+        )
+        SELECT id FROM requeued
+        """, nativeQuery = true)
+    List<UUID> requeueStaleApprovals(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query(value = """
+        SELECT DISTINCT o.* FROM orders_history o
         WHERE o.customer_id = :customerId
         AND o.status = :status
         AND EXISTS (
@@ -31,7 +74,7 @@ public interface JpaOrderRepository extends JpaRepository<Order, UUID> {
     );
 
     @Query(value = """
-        SELECT DISTINCT o.* FROM orders o
+        SELECT DISTINCT o.* FROM orders_history o
         INNER JOIN jsonb_array_elements(o.items) AS item ON item->>'product_type' = 'SUBSCRIPTION'
         INNER JOIN products p ON p.id = (item->>'product_id')::uuid
         WHERE o.customer_id = :customerId
@@ -43,5 +86,42 @@ public interface JpaOrderRepository extends JpaRepository<Order, UUID> {
         @Param("status") String status,
         @Param("groupId") String groupId
     );
-}
 
+    // Moves one batch of terminal orders older than the cutoff; rows locked by a running transaction are left
+    // for the next batch. Orders with a pre-order still to release or a cancellation window still open stay,
+    // since both paths update them. An id already archived fails the whole batch instead of losing the row.
+    @Modifying
+    @Query(value = """
+        WITH picked AS (
+            SELECT o.id, o.created_at FROM orders o
+            WHERE o.created_at < :cutoff AND o.status IN (:statuses)
+            AND NOT EXISTS (
+                SELECT 1 FROM pre_order_releases r
+                WHERE r.order_id = o.id AND r.status IN ('PENDING', 'CLAIMED')
+            )
+            AND NOT EXISTS (
+                SELECT 1 FROM jsonb_array_elements(o.items) AS item
+                WHERE item->'metadata'->>'maxCancellationDate' >= to_char(CURRENT_DATE, 'YYYY-MM-DD')
+            )
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        ), moved AS (
+            DELETE FROM orders o USING picked p
+            WHERE o.id = p.id AND o.created_at = p.created_at
+            RETURNING o.id, o.customer_id, o.status, o.created_at, o.updated_at, o.total_amount, o.items
+        )
+        INSERT INTO orders_archive (id, customer_id, status, created_at, updated_at, total_amount, items)
+        SELECT id, customer_id, status, created_at, updated_at, total_amount, items FROM moved
+        """, nativeQuery = true)
+    int archiveTerminal(
+        @Param("cutoff") LocalDateTime cutoff,
+        @Param("statuses") Collection<String> statuses,
+        @Param("limit") int limit
+    );
+
+    @Query(value = "SELECT ensure_orders_partitions(:fromMonth, :monthsAhead)", nativeQuery = true)
+    int ensurePartitions(@Param("fromMonth") LocalDate fromMonth, @Param("monthsAhead") int monthsAhead);
+
+    @Query(value = "SELECT drop_empty_orders_partitions(:beforeMonth)", nativeQuery = true)
+    int dropEmptyPartitions(@Param("beforeMonth") LocalDate beforeMonth);
+}
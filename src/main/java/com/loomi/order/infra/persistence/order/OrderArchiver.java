@@ -0,0 +1,42 @@
+package com.loomi.order.infra.persistence.order;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Partition maintenance and archival of the orders table, each step committed on its own so a long run
+ * never holds locks across batches.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderArchiver {
+
+    static final List<String> TERMINAL_STATUSES = List.of(
+            OrderStatus.PROCESSED.name(), OrderStatus.FAILED.name(), OrderStatus.CANCELLED.name());
+
+    private final JpaOrderRepository jpaOrderRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int ensurePartitions(LocalDate fromMonth, int monthsAhead) {
+        return jpaOrderRepository.ensurePartitions(fromMonth, monthsAhead);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        return jpaOrderRepository.archiveTerminal(cutoff, TERMINAL_STATUSES, batchSize);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int dropEmptyPartitions(LocalDate beforeMonth) {
+        return jpaOrderRepository.dropEmptyPartitions(beforeMonth);
+    }
+}
@@ -0,0 +1,26 @@
+package com.loomi.order.infra.persistence.order;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Table(name = "order_pipeline_checkpoints")
+@Data
+public class OrderCheckpointEntity {
+
+    @Id
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "review_stage", length = 100)
+    private String reviewStage;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
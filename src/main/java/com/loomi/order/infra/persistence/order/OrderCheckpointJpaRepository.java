@@ -0,0 +1,20 @@
+package com.loomi.order.infra.persistence.order;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OrderCheckpointJpaRepository extends JpaRepository<OrderCheckpointEntity, UUID> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO order_pipeline_checkpoints (order_id, review_stage)
+        VALUES (:orderId, :stage)
+        ON CONFLICT (order_id) DO UPDATE
+        SET review_stage = EXCLUDED.review_stage, updated_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    int upsertReviewStage(@Param("orderId") UUID orderId, @Param("stage") String stage);
+}
@@ -0,0 +1,66 @@
+package com.loomi.order.infra.persistence.order;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.loomi.order.domain.order.repository.OrderCheckpointRepository;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderCheckpointRepositoryImpl implements OrderCheckpointRepository {
+
+    private final OrderCheckpointJpaRepository jpaRepository;
+    private final OrderPipelineStepJpaRepository stepRepository;
+
+    @Override
+    @Transactional
+    public void saveReviewStage(UUID orderId, String stage) {
+        jpaRepository.upsertReviewStage(orderId, stage);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, String> findReviewStages(Collection<UUID> orderIds) {
+        var stages = new HashMap<UUID, String>();
+        for (var checkpoint : jpaRepository.findAllById(orderIds)) {
+            if (checkpoint.getReviewStage() != null) {
+                stages.put(checkpoint.getOrderId(), checkpoint.getReviewStage());
+            }
+        }
+        return stages;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, RawProductMetadata> findCompletedSteps(UUID orderId) {
+        var steps = new HashMap<String, RawProductMetadata>();
+        for (var step : stepRepository.findByOrderId(orderId)) {
+            steps.put(step.getStepKey(), step.getItemMetadata());
+        }
+        return steps;
+    }
+
+    // Committed on its own, like the stock and credit writes of the step it records, so a rollback of the
+    // consumer transaction does not forget work that already happened. The item metadata goes in the same
+    // write, so a step is never marked done without the values it derived.
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveCompletedStep(UUID orderId, String stepKey, RawProductMetadata itemMetadata) {
+        var step = new OrderPipelineStepEntity();
+        step.setOrderId(orderId);
+        step.setStepKey(stepKey);
+        step.setItemMetadata(itemMetadata);
+        step.setCompletedAt(LocalDateTime.now());
+        stepRepository.save(step);
+    }
+}
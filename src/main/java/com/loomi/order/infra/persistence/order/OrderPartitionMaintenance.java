@@ -0,0 +1,63 @@
+package com.loomi.order.infra.persistence.order;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.app.config.OrderArchiveConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPartitionMaintenance {
+
+    private final OrderArchiver archiver;
+    private final OrderArchiveConfig config;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${order-archive.interval-ms:3600000}")
+    public void run() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            maintain(LocalDateTime.now());
+        } catch (DataAccessException e) {
+            log.error("Orders partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    void maintain(LocalDateTime now) {
+        int created = archiver.ensurePartitions(now.toLocalDate(), config.getPartitionsAhead());
+        if (created > 0) {
+            log.info("Created {} orders partitions", created);
+        }
+
+        var cutoff = now.minusDays(config.getRetentionDays());
+        int archived = 0;
+        for (int batch = 0; batch < config.getMaxBatchesPerRun(); batch++) {
+            int moved = archiver.archiveBatch(cutoff, config.getBatchSize());
+            archived += moved;
+            if (moved < config.getBatchSize()) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            meterRegistry.counter("order.archive.archived").increment(archived);
+            log.info("Archived {} terminal orders created before {}", archived, cutoff);
+        }
+
+        int dropped = archiver.dropEmptyPartitions(LocalDate.from(cutoff));
+        if (dropped > 0) {
+            meterRegistry.counter("order.archive.partitions.dropped").increment(dropped);
+            log.info("Dropped {} empty orders partitions", dropped);
+        }
+    }
+}
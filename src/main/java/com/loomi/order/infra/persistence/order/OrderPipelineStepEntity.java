@@ -0,0 +1,53 @@
+package com.loomi.order.infra.persistence.order;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A process step that completed for an order. Item steps keep the metadata the item left with, so a resumed
+ * run gets back the values the skipped handler derived.
+ */
+@Entity
+@Table(name = "order_pipeline_steps")
+@IdClass(OrderPipelineStepEntity.Key.class)
+@Data
+public class OrderPipelineStepEntity {
+
+    @Id
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Id
+    @Column(name = "step_key", nullable = false, length = 200)
+    private String stepKey;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "item_metadata", columnDefinition = "jsonb")
+    private RawProductMetadata itemMetadata;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID orderId;
+        private String stepKey;
+    }
+}
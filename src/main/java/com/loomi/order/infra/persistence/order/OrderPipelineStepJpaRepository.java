@@ -0,0 +1,12 @@
+package com.loomi.order.infra.persistence.order;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderPipelineStepJpaRepository
+        extends JpaRepository<OrderPipelineStepEntity, OrderPipelineStepEntity.Key> {
+
+    List<OrderPipelineStepEntity> findByOrderId(UUID orderId);
+}
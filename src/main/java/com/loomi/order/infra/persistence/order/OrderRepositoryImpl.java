@@ -1,5 +1,7 @@
 package com.loomi.order.infra.persistence.order;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,6 +9,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.loomi.order.domain.order.entity.Order;
 import com.loomi.order.domain.order.repository.OrderRepository;
@@ -26,6 +29,11 @@ public class OrderRepositoryImpl implements OrderRepository {
        return jpaOrderRepository.findById(id);
     }
 
+    @Override
+    public Optional<Order> findArchivedById(@NonNull UUID id) {
+        return jpaOrderRepository.findArchivedById(id);
+    }
+
     @Override
     public Order save(@NonNull Order order) {
         return jpaOrderRepository.save(order);
@@ -46,6 +54,50 @@ public class OrderRepositoryImpl implements OrderRepository {
         jpaOrderRepository.save(order);
     }
 
+    @Override
+    @Transactional
+    public void updateAll(@NonNull List<Order> orders) {
+        jpaOrderRepository.saveAll(orders);
+    }
+
+    @Override
+    @Transactional
+    public boolean updateIfStatus(@NonNull Order order, OrderStatus expected) {
+        // The guarded update locks the row, so the full write below cannot interleave with another claim
+        var moved = jpaOrderRepository.transitionStatus(List.of(order.id()), expected.name(), order.status().name());
+        if (moved.isEmpty()) {
+            return false;
+        }
+        jpaOrderRepository.save(order);
+        return true;
+    }
+
+    @Override
+    public List<Order> findAllById(@NonNull Collection<UUID> ids) {
+        return jpaOrderRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<Order> findPendingApproval(int limit) {
+        return jpaOrderRepository.findByStatusOrderByCreatedAtAscIdAsc(
+                OrderStatus.PENDING_APPROVAL, PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public List<UUID> transitionStatus(@NonNull Collection<UUID> ids, OrderStatus from, OrderStatus to) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaOrderRepository.transitionStatus(ids, from.name(), to.name());
+    }
+
+    @Override
+    @Transactional
+    public List<UUID> requeueStaleApprovals(@NonNull LocalDateTime cutoff) {
+        return jpaOrderRepository.requeueStaleApprovals(cutoff);
+    }
+
     @Override
     public List<Order> findByCustomerId(@NonNull String customerId) {
         return jpaOrderRepository.findByCustomerId(customerId);
@@ -53,7 +105,8 @@ public class OrderRepositoryImpl implements OrderRepository {
 
     @Override
     public List<Order> findByCustomerIdAndProductIdAndStatus(String customerId, UUID productId, OrderStatus status) {
-        List<Order> ordersByCustomerAndStatus = jpaOrderRepository.findByCustomerIdAndStatus(customerId, status);
+        List<Order> ordersByCustomerAndStatus = jpaOrderRepository.findByCustomerIdAndStatus(
+                customerId, status.name());
         return ordersByCustomerAndStatus.stream()
                 .filter(order -> order.items().stream()
                         .anyMatch(item -> item.productId().equals(productId)))
@@ -0,0 +1,40 @@
+package com.loomi.order.infra.persistence.order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OrderSummaryJpaRepository extends JpaRepository<OrderSummaryEntity, UUID> {
+
+    // Events of one order arrive on different topics in any order: details fill in whatever is missing, and
+    // the status only moves to a change that happened later than the one already projected
+    @Modifying
+    @Query(value = """
+        INSERT INTO order_summaries
+            (order_id, customer_id, status, total_amount, item_count, created_at, status_changed_at)
+        VALUES (:orderId, :customerId, :status, :totalAmount, :itemCount, :createdAt, :statusChangedAt)
+        ON CONFLICT (order_id) DO UPDATE SET
+            customer_id = COALESCE(EXCLUDED.customer_id, order_summaries.customer_id),
+            total_amount = COALESCE(EXCLUDED.total_amount, order_summaries.total_amount),
+            item_count = COALESCE(EXCLUDED.item_count, order_summaries.item_count),
+            created_at = COALESCE(EXCLUDED.created_at, order_summaries.created_at),
+            status = CASE WHEN EXCLUDED.status_changed_at >= order_summaries.status_changed_at
+                THEN EXCLUDED.status ELSE order_summaries.status END,
+            status_changed_at = GREATEST(EXCLUDED.status_changed_at, order_summaries.status_changed_at),
+            projected_at = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    int upsert(
+        @Param("orderId") UUID orderId,
+        @Param("customerId") String customerId,
+        @Param("status") String status,
+        @Param("totalAmount") BigDecimal totalAmount,
+        @Param("itemCount") Integer itemCount,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("statusChangedAt") LocalDateTime statusChangedAt
+    );
+}
@@ -0,0 +1,60 @@
+package com.loomi.order.infra.persistence.order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.loomi.order.domain.order.dto.OrderSummary;
+import com.loomi.order.domain.order.dto.OrderSummaryChange;
+import com.loomi.order.domain.order.repository.OrderSummaryRepository;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.infra.persistence.ReadModelDataSource;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderSummaryRepositoryImpl implements OrderSummaryRepository {
+
+    private static final String FIND_BY_CUSTOMER = """
+            SELECT order_id, customer_id, status, total_amount, item_count, created_at
+            FROM order_summaries
+            WHERE customer_id = :customerId
+            ORDER BY created_at DESC
+            LIMIT :limit
+            """;
+
+    private final OrderSummaryJpaRepository jpaRepository;
+    private final ReadModelDataSource readModel;
+
+    @Override
+    @Transactional
+    public void applyAll(List<OrderSummaryChange> changes) {
+        for (var change : changes) {
+            jpaRepository.upsert(
+                    change.orderId(),
+                    change.customerId(),
+                    change.status().name(),
+                    change.totalAmount(),
+                    change.itemCount(),
+                    change.createdAt(),
+                    change.statusChangedAt());
+        }
+    }
+
+    @Override
+    public List<OrderSummary> findByCustomerId(String customerId, int limit) {
+        return readModel.jdbc().query(FIND_BY_CUSTOMER, Map.of("customerId", customerId, "limit", limit),
+                (rs, rowNum) -> new OrderSummary(
+                        rs.getObject("order_id", UUID.class),
+                        rs.getString("customer_id"),
+                        OrderStatus.valueOf(rs.getString("status")),
+                        rs.getBigDecimal("total_amount"),
+                        rs.getInt("item_count"),
+                        rs.getObject("created_at", LocalDateTime.class)));
+    }
+}
@@ -0,0 +1,53 @@
+package com.loomi.order.infra.persistence.order;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "pre_order_releases")
+@IdClass(PreOrderReleaseEntity.Key.class)
+@Data
+public class PreOrderReleaseEntity {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID orderId;
+        private UUID productId;
+    }
+
+    @Id
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "release_date", nullable = false)
+    private LocalDate releaseDate;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "claim_id")
+    private UUID claimId;
+
+    @Column(name = "claimed_at")
+    private OffsetDateTime claimedAt;
+
+    @Column(name = "released_at")
+    private OffsetDateTime releasedAt;
+}
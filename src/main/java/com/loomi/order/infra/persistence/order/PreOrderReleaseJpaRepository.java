@@ -0,0 +1,73 @@
+package com.loomi.order.infra.persistence.order;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PreOrderReleaseJpaRepository extends JpaRepository<PreOrderReleaseEntity, PreOrderReleaseEntity.Key> {
+
+    interface ClaimedRelease {
+        UUID getOrderId();
+
+        UUID getProductId();
+
+        LocalDate getReleaseDate();
+
+        String getStatus();
+    }
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO pre_order_releases (order_id, product_id, release_date)
+        VALUES (:orderId, :productId, :releaseDate)
+        ON CONFLICT (order_id, product_id) DO NOTHING
+        """, nativeQuery = true)
+    int register(
+            @Param("orderId") UUID orderId,
+            @Param("productId") UUID productId,
+            @Param("releaseDate") LocalDate releaseDate
+    );
+
+    // Orders that are no longer PROCESSED (cancelled, failed, removed) are closed here and never published;
+    // archived orders are still found through orders_history
+    @Query(value = """
+        WITH due AS (
+            SELECT order_id, product_id FROM pre_order_releases
+            WHERE release_date <= :today
+            AND (status = 'PENDING'
+                 OR (status = 'CLAIMED' AND claimed_at < CURRENT_TIMESTAMP - make_interval(secs => :leaseSeconds)))
+            ORDER BY release_date, order_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        ), claimed AS (
+            UPDATE pre_order_releases r
+            SET status = CASE WHEN o.status = 'PROCESSED' THEN 'CLAIMED' ELSE 'SKIPPED' END,
+                claim_id = :claimId,
+                claimed_at = CURRENT_TIMESTAMP
+            FROM due d
+            LEFT JOIN orders_history o ON o.id = d.order_id
+            WHERE r.order_id = d.order_id AND r.product_id = d.product_id
+            RETURNING r.order_id, r.product_id, r.release_date, r.status
+        )
+        SELECT order_id AS orderId, product_id AS productId, release_date AS releaseDate, status
+        FROM claimed
+        """, nativeQuery = true)
+    List<ClaimedRelease> claimDue(
+            @Param("today") LocalDate today,
+            @Param("limit") int limit,
+            @Param("leaseSeconds") long leaseSeconds,
+            @Param("claimId") UUID claimId
+    );
+
+    @Modifying
+    @Query(value = """
+        UPDATE pre_order_releases SET status = 'RELEASED', released_at = CURRENT_TIMESTAMP
+        WHERE claim_id = :claimId AND status = 'CLAIMED'
+        """, nativeQuery = true)
+    int complete(@Param("claimId") UUID claimId);
+}
@@ -0,0 +1,54 @@
+package com.loomi.order.infra.persistence.order;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.loomi.order.domain.order.dto.PreOrderRelease;
+import com.loomi.order.domain.order.dto.PreOrderReleaseChunk;
+import com.loomi.order.domain.order.repository.PreOrderReleaseRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class PreOrderReleaseRepositoryImpl implements PreOrderReleaseRepository {
+
+    private final PreOrderReleaseJpaRepository jpaRepository;
+
+    // Commits on its own, like the process step checkpoint, so a listener rollback cannot drop the release of a
+    // step already marked done; the insert ignores rows that are already there, so a replayed step is harmless
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void register(UUID orderId, UUID productId, LocalDate releaseDate) {
+        jpaRepository.register(orderId, productId, releaseDate);
+    }
+
+    @Override
+    @Transactional
+    public PreOrderReleaseChunk claimDue(LocalDate today, int limit, Duration lease) {
+        var claimId = UUID.randomUUID();
+        var claimed = jpaRepository.claimDue(today, limit, lease.toSeconds(), claimId);
+        var releases = new ArrayList<PreOrderRelease>(claimed.size());
+        int skipped = 0;
+        for (var row : claimed) {
+            if ("CLAIMED".equals(row.getStatus())) {
+                releases.add(new PreOrderRelease(row.getOrderId(), row.getProductId(), row.getReleaseDate()));
+            } else {
+                skipped++;
+            }
+        }
+        return new PreOrderReleaseChunk(claimId, releases, skipped);
+    }
+
+    @Override
+    @Transactional
+    public int complete(UUID claimId) {
+        return jpaRepository.complete(claimId);
+    }
+}
@@ -0,0 +1,53 @@
+package com.loomi.order.infra.persistence.product;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Immutable snapshot of a product's catalog metadata, written by a trigger each time
+ * {@code products.metadata_version} changes.
+ */
+@Entity
+@Table(name = "product_metadata_versions")
+@IdClass(ProductMetadataVersionEntity.Key.class)
+@Data
+public class ProductMetadataVersionEntity {
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Id
+    @Column(nullable = false)
+    private Integer version;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private RawProductMetadata metadata;
+
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID productId;
+        private Integer version;
+    }
+}
@@ -0,0 +1,7 @@
+package com.loomi.order.infra.persistence.product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductMetadataVersionJpaRepository
+        extends JpaRepository<ProductMetadataVersionEntity, ProductMetadataVersionEntity.Key> {
+}
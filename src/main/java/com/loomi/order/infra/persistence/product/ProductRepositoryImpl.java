@@ -7,6 +7,7 @@ import java.util.UUID;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import com.loomi.order.domain.product.dto.RawProductMetadata;
 import com.loomi.order.domain.product.entity.Product;
 import com.loomi.order.domain.product.repository.ProductRepository;
 
@@ -18,12 +19,19 @@ import lombok.RequiredArgsConstructor;
 public class ProductRepositoryImpl implements ProductRepository {
 
     private final JpaProductRepository jpaProductRepository;
+    private final ProductMetadataVersionJpaRepository metadataVersionRepository;
 
     @Override
     public Optional<Product> findById(@NonNull UUID id) {
        return jpaProductRepository.findById(id);
     }
 
+    @Override
+    public Optional<RawProductMetadata> findMetadata(@NonNull UUID productId, int version) {
+        return metadataVersionRepository.findById(new ProductMetadataVersionEntity.Key(productId, version))
+                .map(ProductMetadataVersionEntity::getMetadata);
+    }
+
     @Override
     public Product save(@NonNull Product product) {
         return jpaProductRepository.save(product);
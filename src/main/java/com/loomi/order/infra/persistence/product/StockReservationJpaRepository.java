@@ -0,0 +1,255 @@
+package com.loomi.order.infra.persistence.product;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StockReservationJpaRepository extends JpaRepository<StockReservationEntity, Long> {
+
+    Optional<StockReservationEntity> findByOrderIdAndProductId(UUID orderId, UUID productId);
+
+    @Query(value = """
+        SELECT p.stock_quantity + COALESCE((SELECT SUM(s.quantity) FROM product_stock_shards s WHERE s.product_id = p.id), 0)
+        FROM products p WHERE p.id = :productId
+        """, nativeQuery = true)
+    Optional<Integer> findStockQuantity(@Param("productId") UUID productId);
+
+    interface StockLevelView {
+        UUID getProductId();
+
+        long getReserved();
+
+        long getAvailable();
+    }
+
+    @Query(value = """
+        SELECT p.id AS productId,
+               COALESCE((SELECT SUM(r.quantity) FROM stock_reservations r
+                         WHERE r.product_id = p.id AND r.status IN ('HELD', 'CONSUMED')), 0) AS reserved,
+               COALESCE(p.stock_quantity, 0)
+                   + COALESCE((SELECT SUM(s.quantity) FROM product_stock_shards s WHERE s.product_id = p.id), 0)
+                   AS available
+        FROM products p
+        WHERE p.product_type = :productType AND p.is_active
+        """, nativeQuery = true)
+    List<StockLevelView> findStockLevels(@Param("productType") String productType);
+
+    @Query(value = "SELECT stock_shards FROM products WHERE id = :productId", nativeQuery = true)
+    Optional<Integer> findStockShards(@Param("productId") UUID productId);
+
+    @Query(value = "SELECT id FROM products WHERE stock_shards > 0", nativeQuery = true)
+    List<UUID> findShardedProductIds();
+
+    // Released when the calling transaction ends
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('stock-sharding'))", nativeQuery = true)
+    boolean tryLockStockSharding();
+
+    // Single statement: the products row lock is only held for the duration of this transaction
+    @Query(value = """
+        WITH decremented AS (
+            UPDATE products SET stock_quantity = stock_quantity - :quantity
+            WHERE id = :productId AND stock_quantity >= :quantity
+            RETURNING stock_quantity
+        ), reserved AS (
+            INSERT INTO stock_reservations (order_id, product_id, quantity, status, expires_at)
+            SELECT :orderId, :productId, :quantity, :status, CAST(:expiresAt AS TIMESTAMP WITH TIME ZONE)
+            FROM decremented
+            ON CONFLICT (order_id, product_id) DO UPDATE
+            SET shard_no = EXCLUDED.shard_no,
+                quantity = EXCLUDED.quantity,
+                status = EXCLUDED.status,
+                expires_at = EXCLUDED.expires_at,
+                updated_at = CURRENT_TIMESTAMP
+        )
+        SELECT stock_quantity FROM decremented
+        """, nativeQuery = true)
+    Optional<Integer> reserve(
+            @Param("orderId") UUID orderId,
+            @Param("productId") UUID productId,
+            @Param("quantity") int quantity,
+            @Param("status") String status,
+            @Param("expiresAt") OffsetDateTime expiresAt
+    );
+
+    // Same as reserve, but only locks one sub-counter row of a sharded SKU
+    @Query(value = """
+        WITH decremented AS (
+            UPDATE product_stock_shards SET quantity = quantity - :quantity
+            WHERE product_id = :productId AND shard_no = :shardNo AND quantity >= :quantity
+            RETURNING quantity
+        ), reserved AS (
+            INSERT INTO stock_reservations (order_id, product_id, shard_no, quantity, status, expires_at)
+            SELECT :orderId, :productId, :shardNo, :quantity, :status, CAST(:expiresAt AS TIMESTAMP WITH TIME ZONE)
+            FROM decremented
+            ON CONFLICT (order_id, product_id) DO UPDATE
+            SET shard_no = EXCLUDED.shard_no,
+                quantity = EXCLUDED.quantity,
+                status = EXCLUDED.status,
+                expires_at = EXCLUDED.expires_at,
+                updated_at = CURRENT_TIMESTAMP
+        )
+        SELECT quantity FROM decremented
+        """, nativeQuery = true)
+    Optional<Integer> reserveFromShard(
+            @Param("orderId") UUID orderId,
+            @Param("productId") UUID productId,
+            @Param("shardNo") int shardNo,
+            @Param("quantity") int quantity,
+            @Param("status") String status,
+            @Param("expiresAt") OffsetDateTime expiresAt
+    );
+
+    @Query(value = """
+        SELECT COALESCE(SUM(quantity), 0) FROM product_stock_shards WHERE product_id = :productId
+        """, nativeQuery = true)
+    int sumShardStock(@Param("productId") UUID productId);
+
+    // Spreads the SKU's shard stock evenly over shards [0, shardsToFill); the remaining shards end up empty
+    @Query(value = """
+        WITH locked AS (
+            SELECT shard_no, quantity FROM product_stock_shards
+            WHERE product_id = :productId
+            ORDER BY shard_no
+            FOR UPDATE
+        ), total AS (
+            SELECT SUM(quantity) AS quantity, LEAST(COUNT(*), :shardsToFill) AS fill FROM locked
+        ), rebalanced AS (
+            UPDATE product_stock_shards s
+            SET quantity = CASE
+                WHEN s.shard_no < t.fill
+                    THEN t.quantity / t.fill + CASE WHEN s.shard_no < t.quantity % t.fill THEN 1 ELSE 0 END
+                ELSE 0
+            END
+            FROM total t
+            WHERE s.product_id = :productId AND t.fill > 0
+            RETURNING s.shard_no
+        )
+        SELECT COUNT(*) FROM rebalanced
+        """, nativeQuery = true)
+    long rebalanceShards(@Param("productId") UUID productId, @Param("shardsToFill") int shardsToFill);
+
+    @Query(value = """
+        WITH current_stock AS (
+            SELECT id, COALESCE(stock_quantity, 0) AS quantity FROM products
+            WHERE id = :productId AND stock_shards = 0
+            FOR UPDATE
+        ), emptied AS (
+            UPDATE products p SET stock_quantity = 0, stock_shards = :shards
+            FROM current_stock c
+            WHERE p.id = c.id
+        ), created AS (
+            INSERT INTO product_stock_shards (product_id, shard_no, quantity)
+            SELECT c.id, g.n, c.quantity / :shards + CASE WHEN g.n < c.quantity % :shards THEN 1 ELSE 0 END
+            FROM current_stock c CROSS JOIN generate_series(0, :shards - 1) AS g(n)
+        )
+        SELECT COUNT(*) FROM current_stock
+        """, nativeQuery = true)
+    long splitStock(@Param("productId") UUID productId, @Param("shards") int shards);
+
+    @Query(value = """
+        WITH current_stock AS (
+            SELECT id FROM products WHERE id = :productId AND stock_shards > 0 FOR UPDATE
+        ), removed AS (
+            DELETE FROM product_stock_shards s
+            USING current_stock c
+            WHERE s.product_id = c.id
+            RETURNING s.quantity
+        ), detached AS (
+            UPDATE stock_reservations r SET shard_no = NULL
+            FROM current_stock c
+            WHERE r.product_id = c.id AND r.shard_no IS NOT NULL
+        ), merged AS (
+            UPDATE products p
+            SET stock_quantity = COALESCE(p.stock_quantity, 0) + (SELECT COALESCE(SUM(quantity), 0) FROM removed),
+                stock_shards = 0
+            FROM current_stock c
+            WHERE p.id = c.id
+            RETURNING p.id
+        )
+        SELECT COUNT(*) FROM merged
+        """, nativeQuery = true)
+    long mergeStock(@Param("productId") UUID productId);
+
+    @Query(value = """
+        WITH consumed AS (
+            UPDATE stock_reservations SET status = 'CONSUMED', updated_at = CURRENT_TIMESTAMP
+            WHERE order_id = :orderId AND product_id = :productId AND status = 'HELD'
+            RETURNING product_id
+        )
+        SELECT p.stock_quantity + COALESCE((SELECT SUM(s.quantity) FROM product_stock_shards s WHERE s.product_id = p.id), 0)
+        FROM products p JOIN consumed c ON c.product_id = p.id
+        """, nativeQuery = true)
+    Optional<Integer> consume(@Param("orderId") UUID orderId, @Param("productId") UUID productId);
+
+    @Query(value = """
+        WITH released AS (
+            UPDATE stock_reservations SET status = 'RELEASED', updated_at = CURRENT_TIMESTAMP
+            WHERE order_id = :orderId AND status IN ('HELD', 'CONSUMED')
+            RETURNING product_id, shard_no, quantity
+        ), restocked AS (
+            UPDATE products p SET stock_quantity = p.stock_quantity + r.quantity
+            FROM released r
+            WHERE p.id = r.product_id AND r.shard_no IS NULL
+        ), restocked_shards AS (
+            UPDATE product_stock_shards s SET quantity = s.quantity + r.quantity
+            FROM released r
+            WHERE s.product_id = r.product_id AND s.shard_no = r.shard_no
+        )
+        SELECT COUNT(*) FROM released
+        """, nativeQuery = true)
+    long release(@Param("orderId") UUID orderId);
+
+    // Pre-order slots are committed at processing but nothing leaves until release day, so they go back too
+    @Query(value = """
+        WITH released AS (
+            UPDATE stock_reservations r SET status = 'RELEASED', updated_at = CURRENT_TIMESTAMP
+            WHERE r.order_id = :orderId
+            AND (r.status = 'HELD'
+                 OR (r.status = 'CONSUMED' AND EXISTS (
+                     SELECT 1 FROM products p WHERE p.id = r.product_id AND p.product_type = 'PRE_ORDER')))
+            RETURNING r.product_id, r.shard_no, r.quantity
+        ), restocked AS (
+            UPDATE products p SET stock_quantity = p.stock_quantity + r.quantity
+            FROM released r
+            WHERE p.id = r.product_id AND r.shard_no IS NULL
+        ), restocked_shards AS (
+            UPDATE product_stock_shards s SET quantity = s.quantity + r.quantity
+            FROM released r
+            WHERE s.product_id = r.product_id AND s.shard_no = r.shard_no
+        )
+        SELECT COUNT(*) FROM released
+        """, nativeQuery = true)
+    long releaseUnshipped(@Param("orderId") UUID orderId);
+
+    @Query(value = """
+        WITH expired AS (
+            SELECT id FROM stock_reservations
+            WHERE status = 'HELD' AND expires_at < CURRENT_TIMESTAMP
+            ORDER BY expires_at
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+        ), released AS (
+            UPDATE stock_reservations r SET status = 'EXPIRED', updated_at = CURRENT_TIMESTAMP
+            FROM expired e
+            WHERE r.id = e.id
+            RETURNING r.product_id, r.shard_no, r.quantity
+        ), totals AS (
+            SELECT product_id, shard_no, SUM(quantity) AS quantity FROM released GROUP BY product_id, shard_no
+        ), restocked AS (
+            UPDATE products p SET stock_quantity = p.stock_quantity + t.quantity
+            FROM totals t
+            WHERE p.id = t.product_id AND t.shard_no IS NULL
+        ), restocked_shards AS (
+            UPDATE product_stock_shards s SET quantity = s.quantity + t.quantity
+            FROM totals t
+            WHERE s.product_id = t.product_id AND s.shard_no = t.shard_no
+        )
+        SELECT COUNT(*) FROM released
+        """, nativeQuery = true)
+    long expireHeld(@Param("batchSize") int batchSize);
+}
@@ -0,0 +1,40 @@
+package com.loomi.order.infra.persistence.product;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.app.config.StockReservationConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationReaper {
+
+    private final StockReservationServiceImpl reservations;
+    private final StockReservationConfig config;
+
+    @Scheduled(fixedDelayString = "${stock-reservation.reaper-interval-ms:5000}")
+    public void returnExpiredHolds() {
+        int total = 0;
+        for (int batch = 0; batch < config.getReaperMaxBatchesPerRun(); batch++) {
+            int expired = reservations.expireBatch();
+            total += expired;
+            if (expired < config.getReaperBatchSize()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Returned {} expired stock holds to available stock", total);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${stock-reservation.reaper-interval-ms:5000}")
+    public void rebalanceShards() {
+        for (var productId : reservations.drainUnbalanced()) {
+            reservations.rebalance(productId);
+        }
+    }
+}
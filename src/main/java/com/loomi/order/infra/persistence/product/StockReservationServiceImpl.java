@@ -0,0 +1,210 @@
+package com.loomi.order.infra.persistence.product;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.loomi.order.app.config.StockReservationConfig;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.StockLevel;
+import com.loomi.order.domain.product.usecase.StockReservationService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Every operation commits on its own so the products row is never locked for longer than a
+ * single statement, regardless of how long the surrounding order pipeline takes. SKUs listed in
+ * {@code stock-reservation.sharded-products} keep their stock in sub-counter rows instead, so concurrent
+ * holds on the same SKU lock different rows.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private final StockReservationJpaRepository repository;
+    private final StockReservationConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Set<UUID> unbalanced = ConcurrentHashMap.newKeySet();
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean hold(UUID orderId, UUID productId, int quantity) {
+        var existing = repository.findByOrderIdAndProductId(orderId, productId)
+                .map(StockReservationEntity::getStatus);
+        if (existing.filter(StockReservationStatus::isActive).isPresent()) {
+            return true;
+        }
+
+        var expiresAt = OffsetDateTime.now().plus(Duration.ofMillis(config.getHoldTtlMs()));
+        var held = take(orderId, productId, quantity, StockReservationStatus.HELD, expiresAt);
+        meterRegistry.counter("stock.reservation.holds", "outcome", held ? "held" : "rejected").increment();
+        return held;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public OptionalInt commit(UUID orderId, UUID productId, int quantity) {
+        var remaining = repository.consume(orderId, productId);
+        if (remaining.isPresent()) {
+            meterRegistry.counter("stock.reservation.commits", "outcome", "consumed").increment();
+            return OptionalInt.of(remaining.get());
+        }
+
+        var status = repository.findByOrderIdAndProductId(orderId, productId)
+                .map(StockReservationEntity::getStatus);
+        if (status.filter(StockReservationStatus.CONSUMED::equals).isPresent()) {
+            return repository.findStockQuantity(productId).map(OptionalInt::of).orElseGet(OptionalInt::empty);
+        }
+
+        log.info("Hold for product {} in order {} is gone ({}), taking stock again",
+                productId, orderId, status.map(Enum::name).orElse("missing"));
+        var reacquired = take(orderId, productId, quantity, StockReservationStatus.CONSUMED, OffsetDateTime.now());
+        meterRegistry.counter("stock.reservation.commits", "outcome", reacquired ? "reacquired" : "rejected")
+                .increment();
+        if (!reacquired) {
+            return OptionalInt.empty();
+        }
+        return repository.findStockQuantity(productId).map(OptionalInt::of).orElseGet(OptionalInt::empty);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int release(UUID orderId) {
+        var released = (int) repository.release(orderId);
+        if (released > 0) {
+            meterRegistry.counter("stock.reservation.released", "reason", "order_failed").increment(released);
+        }
+        return released;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int releaseUnshipped(UUID orderId) {
+        var released = (int) repository.releaseUnshipped(orderId);
+        if (released > 0) {
+            meterRegistry.counter("stock.reservation.released", "reason", "order_cancelled").increment(released);
+        }
+        return released;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StockLevel> stockLevels(ProductType productType) {
+        return repository.findStockLevels(productType.name()).stream()
+                .map(level -> new StockLevel(
+                        level.getProductId(), (int) level.getReserved(), (int) level.getAvailable()))
+                .toList();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean applySharding(UUID productId, int shards) {
+        var stored = repository.findStockShards(productId);
+        if (stored.isEmpty() || stored.get() == shards) {
+            return false;
+        }
+        if (stored.get() > 0) {
+            repository.mergeStock(productId);
+        }
+        if (shards > 0) {
+            repository.splitStock(productId, shards);
+        }
+        log.info("Stock of product {} moved from {} to {} shards", productId, stored.get(), shards);
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void rebalance(UUID productId) {
+        rebalance(productId, Integer.MAX_VALUE, 1);
+    }
+
+    public List<UUID> drainUnbalanced() {
+        var drained = List.copyOf(unbalanced);
+        unbalanced.removeAll(drained);
+        return drained;
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> shardedProducts() {
+        return repository.findShardedProductIds();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int expireBatch() {
+        var expired = (int) repository.expireHeld(config.getReaperBatchSize());
+        if (expired > 0) {
+            meterRegistry.counter("stock.reservation.released", "reason", "expired").increment(expired);
+        }
+        return expired;
+    }
+
+    private boolean take(
+            UUID orderId, UUID productId, int quantity, StockReservationStatus status, OffsetDateTime expiresAt) {
+        int shards = config.shardsFor(productId);
+        if (shards > 0 && takeFromShards(orderId, productId, shards, quantity, status, expiresAt)) {
+            return true;
+        }
+        if (repository.reserve(orderId, productId, quantity, status.name(), expiresAt).isPresent()) {
+            return true;
+        }
+        if (shards > 0) {
+            return false;
+        }
+        // Another instance may have sharded the SKU before this one picked up the configuration
+        int stored = repository.findStockShards(productId).orElse(0);
+        return stored > 0 && takeFromShards(orderId, productId, stored, quantity, status, expiresAt);
+    }
+
+    private boolean takeFromShards(UUID orderId, UUID productId, int shards, int quantity,
+            StockReservationStatus status, OffsetDateTime expiresAt) {
+        int first = Math.floorMod(orderId.hashCode(), shards);
+        if (probeShards(orderId, productId, first, shards, quantity, status, expiresAt)) {
+            return true;
+        }
+
+        // No shard is locked at this point, so locking all of them cannot deadlock with another hold
+        int filled = rebalance(productId, shards, quantity);
+        return filled > 0 && probeShards(orderId, productId, first % filled, filled, quantity, status, expiresAt);
+    }
+
+    private boolean probeShards(UUID orderId, UUID productId, int first, int shards, int quantity,
+            StockReservationStatus status, OffsetDateTime expiresAt) {
+        for (int i = 0; i < shards; i++) {
+            int shard = (first + i) % shards;
+            if (repository.reserveFromShard(orderId, productId, shard, quantity, status.name(), expiresAt).isPresent()) {
+                return true;
+            }
+            meterRegistry.counter("stock.reservation.shard_misses").increment();
+            // Every order landing on this shard now pays an extra statement; the reaper spreads the stock again
+            if (i == 0) {
+                unbalanced.add(productId);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Spreads the shard stock so that every filled shard can serve at least {@code quantity} units on its own.
+     * Returns how many shards were filled, or 0 when the SKU does not have {@code quantity} units left.
+     */
+    private int rebalance(UUID productId, int shards, int quantity) {
+        int total = repository.sumShardStock(productId);
+        if (total < quantity || total == 0) {
+            return 0;
+        }
+        int fill = Math.max(1, Math.min(shards, total / quantity));
+        repository.rebalanceShards(productId, fill);
+        meterRegistry.counter("stock.reservation.rebalances").increment();
+        return fill;
+    }
+}
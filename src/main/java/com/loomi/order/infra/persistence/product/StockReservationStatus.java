@@ -0,0 +1,12 @@
+package com.loomi.order.infra.persistence.product;
+
+public enum StockReservationStatus {
+    HELD,
+    CONSUMED,
+    RELEASED,
+    EXPIRED;
+
+    public boolean isActive() {
+        return this == HELD || this == CONSUMED;
+    }
+}
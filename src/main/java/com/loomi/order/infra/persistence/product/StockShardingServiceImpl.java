@@ -0,0 +1,51 @@
+package com.loomi.order.infra.persistence.product;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.loomi.order.app.config.StockReservationConfig;
+import com.loomi.order.domain.product.exception.StockShardingInProgressException;
+import com.loomi.order.domain.product.usecase.StockShardingService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Listed SKUs are split, SKUs no longer listed have their shards folded back into
+ * {@code products.stock_quantity}. This used to run on every instance at startup, so a rolling deploy that
+ * changed the list had old and new instances undo each other; it is now an admin action. The surrounding
+ * transaction only holds the advisory lock that keeps two calls from interleaving, each product still moves
+ * in its own transaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockShardingServiceImpl implements StockShardingService {
+
+    private final StockReservationServiceImpl reservations;
+    private final StockReservationJpaRepository repository;
+    private final StockReservationConfig config;
+
+    @Override
+    @Transactional
+    public Map<UUID, Integer> applyConfiguredSharding() {
+        if (!repository.tryLockStockSharding()) {
+            throw new StockShardingInProgressException();
+        }
+        var changed = new LinkedHashMap<UUID, Integer>();
+        for (var productId : config.getShardedProducts().keySet()) {
+            int shards = config.shardsFor(productId);
+            if (reservations.applySharding(productId, shards)) {
+                changed.put(productId, shards);
+            }
+        }
+        for (var productId : reservations.shardedProducts()) {
+            if (config.shardsFor(productId) == 0 && reservations.applySharding(productId, 0)) {
+                changed.put(productId, 0);
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,15 @@
+package com.loomi.order.infra.persistence.product.catalog;
+
+/**
+ * One catalog entry as read from the file, before validation. {@code metadata} is the JSON text.
+ */
+record CatalogRecord(
+        long line,
+        String id,
+        String name,
+        String productType,
+        String price,
+        String stockQuantity,
+        String isActive,
+        String metadata) {
+}
@@ -0,0 +1,36 @@
+package com.loomi.order.infra.persistence.product.catalog;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loomi.order.domain.product.dto.ProductImportFormat;
+
+/**
+ * Reads catalog entries one at a time, so memory use does not depend on the file size.
+ */
+interface CatalogRecordReader extends Closeable {
+
+    String ID = "id";
+    String NAME = "name";
+    String PRODUCT_TYPE = "product_type";
+    String PRICE = "price";
+    String STOCK_QUANTITY = "stock_quantity";
+    String IS_ACTIVE = "is_active";
+    String METADATA = "metadata";
+
+    /**
+     * @return the next entry, or null at the end of the input
+     * @throws MalformedRecordException if the entry cannot be read; the next call continues after it
+     */
+    CatalogRecord next() throws IOException;
+
+    static CatalogRecordReader open(ProductImportFormat format, BufferedReader reader, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new CsvCatalogReader(reader);
+            case NDJSON -> new NdjsonCatalogReader(reader, objectMapper);
+        };
+    }
+}
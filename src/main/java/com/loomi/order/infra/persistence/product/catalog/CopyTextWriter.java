@@ -0,0 +1,61 @@
+package com.loomi.order.infra.persistence.product.catalog;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.UUID;
+
+/**
+ * Writes staging rows in the text format of {@code COPY ... FROM STDIN}: tab separated, {@code \N} for null,
+ * backslash escapes for the separator characters.
+ */
+final class CopyTextWriter {
+
+    static final String COLUMNS =
+            "import_id, line_no, id, name, product_type, price, stock_quantity, is_active, metadata";
+
+    private final Writer out;
+    private final String importId;
+
+    CopyTextWriter(Writer out, UUID importId) {
+        this.out = out;
+        this.importId = importId.toString();
+    }
+
+    void write(StagedProduct product) throws IOException {
+        out.write(importId);
+        out.write('\t');
+        out.write(Long.toString(product.line()));
+        out.write('\t');
+        out.write(product.id().toString());
+        out.write('\t');
+        escaped(product.name());
+        out.write('\t');
+        out.write(product.productType().name());
+        out.write('\t');
+        out.write(product.price().toPlainString());
+        out.write('\t');
+        out.write(product.stockQuantity() == null ? "\\N" : product.stockQuantity().toString());
+        out.write('\t');
+        out.write(product.active() ? 't' : 'f');
+        out.write('\t');
+        escaped(product.metadata());
+        out.write('\n');
+    }
+
+    private void escaped(String value) throws IOException {
+        if (value == null) {
+            out.write("\\N");
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.write("\\\\");
+                case '\t' -> out.write("\\t");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                default -> out.write(c);
+            }
+        }
+    }
+}
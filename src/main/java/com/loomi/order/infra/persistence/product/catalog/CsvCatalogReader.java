@@ -0,0 +1,160 @@
+package com.loomi.order.infra.persistence.product.catalog;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.loomi.order.domain.product.exception.ProductValidationException;
+
+/**
+ * RFC 4180 CSV with a header row naming the columns. Quoted fields may contain commas, quotes and line breaks;
+ * an empty field is read as null.
+ */
+final class CsvCatalogReader implements CatalogRecordReader {
+
+    private static final List<String> COLUMNS = List.of(ID, NAME, PRODUCT_TYPE, PRICE, STOCK_QUANTITY, IS_ACTIVE, METADATA);
+    private static final List<String> REQUIRED = List.of(NAME, PRODUCT_TYPE, PRICE);
+    private static final int MAX_FIELD_LENGTH = 1 << 20;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private long line = 1;
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> fields = new ArrayList<>();
+    private final int[] columns = new int[COLUMNS.size()];
+    private final int width;
+
+    CsvCatalogReader(Reader reader) throws IOException {
+        this.reader = reader;
+        var header = readFields();
+        if (header == null) {
+            throw new ProductValidationException("Catalog is empty");
+        }
+        Arrays.fill(columns, -1);
+        for (int i = 0; i < header.size(); i++) {
+            var name = header.get(i).trim().toLowerCase();
+            int column = COLUMNS.indexOf(name);
+            if (column < 0) {
+                throw new ProductValidationException("Unknown catalog column: " + name);
+            }
+            columns[column] = i;
+        }
+        for (var required : REQUIRED) {
+            if (columns[COLUMNS.indexOf(required)] < 0) {
+                throw new ProductValidationException("Catalog header is missing column: " + required);
+            }
+        }
+        width = header.size();
+    }
+
+    @Override
+    public CatalogRecord next() throws IOException {
+        while (true) {
+            long start = line;
+            var values = readFields();
+            if (values == null) {
+                return null;
+            }
+            if (values.size() == 1 && values.get(0).isEmpty()) {
+                continue;
+            }
+            if (values.size() != width) {
+                throw new MalformedRecordException(start,
+                        "expected " + width + " columns but found " + values.size());
+            }
+            return new CatalogRecord(start,
+                    value(values, ID),
+                    value(values, NAME),
+                    value(values, PRODUCT_TYPE),
+                    value(values, PRICE),
+                    value(values, STOCK_QUANTITY),
+                    value(values, IS_ACTIVE),
+                    value(values, METADATA));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String value(List<String> values, String column) {
+        int index = columns[COLUMNS.indexOf(column)];
+        if (index < 0) {
+            return null;
+        }
+        var value = values.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> readFields() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        long start = line;
+        fields.clear();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new MalformedRecordException(start, "unterminated quoted field");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                    append('"');
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                if (c == '\n') {
+                    line++;
+                }
+                return fields;
+            } else if (c != '\r') {
+                append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private void append(char c) {
+        // A stray quote would otherwise pull the rest of the file into one field
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new ProductValidationException("Catalog field longer than " + MAX_FIELD_LENGTH
+                    + " characters at line " + line);
+        }
+        field.append(c);
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
@@ -0,0 +1,18 @@
+package com.loomi.order.infra.persistence.product.catalog;
+
+/**
+ * A single entry could not be read; the reader has moved past it and can continue with the next one.
+ */
+class MalformedRecordException extends RuntimeException {
+
+    private final long line;
+
+    MalformedRecordException(long line, String message) {
+        super(message);
+        this.line = line;
+    }
+
+    long line() {
+        return line;
+    }
+}
@@ -0,0 +1,79 @@
+package com.loomi.order.infra.persistence.product.catalog;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * One JSON object per line, keyed like the CSV columns. {@code metadata} may be an object or its JSON text.
+ */
+final class NdjsonCatalogReader implements CatalogRecordReader {
+
+    private static final Set<String> FIELDS = Set.of(ID, NAME, PRODUCT_TYPE, PRICE, STOCK_QUANTITY, IS_ACTIVE, METADATA);
+
+    private final BufferedReader reader;
+    private final ObjectReader json;
+    private long line;
+
+    NdjsonCatalogReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.json = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    }
+
+    @Override
+    public CatalogRecord next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = json.readTree(text);
+            } catch (JsonProcessingException e) {
+                throw new MalformedRecordException(line, "invalid JSON: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                throw new MalformedRecordException(line, "expected a JSON object");
+            }
+            var names = node.fieldNames();
+            while (names.hasNext()) {
+                var name = names.next();
+                if (!FIELDS.contains(name)) {
+                    throw new MalformedRecordException(line, "unknown field: " + name);
+                }
+            }
+            return new CatalogRecord(line,
+                    text(node.get(ID)),
+                    text(node.get(NAME)),
+                    text(node.get(PRODUCT_TYPE)),
+                    text(node.get(PRICE)),
+                    text(node.get(STOCK_QUANTITY)),
+                    text(node.get(IS_ACTIVE)),
+                    text(node.get(METADATA)));
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static String text(JsonNode value) {
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (value.isNumber()) {
+            return value.decimalValue().toPlainString();
+        }
+        return value.isValueNode() ? value.asText() : value.toString();
+    }
+}
@@ -0,0 +1,259 @@
+package com.loomi.order.infra.persistence.product.catalog;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loomi.order.app.config.ProductImportConfig;
+import com.loomi.order.domain.product.dto.ProductCatalogChangedEvent;
+import com.loomi.order.domain.product.dto.ProductImportFormat;
+import com.loomi.order.domain.product.dto.ProductImportReport;
+import com.loomi.order.domain.product.exception.ProductValidationException;
+import com.loomi.order.domain.product.usecase.ProductImportService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams a catalog file into {@code product_import_staging} over COPY, validating each entry on the way, then
+ * upserts the staged rows into {@code products} in id order, one committed transaction per
+ * {@code upsertBatchSize} products, so orders only wait on the rows of the current batch. An import rejected
+ * during staging leaves the catalog untouched; one that fails while upserting keeps the batches already
+ * committed, and running it again finishes the rest. When an id appears more than once, its last line wins.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCatalogImporter implements ProductImportService {
+
+    private static final String COPY = "COPY product_import_staging (" + CopyTextWriter.COLUMNS + ") FROM STDIN";
+
+    // The file holds units on hand, while stock_quantity is what is left to sell: units still HELD by orders
+    // in flight were taken from it and come back if released, so they are subtracted. CONSUMED units already
+    // left the count on hand. Stock of a sharded SKU lives in product_stock_shards, so the import leaves it alone
+    private static final String UPSERT = """
+        WITH latest AS (
+            SELECT DISTINCT ON (id) id, name, product_type, price, stock_quantity, is_active, metadata
+            FROM product_import_staging
+            WHERE import_id = ? AND (CAST(? AS UUID) IS NULL OR id > CAST(? AS UUID))
+            ORDER BY id, line_no DESC
+            LIMIT ?
+        ), held AS (
+            SELECT r.product_id, SUM(r.quantity) AS quantity
+            FROM stock_reservations r JOIN latest l ON l.id = r.product_id
+            WHERE r.status = 'HELD'
+            GROUP BY r.product_id
+        ), incoming AS (
+            SELECT l.id, l.name, l.product_type, l.price,
+                   CASE WHEN l.stock_quantity IS NULL THEN NULL
+                        ELSE GREATEST(l.stock_quantity - COALESCE(h.quantity, 0), 0) END AS stock_quantity,
+                   l.is_active, l.metadata
+            FROM latest l LEFT JOIN held h ON h.product_id = l.id
+        ), upserted AS (
+            INSERT INTO products (id, name, product_type, price, stock_quantity, is_active, metadata)
+            SELECT id, name, product_type, price, stock_quantity, is_active, metadata FROM incoming
+            ON CONFLICT (id) DO UPDATE
+            SET name = EXCLUDED.name,
+                product_type = EXCLUDED.product_type,
+                price = EXCLUDED.price,
+                stock_quantity = CASE WHEN products.stock_shards > 0 THEN products.stock_quantity
+                                      ELSE EXCLUDED.stock_quantity END,
+                is_active = EXCLUDED.is_active,
+                metadata = EXCLUDED.metadata
+            WHERE (products.name, products.product_type, products.price, products.is_active, products.metadata)
+                    IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.product_type, EXCLUDED.price, EXCLUDED.is_active,
+                                      EXCLUDED.metadata)
+               OR (products.stock_shards = 0 AND products.stock_quantity IS DISTINCT FROM EXCLUDED.stock_quantity)
+            RETURNING xmax = 0 AS inserted
+        )
+        SELECT (SELECT count(*) FROM latest),
+               count(*) FILTER (WHERE inserted),
+               count(*) FILTER (WHERE NOT inserted),
+               (SELECT id FROM latest ORDER BY id DESC LIMIT 1)
+        FROM upserted
+        """;
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final ProductImportConfig config;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher events;
+
+    @Override
+    public ProductImportReport importCatalog(InputStream input, ProductImportFormat format) {
+        var importId = UUID.randomUUID();
+        long started = System.nanoTime();
+        var progress = new Progress(importId);
+        log.info("Product import {} started ({})", importId, format);
+
+        Upserted upserted;
+        try (var reader = CatalogRecordReader.open(format,
+                new BufferedReader(new InputStreamReader(input, UTF_8), config.getCopyBufferBytes()), objectMapper);
+                var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                stage(connection, importId, reader, progress);
+                connection.commit();
+                upserted = upsertInBatches(connection, importId);
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                try {
+                    cleanUp(connection, importId);
+                } catch (SQLException cleanup) {
+                    e.addSuppressed(cleanup);
+                }
+                throw e;
+            }
+            cleanUp(connection, importId);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Product import " + importId + " failed", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the catalog of product import " + importId, e);
+        }
+
+        long unchanged = upserted.distinct() - upserted.inserted() - upserted.updated();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        meterRegistry.counter("product.import.products", "result", "inserted").increment(upserted.inserted());
+        meterRegistry.counter("product.import.products", "result", "updated").increment(upserted.updated());
+        meterRegistry.counter("product.import.products", "result", "unchanged").increment(unchanged);
+        meterRegistry.timer("product.import.duration").record(elapsedMs, TimeUnit.MILLISECONDS);
+        log.info("Product import {} finished in {} ms: {} rows read, {} rejected, {} inserted, {} updated, {} unchanged",
+                importId, elapsedMs, progress.read, progress.rejected, upserted.inserted(), upserted.updated(), unchanged);
+
+        if (upserted.inserted() + upserted.updated() > 0) {
+            events.publishEvent(new ProductCatalogChangedEvent(importId, upserted.inserted(), upserted.updated()));
+        }
+        return new ProductImportReport(importId, format, progress.read, progress.rejected,
+                upserted.inserted(), upserted.updated(), unchanged, elapsedMs, List.copyOf(progress.rejections));
+    }
+
+    private void stage(Connection connection, UUID importId, CatalogRecordReader reader, Progress progress)
+            throws SQLException, IOException {
+        var validator = new ProductRowValidator(objectMapper);
+        var copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY, config.getCopyBufferBytes());
+        try (var out = new BufferedWriter(new OutputStreamWriter(copy, UTF_8), config.getCopyBufferBytes())) {
+            var rows = new CopyTextWriter(out, importId);
+            while (true) {
+                CatalogRecord record;
+                try {
+                    record = reader.next();
+                } catch (MalformedRecordException e) {
+                    progress.rejected(e.line(), e.getMessage());
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                try {
+                    rows.write(validator.validate(record));
+                    progress.accepted();
+                } catch (ProductValidationException e) {
+                    progress.rejected(record.line(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Upserted upsertInBatches(Connection connection, UUID importId) throws SQLException {
+        long distinct = 0;
+        long inserted = 0;
+        long updated = 0;
+        UUID after = null;
+        try (var statement = connection.prepareStatement(UPSERT)) {
+            while (true) {
+                statement.setObject(1, importId);
+                statement.setObject(2, after, Types.OTHER);
+                statement.setObject(3, after, Types.OTHER);
+                statement.setInt(4, config.getUpsertBatchSize());
+                long batch;
+                try (var result = statement.executeQuery()) {
+                    result.next();
+                    batch = result.getLong(1);
+                    inserted += result.getLong(2);
+                    updated += result.getLong(3);
+                    after = result.getObject(4, UUID.class);
+                }
+                connection.commit();
+                distinct += batch;
+                if (batch < config.getUpsertBatchSize()) {
+                    return new Upserted(distinct, inserted, updated);
+                }
+            }
+        }
+    }
+
+    private void cleanUp(Connection connection, UUID importId) throws SQLException {
+        try (var delete = connection.prepareStatement("DELETE FROM product_import_staging WHERE import_id = ?")) {
+            delete.setObject(1, importId);
+            delete.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    private record Upserted(long distinct, long inserted, long updated) {
+    }
+
+    private final class Progress {
+
+        private final UUID importId;
+        private final Counter acceptedRows = meterRegistry.counter("product.import.rows", "outcome", "accepted");
+        private final Counter rejectedRows = meterRegistry.counter("product.import.rows", "outcome", "rejected");
+        private final List<ProductImportReport.Rejection> rejections = new ArrayList<>();
+        private long read;
+        private long rejected;
+
+        Progress(UUID importId) {
+            this.importId = importId;
+        }
+
+        void accepted() {
+            read++;
+            acceptedRows.increment();
+            logProgress();
+        }
+
+        void rejected(long line, String reason) {
+            read++;
+            rejected++;
+            rejectedRows.increment();
+            if (rejections.size() < config.getMaxReportedRejections()) {
+                rejections.add(new ProductImportReport.Rejection(line, reason));
+                log.debug("Product import {} rejected line {}: {}", importId, line, reason);
+            }
+            if (config.getMaxRejectedRows() >= 0 && rejected > config.getMaxRejectedRows()) {
+                throw new ProductValidationException("Product import aborted after " + rejected
+                        + " rejected rows, last at line " + line + ": " + reason);
+            }
+            logProgress();
+        }
+
+        private void logProgress() {
+            if (read % config.getProgressIntervalRows() == 0) {
+                log.info("Product import {}: {} rows read, {} rejected", importId, read, rejected);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.loomi.order.infra.persistence.product.catalog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.loomi.order.domain.product.dto.ProductImportFormat;
+import com.loomi.order.domain.product.usecase.ProductImportService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports a catalog file from the command line and exits, e.g.
+ * {@code java -jar order.jar --import-products=/data/catalog.csv.gz}. The format follows the file extension
+ * ({@code .csv} or {@code .ndjson}, optionally gzipped) unless {@code --import-format} is given.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductImportCommandLineRunner implements ApplicationRunner {
+
+    static final String TRIGGER = "import-products";
+
+    private final ProductImportService importService;
+    private final ApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!args.containsOption(TRIGGER)) {
+            return;
+        }
+        var file = Path.of(value(args, TRIGGER));
+        var formatName = value(args, "import-format");
+        var format = formatName != null
+                ? ProductImportFormat.valueOf(formatName.toUpperCase())
+                : ProductImportFormat.forFileName(file.getFileName().toString())
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Cannot tell the catalog format of " + file + ", pass --import-format"));
+        int exitCode;
+        try (var input = open(file)) {
+            var report = importService.importCatalog(input, format);
+            report.rejections().forEach(rejection ->
+                    log.warn("Line {} rejected: {}", rejection.line(), rejection.reason()));
+            exitCode = 0;
+        } catch (RuntimeException e) {
+            log.error("Product import from {} failed: {}", file, e.getMessage(), e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+
+    private static InputStream open(Path file) throws IOException {
+        var input = Files.newInputStream(file);
+        return file.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(input, 65536) : input;
+    }
+
+    private static String value(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+}
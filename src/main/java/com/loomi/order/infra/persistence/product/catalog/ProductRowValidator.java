@@ -0,0 +1,234 @@
+package com.loomi.order.infra.persistence.product.catalog;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.exception.ProductValidationException;
+
+/**
+ * Checks a catalog entry against the columns of {@code products} and against what the item handler of its
+ * {@link ProductType} reads at order time, so a product that imports cleanly can also be ordered.
+ */
+final class ProductRowValidator {
+
+    private static final int MAX_NAME_LENGTH = 255;
+    // DECIMAL(10, 2)
+    private static final int MAX_PRICE_INTEGER_DIGITS = 8;
+    private static final int PRICE_SCALE = 2;
+
+    private final ObjectMapper objectMapper;
+
+    ProductRowValidator(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @throws ProductValidationException listing every problem found in the entry
+     */
+    StagedProduct validate(CatalogRecord record) {
+        var errors = new ArrayList<String>();
+        var id = id(record.id(), errors);
+        var name = name(record.name(), errors);
+        var type = productType(record.productType(), errors);
+        var price = price(record.price(), errors);
+        var stock = stock(record.stockQuantity(), errors);
+        var active = active(record.isActive(), errors);
+        var metadata = metadata(record.metadata(), errors);
+        if (type != null) {
+            stock = validateForType(type, price, stock, metadata, errors);
+        }
+        if (!errors.isEmpty()) {
+            throw new ProductValidationException(String.join(", ", errors));
+        }
+        return new StagedProduct(record.line(), id, name, type, price, stock, active,
+                metadata == null ? null : metadata.toString());
+    }
+
+    private Integer validateForType(
+            ProductType type, BigDecimal price, Integer stock, ObjectNode metadata, List<String> errors) {
+        switch (type) {
+            case PHYSICAL -> requireStock(type, stock, errors);
+            case PRE_ORDER -> {
+                requireStock(type, stock, errors);
+                var releaseDate = text(metadata, "releaseDate");
+                if (!StringUtils.hasText(releaseDate)) {
+                    errors.add("PRE_ORDER requires metadata.releaseDate");
+                } else {
+                    try {
+                        LocalDate.parse(releaseDate.trim());
+                    } catch (DateTimeParseException e) {
+                        errors.add("metadata.releaseDate is not an ISO date: " + releaseDate);
+                    }
+                }
+                var discount = text(metadata, "preOrderDiscount");
+                if (discount != null) {
+                    var amount = decimal(discount.trim());
+                    if (amount == null || amount.signum() < 0 || (price != null && amount.compareTo(price) >= 0)) {
+                        errors.add("metadata.preOrderDiscount must be a non-negative amount below the price");
+                    }
+                }
+            }
+            case DIGITAL -> {
+                // The license pool is the stock; the seed catalog only carried it as metadata.licenses
+                var licenses = text(metadata, "licenses");
+                if (stock == null && licenses != null) {
+                    stock = nonNegativeInteger(licenses.trim());
+                    if (stock == null) {
+                        errors.add("metadata.licenses must be a non-negative integer");
+                        return null;
+                    }
+                }
+                requireStock(type, stock, errors);
+            }
+            case SUBSCRIPTION -> {
+                if (stock != null) {
+                    errors.add("SUBSCRIPTION products have no stock_quantity");
+                }
+                if (!StringUtils.hasText(text(metadata, "GROUP_ID"))) {
+                    errors.add("SUBSCRIPTION requires metadata.GROUP_ID");
+                }
+            }
+            case CORPORATE -> {
+            }
+        }
+        return stock;
+    }
+
+    private static void requireStock(ProductType type, Integer stock, List<String> errors) {
+        if (stock == null) {
+            errors.add(type + " requires stock_quantity");
+        }
+    }
+
+    private static UUID id(String value, List<String> errors) {
+        if (!StringUtils.hasText(value)) {
+            return UUID.randomUUID();
+        }
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            errors.add("id is not a UUID: " + value);
+            return null;
+        }
+    }
+
+    private static String name(String value, List<String> errors) {
+        if (!StringUtils.hasText(value)) {
+            errors.add("name is required");
+            return null;
+        }
+        var name = value.trim();
+        if (name.length() > MAX_NAME_LENGTH) {
+            errors.add("name is longer than " + MAX_NAME_LENGTH + " characters");
+        }
+        return name;
+    }
+
+    private static ProductType productType(String value, List<String> errors) {
+        if (!StringUtils.hasText(value)) {
+            errors.add("product_type is required");
+            return null;
+        }
+        try {
+            return ProductType.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            errors.add("unknown product_type: " + value);
+            return null;
+        }
+    }
+
+    private static BigDecimal price(String value, List<String> errors) {
+        if (!StringUtils.hasText(value)) {
+            errors.add("price is required");
+            return null;
+        }
+        var price = decimal(value.trim());
+        if (price == null || price.signum() <= 0) {
+            errors.add("price must be a positive amount: " + value);
+            return null;
+        }
+        price = price.stripTrailingZeros();
+        if (price.scale() > PRICE_SCALE || price.precision() - price.scale() > MAX_PRICE_INTEGER_DIGITS) {
+            errors.add("price does not fit DECIMAL(10, 2): " + value);
+            return null;
+        }
+        return price.setScale(PRICE_SCALE);
+    }
+
+    private static Integer stock(String value, List<String> errors) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        var stock = nonNegativeInteger(value.trim());
+        if (stock == null) {
+            errors.add("stock_quantity must be a non-negative integer: " + value);
+        }
+        return stock;
+    }
+
+    private static boolean active(String value, List<String> errors) {
+        if (!StringUtils.hasText(value)) {
+            return true;
+        }
+        return switch (value.trim().toLowerCase()) {
+            case "true", "t", "1" -> true;
+            case "false", "f", "0" -> false;
+            default -> {
+                errors.add("is_active must be true or false: " + value);
+                yield true;
+            }
+        };
+    }
+
+    private ObjectNode metadata(String value, List<String> errors) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            var node = objectMapper.readTree(value);
+            if (node instanceof ObjectNode object) {
+                return object;
+            }
+        } catch (JsonProcessingException e) {
+            // reported below
+        }
+        errors.add("metadata must be a JSON object");
+        return null;
+    }
+
+    private static String text(ObjectNode metadata, String key) {
+        if (metadata == null) {
+            return null;
+        }
+        JsonNode value = metadata.get(key);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static BigDecimal decimal(String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Integer nonNegativeInteger(String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            return parsed >= 0 ? parsed : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.loomi.order.infra.persistence.product.catalog;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.loomi.order.domain.product.dto.ProductType;
+
+/**
+ * A validated catalog entry, ready to be copied into {@code product_import_staging}.
+ */
+record StagedProduct(
+        long line,
+        UUID id,
+        String name,
+        ProductType productType,
+        BigDecimal price,
+        Integer stockQuantity,
+        boolean active,
+        String metadata) {
+}
@@ -0,0 +1,6 @@
+package com.loomi.order.infra.persistence.routing;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
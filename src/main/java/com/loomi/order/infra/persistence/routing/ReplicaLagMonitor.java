@@ -0,0 +1,71 @@
+package com.loomi.order.infra.persistence.routing;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks how far the replica has replayed the primary's WAL. The replica is usable while it has replayed
+ * everything the primary had written at the previous check, so it is never more than about one check
+ * interval behind; a replica that is unreachable or not a standby is never used.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String PRIMARY_POSITION = "SELECT pg_current_wal_lsn()::text";
+    private static final String REPLAYED_POSITION = "SELECT pg_last_wal_replay_lsn()::text";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final AtomicLong lagBytes = new AtomicLong();
+    private volatile long replayed;
+    private volatile boolean available;
+    private long previousPrimary = -1;
+
+    public ReplicaLagMonitor(JdbcTemplate primary, JdbcTemplate replica, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        meterRegistry.gauge("datasource.replica.lag.bytes", lagBytes);
+    }
+
+    @Scheduled(fixedDelayString = "${read-replica.lag-check-interval-ms:1000}")
+    public synchronized void refresh() {
+        try {
+            long primaryPosition = primaryPosition();
+            var replayedText = replica.queryForObject(REPLAYED_POSITION, String.class);
+            if (replayedText == null) {
+                if (available || previousPrimary < 0) {
+                    log.warn("Read replica is not a standby; all reads stay on the primary");
+                }
+                available = false;
+            } else {
+                replayed = WalPosition.parse(replayedText);
+                available = previousPrimary >= 0 && WalPosition.reached(replayed, previousPrimary);
+                lagBytes.set(Math.max(0, primaryPosition - replayed));
+            }
+            previousPrimary = primaryPosition;
+        } catch (DataAccessException e) {
+            if (available) {
+                log.warn("Read replica check failed, reads fall back to the primary: {}", e.getMessage());
+            }
+            available = false;
+        }
+    }
+
+    /**
+     * Current end of the primary's WAL. Taken after a write commits, it is a position the replica must reach
+     * before it can show that write.
+     */
+    public long primaryPosition() {
+        return WalPosition.parse(primary.queryForObject(PRIMARY_POSITION, String.class));
+    }
+
+    public boolean canServe(Long minPosition) {
+        return available && (minPosition == null || WalPosition.reached(replayed, minPosition));
+    }
+}
@@ -0,0 +1,37 @@
+package com.loomi.order.infra.persistence.routing;
+
+/**
+ * Marks the current thread as serving a query request, which is the only work allowed on the replica.
+ * Consumers and schedulers never open it, so their read-only transactions keep reading the primary they
+ * make decisions on.
+ */
+public final class ReplicaReadContext {
+
+    private static final ThreadLocal<ReplicaReadContext> CURRENT = new ThreadLocal<>();
+
+    private final Long minPosition;
+
+    private ReplicaReadContext(Long minPosition) {
+        this.minPosition = minPosition;
+    }
+
+    /**
+     * @param minPosition WAL position the replica must have replayed for this request, or null when the
+     *                    client does not need to see an earlier write of its own
+     */
+    public static void open(Long minPosition) {
+        CURRENT.set(new ReplicaReadContext(minPosition));
+    }
+
+    public static ReplicaReadContext current() {
+        return CURRENT.get();
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    public Long minPosition() {
+        return minPosition;
+    }
+}
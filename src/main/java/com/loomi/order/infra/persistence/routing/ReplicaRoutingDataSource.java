@@ -0,0 +1,48 @@
+package com.loomi.order.infra.persistence.routing;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends read-only transactions of query requests to the replica when it has caught up with what the
+ * request needs to see, and everything else to the primary. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the connection is only taken
+ * once the transaction, and with it the read-only flag, has started.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter replicaReads;
+    private final Counter primaryFallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+            MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.replicaReads = meterRegistry.counter("datasource.query.reads", "target", "replica");
+        this.primaryFallbacks = meterRegistry.counter("datasource.query.reads", "target", "primary");
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        var context = ReplicaReadContext.current();
+        if (context == null || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceRole.PRIMARY;
+        }
+        if (!lagMonitor.canServe(context.minPosition())) {
+            primaryFallbacks.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        replicaReads.increment();
+        return DataSourceRole.REPLICA;
+    }
+}
@@ -0,0 +1,32 @@
+package com.loomi.order.infra.persistence.routing;
+
+/**
+ * Postgres WAL positions ({@code pg_lsn}), written as two hex halves like {@code 16/B374D848}. They are
+ * compared as unsigned 64-bit numbers.
+ */
+public final class WalPosition {
+
+    private WalPosition() {
+    }
+
+    public static long parse(String lsn) {
+        int slash = lsn.indexOf('/');
+        if (slash <= 0 || slash == lsn.length() - 1) {
+            throw new IllegalArgumentException("Invalid WAL position: " + lsn);
+        }
+        long high = Long.parseLong(lsn.substring(0, slash), 16);
+        long low = Long.parseLong(lsn.substring(slash + 1), 16);
+        if (high > 0xFFFFFFFFL || low > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("Invalid WAL position: " + lsn);
+        }
+        return (high << 32) | low;
+    }
+
+    public static String format(long position) {
+        return Long.toHexString(position >>> 32).toUpperCase() + "/" + Long.toHexString(position & 0xFFFFFFFFL).toUpperCase();
+    }
+
+    public static boolean reached(long current, long required) {
+        return Long.compareUnsigned(current, required) >= 0;
+    }
+}
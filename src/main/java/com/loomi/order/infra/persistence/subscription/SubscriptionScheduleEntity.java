@@ -0,0 +1,59 @@
+package com.loomi.order.infra.persistence.subscription;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Table(name = "subscription_schedule")
+@Data
+public class SubscriptionScheduleEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "customer_id", nullable = false)
+    private String customerId;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "billing_interval_months", nullable = false)
+    private Integer billingIntervalMonths;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    @Column(name = "next_charge_at", nullable = false)
+    private LocalDateTime nextChargeAt;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "claim_id")
+    private UUID claimId;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "last_charged_at")
+    private LocalDateTime lastChargedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
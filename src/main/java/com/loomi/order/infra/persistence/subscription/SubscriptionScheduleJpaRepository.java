@@ -0,0 +1,114 @@
+package com.loomi.order.infra.persistence.subscription;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SubscriptionScheduleJpaRepository extends JpaRepository<SubscriptionScheduleEntity, UUID> {
+
+    interface ClaimedCharge {
+        UUID getId();
+
+        UUID getOrderId();
+
+        UUID getProductId();
+
+        String getCustomerId();
+
+        BigDecimal getAmount();
+
+        LocalDateTime getDueAt();
+
+        Integer getAttempts();
+
+        String getStatus();
+    }
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO subscription_schedule
+            (id, order_id, product_id, customer_id, amount, due_at, next_charge_at)
+        VALUES (:id, :orderId, :productId, :customerId, :amount, :dueAt, :dueAt)
+        ON CONFLICT (order_id, product_id) DO NOTHING
+        """, nativeQuery = true)
+    int register(
+            @Param("id") UUID id,
+            @Param("orderId") UUID orderId,
+            @Param("productId") UUID productId,
+            @Param("customerId") String customerId,
+            @Param("amount") BigDecimal amount,
+            @Param("dueAt") LocalDateTime dueAt
+    );
+
+    // Schedules whose order was cancelled, failed or removed are closed here instead of being charged; archived
+    // orders are still found through orders_history
+    @Query(value = """
+        WITH due AS (
+            SELECT id, order_id FROM subscription_schedule
+            WHERE status = 'ACTIVE'
+            AND next_charge_at <= CURRENT_TIMESTAMP
+            AND (claim_id IS NULL OR claimed_until < CURRENT_TIMESTAMP)
+            ORDER BY next_charge_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        ), claimed AS (
+            UPDATE subscription_schedule s
+            SET status = CASE WHEN o.status IS NULL OR o.status IN ('CANCELLED', 'FAILED')
+                              THEN 'CANCELLED' ELSE s.status END,
+                claim_id = :claimId,
+                claimed_until = CURRENT_TIMESTAMP + make_interval(secs => :leaseSeconds)
+            FROM due d
+            LEFT JOIN orders_history o ON o.id = d.order_id
+            WHERE s.id = d.id
+            RETURNING s.id, s.order_id, s.product_id, s.customer_id, s.amount, s.due_at, s.attempts, s.status
+        )
+        SELECT id, order_id AS orderId, product_id AS productId, customer_id AS customerId, amount,
+               due_at AS dueAt, attempts, status
+        FROM claimed
+        """, nativeQuery = true)
+    List<ClaimedCharge> claimDue(
+            @Param("limit") int limit,
+            @Param("leaseSeconds") long leaseSeconds,
+            @Param("claimId") UUID claimId
+    );
+
+    // Both updates are fenced by claim_id: a node whose lease ran out cannot advance a period another node owns
+    @Modifying
+    @Query(value = """
+        UPDATE subscription_schedule
+        SET due_at = due_at + make_interval(months => billing_interval_months),
+            next_charge_at = due_at + make_interval(months => billing_interval_months),
+            attempts = 0,
+            claim_id = NULL,
+            claimed_until = NULL,
+            last_charged_at = CURRENT_TIMESTAMP,
+            last_error = NULL
+        WHERE id = :id AND claim_id = :claimId
+        """, nativeQuery = true)
+    int markCharged(@Param("id") UUID id, @Param("claimId") UUID claimId);
+
+    @Modifying
+    @Query(value = """
+        UPDATE subscription_schedule
+        SET attempts = attempts + 1,
+            next_charge_at = :retryAt,
+            status = :status,
+            claim_id = NULL,
+            claimed_until = NULL,
+            last_error = :error
+        WHERE id = :id AND claim_id = :claimId
+        """, nativeQuery = true)
+    int markFailed(
+            @Param("id") UUID id,
+            @Param("claimId") UUID claimId,
+            @Param("retryAt") LocalDateTime retryAt,
+            @Param("status") String status,
+            @Param("error") String error
+    );
+}
@@ -0,0 +1,73 @@
+package com.loomi.order.infra.persistence.subscription;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.loomi.order.domain.subscription.dto.SubscriptionCharge;
+import com.loomi.order.domain.subscription.dto.SubscriptionChargeBatch;
+import com.loomi.order.domain.subscription.repository.SubscriptionScheduleRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class SubscriptionScheduleRepositoryImpl implements SubscriptionScheduleRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final SubscriptionScheduleJpaRepository jpaRepository;
+
+    // Commits on its own, like the process step checkpoint, so a listener rollback cannot drop the schedule of a
+    // step already marked done; the insert ignores rows that are already there, so a replayed step is harmless
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void register(UUID orderId, UUID productId, String customerId, BigDecimal amount, LocalDateTime firstDueAt) {
+        jpaRepository.register(UUID.randomUUID(), orderId, productId, customerId, amount, firstDueAt);
+    }
+
+    @Override
+    @Transactional
+    public SubscriptionChargeBatch claimDue(int limit, Duration lease) {
+        var claimId = UUID.randomUUID();
+        var claimed = jpaRepository.claimDue(limit, lease.toSeconds(), claimId);
+        var charges = new ArrayList<SubscriptionCharge>(claimed.size());
+        int cancelled = 0;
+        for (var row : claimed) {
+            if ("ACTIVE".equals(row.getStatus())) {
+                charges.add(new SubscriptionCharge(
+                        row.getId(),
+                        row.getOrderId(),
+                        row.getProductId(),
+                        row.getCustomerId(),
+                        row.getAmount(),
+                        row.getDueAt(),
+                        row.getAttempts()));
+            } else {
+                cancelled++;
+            }
+        }
+        return new SubscriptionChargeBatch(claimId, charges, cancelled);
+    }
+
+    @Override
+    @Transactional
+    public boolean markCharged(UUID subscriptionId, UUID claimId) {
+        return jpaRepository.markCharged(subscriptionId, claimId) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean markFailed(UUID subscriptionId, UUID claimId, LocalDateTime retryAt, boolean suspend, String error) {
+        if (error != null && error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        return jpaRepository.markFailed(subscriptionId, claimId, retryAt, suspend ? "SUSPENDED" : "ACTIVE", error) == 1;
+    }
+}
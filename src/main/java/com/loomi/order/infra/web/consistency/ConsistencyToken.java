@@ -0,0 +1,13 @@
+package com.loomi.order.infra.web.consistency;
+
+/**
+ * Read-your-writes token. Mutating responses carry the primary's WAL position after the write committed;
+ * a client that sends it back on a query is only served by the replica once the replica has replayed it.
+ */
+public final class ConsistencyToken {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    private ConsistencyToken() {
+    }
+}
@@ -0,0 +1,56 @@
+package com.loomi.order.infra.web.consistency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.loomi.order.infra.persistence.routing.ReplicaLagMonitor;
+import com.loomi.order.infra.persistence.routing.WalPosition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Runs before the body is written, when the service transaction has already committed and headers can
+// still be set
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "read-replica", name = "enabled", havingValue = "true")
+public class ConsistencyTokenAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (HttpMethod.GET.equals(request.getMethod()) || HttpMethod.HEAD.equals(request.getMethod())
+                || !succeeded(response)) {
+            return body;
+        }
+        try {
+            response.getHeaders().set(ConsistencyToken.HEADER, WalPosition.format(lagMonitor.primaryPosition()));
+        } catch (DataAccessException e) {
+            log.warn("Could not issue a consistency token: {}", e.getMessage());
+        }
+        return body;
+    }
+
+    private static boolean succeeded(ServerHttpResponse response) {
+        return !(response instanceof ServletServerHttpResponse servlet)
+                || servlet.getServletResponse().getStatus() < 300;
+    }
+}
@@ -0,0 +1,51 @@
+package com.loomi.order.infra.web.consistency;
+
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.loomi.order.infra.persistence.routing.ReplicaReadContext;
+import com.loomi.order.infra.persistence.routing.WalPosition;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+@ConditionalOnProperty(prefix = "read-replica", name = "enabled", havingValue = "true")
+public class ReplicaReadFilter extends OncePerRequestFilter {
+
+    // A position no replica reaches, for tokens that cannot be read
+    private static final long UNREACHABLE = -1L;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReplicaReadContext.open(minPosition(request.getHeader(ConsistencyToken.HEADER)));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaReadContext.close();
+        }
+    }
+
+    private static Long minPosition(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return WalPosition.parse(token.trim());
+        } catch (IllegalArgumentException e) {
+            return UNREACHABLE;
+        }
+    }
+}
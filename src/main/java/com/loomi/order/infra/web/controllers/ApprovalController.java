@@ -0,0 +1,46 @@
+package com.loomi.order.infra.web.controllers;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.loomi.order.domain.order.usecase.ApprovalService;
+import com.loomi.order.infra.web.dto.ApprovalBatchRequest;
+import com.loomi.order.infra.web.dto.ApprovalBatchResponse;
+import com.loomi.order.infra.web.dto.OrderSummaryResponse;
+import com.loomi.order.infra.web.dto.OrdersListResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/approvals")
+@RequiredArgsConstructor
+public class ApprovalController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final ApprovalService approvalService;
+
+    @GetMapping
+    ResponseEntity<OrdersListResponse> pendingApprovals(@RequestParam(defaultValue = "50") int limit) {
+        var orders = approvalService.pendingApprovals(Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        var orderSummaries = orders.stream()
+                .map(order -> new OrderSummaryResponse(
+                        order.id(),
+                        order.totalAmount(),
+                        order.status(),
+                        order.createdAt()))
+                .toList();
+
+        return ResponseEntity.ok(new OrdersListResponse(orderSummaries));
+    }
+
+    @PostMapping("/batch")
+    ResponseEntity<ApprovalBatchResponse> decide(@RequestBody @Valid ApprovalBatchRequest body) {
+        return ResponseEntity.ok(new ApprovalBatchResponse(approvalService.decide(body.decisions())));
+    }
+}
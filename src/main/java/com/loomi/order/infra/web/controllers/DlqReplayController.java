@@ -0,0 +1,39 @@
+package com.loomi.order.infra.web.controllers;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.loomi.order.domain.event.dto.DlqReplayStatus;
+import com.loomi.order.domain.event.usecase.DlqReplayService;
+import com.loomi.order.infra.web.dto.DlqReplayRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/dlq-replay")
+@RequiredArgsConstructor
+public class DlqReplayController {
+
+    private final DlqReplayService replayService;
+
+    @PostMapping
+    ResponseEntity<DlqReplayStatus> start(@RequestBody @Valid DlqReplayRequest body) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(replayService.start(body.toOptions()));
+    }
+
+    @GetMapping
+    ResponseEntity<DlqReplayStatus> status() {
+        return ResponseEntity.of(replayService.status());
+    }
+
+    @DeleteMapping
+    ResponseEntity<DlqReplayStatus> cancel() {
+        return ResponseEntity.of(replayService.cancel());
+    }
+}
@@ -1,8 +1,10 @@
 package com.loomi.order.infra.web.controllers;
 
 import com.loomi.order.app.dto.HealthResponse;
+import com.loomi.order.app.dto.ReadinessResponse;
 import com.loomi.order.app.service.HealthService;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -20,5 +22,11 @@ public class HealthController {
 	public ResponseEntity<HealthResponse> health() {
 		return ResponseEntity.ok(new HealthResponse(healthService.getHealthStatus()));
 	}
-}
 
+	@GetMapping("/health/readiness")
+	public ResponseEntity<ReadinessResponse> readiness() {
+		var readiness = healthService.getReadiness();
+		var status = readiness.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+		return ResponseEntity.status(status).body(readiness);
+	}
+}
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.loomi.order.app.service.admission.OrderAdmissionGate;
 import com.loomi.order.domain.order.dto.CreateOrder;
 import com.loomi.order.domain.order.usecase.OrderService;
 import com.loomi.order.infra.web.dto.CreateOrderRequest;
@@ -28,6 +29,7 @@ import lombok.RequiredArgsConstructor;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderAdmissionGate admissionGate;
 
     @GetMapping
     ResponseEntity<OrdersListResponse> getOrders(@RequestParam(required = false) String customerId) {
@@ -35,13 +37,13 @@ public class OrderController {
             return ResponseEntity.ok(new OrdersListResponse(List.of()));
         }
         
-        var orders = orderService.findOrdersByCustomerId(customerId);
-        var orderSummaries = orders.stream()
-                .map(order -> new OrderSummaryResponse(
-                        order.id(),
-                        order.totalAmount(),
-                        order.status(),
-                        order.createdAt()))
+        var summaries = orderService.findOrderSummaries(customerId);
+        var orderSummaries = summaries.stream()
+                .map(summary -> new OrderSummaryResponse(
+                        summary.orderId(),
+                        summary.totalAmount(),
+                        summary.status(),
+                        summary.createdAt()))
                 .toList();
         
         return ResponseEntity.ok(new OrdersListResponse(orderSummaries));
@@ -53,10 +55,15 @@ public class OrderController {
         return ResponseEntity.ok(order);
     }
 
+    @PostMapping("/{orderId}/cancel")
+    ResponseEntity<?> cancelOrder(@PathVariable UUID orderId) {
+        return ResponseEntity.ok(orderService.cancelOrder(orderId));
+    }
+
     @PostMapping
     ResponseEntity<?> createOrder(@RequestBody @Valid CreateOrderRequest body) {
         var createOrder = new CreateOrder(body.customerId(), body.items());
-        var order = orderService.createOrder(createOrder);
+        var order = admissionGate.admit(body.customerId(), () -> orderService.createOrder(createOrder));
         return ResponseEntity.status(HttpStatus.CREATED)
                 .location(URI.create("/api/orders/" + order.id()))
                 .body(order);
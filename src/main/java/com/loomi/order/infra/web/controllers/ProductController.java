@@ -0,0 +1,30 @@
+package com.loomi.order.infra.web.controllers;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.loomi.order.app.service.product.PreOrderSlotAllocator;
+import com.loomi.order.domain.product.exception.ProductNotFoundException;
+import com.loomi.order.infra.web.dto.PreOrderSlotsResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+public class ProductController {
+
+    private final PreOrderSlotAllocator slotAllocator;
+
+    @GetMapping("/{productId}/pre-order-slots")
+    ResponseEntity<PreOrderSlotsResponse> preOrderSlots(@PathVariable UUID productId) {
+        var slots = slotAllocator.slots(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+        return ResponseEntity.ok(new PreOrderSlotsResponse(productId, slots.reserved(), slots.available()));
+    }
+}
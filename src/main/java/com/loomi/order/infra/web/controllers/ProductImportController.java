@@ -0,0 +1,34 @@
+package com.loomi.order.infra.web.controllers;
+
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.loomi.order.domain.product.dto.ProductImportFormat;
+import com.loomi.order.domain.product.dto.ProductImportReport;
+import com.loomi.order.domain.product.exception.ProductValidationException;
+import com.loomi.order.domain.product.usecase.ProductImportService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/product-import")
+@RequiredArgsConstructor
+public class ProductImportController {
+
+    private final ProductImportService importService;
+
+    // The body is streamed straight into the import, never buffered
+    @PostMapping(consumes = { "text/csv", "application/x-ndjson" })
+    ResponseEntity<ProductImportReport> importCatalog(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        var format = ProductImportFormat.forContentType(contentType)
+                .orElseThrow(() -> new ProductValidationException("Unsupported catalog content type: " + contentType));
+        return ResponseEntity.ok(importService.importCatalog(body, format));
+    }
+}
@@ -0,0 +1,26 @@
+package com.loomi.order.infra.web.controllers;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.loomi.order.domain.product.usecase.StockShardingService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/stock-sharding")
+@RequiredArgsConstructor
+public class StockShardingController {
+
+    private final StockShardingService shardingService;
+
+    @PostMapping
+    ResponseEntity<Map<UUID, Integer>> apply() {
+        return ResponseEntity.ok(shardingService.applyConfiguredSharding());
+    }
+}
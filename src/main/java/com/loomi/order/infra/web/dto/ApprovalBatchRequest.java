@@ -0,0 +1,17 @@
+package com.loomi.order.infra.web.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.loomi.order.domain.order.dto.ApprovalDecision;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ApprovalBatchRequest(
+    @NotEmpty @Size(max = 500) List<@Valid @NotNull ApprovalDecision> decisions
+) {
+}
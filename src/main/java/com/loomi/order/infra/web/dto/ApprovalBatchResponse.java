@@ -0,0 +1,13 @@
+package com.loomi.order.infra.web.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.loomi.order.domain.order.dto.ApprovalOutcome;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ApprovalBatchResponse(
+    List<ApprovalOutcome> results
+) {
+}
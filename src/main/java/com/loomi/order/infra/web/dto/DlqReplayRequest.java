@@ -0,0 +1,37 @@
+package com.loomi.order.infra.web.dto;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.loomi.order.domain.event.dto.DlqReplayOptions;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record DlqReplayRequest(
+    Instant from,
+    Instant to,
+    String exceptionClass,
+    @Size(max = 10000) Set<UUID> orderIds,
+    @Positive Double eventsPerSecond,
+    @PositiveOrZero Long limit,
+    Boolean dryRun,
+    Boolean restart
+) {
+
+    public DlqReplayOptions toOptions() {
+        return new DlqReplayOptions(
+                from,
+                to,
+                exceptionClass,
+                orderIds,
+                eventsPerSecond,
+                limit == null ? 0 : limit,
+                Boolean.TRUE.equals(dryRun),
+                Boolean.TRUE.equals(restart));
+    }
+}
@@ -0,0 +1,14 @@
+package com.loomi.order.infra.web.dto;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record PreOrderSlotsResponse(
+    UUID productId,
+    int sold,
+    int remaining
+) {
+}
@@ -0,0 +1,17 @@
+CREATE TABLE credit_ledger_entries (
+  id BIGSERIAL PRIMARY KEY,
+  cnpj VARCHAR(14) NOT NULL,
+  order_id UUID NOT NULL,
+  entry_type VARCHAR(20) NOT NULL,
+  amount DECIMAL(14, 2) NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  UNIQUE (order_id, cnpj, entry_type)
+);
+
+CREATE INDEX idx_credit_ledger_entries_cnpj ON credit_ledger_entries(cnpj, id);
+
+CREATE TABLE credit_balances (
+  cnpj VARCHAR(14) PRIMARY KEY,
+  exposure DECIMAL(14, 2) NOT NULL DEFAULT 0 CHECK (exposure >= 0),
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,7 @@
+CREATE INDEX idx_orders_pending_approval ON orders(created_at, id) WHERE status = 'PENDING_APPROVAL';
+
+CREATE TABLE order_pipeline_checkpoints (
+  order_id UUID PRIMARY KEY,
+  review_stage VARCHAR(100),
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1 @@
+ALTER TABLE order_pipeline_checkpoints ADD COLUMN completed_steps INTEGER NOT NULL DEFAULT 0;
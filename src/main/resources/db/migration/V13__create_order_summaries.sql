@@ -0,0 +1,18 @@
+-- Read model for order listings, projected from the order events (see OrderSummaryProjector).
+-- Rows can be created by a status event before the order-created event arrives, so only the status is required.
+CREATE TABLE order_summaries (
+  order_id UUID PRIMARY KEY,
+  customer_id VARCHAR(255),
+  status VARCHAR(20) NOT NULL,
+  total_amount DECIMAL(10, 2),
+  item_count INTEGER,
+  created_at TIMESTAMP,
+  status_changed_at TIMESTAMP NOT NULL,
+  projected_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_order_summaries_customer_created ON order_summaries(customer_id, created_at DESC);
+
+INSERT INTO order_summaries (order_id, customer_id, status, total_amount, item_count, created_at, status_changed_at)
+SELECT id, customer_id, status, total_amount, jsonb_array_length(items), created_at, updated_at
+FROM orders;
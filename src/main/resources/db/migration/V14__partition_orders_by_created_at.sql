@@ -0,0 +1,121 @@
+-- orders becomes range-partitioned by month of created_at. The primary key has to include the partition
+-- key; ids are random UUIDs generated by the application, so uniqueness of id alone is not enforced here.
+ALTER TABLE orders RENAME TO orders_unpartitioned;
+ALTER TABLE orders_unpartitioned RENAME CONSTRAINT orders_pkey TO orders_unpartitioned_pkey;
+
+CREATE TABLE orders (
+  id UUID NOT NULL,
+  customer_id VARCHAR(255) NOT NULL,
+  status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  total_amount DECIMAL(10, 2) NOT NULL DEFAULT 0,
+  items JSONB NOT NULL DEFAULT '[]'::jsonb,
+  PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows for months that have no partition yet; create_orders_partition moves them out
+CREATE TABLE orders_default PARTITION OF orders DEFAULT;
+
+CREATE FUNCTION create_orders_partition(month_start DATE) RETURNS BOOLEAN AS $$
+DECLARE
+  partition_name TEXT := 'orders_p' || to_char(month_start, 'YYYYMM');
+  range_start TIMESTAMP := date_trunc('month', month_start::timestamp);
+  range_end TIMESTAMP := date_trunc('month', month_start::timestamp) + INTERVAL '1 month';
+BEGIN
+  IF to_regclass(partition_name) IS NOT NULL THEN
+    RETURN FALSE;
+  END IF;
+  EXECUTE format('CREATE TABLE %I (LIKE orders INCLUDING DEFAULTS)', partition_name);
+  EXECUTE format('WITH moved AS (DELETE FROM orders_default WHERE created_at >= $1 AND created_at < $2 '
+    || 'RETURNING *) INSERT INTO %I SELECT * FROM moved', partition_name)
+    USING range_start, range_end;
+  EXECUTE format('ALTER TABLE orders ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+    partition_name, range_start, range_end);
+  RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for the month of from_month and the months_ahead months after it; returns how many were new
+CREATE FUNCTION ensure_orders_partitions(from_month DATE, months_ahead INTEGER) RETURNS INTEGER AS $$
+DECLARE
+  created INTEGER := 0;
+BEGIN
+  FOR i IN 0..months_ahead LOOP
+    IF create_orders_partition((date_trunc('month', from_month::timestamp) + make_interval(months => i))::date) THEN
+      created := created + 1;
+    END IF;
+  END LOOP;
+  RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drops monthly partitions that end before the month of before_month and no longer hold any order
+CREATE FUNCTION drop_empty_orders_partitions(before_month DATE) RETURNS INTEGER AS $$
+DECLARE
+  partition_name TEXT;
+  is_empty BOOLEAN;
+  dropped INTEGER := 0;
+BEGIN
+  FOR partition_name IN
+    SELECT c.relname FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = 'orders'::regclass
+    AND c.relname ~ '^orders_p[0-9]{6}$'
+    AND to_date(substring(c.relname FROM 9), 'YYYYMM') < date_trunc('month', before_month::timestamp)::date
+  LOOP
+    EXECUTE format('SELECT NOT EXISTS (SELECT 1 FROM %I)', partition_name) INTO is_empty;
+    IF is_empty THEN
+      EXECUTE format('DROP TABLE %I', partition_name);
+      dropped := dropped + 1;
+    END IF;
+  END LOOP;
+  RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+  first_month DATE;
+BEGIN
+  SELECT COALESCE(date_trunc('month', MIN(created_at)), date_trunc('month', CURRENT_TIMESTAMP::timestamp))::date
+  INTO first_month
+  FROM orders_unpartitioned;
+  PERFORM ensure_orders_partitions(first_month,
+    ((EXTRACT(YEAR FROM CURRENT_DATE) - EXTRACT(YEAR FROM first_month)) * 12
+      + EXTRACT(MONTH FROM CURRENT_DATE) - EXTRACT(MONTH FROM first_month))::integer + 3);
+END;
+$$;
+
+INSERT INTO orders (id, customer_id, status, created_at, updated_at, total_amount, items)
+SELECT id, customer_id, status, created_at, updated_at, total_amount, items FROM orders_unpartitioned;
+
+DROP TABLE orders_unpartitioned;
+
+-- The status index is replaced by partial indexes on the statuses that are still moving; terminal orders,
+-- the bulk of the table, are only ever looked up by id or customer
+CREATE INDEX idx_orders_customer_id ON orders(customer_id);
+CREATE INDEX idx_orders_created_at ON orders(created_at);
+CREATE INDEX idx_orders_pending_approval ON orders(created_at, id) WHERE status = 'PENDING_APPROVAL';
+CREATE INDEX idx_orders_in_flight ON orders(status, created_at) WHERE status IN ('PENDING', 'APPROVED');
+
+-- Terminal orders past the retention window. Rows are written once and never updated, so pages are packed
+-- full and TOAST compresses anything over the minimum tuple target instead of the default ~2kB.
+CREATE TABLE orders_archive (
+  id UUID PRIMARY KEY,
+  customer_id VARCHAR(255) NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  created_at TIMESTAMP NOT NULL,
+  updated_at TIMESTAMP NOT NULL,
+  total_amount DECIMAL(10, 2) NOT NULL,
+  items JSONB NOT NULL,
+  archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+) WITH (fillfactor = 100, toast_tuple_target = 128);
+
+CREATE INDEX idx_orders_archive_customer_id ON orders_archive(customer_id);
+
+-- Everything a customer ever ordered, for lookups that must not forget archived orders
+CREATE VIEW orders_history AS
+SELECT id, customer_id, status, created_at, updated_at, total_amount, items FROM orders
+UNION ALL
+SELECT id, customer_id, status, created_at, updated_at, total_amount, items FROM orders_archive;
@@ -0,0 +1,15 @@
+-- Staging for catalog imports (see ProductCatalogImporter): rows are COPYed here and upserted into products
+-- in the same transaction, so nothing is left behind. Unlogged because a crash rolls the import back anyway.
+CREATE UNLOGGED TABLE product_import_staging (
+  import_id UUID NOT NULL,
+  line_no BIGINT NOT NULL,
+  id UUID NOT NULL,
+  name VARCHAR(255) NOT NULL,
+  product_type VARCHAR(20) NOT NULL,
+  price DECIMAL(10, 2) NOT NULL,
+  stock_quantity INTEGER,
+  is_active BOOLEAN NOT NULL,
+  metadata JSONB
+);
+
+CREATE INDEX idx_product_import_staging_import ON product_import_staging(import_id, id, line_no);
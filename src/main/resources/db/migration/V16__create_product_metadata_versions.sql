@@ -0,0 +1,27 @@
+CREATE TABLE product_metadata_versions (
+  product_id UUID NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+  version INTEGER NOT NULL,
+  metadata JSONB,
+  created_at TIMESTAMP NOT NULL DEFAULT now(),
+  PRIMARY KEY (product_id, version)
+);
+
+INSERT INTO product_metadata_versions (product_id, version, metadata)
+SELECT id, metadata_version, metadata FROM products;
+
+-- Runs after trg_products_metadata_version has bumped the version, so every version an order item can
+-- record is kept here
+CREATE FUNCTION record_product_metadata_version() RETURNS TRIGGER AS $$
+BEGIN
+  IF TG_OP = 'INSERT' OR NEW.metadata_version <> OLD.metadata_version THEN
+    INSERT INTO product_metadata_versions (product_id, version, metadata)
+    VALUES (NEW.id, NEW.metadata_version, NEW.metadata)
+    ON CONFLICT (product_id, version) DO NOTHING;
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_products_metadata_history
+  AFTER INSERT OR UPDATE ON products
+  FOR EACH ROW EXECUTE FUNCTION record_product_metadata_version();
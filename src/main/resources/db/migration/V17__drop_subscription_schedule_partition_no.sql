@@ -0,0 +1,3 @@
+-- Billing nodes no longer split the schedule by a static partition_no % node-count; every node claims from
+-- the whole table with FOR UPDATE SKIP LOCKED and the claim_id fence keeps periods from being charged twice
+ALTER TABLE subscription_schedule DROP COLUMN partition_no;
@@ -0,0 +1,9 @@
+ALTER TABLE credit_ledger_entries ADD COLUMN payment_term_days INTEGER;
+
+-- A reservation is closed exactly once: released when the order fails or is cancelled, or settled once the
+-- payment term of the processed order has elapsed
+CREATE UNIQUE INDEX uq_credit_ledger_entries_closing ON credit_ledger_entries(order_id, cnpj)
+  WHERE entry_type IN ('RELEASE', 'SETTLE');
+
+CREATE INDEX idx_credit_ledger_entries_reserves ON credit_ledger_entries(id)
+  WHERE entry_type = 'RESERVE';
@@ -0,0 +1,10 @@
+CREATE TABLE order_pipeline_steps (
+  order_id UUID NOT NULL,
+  step_key VARCHAR(200) NOT NULL,
+  item_metadata JSONB,
+  completed_at TIMESTAMP NOT NULL DEFAULT now(),
+  PRIMARY KEY (order_id, step_key)
+);
+
+-- Positional counts cannot be mapped to step keys; orders in flight during the deploy restart from the first step
+ALTER TABLE order_pipeline_checkpoints DROP COLUMN completed_steps;
@@ -0,0 +1,28 @@
+-- A reservation is open until a RELEASE or SETTLE entry points at it. An order whose reservation was closed can
+-- reserve again, so (order_id, cnpj) only has to be unique among open reservations, and each closing entry is
+-- tied to the reservation it closes instead of to the order
+ALTER TABLE credit_ledger_entries ADD COLUMN reserve_id BIGINT REFERENCES credit_ledger_entries(id);
+ALTER TABLE credit_ledger_entries ADD COLUMN closed_at TIMESTAMP;
+
+UPDATE credit_ledger_entries c SET reserve_id = r.id
+FROM credit_ledger_entries r
+WHERE c.entry_type IN ('RELEASE', 'SETTLE')
+AND r.entry_type = 'RESERVE' AND r.order_id = c.order_id AND r.cnpj = c.cnpj;
+
+UPDATE credit_ledger_entries r SET closed_at = c.created_at
+FROM credit_ledger_entries c
+WHERE c.reserve_id = r.id;
+
+ALTER TABLE credit_ledger_entries DROP CONSTRAINT credit_ledger_entries_order_id_cnpj_entry_type_key;
+DROP INDEX uq_credit_ledger_entries_closing;
+DROP INDEX idx_credit_ledger_entries_reserves;
+
+CREATE UNIQUE INDEX uq_credit_ledger_entries_open ON credit_ledger_entries(order_id, cnpj)
+  WHERE entry_type = 'RESERVE' AND closed_at IS NULL;
+
+CREATE UNIQUE INDEX uq_credit_ledger_entries_closing ON credit_ledger_entries(reserve_id)
+  WHERE entry_type IN ('RELEASE', 'SETTLE');
+
+-- Settlement only walks the reservations that are still open
+CREATE INDEX idx_credit_ledger_entries_open_reserves ON credit_ledger_entries(id)
+  WHERE entry_type = 'RESERVE' AND closed_at IS NULL;
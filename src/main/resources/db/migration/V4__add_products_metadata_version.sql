@@ -0,0 +1,14 @@
+ALTER TABLE products ADD COLUMN metadata_version INTEGER NOT NULL DEFAULT 1;
+
+CREATE FUNCTION bump_products_metadata_version() RETURNS TRIGGER AS $$
+BEGIN
+  IF NEW.metadata IS DISTINCT FROM OLD.metadata THEN
+    NEW.metadata_version := OLD.metadata_version + 1;
+  END IF;
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_products_metadata_version
+  BEFORE UPDATE ON products
+  FOR EACH ROW EXECUTE FUNCTION bump_products_metadata_version();
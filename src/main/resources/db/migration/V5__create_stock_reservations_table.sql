@@ -0,0 +1,14 @@
+CREATE TABLE stock_reservations (
+  id BIGSERIAL PRIMARY KEY,
+  order_id UUID NOT NULL,
+  product_id UUID NOT NULL REFERENCES products(id),
+  quantity INTEGER NOT NULL CHECK (quantity > 0),
+  status VARCHAR(20) NOT NULL,
+  expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+  created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX uq_stock_reservations_order_product ON stock_reservations(order_id, product_id);
+
+CREATE INDEX idx_stock_reservations_held_expires_at ON stock_reservations(expires_at) WHERE status = 'HELD';
@@ -0,0 +1,10 @@
+ALTER TABLE products ADD COLUMN stock_shards INTEGER NOT NULL DEFAULT 0;
+
+CREATE TABLE product_stock_shards (
+  product_id UUID NOT NULL REFERENCES products(id),
+  shard_no INTEGER NOT NULL,
+  quantity INTEGER NOT NULL CHECK (quantity >= 0),
+  PRIMARY KEY (product_id, shard_no)
+);
+
+ALTER TABLE stock_reservations ADD COLUMN shard_no INTEGER;
@@ -0,0 +1,2 @@
+CREATE INDEX idx_stock_reservations_product_active ON stock_reservations(product_id)
+  WHERE status IN ('HELD', 'CONSUMED');
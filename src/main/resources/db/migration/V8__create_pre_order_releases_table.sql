@@ -0,0 +1,15 @@
+CREATE TABLE pre_order_releases (
+  order_id UUID NOT NULL,
+  product_id UUID NOT NULL REFERENCES products(id),
+  release_date DATE NOT NULL,
+  status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+  claim_id UUID,
+  claimed_at TIMESTAMP WITH TIME ZONE,
+  released_at TIMESTAMP WITH TIME ZONE,
+  PRIMARY KEY (order_id, product_id)
+);
+
+CREATE INDEX idx_pre_order_releases_due ON pre_order_releases(release_date, order_id)
+  WHERE status IN ('PENDING', 'CLAIMED');
+
+CREATE INDEX idx_pre_order_releases_claim_id ON pre_order_releases(claim_id) WHERE status = 'CLAIMED';
@@ -0,0 +1,21 @@
+CREATE TABLE subscription_schedule (
+  id UUID PRIMARY KEY,
+  order_id UUID NOT NULL,
+  product_id UUID NOT NULL REFERENCES products(id),
+  customer_id VARCHAR(255) NOT NULL,
+  amount DECIMAL(10, 2) NOT NULL,
+  billing_interval_months INTEGER NOT NULL DEFAULT 1,
+  partition_no INTEGER NOT NULL,
+  due_at TIMESTAMP NOT NULL,
+  next_charge_at TIMESTAMP NOT NULL,
+  status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+  attempts INTEGER NOT NULL DEFAULT 0,
+  claim_id UUID,
+  claimed_until TIMESTAMP,
+  last_charged_at TIMESTAMP,
+  last_error VARCHAR(500),
+  UNIQUE (order_id, product_id)
+);
+
+CREATE INDEX idx_subscription_schedule_next_charge_at ON subscription_schedule(next_charge_at)
+  WHERE status = 'ACTIVE';
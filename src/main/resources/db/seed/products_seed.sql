@@ -1,5 +1,5 @@
 -- Dev/local seed for initial products.
--- This is optimized for speed; for long-term catalog management prefer Flyway or a dedicated import pipeline.
+-- This is optimized for speed; for long-term catalog management prefer Flyway or the catalog import (ProductCatalogImporter).
 
 -- Produtos Físicos
 INSERT INTO products (id, name, product_type, price, stock_quantity, is_active, metadata) VALUES
@@ -0,0 +1,46 @@
+package com.loomi.order.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loomi.order.app.config.OrderApprovalConfig;
+import com.loomi.order.app.service.order.ApprovalReaper;
+import com.loomi.order.domain.order.repository.OrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Approval Reaper Tests")
+class ApprovalReaperTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("shouldRequeueOnlyOrdersOlderThanStaleAfter_whenRun")
+    void shouldRequeueOnlyOrdersOlderThanStaleAfter_whenRun() {
+        var config = new OrderApprovalConfig();
+        config.setStaleAfterMs(60_000);
+        when(orderRepository.requeueStaleApprovals(any())).thenReturn(List.of(UUID.randomUUID()));
+
+        var before = LocalDateTime.now();
+        new ApprovalReaper(orderRepository, config).requeueStaleApprovals();
+        var after = LocalDateTime.now();
+
+        var cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(orderRepository).requeueStaleApprovals(cutoff.capture());
+        assertFalse(cutoff.getValue().isBefore(before.minusMinutes(1)));
+        assertFalse(cutoff.getValue().isAfter(after.minusMinutes(1)));
+    }
+}
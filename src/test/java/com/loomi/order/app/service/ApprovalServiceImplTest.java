@@ -0,0 +1,176 @@
+package com.loomi.order.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loomi.order.app.service.order.ApprovalServiceImpl;
+import com.loomi.order.app.service.order.OrderProcessPipeline;
+import com.loomi.order.domain.customer.usecase.CustomerStateStore;
+import com.loomi.order.domain.credit.usecase.CreditLedgerService;
+import com.loomi.order.domain.event.usecase.OrderEventPublisher;
+import com.loomi.order.domain.order.dto.ApprovalDecision;
+import com.loomi.order.domain.order.dto.ApprovalOutcome;
+import com.loomi.order.domain.order.dto.OrderProcessResult;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.repository.OrderCheckpointRepository;
+import com.loomi.order.domain.order.repository.OrderRepository;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.domain.product.dto.ValidationResult;
+import com.loomi.order.domain.product.usecase.StockReservationService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApprovalServiceImpl Tests")
+class ApprovalServiceImplTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderCheckpointRepository checkpoints;
+
+    @Mock
+    private OrderProcessPipeline pipeline;
+
+    @Mock
+    private OrderEventPublisher producer;
+
+    @Mock
+    private StockReservationService stockReservations;
+
+    @Mock
+    private CreditLedgerService creditLedger;
+
+    @Mock
+    private CustomerStateStore customerStates;
+
+    @InjectMocks
+    private ApprovalServiceImpl service;
+
+    private static Order approvedOrder(UUID id) {
+        return Order.builder()
+                .id(id)
+                .customerId("customer-123")
+                .totalAmount(BigDecimal.valueOf(15_000))
+                .status(OrderStatus.APPROVED)
+                .createdAt(LocalDateTime.now())
+                .items(new ArrayList<>())
+                .build();
+    }
+
+    @Test
+    @DisplayName("shouldResumeFromReviewStage_andWriteEachOutcomeAsItCompletes")
+    void shouldResumeFromReviewStage_andWriteEachOutcomeAsItCompletes() {
+        var processedId = UUID.randomUUID();
+        var failedId = UUID.randomUUID();
+        var processed = approvedOrder(processedId);
+        var failed = approvedOrder(failedId);
+        when(orderRepository.transitionStatus(anyCollection(), eq(OrderStatus.PENDING_APPROVAL), eq(OrderStatus.APPROVED)))
+                .thenReturn(List.of(processedId, failedId));
+        when(orderRepository.findAllById(List.of(processedId, failedId))).thenReturn(List.of(processed, failed));
+        when(checkpoints.findReviewStages(List.of(processedId, failedId))).thenReturn(Map.of(processedId, "high-value"));
+        when(pipeline.resumeValidation(processed, "high-value")).thenReturn(ValidationResult.ok());
+        when(pipeline.resumeValidation(failed, "items")).thenReturn(ValidationResult.ok());
+        when(checkpoints.findCompletedSteps(processedId)).thenReturn(Map.of());
+        when(checkpoints.findCompletedSteps(failedId)).thenReturn(Map.of());
+        when(pipeline.process(eq(processed), eq(Map.of()), any())).thenReturn(OrderProcessResult.ok());
+        when(pipeline.process(eq(failed), eq(Map.of()), any()))
+                .thenReturn(OrderProcessResult.fail("PAYMENT_DECLINED"));
+        when(orderRepository.updateIfStatus(any(), eq(OrderStatus.APPROVED))).thenReturn(true);
+
+        var outcomes = service.decide(List.of(
+                new ApprovalDecision(processedId, ApprovalDecision.Decision.APPROVE, null),
+                new ApprovalDecision(failedId, ApprovalDecision.Decision.APPROVE, null)));
+
+        assertEquals(ApprovalOutcome.Result.PROCESSED, outcomes.get(0).result());
+        assertEquals(ApprovalOutcome.Result.FAILED, outcomes.get(1).result());
+        assertEquals(OrderStatus.PROCESSED, processed.status());
+        assertEquals(OrderStatus.FAILED, failed.status());
+        var inOrder = inOrder(orderRepository, producer, pipeline);
+        inOrder.verify(orderRepository).updateIfStatus(processed, OrderStatus.APPROVED);
+        inOrder.verify(producer).sendOrderProcessedEvent(any());
+        inOrder.verify(pipeline).process(eq(failed), eq(Map.of()), any());
+        inOrder.verify(orderRepository).updateIfStatus(failed, OrderStatus.APPROVED);
+        verify(producer).sendOrderProcessedEvent(any());
+        verify(stockReservations).release(failedId);
+        verify(creditLedger).release(failedId);
+        verify(stockReservations, never()).release(processedId);
+    }
+
+    @Test
+    @DisplayName("shouldFailAndReleaseRejectedOrders_withoutRunningPipeline")
+    void shouldFailAndReleaseRejectedOrders_withoutRunningPipeline() {
+        var orderId = UUID.randomUUID();
+        when(orderRepository.transitionStatus(List.of(orderId), OrderStatus.PENDING_APPROVAL, OrderStatus.FAILED))
+                .thenReturn(List.of(orderId));
+
+        var outcomes = service.decide(List.of(
+                new ApprovalDecision(orderId, ApprovalDecision.Decision.REJECT, "suspicious address")));
+
+        assertEquals(ApprovalOutcome.Result.REJECTED, outcomes.get(0).result());
+        assertEquals(List.of("APPROVAL_REJECTED: suspicious address"), outcomes.get(0).errors());
+        verify(stockReservations).release(orderId);
+        verify(creditLedger).release(orderId);
+        verify(producer).sendOrderFailedEvent(any());
+        verify(pipeline, never()).process(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("shouldReportNotPending_whenOrderWasAlreadyDecided")
+    void shouldReportNotPending_whenOrderWasAlreadyDecided() {
+        var orderId = UUID.randomUUID();
+        when(orderRepository.transitionStatus(List.of(orderId), OrderStatus.PENDING_APPROVAL, OrderStatus.APPROVED))
+                .thenReturn(List.of());
+
+        var outcomes = service.decide(List.of(
+                new ApprovalDecision(orderId, ApprovalDecision.Decision.APPROVE, null),
+                new ApprovalDecision(orderId, ApprovalDecision.Decision.APPROVE, null)));
+
+        assertEquals(List.of(ApprovalOutcome.of(orderId, ApprovalOutcome.Result.NOT_PENDING)), outcomes);
+        verify(orderRepository, never()).findAllById(any());
+        verify(orderRepository, never()).updateIfStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("shouldSkipCompletedSteps_andLeaveOutcomeToNewOwner_whenOrderLeftApproved")
+    void shouldSkipCompletedSteps_andLeaveOutcomeToNewOwner_whenOrderLeftApproved() {
+        var orderId = UUID.randomUUID();
+        var order = approvedOrder(orderId);
+        Map<String, RawProductMetadata> completed = Map.of("handler:PaymentHandler", new RawProductMetadata());
+        when(orderRepository.transitionStatus(List.of(orderId), OrderStatus.PENDING_APPROVAL, OrderStatus.APPROVED))
+                .thenReturn(List.of(orderId));
+        when(orderRepository.findAllById(List.of(orderId))).thenReturn(List.of(order));
+        when(checkpoints.findReviewStages(List.of(orderId))).thenReturn(Map.of());
+        when(pipeline.resumeValidation(order, "items")).thenReturn(ValidationResult.ok());
+        when(checkpoints.findCompletedSteps(orderId)).thenReturn(completed);
+        when(pipeline.process(eq(order), eq(completed), any())).thenReturn(OrderProcessResult.fail("PAYMENT_DECLINED"));
+        when(orderRepository.updateIfStatus(order, OrderStatus.APPROVED)).thenReturn(false);
+
+        var outcomes = service.decide(List.of(new ApprovalDecision(orderId, ApprovalDecision.Decision.APPROVE, null)));
+
+        assertEquals(List.of(ApprovalOutcome.of(orderId, ApprovalOutcome.Result.NOT_PENDING)), outcomes);
+        verify(stockReservations, never()).release(orderId);
+        verify(creditLedger, never()).release(orderId);
+        verify(producer, never()).sendOrderFailedEvent(any());
+    }
+}
@@ -0,0 +1,115 @@
+package com.loomi.order.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loomi.order.app.config.CorporateCreditConfig;
+import com.loomi.order.app.service.credit.CreditLedgerServiceImpl;
+import com.loomi.order.domain.credit.repository.CreditLedgerRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Credit Ledger Service Tests")
+class CreditLedgerServiceImplTest {
+
+    private static final String CNPJ = "12345678000190";
+    private static final BigDecimal LIMIT = new BigDecimal("1000");
+
+    @Mock
+    private CreditLedgerRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CreditLedgerServiceImpl ledger;
+
+    @BeforeEach
+    void setUp() {
+        var config = new CorporateCreditConfig();
+        config.getLimits().put(CNPJ, LIMIT);
+        meterRegistry = new SimpleMeterRegistry();
+        ledger = new CreditLedgerServiceImpl(repository, config, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("shouldRejectFromCache_whenKnownExposureLeavesNoRoom")
+    void shouldRejectFromCache_whenKnownExposureLeavesNoRoom() {
+        var first = UUID.randomUUID();
+        when(repository.reserve(CNPJ, first, new BigDecimal("800"), 30, LIMIT)).thenReturn(Optional.of(new BigDecimal("800")));
+        when(repository.exposure(CNPJ)).thenReturn(new BigDecimal("800"));
+
+        assertTrue(ledger.reserve(CNPJ, first, new BigDecimal("800"), 30));
+        assertFalse(ledger.reserve(CNPJ, UUID.randomUUID(), new BigDecimal("300"), 30));
+
+        verify(repository, times(1)).reserve(any(), any(), any(), anyInt(), any());
+        assertEquals(1.0, meterRegistry.counter("credit.ledger.rejections", "source", "cache").count());
+    }
+
+    @Test
+    @DisplayName("shouldReserveThroughLedger_whenCachedExposureIsStale")
+    void shouldReserveThroughLedger_whenCachedExposureIsStale() {
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        when(repository.reserve(CNPJ, first, new BigDecimal("800"), 30, LIMIT)).thenReturn(Optional.of(new BigDecimal("800")));
+        when(repository.exposure(CNPJ)).thenReturn(new BigDecimal("100"));
+        when(repository.reserve(CNPJ, second, new BigDecimal("300"), 30, LIMIT)).thenReturn(Optional.of(new BigDecimal("400")));
+
+        assertTrue(ledger.reserve(CNPJ, first, new BigDecimal("800"), 30));
+        assertTrue(ledger.reserve(CNPJ, second, new BigDecimal("300"), 30));
+
+        assertEquals(new BigDecimal("400"), ledger.exposure(CNPJ));
+    }
+
+    @Test
+    @DisplayName("shouldRefreshExposure_whenOrderIsReleased")
+    void shouldRefreshExposure_whenOrderIsReleased() {
+        var orderId = UUID.randomUUID();
+        when(repository.reserve(CNPJ, orderId, new BigDecimal("500"), 30, LIMIT)).thenReturn(Optional.of(new BigDecimal("500")));
+        when(repository.release(orderId)).thenReturn(Map.of(CNPJ, BigDecimal.ZERO));
+
+        ledger.reserve(CNPJ, orderId, new BigDecimal("500"), 30);
+        ledger.release(orderId);
+
+        assertEquals(BigDecimal.ZERO, ledger.exposure(CNPJ));
+    }
+
+    @Test
+    @DisplayName("shouldRejectWithoutLedgerAccess_whenAmountAloneExceedsLimit")
+    void shouldRejectWithoutLedgerAccess_whenAmountAloneExceedsLimit() {
+        assertFalse(ledger.reserve(CNPJ, UUID.randomUUID(), new BigDecimal("1000.01"), 30));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("shouldLowerExposure_whenPaymentTermOfProcessedOrderElapses")
+    void shouldLowerExposure_whenPaymentTermOfProcessedOrderElapses() {
+        var orderId = UUID.randomUUID();
+        when(repository.reserve(CNPJ, orderId, new BigDecimal("900"), 30, LIMIT)).thenReturn(Optional.of(new BigDecimal("900")));
+        when(repository.settleDue(500)).thenReturn(Map.of(CNPJ, BigDecimal.ZERO)).thenReturn(Map.of());
+
+        assertTrue(ledger.reserve(CNPJ, orderId, new BigDecimal("900"), 30));
+        assertEquals(1, ledger.settleDue());
+
+        assertEquals(BigDecimal.ZERO, ledger.exposure(CNPJ));
+        assertEquals(1.0, meterRegistry.counter("credit.ledger.settlements").count());
+    }
+}
@@ -0,0 +1,266 @@
+package com.loomi.order.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loomi.order.app.config.OrderProcessingConfig;
+import com.loomi.order.app.service.order.OrderProcessPipeline;
+import com.loomi.order.app.service.order.handler.HighValueOrderHandler;
+import com.loomi.order.app.service.order.handler.OrderHandler;
+import com.loomi.order.app.service.order.handler.OrderIsPendingHandler;
+import com.loomi.order.app.service.order.handler.OrderItemHandler;
+import com.loomi.order.app.service.order.handler.PaymentOrderHandler;
+import com.loomi.order.app.service.order.handler.PhysicalItemHandler;
+import com.loomi.order.app.service.order.plan.ExecutionPlanCompiler;
+import com.loomi.order.app.service.order.plan.PlanStage;
+import com.loomi.order.domain.event.usecase.AlertEventPublisher;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.usecase.DeliveryService;
+import com.loomi.order.domain.order.valueobject.OrderItem;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.payment.usecase.FraudService;
+import com.loomi.order.domain.payment.usecase.PaymentService;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.domain.product.entity.Product;
+import com.loomi.order.domain.product.repository.ProductRepository;
+import com.loomi.order.domain.product.usecase.StockReservationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Execution Plan Compiler Tests")
+class ExecutionPlanCompilerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private FraudService fraudService;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private AlertEventPublisher alertProducer;
+
+    @Mock
+    private StockReservationService stockReservations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PhysicalItemHandler physicalItemHandler;
+    private List<OrderHandler> globalHandlers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        OrderProcessingConfig config = new OrderProcessingConfig();
+        config.setHighValueThreshold(new BigDecimal("10000"));
+        config.setFraudThreshold(new BigDecimal("20000"));
+
+        physicalItemHandler = new PhysicalItemHandler(stockReservations, alertProducer, new DeliveryService());
+        globalHandlers = List.of(
+                new PaymentOrderHandler(fraudService, paymentService),
+                new OrderIsPendingHandler(),
+                new HighValueOrderHandler(config));
+    }
+
+    private Order createOrder(OrderStatus status, int itemCount) {
+        RawProductMetadata metadata = new RawProductMetadata();
+        metadata.put("warehouseLocation", "SP");
+
+        var items = new ArrayList<OrderItem>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItem.builder()
+                    .productId(UUID.randomUUID())
+                    .quantity(1)
+                    .productType(ProductType.PHYSICAL)
+                    .price(BigDecimal.TEN)
+                    .metadata(metadata)
+                    .build());
+        }
+
+        return Order.builder()
+                .id(UUID.randomUUID())
+                .customerId("customer-123")
+                .status(status)
+                .totalAmount(BigDecimal.TEN.multiply(BigDecimal.valueOf(itemCount)))
+                .items(items)
+                .build();
+    }
+
+    @Test
+    @DisplayName("shouldOrderStagesByCost_withItemsBeforeRemoteChecks")
+    void shouldOrderStagesByCost_withItemsBeforeRemoteChecks() {
+        var compiler = new ExecutionPlanCompiler(
+                globalHandlers,
+                Map.<ProductType, OrderItemHandler>of(ProductType.PHYSICAL, physicalItemHandler),
+                productRepository,
+                meterRegistry,
+                null);
+
+        var plan = compiler.planFor(createOrder(OrderStatus.PENDING, 1));
+
+        assertEquals(
+                List.of("OrderIsPendingHandler", "HighValueOrderHandler", "items", "PaymentOrderHandler"),
+                plan.stages().stream().map(PlanStage::name).toList());
+    }
+
+    @Test
+    @DisplayName("shouldRunLikelierFailuresFirst_whenCostIsEqual_regardlessOfInjectionOrder")
+    void shouldRunLikelierFailuresFirst_whenCostIsEqual_regardlessOfInjectionOrder() {
+        var config = new OrderProcessingConfig();
+        config.setHighValueThreshold(new BigDecimal("10000"));
+        var compiler = new ExecutionPlanCompiler(
+                List.of(new HighValueOrderHandler(config), new OrderIsPendingHandler()),
+                Map.of(),
+                productRepository,
+                meterRegistry,
+                null);
+
+        var plan = compiler.planFor(createOrder(OrderStatus.PENDING, 0));
+
+        assertEquals(
+                List.of("OrderIsPendingHandler", "HighValueOrderHandler"),
+                plan.stages().stream().map(PlanStage::name).toList());
+    }
+
+    @Test
+    @DisplayName("shouldReuseCompiledPlan_whenOrdersShareProductTypes")
+    void shouldReuseCompiledPlan_whenOrdersShareProductTypes() {
+        var compiler = new ExecutionPlanCompiler(
+                globalHandlers,
+                Map.<ProductType, OrderItemHandler>of(ProductType.PHYSICAL, physicalItemHandler),
+                productRepository,
+                meterRegistry,
+                null);
+
+        var first = compiler.planFor(createOrder(OrderStatus.PENDING, 1));
+        var second = compiler.planFor(createOrder(OrderStatus.PENDING, 3));
+
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("shouldSkipItemAndRemoteStages_whenOrderIsNotPending")
+    void shouldSkipItemAndRemoteStages_whenOrderIsNotPending() {
+        var pipeline = new OrderProcessPipeline(
+                globalHandlers, List.of(physicalItemHandler), productRepository, meterRegistry);
+
+        var result = pipeline.validate(createOrder(OrderStatus.PROCESSED, 2));
+
+        assertFalse(result.isValid());
+        verify(productRepository, never()).findById(any());
+        verify(fraudService, never()).isFraud(any());
+        assertEquals(1.0, meterRegistry.counter("order.pipeline.stage.skipped", "stage", "items").count());
+        assertEquals(1.0, meterRegistry.counter("order.pipeline.stage.skipped", "stage", "PaymentOrderHandler").count());
+        assertEquals(0.0, meterRegistry.counter("order.pipeline.stage.executed", "stage", "items").count());
+    }
+
+    @Test
+    @DisplayName("shouldResolveCatalogMetadata_whenItemOnlyCarriesRequestDelta")
+    void shouldResolveCatalogMetadata_whenItemOnlyCarriesRequestDelta() {
+        var productMetadata = new RawProductMetadata();
+        productMetadata.put("warehouseLocation", "SP");
+        var product = Product.builder()
+                .id(UUID.randomUUID())
+                .productType(ProductType.PHYSICAL)
+                .price(BigDecimal.TEN)
+                .stockQuantity(10)
+                .isActive(true)
+                .metadata(productMetadata)
+                .metadataVersion(2)
+                .build();
+        var item = OrderItem.builder()
+                .productId(product.id())
+                .quantity(1)
+                .productType(ProductType.PHYSICAL)
+                .price(BigDecimal.TEN)
+                .metadata(new RawProductMetadata())
+                .productMetadataVersion(1)
+                .build();
+        var order = Order.builder()
+                .id(UUID.randomUUID())
+                .customerId("customer-123")
+                .status(OrderStatus.PENDING)
+                .totalAmount(BigDecimal.TEN)
+                .items(List.of(item))
+                .build();
+        when(productRepository.findById(product.id())).thenReturn(Optional.of(product));
+        when(stockReservations.hold(order.id(), product.id(), 1)).thenReturn(true);
+        var pipeline = new OrderProcessPipeline(
+                List.of(new OrderIsPendingHandler()), List.of(physicalItemHandler), productRepository, meterRegistry);
+
+        var result = pipeline.validate(order);
+
+        assertTrue(result.isValid());
+        assertEquals("SP", item.metadata().get("warehouseLocation"));
+        assertTrue(item.metadata().isEmpty());
+        assertEquals(1.0, meterRegistry.counter("order.pipeline.items.stale_metadata").count());
+    }
+
+    @Test
+    @DisplayName("shouldResolveRecordedMetadataVersion_whenCatalogHasMovedOn")
+    void shouldResolveRecordedMetadataVersion_whenCatalogHasMovedOn() {
+        var currentMetadata = new RawProductMetadata();
+        currentMetadata.put("warehouseLocation", "RJ");
+        var recordedMetadata = new RawProductMetadata();
+        recordedMetadata.put("warehouseLocation", "SP");
+        var product = Product.builder()
+                .id(UUID.randomUUID())
+                .productType(ProductType.PHYSICAL)
+                .price(BigDecimal.TEN)
+                .stockQuantity(10)
+                .isActive(true)
+                .metadata(currentMetadata)
+                .metadataVersion(2)
+                .build();
+        var item = OrderItem.builder()
+                .productId(product.id())
+                .quantity(1)
+                .productType(ProductType.PHYSICAL)
+                .price(BigDecimal.TEN)
+                .metadata(new RawProductMetadata())
+                .productMetadataVersion(1)
+                .build();
+        var order = Order.builder()
+                .id(UUID.randomUUID())
+                .customerId("customer-123")
+                .status(OrderStatus.PENDING)
+                .totalAmount(BigDecimal.TEN)
+                .items(List.of(item))
+                .build();
+        when(productRepository.findById(product.id())).thenReturn(Optional.of(product));
+        when(productRepository.findMetadata(product.id(), 1)).thenReturn(Optional.of(recordedMetadata));
+        when(stockReservations.hold(order.id(), product.id(), 1)).thenReturn(true);
+        var pipeline = new OrderProcessPipeline(
+                List.of(new OrderIsPendingHandler()), List.of(physicalItemHandler), productRepository, meterRegistry);
+
+        var result = pipeline.validate(order);
+
+        assertTrue(result.isValid());
+        assertEquals("SP", item.metadata().get("warehouseLocation"));
+        assertEquals(0.0, meterRegistry.counter("order.pipeline.items.stale_metadata").count());
+    }
+}
@@ -0,0 +1,87 @@
+package com.loomi.order.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loomi.order.app.config.ReadinessConfig;
+import com.loomi.order.app.dto.ReadinessResponse;
+import com.loomi.order.domain.event.usecase.ConsumerBacklogProbe;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Health Service Tests")
+class HealthServiceTest {
+
+    @Mock
+    private ConsumerBacklogProbe backlogProbe;
+
+    private HealthService healthService;
+
+    @BeforeEach
+    void setUp() {
+        ReadinessConfig config = new ReadinessConfig();
+        config.setMaxConsumerLag(100);
+        config.setMaxInFlight(10);
+        healthService = new HealthService(backlogProbe, config);
+    }
+
+    @Test
+    @DisplayName("shouldBeReady_whenLagAndInFlightAreWithinThresholds")
+    void shouldBeReady_whenLagAndInFlightAreWithinThresholds() {
+        when(backlogProbe.assignedLag()).thenReturn(OptionalLong.of(100));
+        when(backlogProbe.inFlight()).thenReturn(10);
+        when(backlogProbe.lagByPartition()).thenReturn(Map.of(0, 100L));
+
+        var readiness = healthService.getReadiness();
+
+        assertTrue(readiness.isReady());
+        assertEquals(Map.of(0, 100L), readiness.lagByPartition());
+    }
+
+    @Test
+    @DisplayName("shouldDegrade_whenConsumerLagExceedsThreshold")
+    void shouldDegrade_whenConsumerLagExceedsThreshold() {
+        when(backlogProbe.assignedLag()).thenReturn(OptionalLong.of(101));
+        when(backlogProbe.inFlight()).thenReturn(0);
+
+        var readiness = healthService.getReadiness();
+
+        assertFalse(readiness.isReady());
+        assertEquals(ReadinessResponse.DEGRADED, readiness.status());
+    }
+
+    @Test
+    @DisplayName("shouldDegrade_whenInFlightExceedsThreshold")
+    void shouldDegrade_whenInFlightExceedsThreshold() {
+        when(backlogProbe.assignedLag()).thenReturn(OptionalLong.of(0));
+        when(backlogProbe.inFlight()).thenReturn(11);
+
+        var readiness = healthService.getReadiness();
+
+        assertFalse(readiness.isReady());
+    }
+
+    @Test
+    @DisplayName("shouldStayReady_whenLagIsUnknown")
+    void shouldStayReady_whenLagIsUnknown() {
+        when(backlogProbe.assignedLag()).thenReturn(OptionalLong.empty());
+        when(backlogProbe.inFlight()).thenReturn(0);
+
+        var readiness = healthService.getReadiness();
+
+        assertTrue(readiness.isReady());
+        assertNull(readiness.consumerLag());
+    }
+}
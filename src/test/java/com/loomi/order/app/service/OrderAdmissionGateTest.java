@@ -0,0 +1,118 @@
+package com.loomi.order.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.loomi.order.app.config.AdmissionConfig;
+import com.loomi.order.app.service.admission.AimdConcurrencyLimiter;
+import com.loomi.order.app.service.admission.OrderAdmissionGate;
+import com.loomi.order.domain.order.exception.OrderAdmissionRejectedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Order Admission Gate Tests")
+class OrderAdmissionGateTest {
+
+    private AdmissionConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        config = new AdmissionConfig();
+        config.setInitialLimit(1);
+        config.setMinLimit(1);
+        config.setMaxQueueWaitMs(0);
+        config.setRetryAfterSeconds(3);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("shouldShedRequest_whenConcurrencyLimitIsReached")
+    void shouldShedRequest_whenConcurrencyLimitIsReached() throws Exception {
+        var gate = new OrderAdmissionGate(config, meterRegistry);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        var inFlight = executor.submit(() -> gate.admit("customer-1", () -> {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        var rejected = assertThrows(OrderAdmissionRejectedException.class,
+                () -> gate.admit("customer-2", () -> "order"));
+        release.countDown();
+
+        assertTrue(inFlight.get(5, TimeUnit.SECONDS));
+        assertEquals(3, rejected.retryAfterSeconds());
+        assertEquals(1.0, meterRegistry.counter("order.admission.accepted").count());
+        assertEquals(1.0, meterRegistry.counter("order.admission.shed", "reason", "concurrency").count());
+    }
+
+    @Test
+    @DisplayName("shouldShedRequest_whenCustomerExhaustsTokenBucket")
+    void shouldShedRequest_whenCustomerExhaustsTokenBucket() {
+        config.setInitialLimit(10);
+        config.getCustomerRateLimit().setEnabled(true);
+        config.getCustomerRateLimit().setBurst(2);
+        config.getCustomerRateLimit().setRefillPerSecond(0.5);
+        var gate = new OrderAdmissionGate(config, meterRegistry);
+
+        gate.admit("customer-1", () -> "first");
+        gate.admit("customer-1", () -> "second");
+        var rejected = assertThrows(OrderAdmissionRejectedException.class,
+                () -> gate.admit("customer-1", () -> "third"));
+
+        assertEquals("other", gate.admit("customer-2", () -> "other"));
+        assertTrue(rejected.retryAfterSeconds() >= 1);
+        assertEquals(1.0, meterRegistry.counter("order.admission.shed", "reason", "customer_rate").count());
+    }
+
+    @Test
+    @DisplayName("shouldDecreaseLimit_whenLatencyExceedsTarget")
+    void shouldDecreaseLimit_whenLatencyExceedsTarget() throws InterruptedException {
+        var limiter = new AimdConcurrencyLimiter(10, 2, 20, 100, 0.5);
+
+        assertTrue(limiter.tryAcquire(0));
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(500), false);
+
+        assertEquals(5.0, limiter.limit());
+    }
+
+    @Test
+    @DisplayName("shouldIncreaseLimit_whenSaturatedAndLatencyIsHealthy")
+    void shouldIncreaseLimit_whenSaturatedAndLatencyIsHealthy() throws InterruptedException {
+        var limiter = new AimdConcurrencyLimiter(2, 1, 20, 100, 0.5);
+
+        assertTrue(limiter.tryAcquire(0));
+        assertTrue(limiter.tryAcquire(0));
+        assertFalse(limiter.tryAcquire(0));
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+
+        assertEquals(2.5, limiter.limit());
+    }
+}
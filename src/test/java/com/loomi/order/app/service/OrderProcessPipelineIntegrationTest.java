@@ -1,13 +1,23 @@
 package com.loomi.order.app.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 import java.util.UUID;
 
 import com.loomi.order.app.service.order.OrderProcessPipeline;
@@ -20,10 +30,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.loomi.order.app.config.OrderProcessingConfig;
+import com.loomi.order.domain.customer.dto.CustomerState;
+import com.loomi.order.domain.customer.usecase.CustomerStateStore;
 import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.notification.usecase.EmailService;
+import com.loomi.order.domain.order.repository.OrderRepository;
+import com.loomi.order.domain.order.valueobject.OrderError;
 import com.loomi.order.domain.event.usecase.AlertEventPublisher;
 import com.loomi.order.domain.order.usecase.DeliveryService;
 import com.loomi.order.app.service.order.handler.HighValueOrderHandler;
+import com.loomi.order.app.service.order.handler.DigitalItemHandler;
 import com.loomi.order.app.service.order.handler.OrderHandler;
 import com.loomi.order.app.service.order.handler.OrderIsPendingHandler;
 import com.loomi.order.app.service.order.handler.PaymentOrderHandler;
@@ -34,8 +50,12 @@ import com.loomi.order.domain.payment.usecase.FraudService;
 import com.loomi.order.domain.payment.usecase.PaymentService;
 import com.loomi.order.domain.product.dto.ProductType;
 import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.domain.product.dto.ValidationResult;
 import com.loomi.order.domain.product.entity.Product;
 import com.loomi.order.domain.product.repository.ProductRepository;
+import com.loomi.order.domain.product.usecase.StockReservationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Order Process Pipeline Integration Tests")
@@ -53,6 +73,9 @@ class OrderProcessPipelineIntegrationTest {
     @Mock
     private AlertEventPublisher alertProducer;
 
+    @Mock
+    private StockReservationService stockReservations;
+
     private OrderProcessPipeline pipeline;
     private UUID testOrderId;
     private UUID testProductId;
@@ -75,12 +98,12 @@ class OrderProcessPipelineIntegrationTest {
 
         List<OrderItemHandler> itemHandlers = new ArrayList<>();
         itemHandlers.add(new PhysicalItemHandler(
-                productRepository,
+                stockReservations,
                 alertProducer,
                 new DeliveryService()
         ));
 
-        pipeline = new OrderProcessPipeline(globalHandlers, itemHandlers, productRepository);
+        pipeline = new OrderProcessPipeline(globalHandlers, itemHandlers, productRepository, new SimpleMeterRegistry());
     }
 
     private Order createOrder(BigDecimal totalAmount) {
@@ -89,7 +112,6 @@ class OrderProcessPipelineIntegrationTest {
         
         OrderItem item = OrderItem.builder()
                 .productId(testProductId)
-                .customerId(testCustomerId)
                 .quantity(1)
                 .productType(ProductType.PHYSICAL)
                 .price(totalAmount)
@@ -125,6 +147,7 @@ class OrderProcessPipelineIntegrationTest {
 
         when(productRepository.findById(testProductId)).thenReturn(Optional.of(product));
         when(fraudService.isFraud(order)).thenReturn(true);
+        when(stockReservations.hold(testOrderId, testProductId, 1)).thenReturn(true);
 
         var validationResult = pipeline.validate(order);
 
@@ -139,6 +162,7 @@ class OrderProcessPipelineIntegrationTest {
 
         when(productRepository.findById(testProductId)).thenReturn(Optional.of(product));
         when(fraudService.isFraud(order)).thenReturn(false);
+        when(stockReservations.hold(testOrderId, testProductId, 1)).thenReturn(true);
 
         var validationResult = pipeline.validate(order);
 
@@ -153,10 +177,92 @@ class OrderProcessPipelineIntegrationTest {
         Product product = createProduct();
 
         when(productRepository.findById(testProductId)).thenReturn(Optional.of(product));
+        when(stockReservations.commit(testOrderId, testProductId, 1)).thenReturn(OptionalInt.of(99));
 
         var processResult = pipeline.process(order);
 
         assertTrue(processResult.isProcessed());
     }
-}
 
+    @Test
+    @DisplayName("shouldSaveItemMetadataWithItsStep_whenItemStepCompletes")
+    void shouldSaveItemMetadataWithItsStep_whenItemStepCompletes() {
+        Order order = createOrder(new BigDecimal("15000"));
+        Product product = createProduct();
+        when(productRepository.findById(testProductId)).thenReturn(Optional.of(product));
+        when(stockReservations.commit(testOrderId, testProductId, 1)).thenReturn(OptionalInt.of(99));
+        var saved = new LinkedHashMap<String, RawProductMetadata>();
+
+        var processResult = pipeline.process(order, Map.of(), saved::put);
+
+        assertTrue(processResult.isProcessed());
+        assertEquals(List.of("item:0:" + testProductId, "handler:OrderIsPendingHandler",
+                "handler:HighValueOrderHandler", "handler:PaymentOrderHandler"), List.copyOf(saved.keySet()));
+        assertTrue(saved.get("item:0:" + testProductId).containsKey("deliveryDays"));
+    }
+
+    @Test
+    @DisplayName("shouldSkipCompletedSteps_andRestoreTheItemMetadataTheyDerived")
+    void shouldSkipCompletedSteps_andRestoreTheItemMetadataTheyDerived() {
+        Order order = createOrder(new BigDecimal("15000"));
+        var item = order.items().get(0);
+        var savedMetadata = new RawProductMetadata();
+        savedMetadata.put("warehouseLocation", "SP");
+        savedMetadata.put("deliveryDays", 3);
+        // Item step and OrderIsPendingHandler ran on the previous delivery
+        var completed = Map.of(
+                "item:0:" + testProductId, savedMetadata,
+                "handler:OrderIsPendingHandler", new RawProductMetadata());
+        var checkpoints = new ArrayList<String>();
+
+        var processResult = pipeline.process(order, completed, (step, itemMetadata) -> checkpoints.add(step));
+
+        assertTrue(processResult.isProcessed());
+        assertEquals(List.of("handler:HighValueOrderHandler", "handler:PaymentOrderHandler"), checkpoints);
+        assertEquals(3, item.metadata().get("deliveryDays"));
+        verify(stockReservations, never()).commit(any(), any(), anyInt());
+        verify(productRepository, never()).findById(any());
+        verify(paymentService).processOrderPayment(order);
+    }
+
+    @Test
+    @DisplayName("shouldRejectOnApproval_whenItemAfterTheReviewedOneIsAlreadyOwned")
+    void shouldRejectOnApproval_whenItemAfterTheReviewedOneIsAlreadyOwned() {
+        var corporateHandler = mock(OrderItemHandler.class);
+        when(corporateHandler.supportedType()).thenReturn(ProductType.CORPORATE);
+        var customerStates = mock(CustomerStateStore.class);
+        var digitalHandler = new DigitalItemHandler(stockReservations, mock(OrderRepository.class),
+                mock(EmailService.class), customerStates);
+        var approvalPipeline = new OrderProcessPipeline(List.of(new OrderIsPendingHandler()),
+                List.of(corporateHandler, digitalHandler), productRepository, new SimpleMeterRegistry());
+
+        var corporateId = UUID.randomUUID();
+        var corporate = Product.builder().id(corporateId).name("Bulk").productType(ProductType.CORPORATE)
+                .price(BigDecimal.TEN).stockQuantity(100).isActive(true).metadata(new RawProductMetadata()).build();
+        var ebook = Product.builder().id(testProductId).name("Ebook").productType(ProductType.DIGITAL)
+                .price(BigDecimal.TEN).stockQuantity(100).isActive(true).metadata(new RawProductMetadata()).build();
+        var order = Order.builder()
+                .id(testOrderId)
+                .customerId(testCustomerId)
+                .status(OrderStatus.PENDING)
+                .totalAmount(new BigDecimal("20"))
+                .items(List.of(
+                        OrderItem.builder().productId(corporateId).quantity(1).productType(ProductType.CORPORATE)
+                                .price(BigDecimal.TEN).metadata(new RawProductMetadata()).build(),
+                        OrderItem.builder().productId(testProductId).quantity(1).productType(ProductType.DIGITAL)
+                                .price(BigDecimal.TEN).metadata(new RawProductMetadata()).build()))
+                .build();
+        when(productRepository.findById(corporateId)).thenReturn(Optional.of(corporate));
+        when(productRepository.findById(testProductId)).thenReturn(Optional.of(ebook));
+        when(corporateHandler.validate(any(), any(), any())).thenReturn(ValidationResult.requireHumanReview());
+        when(customerStates.find(testCustomerId)).thenReturn(Optional.of(
+                new CustomerState(testCustomerId, 1, Set.of(testProductId), Set.of(), 0, List.of())));
+
+        var review = approvalPipeline.validate(order);
+        var resumed = approvalPipeline.resumeValidation(order, review.getReviewStage());
+
+        assertTrue(review.isHumanReviewRequired());
+        assertFalse(resumed.isValid());
+        assertEquals(List.of(OrderError.ALREADY_OWNED.toString()), resumed.getErrors());
+    }
+}
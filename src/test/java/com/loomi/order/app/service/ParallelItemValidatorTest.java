@@ -0,0 +1,147 @@
+package com.loomi.order.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.loomi.order.app.service.order.plan.ParallelItemValidator;
+import com.loomi.order.domain.order.valueobject.OrderError;
+import com.loomi.order.domain.product.dto.ValidationResult;
+import com.loomi.order.domain.product.exception.ProductNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Parallel Item Validator Tests")
+class ParallelItemValidatorTest {
+
+    private ExecutorService executor;
+    private ParallelItemValidator validator;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        validator = new ParallelItemValidator(executor, 2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("shouldReturnFirstFailingItemInOrder_whenLaterItemFailsFirst")
+    void shouldReturnFirstFailingItemInOrder_whenLaterItemFailsFirst() {
+        var result = validator.validate(3, i -> {
+            if (i == 0) {
+                sleep(100);
+                return ValidationResult.fail(OrderError.OUT_OF_STOCK.toString());
+            }
+            if (i == 2) {
+                return ValidationResult.fail(OrderError.ALREADY_OWNED.toString());
+            }
+            return ValidationResult.ok();
+        }, meterRegistry.counter("skipped"));
+
+        assertEquals(List.of(OrderError.OUT_OF_STOCK.toString()), result.getErrors());
+    }
+
+    @Test
+    @DisplayName("shouldSkipUnstartedSiblings_whenEarlierItemFails")
+    void shouldSkipUnstartedSiblings_whenEarlierItemFails() {
+        var single = new ParallelItemValidator(Executors.newSingleThreadExecutor(), 2);
+        var executed = new AtomicInteger();
+
+        var result = single.validate(50, i -> {
+            executed.incrementAndGet();
+            return i == 0
+                    ? ValidationResult.fail(OrderError.OUT_OF_STOCK.toString())
+                    : ValidationResult.ok();
+        }, meterRegistry.counter("skipped"));
+
+        assertEquals(List.of(OrderError.OUT_OF_STOCK.toString()), result.getErrors());
+        assertEquals(1, executed.get());
+        assertEquals(49.0, meterRegistry.counter("skipped").count());
+    }
+
+    @Test
+    @DisplayName("shouldInterruptRunningSiblings_whenEarlierItemFails")
+    void shouldInterruptRunningSiblings_whenEarlierItemFails() throws InterruptedException {
+        var interrupted = new CountDownLatch(1);
+
+        var result = validator.validate(2, i -> {
+            if (i == 0) {
+                sleep(50);
+                return ValidationResult.fail(OrderError.OUT_OF_STOCK.toString());
+            }
+            try {
+                TimeUnit.SECONDS.sleep(30);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return ValidationResult.ok();
+        }, meterRegistry.counter("skipped"));
+
+        assertEquals(List.of(OrderError.OUT_OF_STOCK.toString()), result.getErrors());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("shouldRequireHumanReview_whenItemRequiresReview")
+    void shouldRequireHumanReview_whenItemRequiresReview() {
+        var result = validator.validate(4, i -> i == 1
+                ? ValidationResult.requireHumanReview()
+                : ValidationResult.ok(), meterRegistry.counter("skipped"));
+
+        assertTrue(result.isHumanReviewRequired());
+    }
+
+    @Test
+    @DisplayName("shouldRethrowItemException_whenItIsTheFirstDecisiveItem")
+    void shouldRethrowItemException_whenItIsTheFirstDecisiveItem() {
+        var missingProduct = UUID.randomUUID();
+
+        var thrown = assertThrows(ProductNotFoundException.class, () -> validator.validate(3, i -> {
+            if (i == 1) {
+                throw new ProductNotFoundException(missingProduct);
+            }
+            if (i == 2) {
+                return ValidationResult.fail(OrderError.ALREADY_OWNED.toString());
+            }
+            return ValidationResult.ok();
+        }, meterRegistry.counter("skipped")));
+
+        assertTrue(thrown.getMessage().contains(missingProduct.toString()));
+    }
+
+    @Test
+    @DisplayName("shouldReturnOk_whenAllItemsAreValid")
+    void shouldReturnOk_whenAllItemsAreValid() {
+        var result = validator.validate(10, i -> ValidationResult.ok(), meterRegistry.counter("skipped"));
+
+        assertTrue(result.isValid());
+        assertEquals(0.0, meterRegistry.counter("skipped").count());
+    }
+}
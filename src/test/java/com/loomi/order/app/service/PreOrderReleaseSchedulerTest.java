@@ -0,0 +1,100 @@
+package com.loomi.order.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loomi.order.app.config.PreOrderConfig;
+import com.loomi.order.app.service.order.PreOrderReleaseScheduler;
+import com.loomi.order.domain.event.usecase.OrderEventPublisher;
+import com.loomi.order.domain.order.dto.PreOrderRelease;
+import com.loomi.order.domain.order.dto.PreOrderReleaseChunk;
+import com.loomi.order.domain.order.repository.PreOrderReleaseRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pre-Order Release Scheduler Tests")
+class PreOrderReleaseSchedulerTest {
+
+    private static final LocalDate RELEASE_DATE = LocalDate.of(2026, 12, 1);
+
+    @Mock
+    private PreOrderReleaseRepository releases;
+
+    @Mock
+    private OrderEventPublisher publisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PreOrderReleaseScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        var config = new PreOrderConfig();
+        config.getRelease().setChunkSize(2);
+        config.getRelease().setEventsPerSecond(1_000_000);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new PreOrderReleaseScheduler(releases, publisher, config, meterRegistry);
+    }
+
+    private static PreOrderReleaseChunk chunk(int releases, int skipped) {
+        var items = new ArrayList<PreOrderRelease>();
+        for (int i = 0; i < releases; i++) {
+            items.add(new PreOrderRelease(UUID.randomUUID(), UUID.randomUUID(), RELEASE_DATE));
+        }
+        return new PreOrderReleaseChunk(UUID.randomUUID(), items, skipped);
+    }
+
+    @Test
+    @DisplayName("shouldCompleteEveryChunk_untilNothingIsDue")
+    void shouldCompleteEveryChunk_untilNothingIsDue() {
+        var first = chunk(2, 0);
+        var second = chunk(1, 1);
+        when(releases.claimDue(eq(RELEASE_DATE), eq(2), any()))
+                .thenReturn(first, second, new PreOrderReleaseChunk(UUID.randomUUID(), List.of(), 0));
+        when(publisher.sendOrderReleasedEvent(any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(releases.complete(first.claimId())).thenReturn(2);
+        when(releases.complete(second.claimId())).thenReturn(1);
+
+        int released = scheduler.releaseDue(RELEASE_DATE);
+
+        assertEquals(3, released);
+        verify(publisher, times(3)).sendOrderReleasedEvent(any());
+        assertEquals(1.0, meterRegistry.counter("pre_order.release.skipped").count());
+    }
+
+    @Test
+    @DisplayName("shouldLeaveChunkClaimed_whenAnEventIsNotAcknowledged")
+    void shouldLeaveChunkClaimed_whenAnEventIsNotAcknowledged() {
+        var first = chunk(2, 0);
+        when(releases.claimDue(eq(RELEASE_DATE), eq(2), any())).thenReturn(first);
+        when(publisher.sendOrderReleasedEvent(any()))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        int released = scheduler.releaseDue(RELEASE_DATE);
+
+        assertEquals(0, released);
+        verify(releases, never()).complete(any());
+        verify(releases, times(1)).claimDue(any(), anyInt(), any());
+        assertEquals(1.0, meterRegistry.counter("pre_order.release.chunks", "outcome", "failed").count());
+    }
+}
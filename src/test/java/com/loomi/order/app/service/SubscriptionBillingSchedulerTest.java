@@ -0,0 +1,157 @@
+package com.loomi.order.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loomi.order.app.config.SubscriptionBillingConfig;
+import com.loomi.order.app.service.payment.SubscriptionBillingScheduler;
+import com.loomi.order.domain.event.usecase.SubscriptionEventPublisher;
+import com.loomi.order.domain.order.dto.OrderEventType;
+import com.loomi.order.domain.order.entity.SubscriptionChargeEvent;
+import com.loomi.order.domain.payment.usecase.PaymentService;
+import com.loomi.order.domain.subscription.dto.SubscriptionCharge;
+import com.loomi.order.domain.subscription.dto.SubscriptionChargeBatch;
+import com.loomi.order.domain.subscription.repository.SubscriptionScheduleRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Subscription Billing Scheduler Tests")
+class SubscriptionBillingSchedulerTest {
+
+    @Mock
+    private SubscriptionScheduleRepository schedule;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private SubscriptionEventPublisher publisher;
+
+    private SubscriptionBillingConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+    private SubscriptionBillingScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        config = new SubscriptionBillingConfig();
+        config.setBatchSize(10);
+        config.setMaxAttempts(2);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newFixedThreadPool(2);
+        scheduler = new SubscriptionBillingScheduler(schedule, paymentService, publisher, config, meterRegistry, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static SubscriptionCharge charge(int attempts) {
+        return new SubscriptionCharge(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "customer-123",
+                new BigDecimal("29.90"),
+                LocalDateTime.of(2026, 11, 1, 0, 0),
+                attempts);
+    }
+
+    @Test
+    @DisplayName("shouldChargeAndAdvanceEverySubscription_inClaimedBatch")
+    void shouldChargeAndAdvanceEverySubscription_inClaimedBatch() {
+        var first = charge(0);
+        var second = charge(0);
+        var batch = new SubscriptionChargeBatch(UUID.randomUUID(), List.of(first, second), 1);
+        when(schedule.claimDue(eq(10), any())).thenReturn(batch);
+        when(schedule.markCharged(any(), eq(batch.claimId()))).thenReturn(true);
+
+        int charged = scheduler.chargeDue();
+
+        assertEquals(2, charged);
+        verify(paymentService).chargeSubscription(first);
+        verify(paymentService).chargeSubscription(second);
+        assertEquals(2.0, meterRegistry.counter("subscription.billing.charges", "outcome", "charged").count());
+        assertEquals(1.0, meterRegistry.counter("subscription.billing.cancelled").count());
+    }
+
+    @Test
+    @DisplayName("shouldSuspendSubscription_whenLastAttemptFails")
+    void shouldSuspendSubscription_whenLastAttemptFails() {
+        var failing = charge(1);
+        var batch = new SubscriptionChargeBatch(UUID.randomUUID(), List.of(failing), 0);
+        when(schedule.claimDue(eq(10), any())).thenReturn(batch);
+        doThrow(new IllegalStateException("card declined")).when(paymentService).chargeSubscription(failing);
+        when(schedule.markFailed(eq(failing.subscriptionId()), eq(batch.claimId()), any(), eq(true), eq("card declined")))
+                .thenReturn(true);
+
+        int charged = scheduler.chargeDue();
+
+        assertEquals(0, charged);
+        verify(schedule, never()).markCharged(any(), any());
+        var event = ArgumentCaptor.forClass(SubscriptionChargeEvent.class);
+        verify(publisher).sendSubscriptionChargeEvent(event.capture());
+        assertEquals(OrderEventType.SUBSCRIPTION_CHARGE_FAILED, event.getValue().getType());
+        assertTrue(event.getValue().getPayload().isSuspended());
+        assertEquals(2, event.getValue().getPayload().getAttempt());
+    }
+
+    @Test
+    @DisplayName("shouldNotPublish_whenClaimWasLostBeforeRecordingCharge")
+    void shouldNotPublish_whenClaimWasLostBeforeRecordingCharge() {
+        var batch = new SubscriptionChargeBatch(UUID.randomUUID(), List.of(charge(0)), 0);
+        when(schedule.claimDue(eq(10), any())).thenReturn(batch);
+        when(schedule.markCharged(any(), eq(batch.claimId()))).thenReturn(false);
+
+        int charged = scheduler.chargeDue();
+
+        assertEquals(0, charged);
+        verify(publisher, never()).sendSubscriptionChargeEvent(any());
+        verify(schedule, never()).markFailed(any(), any(), any(), anyBoolean(), anyString());
+        assertEquals(1.0, meterRegistry.counter("subscription.billing.charges", "outcome", "lost_claim").count());
+    }
+
+    @Test
+    @DisplayName("shouldChargeRestOfBatch_whenRecordingOneOutcomeFails")
+    void shouldChargeRestOfBatch_whenRecordingOneOutcomeFails() {
+        var broken = charge(0);
+        var healthy = charge(0);
+        var batch = new SubscriptionChargeBatch(UUID.randomUUID(), List.of(broken, healthy), 0);
+        when(schedule.claimDue(eq(10), any())).thenReturn(batch);
+        when(schedule.markCharged(broken.subscriptionId(), batch.claimId()))
+                .thenThrow(new IllegalStateException("value too long for type character varying(500)"));
+        when(schedule.markCharged(healthy.subscriptionId(), batch.claimId())).thenReturn(true);
+
+        int charged = scheduler.chargeDue();
+
+        assertEquals(1, charged);
+        assertEquals(1.0, meterRegistry.counter("subscription.billing.charges", "outcome", "error").count());
+        assertEquals(1.0, meterRegistry.counter("subscription.billing.charges", "outcome", "charged").count());
+    }
+}
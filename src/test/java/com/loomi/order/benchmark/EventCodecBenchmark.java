@@ -0,0 +1,91 @@
+package com.loomi.order.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loomi.order.domain.order.entity.OrderCreatedEvent;
+import com.loomi.order.domain.order.entity.OrderCreatedPayload;
+import com.loomi.order.domain.order.valueobject.OrderItem;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.infra.event.codec.EventDeserializer;
+import com.loomi.order.infra.event.codec.EventSerializer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventCodecBenchmark {
+
+    private static final String TOPIC = "order-created";
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    @Param({"JSON", "BINARY"})
+    private String format;
+
+    private EventSerializer<OrderCreatedEvent> serializer;
+    private EventDeserializer<OrderCreatedEvent> deserializer;
+    private OrderCreatedEvent event;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        var binaryTopics = format.equals("BINARY") ? Set.of(TOPIC) : Set.<String>of();
+        serializer = new EventSerializer<>(new JsonSerializer<>(objectMapper), binaryTopics);
+        deserializer = new EventDeserializer<>(new JsonDeserializer<>(OrderCreatedEvent.class, objectMapper, false));
+
+        var items = new ArrayList<OrderItem>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            var metadata = new RawProductMetadata();
+            metadata.put("warehouseLocation", "SP");
+            metadata.put("deliveryEmail", "customer" + i + "@example.com");
+            items.add(OrderItem.builder()
+                    .productId(UUID.randomUUID())
+                    .quantity(1 + i % 3)
+                    .productType(ProductType.values()[i % ProductType.values().length])
+                    .price(new BigDecimal("149.90"))
+                    .metadata(metadata)
+                    .build());
+        }
+        event = new OrderCreatedEvent(new OrderCreatedPayload(
+                UUID.randomUUID(), "customer-bench", OrderStatus.PENDING, new BigDecimal("1499.00"), items));
+        encoded = serializer.serialize(TOPIC, event);
+        System.out.printf("%n[%s, %d items] %d bytes/event%n", format, itemCount, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent deserialize() {
+        return deserializer.deserialize(TOPIC, encoded);
+    }
+}
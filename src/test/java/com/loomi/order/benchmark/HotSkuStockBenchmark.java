@@ -0,0 +1,81 @@
+package com.loomi.order.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Models the row lock each hold takes on a stock counter: the lock is held for {@code rowLockMicros}
+ * (statement plus commit round trip), so throughput is bounded by how many rows the consumers spread over.
+ * {@code shards = 1} is the single products row. Run with {@code -t 1}, {@code -t 4}, {@code -t 16} and
+ * {@code -t 64} to vary the number of concurrent consumers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class HotSkuStockBenchmark {
+
+    private static final class Row {
+        final ReentrantLock lock = new ReentrantLock();
+        int quantity;
+    }
+
+    @Param({"1", "16"})
+    private int shards;
+
+    @Param({"200"})
+    private long rowLockMicros;
+
+    private Row[] rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rows = new Row[shards];
+        for (int i = 0; i < shards; i++) {
+            rows[i] = new Row();
+            rows[i].quantity = Integer.MAX_VALUE;
+        }
+    }
+
+    @Benchmark
+    public boolean hold() {
+        int first = Math.floorMod(UUID.randomUUID().hashCode(), shards);
+        for (int i = 0; i < shards; i++) {
+            if (take(rows[(first + i) % shards], 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean take(Row row, int quantity) {
+        row.lock.lock();
+        try {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(rowLockMicros));
+            if (row.quantity < quantity) {
+                return false;
+            }
+            row.quantity -= quantity;
+            return true;
+        } finally {
+            row.lock.unlock();
+        }
+    }
+}
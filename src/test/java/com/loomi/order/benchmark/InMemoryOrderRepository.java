@@ -0,0 +1,163 @@
+package com.loomi.order.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.repository.OrderRepository;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+
+class InMemoryOrderRepository implements OrderRepository {
+
+    private final Map<UUID, Order> orders = new ConcurrentHashMap<>();
+    private final long latencyNanos;
+
+    InMemoryOrderRepository(long latencyMicros) {
+        this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+    }
+
+    void clear() {
+        orders.clear();
+    }
+
+    private void roundTrip() {
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+    }
+
+    @Override
+    public Optional<Order> findById(UUID id) {
+        roundTrip();
+        return Optional.ofNullable(orders.get(id));
+    }
+
+    @Override
+    public Optional<Order> findArchivedById(UUID id) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Order save(Order order) {
+        if (order.id() == null) {
+            order.id(UUID.randomUUID());
+        }
+        orders.put(order.id(), order);
+        return order;
+    }
+
+    @Override
+    public List<Order> findAll() {
+        roundTrip();
+        return new ArrayList<>(orders.values());
+    }
+
+    @Override
+    public List<Order> findAll(int limit) {
+        roundTrip();
+        return orders.values().stream().limit(limit).toList();
+    }
+
+    @Override
+    public void update(Order order) {
+        roundTrip();
+        orders.put(order.id(), order);
+    }
+
+    @Override
+    public void updateAll(List<Order> updated) {
+        roundTrip();
+        updated.forEach(order -> orders.put(order.id(), order));
+    }
+
+    @Override
+    public boolean updateIfStatus(Order order, OrderStatus expected) {
+        roundTrip();
+        var current = orders.get(order.id());
+        if (current == null || (current != order && current.status() != expected)) {
+            return false;
+        }
+        orders.put(order.id(), order);
+        return true;
+    }
+
+    @Override
+    public List<Order> findAllById(Collection<UUID> ids) {
+        roundTrip();
+        return ids.stream().map(orders::get).filter(o -> o != null).toList();
+    }
+
+    @Override
+    public List<Order> findPendingApproval(int limit) {
+        roundTrip();
+        return orders.values().stream()
+                .filter(o -> o.status() == OrderStatus.PENDING_APPROVAL)
+                .sorted(Comparator.comparing(Order::createdAt))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<UUID> transitionStatus(Collection<UUID> ids, OrderStatus from, OrderStatus to) {
+        roundTrip();
+        var moved = new ArrayList<UUID>();
+        for (var id : ids) {
+            var order = orders.get(id);
+            if (order != null && order.status() == from) {
+                order.status(to);
+                moved.add(id);
+            }
+        }
+        return moved;
+    }
+
+    @Override
+    public List<UUID> requeueStaleApprovals(LocalDateTime cutoff) {
+        roundTrip();
+        var requeued = new ArrayList<UUID>();
+        for (var order : orders.values()) {
+            if (order.status() == OrderStatus.APPROVED
+                    && order.updatedAt() != null && order.updatedAt().isBefore(cutoff)) {
+                order.status(OrderStatus.PENDING_APPROVAL);
+                requeued.add(order.id());
+            }
+        }
+        return requeued;
+    }
+
+    @Override
+    public List<Order> findByCustomerId(String customerId) {
+        roundTrip();
+        return orders.values().stream().filter(o -> o.customerId().equals(customerId)).toList();
+    }
+
+    @Override
+    public List<Order> findByCustomerIdAndProductIdAndStatus(String customerId, UUID productId, OrderStatus status) {
+        roundTrip();
+        return orders.values().stream()
+                .filter(o -> o.customerId().equals(customerId) && o.status() == status)
+                .filter(o -> o.items().stream().anyMatch(i -> i.productId().equals(productId)))
+                .toList();
+    }
+
+    @Override
+    public List<Order> findActiveSubscriptionsByCustomerIdAndGroupId(String customerId, String groupId) {
+        roundTrip();
+        return List.of();
+    }
+
+    @Override
+    public List<Order> findAllActiveSubscriptionsByCustomerId(String customerId) {
+        roundTrip();
+        return List.of();
+    }
+}
@@ -0,0 +1,74 @@
+package com.loomi.order.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.domain.product.entity.Product;
+import com.loomi.order.domain.product.repository.ProductRepository;
+
+class InMemoryProductRepository implements ProductRepository {
+
+    private final Map<UUID, Product> products = new ConcurrentHashMap<>();
+    private final long latencyNanos;
+
+    InMemoryProductRepository(long latencyMicros) {
+        this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+    }
+
+    private void roundTrip() {
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+    }
+
+    @Override
+    public Optional<Product> findById(UUID id) {
+        roundTrip();
+        return Optional.ofNullable(products.get(id));
+    }
+
+    @Override
+    public Optional<RawProductMetadata> findMetadata(UUID productId, int version) {
+        roundTrip();
+        return Optional.ofNullable(products.get(productId))
+                .filter(product -> product.metadataVersion() != null && product.metadataVersion() == version)
+                .map(Product::metadata);
+    }
+
+    @Override
+    public Product save(Product product) {
+        products.put(product.id(), product);
+        return product;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        roundTrip();
+        return new ArrayList<>(products.values());
+    }
+
+    @Override
+    public List<Product> findAll(int limit) {
+        roundTrip();
+        return products.values().stream().limit(limit).toList();
+    }
+
+    @Override
+    public List<Product> findAllById(List<UUID> ids) {
+        roundTrip();
+        return ids.stream().distinct().map(products::get).filter(p -> p != null).toList();
+    }
+
+    @Override
+    public void update(Product product) {
+        roundTrip();
+        products.put(product.id(), product);
+    }
+}
@@ -0,0 +1,80 @@
+package com.loomi.order.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.StockLevel;
+import com.loomi.order.domain.product.repository.ProductRepository;
+import com.loomi.order.domain.product.usecase.StockReservationService;
+
+class InMemoryStockReservations implements StockReservationService {
+
+    private record Key(UUID orderId, UUID productId) {
+    }
+
+    private final ProductRepository products;
+    private final Map<Key, Integer> holds = new ConcurrentHashMap<>();
+
+    InMemoryStockReservations(ProductRepository products) {
+        this.products = products;
+    }
+
+    @Override
+    public boolean hold(UUID orderId, UUID productId, int quantity) {
+        var key = new Key(orderId, productId);
+        if (holds.containsKey(key)) {
+            return true;
+        }
+        var product = products.findById(productId).orElse(null);
+        if (product == null) {
+            return false;
+        }
+        synchronized (product) {
+            if (product.stockQuantity() < quantity) {
+                return false;
+            }
+            product.stockQuantity(product.stockQuantity() - quantity);
+        }
+        holds.put(key, quantity);
+        return true;
+    }
+
+    @Override
+    public OptionalInt commit(UUID orderId, UUID productId, int quantity) {
+        if (!hold(orderId, productId, quantity)) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(products.findById(productId).orElseThrow().stockQuantity());
+    }
+
+    @Override
+    public int release(UUID orderId) {
+        int released = 0;
+        for (var key : List.copyOf(holds.keySet())) {
+            if (key.orderId().equals(orderId)) {
+                var quantity = holds.remove(key);
+                var product = products.findById(key.productId()).orElseThrow();
+                synchronized (product) {
+                    product.stockQuantity(product.stockQuantity() + quantity);
+                }
+                released++;
+            }
+        }
+        return released;
+    }
+
+    // Holds and commits are not told apart here
+    @Override
+    public int releaseUnshipped(UUID orderId) {
+        return release(orderId);
+    }
+
+    @Override
+    public List<StockLevel> stockLevels(ProductType productType) {
+        return List.of();
+    }
+}
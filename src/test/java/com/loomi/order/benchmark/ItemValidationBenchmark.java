@@ -0,0 +1,125 @@
+package com.loomi.order.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.loomi.order.app.service.order.OrderProcessPipeline;
+import com.loomi.order.app.service.order.handler.DigitalItemHandler;
+import com.loomi.order.app.service.order.plan.ParallelItemValidator;
+import com.loomi.order.domain.customer.dto.CustomerState;
+import com.loomi.order.domain.customer.usecase.CustomerStateStore;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.valueobject.OrderItem;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.domain.product.entity.Product;
+import com.loomi.order.domain.product.dto.ValidationResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemValidationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    @Param({"SEQUENTIAL", "PARALLEL"})
+    private String mode;
+
+    @Param({"250"})
+    private long dbLatencyMicros;
+
+    // Ownership answered by the partition-local customer state instead of the order table
+    @Param({"false", "true"})
+    private boolean customerAffinity;
+
+    private ExecutorService executor;
+    private OrderProcessPipeline pipeline;
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var products = new InMemoryProductRepository(dbLatencyMicros);
+        var orders = new InMemoryOrderRepository(dbLatencyMicros);
+        var handler = new DigitalItemHandler(new InMemoryStockReservations(products), orders, (email, payload) -> { },
+                new LocalCustomerStates(customerAffinity));
+
+        Optional<ParallelItemValidator> parallel = Optional.empty();
+        if (mode.equals("PARALLEL")) {
+            executor = Executors.newFixedThreadPool(4);
+            parallel = Optional.of(new ParallelItemValidator(executor, 1));
+        }
+        pipeline = new OrderProcessPipeline(List.of(), List.of(handler), products, new SimpleMeterRegistry(), parallel);
+
+        var items = new ArrayList<OrderItem>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            var product = products.save(Product.builder()
+                    .id(UUID.randomUUID())
+                    .name("Digital " + i)
+                    .productType(ProductType.DIGITAL)
+                    .price(BigDecimal.TEN)
+                    .stockQuantity(1000)
+                    .isActive(true)
+                    .metadata(new RawProductMetadata())
+                    .build());
+            items.add(OrderItem.fromProduct(product, 1, new RawProductMetadata()));
+        }
+        order = Order.builder()
+                .id(UUID.randomUUID())
+                .customerId("customer-bench")
+                .status(OrderStatus.PENDING)
+                .totalAmount(BigDecimal.TEN.multiply(BigDecimal.valueOf(itemCount)))
+                .items(items)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public ValidationResult validate() {
+        return pipeline.validate(order);
+    }
+
+    private record LocalCustomerStates(boolean owned) implements CustomerStateStore {
+
+        @Override
+        public Optional<CustomerState> find(String customerId) {
+            return owned ? Optional.of(CustomerState.empty(customerId)) : Optional.empty();
+        }
+
+        @Override
+        public void recordProcessed(Order order) {
+        }
+    }
+}
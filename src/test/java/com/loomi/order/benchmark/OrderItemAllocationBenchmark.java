@@ -0,0 +1,113 @@
+package com.loomi.order.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loomi.order.domain.order.valueobject.MinorUnits;
+import com.loomi.order.domain.order.valueobject.OrderItem;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.domain.product.entity.Product;
+
+/**
+ * Allocation profile of the consumer path for a corporate order. Run with
+ * {@code make bench BENCH="OrderItemAllocation -prof gc"} and compare gc.alloc.rate.norm (bytes/op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderItemAllocationBenchmark {
+
+    private static final TypeReference<List<OrderItem>> ITEMS = new TypeReference<>() {
+    };
+
+    @Param({"100"})
+    private int itemCount;
+
+    private ObjectMapper objectMapper;
+    private String itemsJson;
+    private List<OrderItem> items;
+    private Product product;
+    private List<RawProductMetadata> requestMetadata;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        var productMetadata = new RawProductMetadata();
+        productMetadata.put("category", "software-license");
+        productMetadata.put("vendor", "loomi");
+        productMetadata.put("seats", 25);
+        product = Product.builder()
+                .id(UUID.randomUUID())
+                .name("Corporate License")
+                .productType(ProductType.CORPORATE)
+                .price(new BigDecimal("1499.90"))
+                .stockQuantity(1000)
+                .isActive(true)
+                .metadata(productMetadata)
+                .metadataVersion(1)
+                .build();
+
+        requestMetadata = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            var metadata = new RawProductMetadata();
+            metadata.put("cnpj", "12345678000199");
+            metadata.put("paymentTerms", "NET_30");
+            requestMetadata.add(metadata);
+        }
+        items = snapshotItems();
+        itemsJson = objectMapper.writeValueAsString(items);
+        System.out.printf("items JSON: %d bytes%n", itemsJson.length());
+    }
+
+    @Benchmark
+    public List<OrderItem> deserializeItems() throws Exception {
+        return objectMapper.readValue(itemsJson, ITEMS);
+    }
+
+    @Benchmark
+    public String serializeItems() throws Exception {
+        return objectMapper.writeValueAsString(items);
+    }
+
+    @Benchmark
+    public List<OrderItem> snapshotItems() {
+        var items = new ArrayList<OrderItem>(itemCount);
+        for (var metadata : requestMetadata) {
+            items.add(OrderItem.fromProduct(product, 2, metadata));
+        }
+        return items;
+    }
+
+    @Benchmark
+    public BigDecimal totalAmount() {
+        long totalMinor = 0;
+        for (var item : snapshotItems()) {
+            totalMinor = Math.addExact(totalMinor, item.totalPriceMinor());
+        }
+        return MinorUnits.toDecimal(totalMinor);
+    }
+}
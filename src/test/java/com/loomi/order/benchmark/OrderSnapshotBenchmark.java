@@ -0,0 +1,157 @@
+package com.loomi.order.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.loomi.order.app.config.ReadModelConfig;
+import com.loomi.order.app.service.order.OrderServiceImpl;
+import com.loomi.order.app.service.product.PreOrderSlotAllocator;
+import com.loomi.order.domain.credit.usecase.CreditLedgerService;
+import com.loomi.order.domain.event.usecase.OrderEventPublisher;
+import com.loomi.order.domain.order.dto.CreateOrder;
+import com.loomi.order.domain.order.dto.CreateOrderItem;
+import com.loomi.order.domain.order.dto.OrderSummary;
+import com.loomi.order.domain.order.dto.OrderSummaryChange;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.entity.OrderCreatedEvent;
+import com.loomi.order.domain.order.entity.OrderFailedEvent;
+import com.loomi.order.domain.order.entity.OrderPendingApprovalEvent;
+import com.loomi.order.domain.order.entity.OrderProcessedEvent;
+import com.loomi.order.domain.order.entity.OrderReleasedEvent;
+import com.loomi.order.domain.order.repository.OrderSummaryRepository;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.domain.product.entity.Product;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderSnapshotBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int lineCount;
+
+    private InMemoryOrderRepository orders;
+    private OrderServiceImpl orderService;
+    private CreateOrder createOrder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var products = new InMemoryProductRepository(0);
+        orders = new InMemoryOrderRepository(0);
+        orderService = new OrderServiceImpl(orders, products, new NoOpEventPublisher(),
+                new PreOrderSlotAllocator(new InMemoryStockReservations(products)), new NoOpCreditLedger(),
+                new NoOpOrderSummaries(), new ReadModelConfig());
+
+        var lines = new ArrayList<CreateOrderItem>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            var product = products.save(Product.builder()
+                    .id(UUID.randomUUID())
+                    .name("Corporate " + i)
+                    .productType(ProductType.CORPORATE)
+                    .price(new BigDecimal("149.90"))
+                    .stockQuantity(1000)
+                    .isActive(true)
+                    .metadata(new RawProductMetadata())
+                    .build());
+            var metadata = new RawProductMetadata();
+            metadata.put("cnpj", "12345678000199");
+            lines.add(CreateOrderItem.builder()
+                    .productId(product.id())
+                    .quantity(2)
+                    .metadata(metadata)
+                    .build());
+        }
+        createOrder = new CreateOrder("customer-bench", lines);
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        var order = orderService.createOrder(createOrder);
+        orders.clear();
+        return order;
+    }
+
+    private static final class NoOpEventPublisher implements OrderEventPublisher {
+
+        @Override
+        public void sendOrderCreatedEvent(OrderCreatedEvent event) {
+        }
+
+        @Override
+        public void sendOrderProcessedEvent(OrderProcessedEvent event) {
+        }
+
+        @Override
+        public void sendOrderFailedEvent(OrderFailedEvent event) {
+        }
+
+        @Override
+        public void sendOrderPendingApprovalEvent(OrderPendingApprovalEvent event) {
+        }
+
+        @Override
+        public CompletableFuture<Void> sendOrderReleasedEvent(OrderReleasedEvent event) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static final class NoOpOrderSummaries implements OrderSummaryRepository {
+
+        @Override
+        public void applyAll(List<OrderSummaryChange> changes) {
+        }
+
+        @Override
+        public List<OrderSummary> findByCustomerId(String customerId, int limit) {
+            return List.of();
+        }
+    }
+
+    private static final class NoOpCreditLedger implements CreditLedgerService {
+
+        @Override
+        public boolean reserve(String cnpj, UUID orderId, BigDecimal amount, int paymentTermDays) {
+            return true;
+        }
+
+        @Override
+        public void release(UUID orderId) {
+        }
+
+        @Override
+        public int settleDue() {
+            return 0;
+        }
+
+        @Override
+        public BigDecimal exposure(String cnpj) {
+            return BigDecimal.ZERO;
+        }
+
+        @Override
+        public BigDecimal limitFor(String cnpj) {
+            return BigDecimal.ZERO;
+        }
+    }
+}
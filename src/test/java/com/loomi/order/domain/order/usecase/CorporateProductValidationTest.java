@@ -3,6 +3,12 @@ package com.loomi.order.domain.order.usecase;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -15,8 +21,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.loomi.order.domain.credit.usecase.CreditLedgerService;
 import com.loomi.order.domain.order.dto.OrderProcessResult;
 import com.loomi.order.domain.order.entity.Order;
 import com.loomi.order.domain.order.valueobject.OrderError;
@@ -34,6 +42,9 @@ class CorporateProductValidationTest {
     private UUID testOrderId;
     private String testCustomerId;
 
+    @Mock
+    private CreditLedgerService creditLedger;
+
     @InjectMocks
     private CorporateItemHandler corporateItemHandler;
 
@@ -42,12 +53,12 @@ class CorporateProductValidationTest {
         testProductId = UUID.randomUUID();
         testOrderId = UUID.randomUUID();
         testCustomerId = "customer-123";
+        lenient().when(creditLedger.reserve(any(), any(), any(), anyInt())).thenReturn(true);
     }
 
     private OrderItem createOrderItem(int quantity, BigDecimal price, RawProductMetadata metadata) {
         return OrderItem.builder()
                 .productId(testProductId)
-                .customerId(testCustomerId)
                 .quantity(quantity)
                 .productType(ProductType.CORPORATE)
                 .price(price)
@@ -256,11 +267,13 @@ class CorporateProductValidationTest {
         }
 
         @Test
-        @DisplayName("shouldReturnCreditLimitExceeded_whenOrderTotalExceedsMaxCreditLimit")
-        void shouldReturnCreditLimitExceeded_whenOrderTotalExceedsMaxCreditLimit() {
+        @DisplayName("shouldReturnCreditLimitExceeded_whenLedgerRejectsOrderTotal")
+        void shouldReturnCreditLimitExceeded_whenLedgerRejectsOrderTotal() {
             OrderItem item = createOrderItem(1, BigDecimal.valueOf(1000.00), createMetadata("12.345.678/0001-90", "NET_30"));
             Product product = createProduct(true);
             Order order = createOrder(item, new BigDecimal("100001"));
+            when(creditLedger.reserve(eq("12345678000190"), eq(order.id()), eq(item.getTotalPrice()), eq(30)))
+                    .thenReturn(false);
 
             ValidationResult result = corporateItemHandler.validate(item, product, order);
 
@@ -332,6 +345,21 @@ class CorporateProductValidationTest {
             assertTrue(result.isValid());
             assertFalse(result.isHumanReviewRequired());
         }
+
+        @Test
+        @DisplayName("shouldReserveOnlyItemsBilledToEachCnpj_whenOrderSpansTwoCnpjs")
+        void shouldReserveOnlyItemsBilledToEachCnpj_whenOrderSpansTwoCnpjs() {
+            OrderItem first = createOrderItem(2, new BigDecimal("300.00"), createMetadata("12.345.678/0001-90", "NET_30"));
+            OrderItem second = createOrderItem(1, new BigDecimal("500.00"), createMetadata("98.765.432/0001-10", "NET_90"));
+            Order order = createOrderWithMultipleItems(List.of(first, second), new BigDecimal("1100.00"));
+            Product product = createProduct(true);
+
+            assertTrue(corporateItemHandler.validate(first, product, order).isValid());
+            assertTrue(corporateItemHandler.validate(second, product, order).isValid());
+
+            verify(creditLedger).reserve("12345678000190", order.id(), new BigDecimal("600.00"), 30);
+            verify(creditLedger).reserve("98765432000110", order.id(), new BigDecimal("500.00"), 90);
+        }
     }
 
     @Nested
@@ -354,7 +382,7 @@ class CorporateProductValidationTest {
             BigDecimal expectedDiscount = price
                     .multiply(BigDecimal.valueOf(100))
                     .multiply(BigDecimal.valueOf(0.15));
-            assertEquals(expectedDiscount, discountAmount);
+            assertEquals(expectedDiscount.stripTrailingZeros(), discountAmount.stripTrailingZeros());
         }
 
         @Test
@@ -387,7 +415,7 @@ class CorporateProductValidationTest {
             BigDecimal expectedDiscount = price
                     .multiply(BigDecimal.valueOf(100))
                     .multiply(BigDecimal.valueOf(0.15));
-            assertEquals(expectedDiscount, discountAmount);
+            assertEquals(expectedDiscount.stripTrailingZeros(), discountAmount.stripTrailingZeros());
         }
 
         @Test
@@ -405,7 +433,7 @@ class CorporateProductValidationTest {
             BigDecimal expectedDiscount = price
                     .multiply(BigDecimal.valueOf(200))
                     .multiply(BigDecimal.valueOf(0.15));
-            assertEquals(expectedDiscount, discountAmount);
+            assertEquals(expectedDiscount.stripTrailingZeros(), discountAmount.stripTrailingZeros());
         }
 
         @Test
@@ -431,8 +459,8 @@ class CorporateProductValidationTest {
             BigDecimal expectedDiscount2 = price
                     .multiply(BigDecimal.valueOf(200))
                     .multiply(BigDecimal.valueOf(0.15));
-            assertEquals(expectedDiscount1, discount1);
-            assertEquals(expectedDiscount2, discount2);
+            assertEquals(expectedDiscount1.stripTrailingZeros(), discount1.stripTrailingZeros());
+            assertEquals(expectedDiscount2.stripTrailingZeros(), discount2.stripTrailingZeros());
         }
 
         @Test
@@ -486,7 +514,7 @@ class CorporateProductValidationTest {
             BigDecimal expectedDiscount = price
                     .multiply(BigDecimal.valueOf(200))
                     .multiply(BigDecimal.valueOf(0.15));
-            assertEquals(expectedDiscount, discountAmount);
+            assertEquals(expectedDiscount.stripTrailingZeros(), discountAmount.stripTrailingZeros());
         }
     }
 }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -12,6 +13,7 @@ import static org.mockito.Mockito.when;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.UUID;
 
 import com.loomi.order.app.service.order.handler.DigitalItemHandler;
@@ -25,6 +27,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.loomi.order.domain.customer.usecase.CustomerStateStore;
 import com.loomi.order.domain.notification.usecase.EmailService;
 import com.loomi.order.domain.order.dto.OrderProcessResult;
 import com.loomi.order.domain.order.entity.Order;
@@ -36,7 +39,7 @@ import com.loomi.order.domain.product.dto.ProductType;
 import com.loomi.order.domain.product.dto.RawProductMetadata;
 import com.loomi.order.domain.product.dto.ValidationResult;
 import com.loomi.order.domain.product.entity.Product;
-import com.loomi.order.domain.product.repository.ProductRepository;
+import com.loomi.order.domain.product.usecase.StockReservationService;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Digital Product Handler Tests")
@@ -47,7 +50,7 @@ class DigitalProductValidationTest {
     private String testCustomerId;
 
     @Mock
-    private ProductRepository productRepository;
+    private StockReservationService stockReservations;
 
     @Mock
     private OrderRepository orderRepository;
@@ -55,6 +58,9 @@ class DigitalProductValidationTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private CustomerStateStore customerStates;
+
     @InjectMocks
     private DigitalItemHandler digitalItemHandler;
 
@@ -68,7 +74,6 @@ class DigitalProductValidationTest {
     private OrderItem createOrderItem(int quantity, String customerId, RawProductMetadata metadata) {
         return OrderItem.builder()
                 .productId(testProductId)
-                .customerId(customerId)
                 .quantity(quantity)
                 .productType(ProductType.DIGITAL)
                 .price(BigDecimal.valueOf(39.90))
@@ -190,6 +195,7 @@ class DigitalProductValidationTest {
             when(orderRepository.findByCustomerIdAndProductIdAndStatus(
                     testCustomerId, testProductId, OrderStatus.PROCESSED))
                     .thenReturn(new ArrayList<>());
+            when(stockReservations.hold(testOrderId, testProductId, 1)).thenReturn(true);
 
             ValidationResult result = digitalItemHandler.validate(item, product, order);
 
@@ -197,12 +203,35 @@ class DigitalProductValidationTest {
             verify(orderRepository).findByCustomerIdAndProductIdAndStatus(
                     testCustomerId, testProductId, OrderStatus.PROCESSED);
         }
+
+        @Test
+        @DisplayName("shouldReturnLicenseUnavailable_whenLicenseCannotBeHeld")
+        void shouldReturnLicenseUnavailable_whenLicenseCannotBeHeld() {
+            OrderItem item = createOrderItem(1, testCustomerId, new RawProductMetadata());
+            Product product = createProduct(1, true);
+            Order order = createOrder(item);
+
+            when(orderRepository.findByCustomerIdAndProductIdAndStatus(
+                    testCustomerId, testProductId, OrderStatus.PROCESSED))
+                    .thenReturn(new ArrayList<>());
+            when(stockReservations.hold(testOrderId, testProductId, 1)).thenReturn(false);
+
+            ValidationResult result = digitalItemHandler.validate(item, product, order);
+
+            assertFalse(result.isValid());
+            assertTrue(result.getErrors().contains(OrderError.LICENSE_UNAVAILABLE.toString()));
+        }
     }
 
     @Nested
     @DisplayName("Process Tests")
     class ProcessTests {
 
+        @BeforeEach
+        void setUp() {
+            when(stockReservations.commit(any(), any(), anyInt())).thenReturn(OptionalInt.of(99));
+        }
+
         @Test
         @DisplayName("shouldReserveLicenseAndSendEmailSuccessfully_whenAllValidationsPass")
         void shouldReserveLicenseAndSendEmailSuccessfully_whenAllValidationsPass() {
@@ -215,10 +244,7 @@ class DigitalProductValidationTest {
 
             assertTrue(result.isProcessed());
 
-            ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
-            verify(productRepository).update(productCaptor.capture());
-            Product updatedProduct = productCaptor.getValue();
-            assertEquals(99, updatedProduct.stockQuantity());
+            verify(stockReservations).commit(testOrderId, testProductId, 1);
 
             ArgumentCaptor<String> emailCaptor = ArgumentCaptor.forClass(String.class);
             ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
@@ -255,11 +281,9 @@ class DigitalProductValidationTest {
 
             assertTrue(result.isProcessed());
 
-            ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
-            verify(productRepository).update(productCaptor.capture());
-            Product updatedProduct = productCaptor.getValue();
             // Should reserve only 1 license even if quantity is 5
-            assertEquals(99, updatedProduct.stockQuantity());
+            verify(stockReservations).commit(testOrderId, testProductId, 1);
+            assertEquals(1, item.quantity());
         }
 
         @Test
@@ -272,7 +296,7 @@ class DigitalProductValidationTest {
             OrderProcessResult result = digitalItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
-            verify(productRepository).update(any());
+            verify(stockReservations).commit(testOrderId, testProductId, 1);
             verify(emailService).sendTo(any(), any());
         }
     }
@@ -43,7 +43,6 @@ class HighValueOrderHandlerTest {
     private Order createOrder(BigDecimal totalAmount) {
         OrderItem item = OrderItem.builder()
                 .productId(UUID.randomUUID())
-                .customerId(testCustomerId)
                 .quantity(1)
                 .productType(ProductType.PHYSICAL)
                 .price(totalAmount)
@@ -56,7 +56,6 @@ class PaymentOrderHandlerTest {
     private Order createOrder(BigDecimal totalAmount) {
         OrderItem item = OrderItem.builder()
                 .productId(UUID.randomUUID())
-                .customerId(testCustomerId)
                 .quantity(1)
                 .productType(ProductType.PHYSICAL)
                 .price(totalAmount)
@@ -4,10 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.util.OptionalInt;
 import java.util.UUID;
 
 import com.loomi.order.app.service.order.handler.PhysicalItemHandler;
@@ -31,7 +34,7 @@ import com.loomi.order.domain.product.dto.ProductType;
 import com.loomi.order.domain.product.dto.RawProductMetadata;
 import com.loomi.order.domain.product.dto.ValidationResult;
 import com.loomi.order.domain.product.entity.Product;
-import com.loomi.order.domain.product.repository.ProductRepository;
+import com.loomi.order.domain.product.usecase.StockReservationService;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Physical Product Handler Tests")
@@ -41,7 +44,7 @@ class PhysicalProductValidationTest {
     private UUID testOrderId;
 
     @Mock
-    private ProductRepository productRepository;
+    private StockReservationService stockReservations;
 
     @Mock
     private AlertEventPublisher alertProducer;
@@ -56,7 +59,7 @@ class PhysicalProductValidationTest {
         testProductId = UUID.randomUUID();
         testOrderId = UUID.randomUUID();
         deliveryService = new DeliveryService();
-        physicalItemHandler = new PhysicalItemHandler(productRepository, alertProducer, deliveryService);
+        physicalItemHandler = new PhysicalItemHandler(stockReservations, alertProducer, deliveryService);
     }
 
     private OrderItem createOrderItem(int quantity, RawProductMetadata metadata) {
@@ -179,6 +182,8 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.hold(any(), any(), anyInt())).thenReturn(true);
+
             ValidationResult result = physicalItemHandler.validate(item, product, order);
 
             assertTrue(result.isValid());
@@ -191,6 +196,8 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.hold(any(), any(), anyInt())).thenReturn(true);
+
             ValidationResult result = physicalItemHandler.validate(item, product, order);
 
             assertTrue(result.isValid());
@@ -203,6 +210,8 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.hold(any(), any(), anyInt())).thenReturn(true);
+
             ValidationResult result = physicalItemHandler.validate(item, product, order);
 
             assertTrue(result.isValid());
@@ -215,6 +224,8 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.hold(any(), any(), anyInt())).thenReturn(true);
+
             ValidationResult result = physicalItemHandler.validate(item, product, order);
 
             assertTrue(result.isValid());
@@ -227,6 +238,8 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.hold(any(), any(), anyInt())).thenReturn(true);
+
             ValidationResult result = physicalItemHandler.validate(item, product, order);
 
             assertTrue(result.isValid());
@@ -278,16 +291,49 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.hold(any(), any(), anyInt())).thenReturn(true);
+
             ValidationResult result = physicalItemHandler.validate(item, product, order);
 
             assertTrue(result.isValid());
         }
+
+        @Test
+        @DisplayName("shouldReturnOutOfStock_whenStockCannotBeHeld")
+        void shouldReturnOutOfStock_whenStockCannotBeHeld() {
+            OrderItem item = createOrderItem(5, createMetadata("SP"));
+            Product product = createProduct(5, true);
+            Order order = createOrder(item);
+
+            when(stockReservations.hold(testOrderId, testProductId, 5)).thenReturn(false);
+
+            ValidationResult result = physicalItemHandler.validate(item, product, order);
+
+            assertFalse(result.isValid());
+            assertTrue(result.getErrors().contains(OrderError.OUT_OF_STOCK.toString()));
+        }
     }
 
     @Nested
     @DisplayName("Process Tests")
     class ProcessTests {
 
+        @Test
+        @DisplayName("shouldFailWithOutOfStock_whenHoldExpiredAndStockIsGone")
+        void shouldFailWithOutOfStock_whenHoldExpiredAndStockIsGone() {
+            OrderItem item = createOrderItem(5, createMetadata("SP"));
+            Product product = createProduct(100, true);
+            Order order = createOrder(item);
+
+            when(stockReservations.commit(testOrderId, testProductId, 5)).thenReturn(OptionalInt.empty());
+
+            OrderProcessResult result = physicalItemHandler.process(item, product, order);
+
+            assertFalse(result.isProcessed());
+            assertTrue(result.getErrors().contains(OrderError.OUT_OF_STOCK.toString()));
+            verify(alertProducer, never()).sendLowStockAlert(any());
+        }
+
         @Test
         @DisplayName("shouldUpdateStockSuccessfully_whenStockIsSufficient")
         void shouldUpdateStockSuccessfully_whenStockIsSufficient() {
@@ -295,13 +341,12 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.commit(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(95));
+
             OrderProcessResult result = physicalItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
-            ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
-            verify(productRepository).update(productCaptor.capture());
-            Product updatedProduct = productCaptor.getValue();
-            assertEquals(95, updatedProduct.stockQuantity());
+            verify(stockReservations).commit(testOrderId, testProductId, item.quantity());
             verify(alertProducer, never()).sendLowStockAlert(any());
         }
 
@@ -312,13 +357,12 @@ class PhysicalProductValidationTest {
             Product product = createProduct(12, true);
             Order order = createOrder(item);
 
+            when(stockReservations.commit(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(2));
+
             OrderProcessResult result = physicalItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
-            ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
-            verify(productRepository).update(productCaptor.capture());
-            Product updatedProduct = productCaptor.getValue();
-            assertEquals(2, updatedProduct.stockQuantity());
+            verify(stockReservations).commit(testOrderId, testProductId, item.quantity());
 
             ArgumentCaptor<LowStockAlertEvent> alertCaptor = ArgumentCaptor.forClass(LowStockAlertEvent.class);
             verify(alertProducer).sendLowStockAlert(alertCaptor.capture());
@@ -335,13 +379,12 @@ class PhysicalProductValidationTest {
             Product product = createProduct(10, true);
             Order order = createOrder(item);
 
+            when(stockReservations.commit(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(5));
+
             OrderProcessResult result = physicalItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
-            ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
-            verify(productRepository).update(productCaptor.capture());
-            Product updatedProduct = productCaptor.getValue();
-            assertEquals(5, updatedProduct.stockQuantity());
+            verify(stockReservations).commit(testOrderId, testProductId, item.quantity());
 
             verify(alertProducer, never()).sendLowStockAlert(any());
         }
@@ -353,13 +396,12 @@ class PhysicalProductValidationTest {
             Product product = createProduct(20, true);
             Order order = createOrder(item);
 
+            when(stockReservations.commit(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(15));
+
             OrderProcessResult result = physicalItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
-            ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
-            verify(productRepository).update(productCaptor.capture());
-            Product updatedProduct = productCaptor.getValue();
-            assertEquals(15, updatedProduct.stockQuantity());
+            verify(stockReservations).commit(testOrderId, testProductId, item.quantity());
 
             verify(alertProducer, never()).sendLowStockAlert(any());
         }
@@ -371,6 +413,8 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.commit(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = physicalItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
@@ -384,6 +428,8 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.commit(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = physicalItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
@@ -397,6 +443,8 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.commit(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = physicalItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
@@ -410,6 +458,8 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.commit(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = physicalItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
@@ -423,6 +473,8 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.commit(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = physicalItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
@@ -436,6 +488,8 @@ class PhysicalProductValidationTest {
             Product product = createProduct(100, true);
             Order order = createOrder(item);
 
+            when(stockReservations.commit(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = physicalItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
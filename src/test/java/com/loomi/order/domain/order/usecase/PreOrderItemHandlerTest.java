@@ -4,14 +4,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.OptionalInt;
 import java.util.UUID;
 
 import com.loomi.order.app.service.order.handler.PreOrderItemHandler;
+import com.loomi.order.app.service.product.PreOrderSlotAllocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.loomi.order.domain.order.dto.OrderProcessResult;
 import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.repository.PreOrderReleaseRepository;
 import com.loomi.order.domain.order.valueobject.OrderError;
 import com.loomi.order.domain.order.valueobject.OrderItem;
 import com.loomi.order.domain.product.dto.ProductType;
@@ -40,6 +44,12 @@ class PreOrderItemHandlerTest {
     private UUID testOrderId;
     private String testCustomerId;
 
+    @Mock
+    private PreOrderSlotAllocator slotAllocator;
+
+    @Mock
+    private PreOrderReleaseRepository releaseRepository;
+
     @Mock
     private DeliveryService deliveryService;
 
@@ -56,7 +66,6 @@ class PreOrderItemHandlerTest {
     private OrderItem createOrderItem(int quantity, BigDecimal price, RawProductMetadata metadata) {
         return OrderItem.builder()
                 .productId(testProductId)
-                .customerId(testCustomerId)
                 .quantity(quantity)
                 .productType(ProductType.PRE_ORDER)
                 .price(price)
@@ -264,6 +273,22 @@ class PreOrderItemHandlerTest {
             assertTrue(result.getErrors().contains(OrderError.PRE_ORDER_SOLD_OUT.toString()));
         }
 
+        @Test
+        @DisplayName("shouldReturnPreOrderSoldOut_whenNoSlotCanBeClaimed")
+        void shouldReturnPreOrderSoldOut_whenNoSlotCanBeClaimed() {
+            LocalDate futureDate = LocalDate.now().plusDays(30);
+            RawProductMetadata productMetadata = createMetadataWithReleaseDate(futureDate.format(DATE_FORMATTER));
+            OrderItem item = createOrderItem(2, BigDecimal.valueOf(100.00), null);
+            Product product = createProduct(true, 100, productMetadata);
+            Order order = createOrder(item);
+            when(slotAllocator.claim(testOrderId, testProductId, 2)).thenReturn(false);
+
+            ValidationResult result = preOrderItemHandler.validate(item, product, order);
+
+            assertFalse(result.isValid());
+            assertTrue(result.getErrors().contains(OrderError.PRE_ORDER_SOLD_OUT.toString()));
+        }
+
         @Test
         @DisplayName("shouldReturnOk_whenAllValidationsPass")
         void shouldReturnOk_whenAllValidationsPass() {
@@ -273,6 +298,8 @@ class PreOrderItemHandlerTest {
             Product product = createProduct(true, 100, productMetadata);
             Order order = createOrder(item);
 
+            when(slotAllocator.claim(testOrderId, testProductId, item.quantity())).thenReturn(true);
+
             ValidationResult result = preOrderItemHandler.validate(item, product, order);
 
             assertTrue(result.isValid());
@@ -310,6 +337,23 @@ class PreOrderItemHandlerTest {
             assertTrue(result.getErrors().contains(OrderError.INVALID_RELEASE_DATE.toString()));
         }
 
+        @Test
+        @DisplayName("shouldReturnPreOrderSoldOut_whenSlotCannotBeConfirmed")
+        void shouldReturnPreOrderSoldOut_whenSlotCannotBeConfirmed() {
+            LocalDate futureDate = LocalDate.now().plusDays(30);
+            RawProductMetadata productMetadata = createMetadataWithReleaseDate(futureDate.format(DATE_FORMATTER));
+            OrderItem item = createOrderItem(1, BigDecimal.valueOf(100.00), null);
+            Product product = createProduct(true, 100, productMetadata);
+            Order order = createOrder(item);
+            when(slotAllocator.confirm(testOrderId, testProductId, 1)).thenReturn(OptionalInt.empty());
+
+            OrderProcessResult result = preOrderItemHandler.process(item, product, order);
+
+            assertFalse(result.isProcessed());
+            assertTrue(result.getErrors().contains(OrderError.PRE_ORDER_SOLD_OUT.toString()));
+            assertTrue(item.metadata() == null || !item.metadata().containsKey("maxCancellationDate"));
+        }
+
         @Test
         @DisplayName("shouldProcessSuccessfully_andAddReleaseDateAndMaxCancellationDate")
         void shouldProcessSuccessfully_andAddReleaseDateAndMaxCancellationDate() {
@@ -319,6 +363,8 @@ class PreOrderItemHandlerTest {
             Product product = createProduct(true, 100, productMetadata);
             Order order = createOrder(item);
 
+            when(slotAllocator.confirm(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = preOrderItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
@@ -327,6 +373,7 @@ class PreOrderItemHandlerTest {
             
             LocalDate expectedMaxCancellationDate = futureDate.minusDays(7);
             assertEquals(expectedMaxCancellationDate.format(DATE_FORMATTER), item.metadata().get("maxCancellationDate"));
+            verify(releaseRepository).register(testOrderId, testProductId, futureDate);
         }
 
         @Test
@@ -338,6 +385,8 @@ class PreOrderItemHandlerTest {
             Product product = createProduct(true, 100, productMetadata);
             Order order = createOrder(item);
 
+            when(slotAllocator.confirm(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = preOrderItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
@@ -356,6 +405,8 @@ class PreOrderItemHandlerTest {
 
             when(deliveryService.calculateDeliveryDays("SP")).thenReturn(5);
 
+            when(slotAllocator.confirm(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = preOrderItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
@@ -371,6 +422,8 @@ class PreOrderItemHandlerTest {
             Product product = createProduct(true, 100, productMetadata);
             Order order = createOrder(item);
 
+            when(slotAllocator.confirm(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = preOrderItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
@@ -387,6 +440,8 @@ class PreOrderItemHandlerTest {
             Product product = createProduct(true, 100, productMetadata);
             Order order = createOrder(item);
 
+            when(slotAllocator.confirm(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = preOrderItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
@@ -403,10 +458,12 @@ class PreOrderItemHandlerTest {
             Product product = createProduct(true, 100, productMetadata);
             Order order = createOrder(item);
 
+            when(slotAllocator.confirm(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = preOrderItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
-            assertEquals(originalPrice, item.price());
+            assertEquals(originalPrice.stripTrailingZeros(), item.price().stripTrailingZeros());
         }
 
         @Test
@@ -419,6 +476,8 @@ class PreOrderItemHandlerTest {
             Product product = createProduct(true, 100, productMetadata);
             Order order = createOrder(item);
 
+            when(slotAllocator.confirm(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = preOrderItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
@@ -434,11 +493,14 @@ class PreOrderItemHandlerTest {
             Product product = createProduct(true, 100, productMetadata);
             Order order = createOrder(item);
 
+            when(slotAllocator.confirm(testOrderId, testProductId, item.quantity())).thenReturn(OptionalInt.of(99));
+
             OrderProcessResult result = preOrderItemHandler.process(item, product, order);
 
             assertTrue(result.isProcessed());
             LocalDate expectedMaxCancellationDate = futureDate.minusDays(7);
             assertEquals(expectedMaxCancellationDate.format(DATE_FORMATTER), item.metadata().get("maxCancellationDate"));
+            verify(releaseRepository).register(testOrderId, testProductId, futureDate);
         }
     }
 }
@@ -2,6 +2,9 @@ package com.loomi.order.domain.order.usecase;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -18,6 +21,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.loomi.order.domain.customer.usecase.CustomerStateStore;
 import com.loomi.order.domain.order.entity.Order;
 import com.loomi.order.domain.order.repository.OrderRepository;
 import com.loomi.order.domain.order.valueobject.OrderError;
@@ -27,6 +31,7 @@ import com.loomi.order.domain.product.dto.ProductType;
 import com.loomi.order.domain.product.dto.RawProductMetadata;
 import com.loomi.order.domain.product.dto.ValidationResult;
 import com.loomi.order.domain.product.entity.Product;
+import com.loomi.order.domain.subscription.repository.SubscriptionScheduleRepository;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Subscription Product Handler Tests")
@@ -46,7 +51,6 @@ class SubscriptionProductValidationTest {
     private OrderItem createOrderItem(String customerId, RawProductMetadata metadata) {
         return OrderItem.builder()
                 .productId(testProductId)
-                .customerId(customerId)
                 .quantity(1)
                 .productType(ProductType.SUBSCRIPTION)
                 .price(BigDecimal.valueOf(29.90))
@@ -85,6 +89,12 @@ class SubscriptionProductValidationTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private SubscriptionScheduleRepository subscriptionSchedule;
+
+    @Mock
+    private CustomerStateStore customerStates;
+
     @InjectMocks
     private SubscriptionItemHandler subscriptionItemHandler;
 
@@ -305,5 +315,19 @@ class SubscriptionProductValidationTest {
         assertFalse(result.isValid());
         assertTrue(result.getErrors().contains(OrderError.INCOMPATIBLE_SUBSCRIPTIONS.toString()));
     }
-}
 
+    @Test
+    @DisplayName("shouldScheduleNextCharge_whenItemIsProcessed")
+    void shouldScheduleNextCharge_whenItemIsProcessed() {
+        RawProductMetadata metadata = createMetadataWithGroupId(testGroupId);
+        OrderItem item = createOrderItem(testCustomerId, metadata);
+        Product product = createProduct(true, metadata);
+        Order orderCtx = createOrderContext(List.of(item));
+
+        var result = subscriptionItemHandler.process(item, product, orderCtx);
+
+        assertTrue(result.isProcessed());
+        verify(subscriptionSchedule).register(
+                eq(orderCtx.id()), eq(testProductId), eq(testCustomerId), eq(new BigDecimal("29.90")), any());
+    }
+}
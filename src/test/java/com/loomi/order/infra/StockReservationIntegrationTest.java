@@ -0,0 +1,141 @@
+package com.loomi.order.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.loomi.order.app.config.StockReservationConfig;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.entity.Product;
+import com.loomi.order.domain.product.repository.ProductRepository;
+import com.loomi.order.infra.persistence.product.ProductRepositoryImpl;
+import com.loomi.order.infra.persistence.product.StockReservationServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Reservations commit in their own transactions, so the test must not wrap them in one
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Testcontainers
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ProductRepositoryImpl.class, StockReservationServiceImpl.class, StockReservationConfig.class,
+        SimpleMeterRegistry.class})
+class StockReservationIntegrationTest {
+
+        @Container
+        static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("order")
+        .withUsername("appuser")
+        .withPassword("apppass");
+
+        @BeforeAll
+        static void beforeAll() {
+                postgres.start();
+        }
+
+        @AfterAll
+        static void afterAll() {
+                postgres.stop();
+        }
+
+        @DynamicPropertySource
+        static void configureProperties(DynamicPropertyRegistry registry) {
+                registry.add("spring.datasource.url", postgres::getJdbcUrl);
+                registry.add("spring.datasource.username", postgres::getUsername);
+                registry.add("spring.datasource.password", postgres::getPassword);
+        }
+
+        @Autowired
+        private ProductRepository productRepository;
+
+        @Autowired
+        private StockReservationServiceImpl reservations;
+
+        @Autowired
+        private StockReservationConfig config;
+
+        private UUID productId;
+
+        @BeforeEach
+        void setUp() {
+                config.setHoldTtlMs(300000);
+                productId = productRepository.save(Product.builder()
+                                .name("Reserved Product")
+                                .productType(ProductType.PHYSICAL)
+                                .price(new BigDecimal("10.00"))
+                                .stockQuantity(5)
+                                .isActive(true)
+                                .build()).id();
+        }
+
+        private int stock() {
+                return productRepository.findById(productId).orElseThrow().stockQuantity();
+        }
+
+        @Test
+        void shouldRejectHold_whenRemainingStockIsAlreadyHeld() {
+                assertThat(reservations.hold(UUID.randomUUID(), productId, 4)).isTrue();
+
+                assertThat(reservations.hold(UUID.randomUUID(), productId, 2)).isFalse();
+                assertThat(stock()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldNotHoldTwice_whenSameOrderRetries() {
+                var orderId = UUID.randomUUID();
+
+                assertThat(reservations.hold(orderId, productId, 2)).isTrue();
+                assertThat(reservations.hold(orderId, productId, 2)).isTrue();
+
+                assertThat(stock()).isEqualTo(3);
+        }
+
+        @Test
+        void shouldReturnStock_whenOrderIsReleased() {
+                var orderId = UUID.randomUUID();
+                reservations.hold(orderId, productId, 3);
+
+                assertThat(reservations.release(orderId)).isEqualTo(1);
+                assertThat(stock()).isEqualTo(5);
+        }
+
+        @Test
+        void shouldConvertHoldToSale_whenCommitted() {
+                var orderId = UUID.randomUUID();
+                reservations.hold(orderId, productId, 2);
+
+                assertThat(reservations.commit(orderId, productId, 2)).hasValue(3);
+                assertThat(reservations.expireBatch()).isZero();
+                assertThat(stock()).isEqualTo(3);
+        }
+
+        @Test
+        void shouldReturnExpiredHolds_andTakeStockAgainOnCommit() {
+                config.setHoldTtlMs(0);
+                var orderId = UUID.randomUUID();
+                reservations.hold(orderId, productId, 2);
+
+                assertThat(reservations.expireBatch()).isEqualTo(1);
+                assertThat(stock()).isEqualTo(5);
+
+                assertThat(reservations.commit(orderId, productId, 2)).hasValue(3);
+        }
+}
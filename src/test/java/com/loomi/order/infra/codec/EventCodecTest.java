@@ -0,0 +1,189 @@
+package com.loomi.order.infra.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loomi.order.domain.order.entity.OrderCreatedEvent;
+import com.loomi.order.domain.order.entity.OrderCreatedPayload;
+import com.loomi.order.domain.order.entity.OrderFailedEvent;
+import com.loomi.order.domain.order.valueobject.MinorUnits;
+import com.loomi.order.domain.order.valueobject.OrderItem;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.infra.event.codec.BinaryEventReader;
+import com.loomi.order.infra.event.codec.BinaryEventWriter;
+import com.loomi.order.infra.event.codec.EventDeserializer;
+import com.loomi.order.infra.event.codec.EventFrame;
+import com.loomi.order.infra.event.codec.EventSerializer;
+
+@DisplayName("Event Codec Tests")
+class EventCodecTest {
+
+    private static final String BINARY_TOPIC = "order-created";
+    private static final String JSON_TOPIC = "order-created-json";
+
+    private ObjectMapper objectMapper;
+    private EventSerializer<OrderCreatedEvent> serializer;
+    private EventDeserializer<OrderCreatedEvent> deserializer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        serializer = new EventSerializer<>(new JsonSerializer<>(objectMapper), Set.of(BINARY_TOPIC));
+        var json = new JsonDeserializer<>(OrderCreatedEvent.class, objectMapper, false);
+        deserializer = new EventDeserializer<>(json);
+    }
+
+    private OrderCreatedEvent createEvent() {
+        var metadata = new RawProductMetadata();
+        metadata.put("warehouseLocation", "SP");
+        metadata.put("deliveryDays", 3);
+        metadata.put("discount", 12.5);
+        metadata.put("tags", List.of("gift", "express"));
+        metadata.put("address", Map.of("city", "Campinas"));
+
+        var item = OrderItem.builder()
+                .productId(UUID.randomUUID())
+                .quantity(2)
+                .productType(ProductType.PHYSICAL)
+                .price(new BigDecimal("199.90"))
+                .metadata(metadata)
+                .build();
+
+        var event = new OrderCreatedEvent(new OrderCreatedPayload(
+                UUID.randomUUID(), "customer-123", OrderStatus.PENDING, new BigDecimal("399.80"), List.of(item)));
+        event.setTimestamp(LocalDateTime.of(2025, 3, 10, 14, 30, 15, 123456789));
+        return event;
+    }
+
+    @Test
+    @DisplayName("shouldRoundTripOrderCreatedEvent_whenTopicIsBinary")
+    void shouldRoundTripOrderCreatedEvent_whenTopicIsBinary() {
+        var event = createEvent();
+
+        var bytes = serializer.serialize(BINARY_TOPIC, event);
+
+        assertTrue(EventFrame.isBinary(bytes));
+        assertEquals(event, deserializer.deserialize(BINARY_TOPIC, bytes));
+    }
+
+    @Test
+    @DisplayName("shouldKeepJsonAndStillDecode_whenTopicIsNotBinary")
+    void shouldKeepJsonAndStillDecode_whenTopicIsNotBinary() {
+        var event = createEvent();
+
+        var bytes = serializer.serialize(JSON_TOPIC, event);
+
+        assertEquals('{', bytes[0]);
+        assertEquals(event.getPayload().getId(), deserializer.deserialize(JSON_TOPIC, bytes).getPayload().getId());
+    }
+
+    @Test
+    @DisplayName("shouldBeSmallerThanJson_forOrderCreatedEvent")
+    void shouldBeSmallerThanJson_forOrderCreatedEvent() {
+        var event = createEvent();
+
+        var binary = serializer.serialize(BINARY_TOPIC, event);
+        var json = serializer.serialize(JSON_TOPIC, event);
+
+        assertTrue(binary.length < json.length / 2);
+    }
+
+    @Test
+    @DisplayName("shouldRoundTripOrderFailedEvent")
+    void shouldRoundTripOrderFailedEvent() {
+        var failedSerializer = new EventSerializer<OrderFailedEvent>(
+                new JsonSerializer<>(objectMapper), Set.of("order-failed"));
+        var failedDeserializer = new EventDeserializer<>(
+                new JsonDeserializer<>(OrderFailedEvent.class, objectMapper, false));
+        var event = OrderFailedEvent.fromOrder(UUID.randomUUID(), "OUT_OF_STOCK");
+
+        var decoded = failedDeserializer.deserialize("order-failed", failedSerializer.serialize("order-failed", event));
+
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    @DisplayName("shouldRejectNewerSchemaVersion")
+    void shouldRejectNewerSchemaVersion() {
+        var bytes = serializer.serialize(BINARY_TOPIC, createEvent());
+        bytes[1] = (byte) (EventFrame.SCHEMA_VERSION + 1);
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(BINARY_TOPIC, bytes));
+    }
+
+    @Test
+    @DisplayName("shouldRejectElementCountBeyondFrame_beforeAllocating")
+    void shouldRejectElementCountBeyondFrame_beforeAllocating() {
+        var writer = new BinaryEventWriter(16);
+        writer.writeVarInt(Integer.MAX_VALUE);
+        writer.writeByte(0);
+        var bytes = writer.toByteArray();
+
+        assertThrows(SerializationException.class, () -> new BinaryEventReader(bytes, 0).readList(() -> null));
+        assertThrows(SerializationException.class, () -> new BinaryEventReader(bytes, 0).readMap(new HashMap<>()));
+        var list = new BinaryEventWriter(16);
+        // LIST value tag
+        list.writeByte(7);
+        list.writeVarInt(1_000_000);
+        var listBytes = list.toByteArray();
+        assertThrows(SerializationException.class, () -> new BinaryEventReader(listBytes, 0).readValue());
+    }
+
+    @Test
+    @DisplayName("shouldReadLegacyJsonItems_whenItemCarriesCustomerId")
+    void shouldReadLegacyJsonItems_whenItemCarriesCustomerId() throws Exception {
+        var productId = UUID.randomUUID();
+        var json = """
+                {"product_id": "%s", "customer_id": "customer-123", "quantity": 2,
+                 "product_type": "PHYSICAL", "price": 199.9, "metadata": {"warehouseLocation": "SP"}}
+                """.formatted(productId);
+
+        var item = objectMapper.readValue(json, OrderItem.class);
+
+        assertEquals(productId, item.productId());
+        assertEquals(19990L, item.priceMinor());
+        assertEquals(new BigDecimal("399.80"), item.getTotalPrice());
+        var written = objectMapper.readTree(objectMapper.writeValueAsString(item));
+        assertEquals(199.90, written.get("price").doubleValue());
+        assertTrue(written.path("customer_id").isMissingNode());
+        assertTrue(written.path("price_minor").isMissingNode());
+    }
+
+    @Test
+    @DisplayName("shouldRejectPrice_whenItHasMoreThanTwoDecimals")
+    void shouldRejectPrice_whenItHasMoreThanTwoDecimals() {
+        var json = """
+                {"product_id": "%s", "quantity": 1, "product_type": "PHYSICAL", "price": 19.999}
+                """.formatted(UUID.randomUUID());
+
+        assertThrows(InvalidFormatException.class, () -> objectMapper.readValue(json, OrderItem.class));
+    }
+
+    @Test
+    @DisplayName("shouldRoundHalfEven_whenComputedAmountHasMoreThanTwoDecimals")
+    void shouldRoundHalfEven_whenComputedAmountHasMoreThanTwoDecimals() {
+        assertEquals(1998L, MinorUnits.of(new BigDecimal("19.985")));
+        assertEquals(2000L, MinorUnits.of(new BigDecimal("19.995")));
+    }
+}
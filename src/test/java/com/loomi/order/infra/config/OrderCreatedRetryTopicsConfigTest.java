@@ -0,0 +1,86 @@
+package com.loomi.order.infra.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.retrytopic.BackOffValuesGenerator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.loomi.order.app.config.KafkaTopologyConfig;
+import com.loomi.order.app.config.RetryTopicsConfig;
+
+@DisplayName("Order Created Retry Topics Tests")
+class OrderCreatedRetryTopicsConfigTest {
+
+    private RetryTopicsConfig config;
+    private OrderCreatedRetryTopicsConfig retryTopics;
+
+    @BeforeEach
+    void setUp() {
+        config = new RetryTopicsConfig();
+        config.setTiers(List.of(
+                new RetryTopicsConfig.Tier(1000, 4),
+                new RetryTopicsConfig.Tier(30000, 2),
+                new RetryTopicsConfig.Tier(300000, 1)));
+        var topology = new KafkaTopologyConfig();
+        topology.getPartitions().put("order-created", 4);
+        retryTopics = new OrderCreatedRetryTopicsConfig(config, topology);
+        ReflectionTestUtils.setField(retryTopics, "orderCreatedTopic", "order-created");
+    }
+
+    @Test
+    @DisplayName("shouldGenerateOneDelayPerTier")
+    void shouldGenerateOneDelayPerTier() {
+        var delays = new BackOffValuesGenerator(4, new TieredBackOffPolicy(1000, 30000, 300000)).generateValues();
+
+        assertEquals(List.of(1000L, 30000L, 300000L), delays);
+    }
+
+    @Test
+    @DisplayName("shouldApplyTierConcurrency_toRetryTopicContainers")
+    void shouldApplyTierConcurrency_toRetryTopicContainers() {
+        var container = container("order-created-retry-30000");
+
+        retryTopics.applyTierConcurrency(container);
+
+        verify(container).setConcurrency(2);
+    }
+
+    @Test
+    @DisplayName("shouldNotConfuseTiersWhoseDelaysSharePrefix")
+    void shouldNotConfuseTiersWhoseDelaysSharePrefix() {
+        var container = container("order-created-retry-300000");
+
+        retryTopics.applyTierConcurrency(container);
+
+        verify(container).setConcurrency(1);
+    }
+
+    @Test
+    @DisplayName("shouldLeaveMainTopicContainerUntouched")
+    void shouldLeaveMainTopicContainerUntouched() {
+        var container = container("order-created");
+
+        retryTopics.applyTierConcurrency(container);
+
+        verify(container, never()).setConcurrency(anyInt());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMessageListenerContainer<Object, Object> container(String topic) {
+        ConcurrentMessageListenerContainer<Object, Object> container = mock(ConcurrentMessageListenerContainer.class);
+        when(container.getContainerProperties()).thenReturn(new ContainerProperties(topic));
+        return container;
+    }
+}
@@ -2,10 +2,13 @@ package com.loomi.order.infra.consumer;
 
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,16 +23,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
 
 import com.loomi.order.app.service.order.OrderProcessPipeline;
+import com.loomi.order.domain.customer.usecase.CustomerStateStore;
 import com.loomi.order.domain.order.dto.OrderProcessResult;
 import com.loomi.order.domain.order.entity.Order;
 import com.loomi.order.domain.order.entity.OrderCreatedEvent;
 import com.loomi.order.domain.order.entity.OrderCreatedPayload;
 import com.loomi.order.domain.order.entity.OrderProcessedEvent;
 import com.loomi.order.domain.event.usecase.OrderEventPublisher;
+import com.loomi.order.domain.order.repository.OrderCheckpointRepository;
 import com.loomi.order.domain.order.repository.OrderRepository;
 import com.loomi.order.domain.order.usecase.OrderEventIdempotencyService;
 import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
 import com.loomi.order.domain.product.dto.ValidationResult;
+import com.loomi.order.domain.credit.usecase.CreditLedgerService;
+import com.loomi.order.domain.product.usecase.StockReservationService;
 
 @ExtendWith(MockitoExtension.class)
 class OrderEventListenerImplTest {
@@ -46,6 +54,18 @@ class OrderEventListenerImplTest {
     @Mock
     private OrderEventIdempotencyService orderEventIdempotencyService;
 
+    @Mock
+    private StockReservationService stockReservations;
+
+    @Mock
+    private CreditLedgerService creditLedger;
+
+    @Mock
+    private OrderCheckpointRepository checkpoints;
+
+    @Mock
+    private CustomerStateStore customerStates;
+
     @InjectMocks
     private OrderEventListenerImpl consumer;
 
@@ -74,7 +94,9 @@ class OrderEventListenerImplTest {
 
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
         when(orderProcessPipeline.validate(order)).thenReturn(ValidationResult.ok());
-        when(orderProcessPipeline.process(order)).thenReturn(OrderProcessResult.ok());
+        var completedSteps = Map.of("item:0:" + UUID.randomUUID(), new RawProductMetadata());
+        when(checkpoints.findCompletedSteps(orderId)).thenReturn(completedSteps);
+        when(orderProcessPipeline.process(eq(order), eq(completedSteps), any())).thenReturn(OrderProcessResult.ok());
         when(orderEventIdempotencyService.registerEvent(
                 event.getId(), orderId, event.getType(), event.getPayload().getStatus(), event))
                 .thenReturn(OrderEventIdempotencyService.Result.OK);
@@ -83,4 +105,65 @@ class OrderEventListenerImplTest {
 
         verify(orderEventPublisher, times(1)).sendOrderProcessedEvent(processedEventCaptor.capture());
     }
+
+    @Test
+    void handler_shouldReleaseStockHolds_whenValidationFails() {
+        UUID orderId = UUID.randomUUID();
+
+        Order order = Order.builder()
+                .id(orderId)
+                .customerId("customer-1")
+                .status(OrderStatus.PENDING)
+                .items(List.of())
+                .build();
+
+        OrderCreatedEvent event = new OrderCreatedEvent(new OrderCreatedPayload(
+                order.id(),
+                order.customerId(),
+                order.status(),
+                order.totalAmount(),
+                order.items()));
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderProcessPipeline.validate(order)).thenReturn(ValidationResult.fail("OUT_OF_STOCK"));
+        when(orderEventIdempotencyService.registerEvent(
+                event.getId(), orderId, event.getType(), event.getPayload().getStatus(), event))
+                .thenReturn(OrderEventIdempotencyService.Result.OK);
+
+        consumer.handler(event, mock(Acknowledgment.class));
+
+        verify(stockReservations).release(orderId);
+        verify(creditLedger).release(orderId);
+        verify(orderEventPublisher).sendOrderFailedEvent(any());
+    }
+
+    @Test
+    void handler_shouldCheckpointReviewStage_whenHumanReviewIsRequired() {
+        UUID orderId = UUID.randomUUID();
+
+        Order order = Order.builder()
+                .id(orderId)
+                .customerId("customer-1")
+                .status(OrderStatus.PENDING)
+                .items(List.of())
+                .build();
+
+        OrderCreatedEvent event = new OrderCreatedEvent(new OrderCreatedPayload(
+                order.id(),
+                order.customerId(),
+                order.status(),
+                order.totalAmount(),
+                order.items()));
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderProcessPipeline.validate(order)).thenReturn(ValidationResult.requireHumanReview("items"));
+        when(orderEventIdempotencyService.registerEvent(
+                event.getId(), orderId, event.getType(), event.getPayload().getStatus(), event))
+                .thenReturn(OrderEventIdempotencyService.Result.OK);
+
+        consumer.handler(event, mock(Acknowledgment.class));
+
+        verify(checkpoints).saveReviewStage(orderId, "items");
+        verify(orderEventPublisher).sendOrderPendingApprovalEvent(any());
+    }
 }
@@ -0,0 +1,107 @@
+package com.loomi.order.infra.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loomi.order.domain.order.dto.OrderSummaryChange;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.entity.OrderCreatedEvent;
+import com.loomi.order.domain.order.entity.OrderFailedEvent;
+import com.loomi.order.domain.order.entity.OrderPendingApprovalEvent;
+import com.loomi.order.domain.order.entity.OrderProcessedEvent;
+import com.loomi.order.domain.order.repository.OrderSummaryRepository;
+import com.loomi.order.domain.order.valueobject.OrderItem;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.infra.event.consumer.OrderSummaryProjector;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderSummaryProjector Tests")
+class OrderSummaryProjectorTest {
+
+    @Mock
+    private OrderSummaryRepository summaries;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderSummaryProjector projector;
+    private long offset;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projector = new OrderSummaryProjector(summaries, meterRegistry);
+    }
+
+    private ConsumerRecord<String, Object> record(String topic, Object value) {
+        return new ConsumerRecord<>(topic, 0, offset++, "key", value);
+    }
+
+    private Order order(UUID orderId) {
+        return Order.builder()
+                .id(orderId)
+                .customerId("customer-1")
+                .status(OrderStatus.PENDING)
+                .totalAmount(new BigDecimal("59.80"))
+                .items(new ArrayList<>(List.of(
+                        OrderItem.builder().productId(UUID.randomUUID()).productType(ProductType.PHYSICAL)
+                                .quantity(1).price(new BigDecimal("29.90")).build(),
+                        OrderItem.builder().productId(UUID.randomUUID()).productType(ProductType.PHYSICAL)
+                                .quantity(1).price(new BigDecimal("29.90")).build())))
+                .build();
+    }
+
+    @Test
+    @DisplayName("shouldProjectLifecycleEvents_inOneBatch")
+    @SuppressWarnings("unchecked")
+    void shouldProjectLifecycleEvents_inOneBatch() {
+        var orderId = UUID.randomUUID();
+        var created = OrderCreatedEvent.fromOrder(order(orderId));
+
+        projector.project(List.of(
+                record("order-created", created),
+                record("order-pending-approval", OrderPendingApprovalEvent.fromOrder(orderId)),
+                record("order-processed", OrderProcessedEvent.fromOrder(orderId)),
+                record("order-failed", OrderFailedEvent.fromOrder(orderId, "rejected"))));
+
+        ArgumentCaptor<List<OrderSummaryChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(summaries).applyAll(captor.capture());
+        var changes = captor.getValue();
+        assertEquals(4, changes.size());
+        assertEquals("customer-1", changes.get(0).customerId());
+        assertEquals(2, changes.get(0).itemCount());
+        assertEquals(new BigDecimal("59.80"), changes.get(0).totalAmount());
+        assertEquals(created.getTimestamp(), changes.get(0).createdAt());
+        assertEquals(OrderStatus.PENDING_APPROVAL, changes.get(1).status());
+        assertEquals(OrderStatus.PROCESSED, changes.get(2).status());
+        assertEquals(OrderStatus.FAILED, changes.get(3).status());
+        assertNull(changes.get(3).customerId());
+        assertEquals(4, meterRegistry.get("order.summary.projection.lag").timer().count());
+    }
+
+    @Test
+    @DisplayName("shouldSkipUndecodableRecords_withoutWritingAnEmptyBatch")
+    void shouldSkipUndecodableRecords_withoutWritingAnEmptyBatch() {
+        projector.project(List.of(record("order-created", null)));
+
+        verify(summaries, never()).applyAll(any());
+    }
+}
@@ -0,0 +1,222 @@
+package com.loomi.order.infra.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.kafka.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import com.loomi.order.app.config.KafkaTopologyConfig;
+
+/**
+ * Runs several consumer "instances" in one group against a multi-partition order-created topic, each with the
+ * listener concurrency the topology gives it, and checks that throughput grows with the instance count while
+ * every order stays on a single consumer.
+ */
+@Testcontainers
+@DisplayName("Order Created Partition Scaling Tests")
+class OrderCreatedPartitionScalingIntegrationTest {
+
+        private static final String TOPIC = "order-created-scaling";
+        private static final int PARTITIONS = 8;
+        private static final int ORDERS = 200;
+        private static final int EVENTS_PER_ORDER = 3;
+        private static final long WORK_NANOS = TimeUnit.MILLISECONDS.toNanos(4);
+
+        @Container
+        private static KafkaContainer kafka = new KafkaContainer(
+                        DockerImageName.parse("apache/kafka:3.7.0"));
+
+        @BeforeAll
+        static void createTopic() throws Exception {
+                try (var admin = AdminClient.create(Map.of(
+                                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers()))) {
+                        admin.createTopics(List.of(new NewTopic(TOPIC, PARTITIONS, (short) 1))).all().get();
+                }
+        }
+
+        @Test
+        @DisplayName("shouldScaleThroughputWithInstances_whilePreservingPerOrderOrdering")
+        void shouldScaleThroughputWithInstances_whilePreservingPerOrderOrdering() throws Exception {
+                var single = run(1, 1);
+                var scaled = run(4, 1);
+
+                assertThat(single.ownerByOrder()).hasSize(ORDERS);
+                assertThat(scaled.ownerByOrder()).hasSize(ORDERS);
+                assertThat(scaled.outOfOrder()).isEmpty();
+                // 4 instances over 8 partitions would ideally be 4x; leave room for broker and poll overhead
+                assertThat(single.elapsed().toNanos()).isGreaterThan(scaled.elapsed().toNanos() * 5 / 2);
+        }
+
+        @Test
+        @DisplayName("shouldSpreadPartitionsOverInstances_usingTopologyConcurrency")
+        void shouldSpreadPartitionsOverInstances_usingTopologyConcurrency() throws Exception {
+                var result = run(2, 0);
+
+                assertThat(result.ownerByOrder()).hasSize(ORDERS);
+                assertThat(result.assignedPartitions()).isEqualTo(PARTITIONS);
+                assertThat(result.consumers()).isEqualTo(PARTITIONS);
+                assertThat(result.outOfOrder()).isEmpty();
+        }
+
+        /**
+         * Starts {@code instances} instances in a fresh group, waits until every partition is owned, then
+         * publishes the orders and times how long the group takes to drain them.
+         * @param threadsPerInstance listener threads per instance, or 0 to use the topology's concurrency
+         */
+        private RunResult run(int instances, int threadsPerInstance) throws Exception {
+                var topology = new KafkaTopologyConfig();
+                topology.getPartitions().put(TOPIC, PARTITIONS);
+                topology.setConsumerInstances(instances);
+                int threads = threadsPerInstance > 0 ? threadsPerInstance : topology.consumerConcurrency(TOPIC);
+                int consumers = instances * threads;
+
+                var groupId = "scaling-" + UUID.randomUUID();
+                int total = ORDERS * EVENTS_PER_ORDER;
+                var done = new CountDownLatch(total);
+                var owned = new ConcurrentHashMap<TopicPartition, String>();
+                var ownerByOrder = new ConcurrentHashMap<String, String>();
+                var lastSeq = new ConcurrentHashMap<String, Integer>();
+                var outOfOrder = new CopyOnWriteArrayList<String>();
+                var running = new AtomicBoolean(true);
+
+                ExecutorService pool = Executors.newFixedThreadPool(consumers);
+                try {
+                        for (int c = 0; c < consumers; c++) {
+                                var consumerName = "instance-" + (c / threads) + "-" + (c % threads);
+                                pool.submit(() -> consume(groupId, consumerName, running, owned, done,
+                                                ownerByOrder, lastSeq, outOfOrder));
+                        }
+                        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+                        while (owned.size() < PARTITIONS && System.nanoTime() < deadline) {
+                                Thread.sleep(50);
+                        }
+                        assertThat(owned).hasSize(PARTITIONS);
+
+                        long start = System.nanoTime();
+                        publish();
+                        assertThat(done.await(120, TimeUnit.SECONDS)).isTrue();
+                        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+                        return new RunResult(elapsed, Map.copyOf(ownerByOrder), List.copyOf(outOfOrder),
+                                        owned.size(), consumers);
+                } finally {
+                        running.set(false);
+                        pool.shutdown();
+                        pool.awaitTermination(30, TimeUnit.SECONDS);
+                }
+        }
+
+        private static void publish() {
+                var props = new Properties();
+                props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
+                props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+                props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+                props.put(ProducerConfig.ACKS_CONFIG, "all");
+                var orderIds = new ArrayList<String>();
+                for (int i = 0; i < ORDERS; i++) {
+                        orderIds.add(UUID.randomUUID().toString());
+                }
+                try (var producer = new KafkaProducer<String, String>(props)) {
+                        for (int seq = 0; seq < EVENTS_PER_ORDER; seq++) {
+                                for (var orderId : orderIds) {
+                                        producer.send(new ProducerRecord<>(TOPIC, orderId, Integer.toString(seq)));
+                                }
+                        }
+                        producer.flush();
+                }
+        }
+
+        private static void consume(
+                        String groupId,
+                        String consumerName,
+                        AtomicBoolean running,
+                        Map<TopicPartition, String> owned,
+                        CountDownLatch done,
+                        Map<String, String> ownerByOrder,
+                        Map<String, Integer> lastSeq,
+                        List<String> outOfOrder) {
+                var props = new Properties();
+                props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
+                props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+                props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+                props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+                props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+                props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+                props.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, CooperativeStickyAssignor.class.getName());
+
+                try (var consumer = new KafkaConsumer<String, String>(props)) {
+                        consumer.subscribe(List.of(TOPIC), new ConsumerRebalanceListener() {
+                                @Override
+                                public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                                        partitions.forEach(owned::remove);
+                                }
+
+                                @Override
+                                public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                                        partitions.forEach(partition -> owned.put(partition, consumerName));
+                                }
+                        });
+                        while (running.get()) {
+                                var records = consumer.poll(Duration.ofMillis(100));
+                                for (var record : records) {
+                                        LockSupport.parkNanos(WORK_NANOS);
+                                        var previousOwner = ownerByOrder.putIfAbsent(record.key(), consumerName);
+                                        if (previousOwner != null && !previousOwner.equals(consumerName)) {
+                                                outOfOrder.add(record.key() + " moved to " + consumerName);
+                                        }
+                                        int seq = Integer.parseInt(record.value());
+                                        var previous = lastSeq.put(record.key(), seq);
+                                        if (previous != null && previous >= seq) {
+                                                outOfOrder.add(record.key() + " saw " + seq + " after " + previous);
+                                        }
+                                        done.countDown();
+                                }
+                                if (!records.isEmpty()) {
+                                        consumer.commitSync();
+                                }
+                        }
+                }
+        }
+
+        private record RunResult(
+                        Duration elapsed,
+                        Map<String, String> ownerByOrder,
+                        List<String> outOfOrder,
+                        int assignedPartitions,
+                        int consumers) {
+        }
+}
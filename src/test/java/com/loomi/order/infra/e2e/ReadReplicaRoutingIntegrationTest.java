@@ -0,0 +1,193 @@
+package com.loomi.order.infra.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.kafka.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+import com.loomi.order.domain.order.dto.CreateOrderItem;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.domain.product.repository.ProductRepository;
+import com.loomi.order.infra.persistence.routing.ReplicaLagMonitor;
+import com.loomi.order.infra.persistence.routing.ReplicaReadContext;
+import com.loomi.order.infra.persistence.routing.WalPosition;
+import com.loomi.order.infra.web.consistency.ConsistencyToken;
+import com.loomi.order.infra.web.dto.CreateOrderRequest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs the application against a primary and a streaming standby cloned from it, the same pair as the
+ * {@code replica} profile of docker-compose.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Read Replica Routing Tests")
+class ReadReplicaRoutingIntegrationTest {
+
+        private static final Network network = Network.newNetwork();
+
+        @Container
+        private static KafkaContainer kafka = new KafkaContainer(
+                        DockerImageName.parse("apache/kafka:3.7.0"));
+
+        @Container
+        static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:15-alpine")
+                        .withDatabaseName("order")
+                        .withUsername("appuser")
+                        .withPassword("apppass")
+                        .withNetwork(network)
+                        .withNetworkAliases("primary")
+                        .withCopyFileToContainer(
+                                        MountableFile.forHostPath("docker/postgres/allow-replication.sh"),
+                                        "/docker-entrypoint-initdb.d/allow-replication.sh");
+
+        @Container
+        static GenericContainer<?> replica = new GenericContainer<>("postgres:15-alpine")
+                        .dependsOn(primary)
+                        .withNetwork(network)
+                        .withEnv("PRIMARY_HOST", "primary")
+                        .withEnv("PRIMARY_USER", "appuser")
+                        .withEnv("PRIMARY_PASSWORD", "apppass")
+                        .withCopyFileToContainer(
+                                        MountableFile.forHostPath("docker/postgres/replica-entrypoint.sh"),
+                                        "/replica-entrypoint.sh")
+                        .withCreateContainerCmdModifier(cmd -> cmd.withEntrypoint("/bin/sh", "/replica-entrypoint.sh"))
+                        .withExposedPorts(5432)
+                        .waitingFor(Wait.forLogMessage(".*ready to accept read-only connections.*", 1)
+                                        .withStartupTimeout(Duration.ofMinutes(2)));
+
+        @DynamicPropertySource
+        static void overrideProperties(DynamicPropertyRegistry registry) {
+                registry.add("spring.kafka.bootstrap-servers", kafka::getBootstrapServers);
+
+                registry.add("spring.datasource.url", primary::getJdbcUrl);
+                registry.add("spring.datasource.username", primary::getUsername);
+                registry.add("spring.datasource.password", primary::getPassword);
+
+                registry.add("read-replica.enabled", () -> "true");
+                registry.add("read-replica.url", () -> "jdbc:postgresql://" + replica.getHost() + ":"
+                                + replica.getMappedPort(5432) + "/order");
+                registry.add("read-replica.lag-check-interval-ms", () -> "200");
+        }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(dataSource);
+        await().atMost(Duration.ofSeconds(15)).until(() -> lagMonitor.canServe(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaReadContext.close();
+    }
+
+    private boolean readsStandby(boolean readOnly) {
+        var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbc.queryForObject("SELECT pg_is_in_recovery()", Boolean.class));
+    }
+
+    @Test
+    @DisplayName("shouldRouteReadOnlyQueryTransactions_toTheReplica")
+    void shouldRouteReadOnlyQueryTransactions_toTheReplica() {
+        assertThat(readsStandby(true)).isFalse();
+
+        ReplicaReadContext.open(null);
+        assertThat(readsStandby(true)).isTrue();
+        assertThat(readsStandby(false)).isFalse();
+    }
+
+    @Test
+    @DisplayName("shouldFallBackToPrimary_whenReplicaHasNotReplayedTheToken")
+    void shouldFallBackToPrimary_whenReplicaHasNotReplayedTheToken() {
+        ReplicaReadContext.open(WalPosition.parse("FFFFFFFF/0"));
+
+        assertThat(readsStandby(true)).isFalse();
+    }
+
+    @Test
+    @DisplayName("shouldReadOwnWrite_withTheTokenReturnedOnCreate")
+    void shouldReadOwnWrite_withTheTokenReturnedOnCreate() {
+        var product = new ProductRepositoryTestUtils(productRepository).createPhysicalProduct();
+        var metadata = new RawProductMetadata();
+        metadata.put("warehouseLocation", "SP");
+        var request = new CreateOrderRequest("customer-replica", List.of(CreateOrderItem.builder()
+                .productId(product.id())
+                .quantity(1)
+                .metadata(metadata)
+                .build()));
+
+        var created = restTemplate.postForEntity("http://localhost:" + port + "/api/orders", request, Order.class);
+
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        var token = created.getHeaders().getFirst(ConsistencyToken.HEADER);
+        assertThat(token).isNotBlank();
+
+        var headers = new HttpHeaders();
+        headers.set(ConsistencyToken.HEADER, token);
+        var fetched = restTemplate.exchange("http://localhost:" + port + "/api/orders/" + created.getBody().id(),
+                HttpMethod.GET, new HttpEntity<>(headers), Order.class);
+
+        assertThat(fetched.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(fetched.getBody().id()).isEqualTo(created.getBody().id());
+        assertThat(meterRegistry.find("datasource.query.reads").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum()).isPositive();
+    }
+}
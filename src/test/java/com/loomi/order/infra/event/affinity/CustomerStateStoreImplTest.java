@@ -0,0 +1,242 @@
+package com.loomi.order.infra.event.affinity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import com.loomi.order.app.config.CustomerStateConfig;
+import com.loomi.order.domain.customer.dto.CustomerState;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.repository.OrderRepository;
+import com.loomi.order.domain.order.valueobject.OrderItem;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.repository.ProductRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerStateStoreImpl Tests")
+class CustomerStateStoreImplTest {
+
+    private static final String ORDER_CREATED = "order-created";
+    private static final String CHANGELOG = "customer-state-changelog";
+    private static final int PARTITIONS = 4;
+    private static final TopicPartition OWNED = new TopicPartition(CHANGELOG, 1);
+
+    @Mock
+    private ConsumerFactory<String, CustomerState> consumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, CustomerState> template;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private MockConsumer<String, CustomerState> consumer;
+    private CustomerStateStoreImpl store;
+    private String ownedCustomer;
+    private String otherCustomer;
+    private final UUID ownedProduct = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        var config = new CustomerStateConfig();
+        config.setRestoreTimeoutMs(1);
+        store = new CustomerStateStoreImpl(consumerFactory, template, orderRepository, productRepository, config,
+                new SimpleMeterRegistry(), ORDER_CREATED, CHANGELOG);
+        when(template.partitionsFor(ORDER_CREATED)).thenReturn(IntStream.range(0, PARTITIONS)
+                .mapToObj(partition -> new PartitionInfo(ORDER_CREATED, partition, null, null, null))
+                .toList());
+
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updateBeginningOffsets(Map.of(OWNED, 0L));
+        consumer.updateEndOffsets(Map.of(OWNED, 1L));
+
+        store.onPartitionsAssigned(List.of(new TopicPartition(ORDER_CREATED, 1)));
+        ownedCustomer = customerOn(1);
+        otherCustomer = customerOn(2);
+    }
+
+    private String customerOn(int partition) {
+        return IntStream.range(0, 1000).mapToObj(i -> "customer-" + i)
+                .filter(customer -> store.partitionFor(customer) == partition)
+                .findFirst().orElseThrow();
+    }
+
+    private void restore() {
+        store.poll(consumer);
+        consumer.addRecord(new ConsumerRecord<>(CHANGELOG, 1, 0, ownedCustomer, new CustomerState(
+                ownedCustomer, 3, Set.of(ownedProduct), Set.of("streaming"), 1, List.of())));
+        store.poll(consumer);
+    }
+
+    private Order processedOrder(String customerId, UUID productId) {
+        return Order.builder()
+                .id(UUID.randomUUID())
+                .customerId(customerId)
+                .status(OrderStatus.PROCESSED)
+                .totalAmount(BigDecimal.TEN)
+                .items(List.of(OrderItem.builder()
+                        .productId(productId)
+                        .productType(ProductType.DIGITAL)
+                        .quantity(1)
+                        .price(BigDecimal.TEN)
+                        .build()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("shouldServeRestoredState_withoutQueryingTheDatabase")
+    void shouldServeRestoredState_withoutQueryingTheDatabase() {
+        assertTrue(store.find(ownedCustomer).isEmpty());
+
+        restore();
+
+        var state = store.find(ownedCustomer).orElseThrow();
+        assertTrue(state.owns(ownedProduct));
+        assertTrue(state.hasSubscriptionGroup("STREAMING"));
+        assertTrue(store.find(otherCustomer).isEmpty());
+        verify(orderRepository, never()).findByCustomerId(anyString());
+    }
+
+    @Test
+    @DisplayName("shouldEvictState_whenPartitionIsRevoked")
+    void shouldEvictState_whenPartitionIsRevoked() {
+        restore();
+
+        store.onPartitionsRevoked(List.of(new TopicPartition(ORDER_CREATED, 1)));
+        store.poll(consumer);
+
+        assertTrue(store.find(ownedCustomer).isEmpty());
+        assertTrue(consumer.assignment().isEmpty());
+    }
+
+    @Test
+    @DisplayName("shouldApplyProcessedOrder_andWriteSnapshotToItsChangelogPartition")
+    @SuppressWarnings("unchecked")
+    void shouldApplyProcessedOrder_andWriteSnapshotToItsChangelogPartition() {
+        restore();
+        when(template.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+        var bought = UUID.randomUUID();
+
+        store.recordProcessed(processedOrder(ownedCustomer, bought));
+
+        assertTrue(store.find(ownedCustomer).orElseThrow().owns(bought));
+        ArgumentCaptor<ProducerRecord<String, CustomerState>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(template).send(sent.capture());
+        assertEquals(1, sent.getValue().partition());
+        assertEquals(4, sent.getValue().value().version());
+    }
+
+    @Test
+    @DisplayName("shouldWriteTombstone_whenCustomerIsOwnedElsewhere")
+    @SuppressWarnings("unchecked")
+    void shouldWriteTombstone_whenCustomerIsOwnedElsewhere() {
+        restore();
+        when(template.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        store.recordProcessed(processedOrder(otherCustomer, UUID.randomUUID()));
+
+        ArgumentCaptor<ProducerRecord<String, CustomerState>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(template).send(sent.capture());
+        assertEquals(2, sent.getValue().partition());
+        assertEquals(otherCustomer, sent.getValue().key());
+        assertNull(sent.getValue().value());
+    }
+
+    @Test
+    @DisplayName("shouldReloadFromDatabase_whenOwnedCustomerIsInvalidated")
+    @SuppressWarnings("unchecked")
+    void shouldReloadFromDatabase_whenOwnedCustomerIsInvalidated() {
+        restore();
+        when(template.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+        var approved = UUID.randomUUID();
+        when(orderRepository.findByCustomerId(ownedCustomer)).thenReturn(List.of(
+                processedOrder(ownedCustomer, ownedProduct), processedOrder(ownedCustomer, approved)));
+
+        consumer.addRecord(new ConsumerRecord<>(CHANGELOG, 1, 1, ownedCustomer, null));
+        store.poll(consumer);
+        // A snapshot written before the reload must not replace it
+        consumer.addRecord(new ConsumerRecord<>(CHANGELOG, 1, 2, ownedCustomer, new CustomerState(
+                ownedCustomer, 3, Set.of(ownedProduct), Set.of(), 0, List.of())));
+        store.poll(consumer);
+
+        var state = store.find(ownedCustomer).orElseThrow();
+        assertTrue(state.owns(approved));
+        assertEquals(4, state.version());
+        assertFalse(state.hasSubscriptionGroup("streaming"));
+    }
+
+    @Test
+    @DisplayName("shouldReadDatabase_whileChangelogHasUnreadRecords")
+    void shouldReadDatabase_whileChangelogHasUnreadRecords() {
+        restore();
+        consumer.updateEndOffsets(Map.of(OWNED, 3L));
+        consumer.addRecord(new ConsumerRecord<>(CHANGELOG, 1, 1, ownedCustomer, new CustomerState(
+                ownedCustomer, 4, Set.of(ownedProduct), Set.of("streaming"), 1, List.of())));
+
+        store.poll(consumer);
+
+        assertTrue(store.find(ownedCustomer).isEmpty());
+
+        consumer.addRecord(new ConsumerRecord<>(CHANGELOG, 1, 2, ownedCustomer, new CustomerState(
+                ownedCustomer, 5, Set.of(ownedProduct), Set.of("streaming"), 1, List.of())));
+        store.poll(consumer);
+
+        assertEquals(5, store.find(ownedCustomer).orElseThrow().version());
+    }
+
+    @Test
+    @DisplayName("shouldReadDatabase_whileTombstonedCustomerIsReloading")
+    @SuppressWarnings("unchecked")
+    void shouldReadDatabase_whileTombstonedCustomerIsReloading() {
+        restore();
+        when(template.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+        var seenDuringReload = new ArrayList<Boolean>();
+        when(orderRepository.findByCustomerId(ownedCustomer)).thenAnswer(invocation -> {
+            seenDuringReload.add(store.find(ownedCustomer).isPresent());
+            return List.of(processedOrder(ownedCustomer, ownedProduct));
+        });
+
+        consumer.addRecord(new ConsumerRecord<>(CHANGELOG, 1, 1, ownedCustomer, null));
+        store.poll(consumer);
+
+        assertEquals(List.of(false), seenDuringReload);
+        assertTrue(store.find(ownedCustomer).isPresent());
+    }
+}
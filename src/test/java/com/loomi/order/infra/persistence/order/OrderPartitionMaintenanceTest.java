@@ -0,0 +1,83 @@
+package com.loomi.order.infra.persistence.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loomi.order.app.config.OrderArchiveConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPartitionMaintenance Tests")
+class OrderPartitionMaintenanceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 3, 0);
+
+    @Mock
+    private OrderArchiver archiver;
+
+    private OrderArchiveConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        config = new OrderArchiveConfig();
+        config.setRetentionDays(90);
+        config.setBatchSize(100);
+        config.setMaxBatchesPerRun(5);
+        meterRegistry = new SimpleMeterRegistry();
+        maintenance = new OrderPartitionMaintenance(archiver, config, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("shouldArchiveUntilBatchIsShort_thenDropEmptyPartitionsBeforeCutoff")
+    void shouldArchiveUntilBatchIsShort_thenDropEmptyPartitionsBeforeCutoff() {
+        var cutoff = NOW.minusDays(90);
+        when(archiver.archiveBatch(cutoff, 100)).thenReturn(100, 100, 42);
+        when(archiver.dropEmptyPartitions(LocalDate.of(2026, 7, 21))).thenReturn(1);
+
+        maintenance.maintain(NOW);
+
+        verify(archiver).ensurePartitions(LocalDate.of(2026, 10, 19), 3);
+        verify(archiver, times(3)).archiveBatch(cutoff, 100);
+        assertEquals(242, meterRegistry.get("order.archive.archived").counter().count());
+        assertEquals(1, meterRegistry.get("order.archive.partitions.dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("shouldStopAtMaxBatchesPerRun_whenBacklogIsLarge")
+    void shouldStopAtMaxBatchesPerRun_whenBacklogIsLarge() {
+        when(archiver.archiveBatch(any(), anyInt())).thenReturn(100);
+
+        maintenance.maintain(NOW);
+
+        verify(archiver, times(5)).archiveBatch(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("shouldDoNothing_whenDisabled")
+    void shouldDoNothing_whenDisabled() {
+        config.setEnabled(false);
+
+        maintenance.run();
+
+        verify(archiver, never()).ensurePartitions(any(), anyInt());
+        verify(archiver, never()).archiveBatch(any(), anyInt());
+    }
+}
@@ -0,0 +1,110 @@
+package com.loomi.order.infra.persistence.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.loomi.order.app.config.StockReservationConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockReservationServiceImpl Tests")
+class StockReservationServiceImplTest {
+
+    private static final int SHARDS = 4;
+
+    @Mock
+    private StockReservationJpaRepository repository;
+
+    private StockReservationConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private StockReservationServiceImpl service;
+
+    private final UUID orderId = UUID.randomUUID();
+    private final UUID productId = UUID.randomUUID();
+    private final int firstShard = Math.floorMod(orderId.hashCode(), SHARDS);
+
+    @BeforeEach
+    void setUp() {
+        config = new StockReservationConfig();
+        config.getShardedProducts().put(productId, SHARDS);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new StockReservationServiceImpl(repository, config, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("shouldHoldFromNextShard_whenAffinitizedShardIsEmpty")
+    void shouldHoldFromNextShard_whenAffinitizedShardIsEmpty() {
+        int nextShard = (firstShard + 1) % SHARDS;
+        when(repository.reserveFromShard(eq(orderId), eq(productId), anyInt(), eq(2), eq("HELD"), any()))
+                .thenAnswer(invocation -> invocation.<Integer>getArgument(2) == nextShard
+                        ? Optional.of(5)
+                        : Optional.empty());
+
+        assertTrue(service.hold(orderId, productId, 2));
+
+        verify(repository, never()).reserve(any(), any(), anyInt(), any(), any());
+        assertEquals(1.0, meterRegistry.counter("stock.reservation.shard_misses").count());
+        assertEquals(List.of(productId), service.drainUnbalanced());
+        assertTrue(service.drainUnbalanced().isEmpty());
+    }
+
+    @Test
+    @DisplayName("shouldRebalanceAndRetry_whenNoSingleShardCanServeQuantity")
+    void shouldRebalanceAndRetry_whenNoSingleShardCanServeQuantity() {
+        when(repository.sumShardStock(productId)).thenReturn(10);
+        when(repository.reserveFromShard(eq(orderId), eq(productId), anyInt(), eq(4), eq("HELD"), any()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(1));
+
+        assertTrue(service.hold(orderId, productId, 4));
+
+        verify(repository).rebalanceShards(productId, 2);
+        assertEquals(1.0, meterRegistry.counter("stock.reservation.rebalances").count());
+    }
+
+    @Test
+    @DisplayName("shouldRejectHold_whenShardsAndRemainderHaveNotEnoughStock")
+    void shouldRejectHold_whenShardsAndRemainderHaveNotEnoughStock() {
+        when(repository.sumShardStock(productId)).thenReturn(3);
+
+        assertFalse(service.hold(orderId, productId, 4));
+
+        verify(repository, never()).rebalanceShards(any(), anyInt());
+        verify(repository).reserve(eq(orderId), eq(productId), eq(4), eq("HELD"), any());
+    }
+
+    @Test
+    @DisplayName("shouldUseStoredShards_whenSkuIsNotConfiguredOnThisInstance")
+    void shouldUseStoredShards_whenSkuIsNotConfiguredOnThisInstance() {
+        config.getShardedProducts().clear();
+        when(repository.findStockShards(productId)).thenReturn(Optional.of(SHARDS));
+        when(repository.reserveFromShard(eq(orderId), eq(productId), eq(firstShard), eq(1), eq("HELD"), any()))
+                .thenReturn(Optional.of(9));
+
+        assertTrue(service.hold(orderId, productId, 1));
+
+        verify(repository).reserve(eq(orderId), eq(productId), eq(1), eq("HELD"), any());
+    }
+}
@@ -0,0 +1,112 @@
+package com.loomi.order.infra.persistence.product.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loomi.order.domain.product.dto.ProductImportFormat;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.exception.ProductValidationException;
+
+@DisplayName("CatalogRecordReader Tests")
+class CatalogRecordReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CatalogRecordReader open(ProductImportFormat format, String text) throws IOException {
+        return CatalogRecordReader.open(format, new BufferedReader(new StringReader(text)), objectMapper);
+    }
+
+    @Test
+    @DisplayName("shouldReadQuotedCsvFields_acrossLines")
+    void shouldReadQuotedCsvFields_acrossLines() throws IOException {
+        var reader = open(ProductImportFormat.CSV, """
+                name,product_type,price,metadata\r
+                "Clean Code, 2nd ed",PHYSICAL,89.90,"{""productId"": ""BOOK-CC-002""}"\r
+                
+                "Multi
+                line",DIGITAL,10,
+                """);
+
+        var first = reader.next();
+        assertEquals(2, first.line());
+        assertEquals("Clean Code, 2nd ed", first.name());
+        assertEquals("{\"productId\": \"BOOK-CC-002\"}", first.metadata());
+        assertNull(first.id());
+        assertNull(first.stockQuantity());
+
+        var second = reader.next();
+        assertEquals(4, second.line());
+        assertEquals("Multi\nline", second.name());
+        assertNull(second.metadata());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("shouldRejectShortCsvRow_andContinueWithTheNext")
+    void shouldRejectShortCsvRow_andContinueWithTheNext() throws IOException {
+        var reader = open(ProductImportFormat.CSV, "name,product_type,price\nBroken,PHYSICAL\nOk,CORPORATE,5\n");
+
+        var malformed = assertThrows(MalformedRecordException.class, reader::next);
+        assertEquals(2, malformed.line());
+        assertEquals("Ok", reader.next().name());
+    }
+
+    @Test
+    @DisplayName("shouldFailImport_whenCsvHeaderIsUnusable")
+    void shouldFailImport_whenCsvHeaderIsUnusable() {
+        assertThrows(ProductValidationException.class, () -> open(ProductImportFormat.CSV, ""));
+        assertThrows(ProductValidationException.class, () -> open(ProductImportFormat.CSV, "name,price\n"));
+        assertThrows(ProductValidationException.class,
+                () -> open(ProductImportFormat.CSV, "name,product_type,price,stock\n"));
+    }
+
+    @Test
+    @DisplayName("shouldReadNdjsonObjects_keepingMetadataAsJson")
+    void shouldReadNdjsonObjects_keepingMetadataAsJson() throws IOException {
+        var reader = open(ProductImportFormat.NDJSON, """
+                {"name": "GTA VI", "product_type": "PRE_ORDER", "price": 249.90, "stock_quantity": 1000, "metadata": {"releaseDate": "2026-12-01"}}
+                not json
+                {"name": "Netflix", "product_type": "SUBSCRIPTION", "price": 19.9, "group": "NETFLIX"}
+
+                {"name": "Netflix", "product_type": "SUBSCRIPTION", "price": "19.90", "is_active": false}
+                """);
+
+        var first = reader.next();
+        assertEquals("249.9", first.price());
+        assertEquals("1000", first.stockQuantity());
+        assertEquals("{\"releaseDate\":\"2026-12-01\"}", first.metadata());
+        assertEquals(2, assertThrows(MalformedRecordException.class, reader::next).line());
+        assertEquals(3, assertThrows(MalformedRecordException.class, reader::next).line());
+        var last = reader.next();
+        assertEquals(5, last.line());
+        assertEquals("false", last.isActive());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("shouldEscapeCopyTextSeparators")
+    void shouldEscapeCopyTextSeparators() throws IOException {
+        var out = new StringWriter();
+        var importId = UUID.randomUUID();
+        var id = UUID.randomUUID();
+
+        new CopyTextWriter(out, importId).write(new StagedProduct(
+                7, id, "Tab\there\\", ProductType.SUBSCRIPTION, new BigDecimal("19.90"), null, false,
+                "{\"note\":\"a\\nb\"}"));
+
+        assertEquals(importId + "\t7\t" + id + "\tTab\\there\\\\\tSUBSCRIPTION\t19.90\t\\N\tf\t{\"note\":\"a\\\\nb\"}\n",
+                out.toString());
+    }
+}
@@ -0,0 +1,114 @@
+package com.loomi.order.infra.persistence.product.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.exception.ProductValidationException;
+
+@DisplayName("ProductRowValidator Tests")
+class ProductRowValidatorTest {
+
+    private final ProductRowValidator validator = new ProductRowValidator(new ObjectMapper());
+
+    private static CatalogRecord record(String type, String price, String stock, String metadata) {
+        return new CatalogRecord(2, null, "Product", type, price, stock, null, metadata);
+    }
+
+    private String rejection(CatalogRecord record) {
+        return assertThrows(ProductValidationException.class, () -> validator.validate(record)).getMessage();
+    }
+
+    @Test
+    @DisplayName("shouldNormalizeValidPhysicalProduct")
+    void shouldNormalizeValidPhysicalProduct() {
+        var id = UUID.randomUUID();
+        var staged = validator.validate(new CatalogRecord(
+                3, id.toString(), " Clean Code ", "physical", "89.9", "150", "false", "{\"productId\":\"BOOK-CC-001\"}"));
+
+        assertEquals(id, staged.id());
+        assertEquals("Clean Code", staged.name());
+        assertEquals(ProductType.PHYSICAL, staged.productType());
+        assertEquals(new BigDecimal("89.90"), staged.price());
+        assertEquals(150, staged.stockQuantity());
+        assertFalse(staged.active());
+        assertEquals("{\"productId\":\"BOOK-CC-001\"}", staged.metadata());
+    }
+
+    @Test
+    @DisplayName("shouldGenerateId_andDefaultToActive")
+    void shouldGenerateId_andDefaultToActive() {
+        var staged = validator.validate(record("CORPORATE", "1500", null, null));
+
+        assertNotNull(staged.id());
+        assertTrue(staged.active());
+        assertNull(staged.stockQuantity());
+        assertNull(staged.metadata());
+    }
+
+    @Test
+    @DisplayName("shouldReportEveryColumnProblem")
+    void shouldReportEveryColumnProblem() {
+        var message = rejection(new CatalogRecord(2, "not-a-uuid", "", "BUNDLE", "12.345", "-1", "yes", "[]"));
+
+        assertTrue(message.contains("id is not a UUID"));
+        assertTrue(message.contains("name is required"));
+        assertTrue(message.contains("unknown product_type"));
+        assertTrue(message.contains("price does not fit DECIMAL(10, 2)"));
+        assertTrue(message.contains("stock_quantity must be a non-negative integer"));
+        assertTrue(message.contains("is_active must be true or false"));
+        assertTrue(message.contains("metadata must be a JSON object"));
+        assertTrue(rejection(record("PHYSICAL", "123456789", "1", null)).contains("DECIMAL(10, 2)"));
+    }
+
+    @Test
+    @DisplayName("shouldRequireStock_forStockedTypes")
+    void shouldRequireStock_forStockedTypes() {
+        assertEquals("PHYSICAL requires stock_quantity", rejection(record("PHYSICAL", "10", null, null)));
+        assertEquals("SUBSCRIPTION products have no stock_quantity",
+                rejection(record("SUBSCRIPTION", "10", "5", "{\"GROUP_ID\":\"NETFLIX\"}")));
+    }
+
+    @Test
+    @DisplayName("shouldValidatePreOrderMetadata")
+    void shouldValidatePreOrderMetadata() {
+        assertEquals("PRE_ORDER requires metadata.releaseDate", rejection(record("PRE_ORDER", "249.90", "10", "{}")));
+        assertTrue(rejection(record("PRE_ORDER", "249.90", "10", "{\"releaseDate\":\"01/12/2026\"}"))
+                .contains("not an ISO date"));
+        assertTrue(rejection(record("PRE_ORDER", "249.90", "10",
+                "{\"releaseDate\":\"2026-12-01\",\"preOrderDiscount\":\"300\"}")).contains("preOrderDiscount"));
+
+        var staged = validator.validate(record("PRE_ORDER", "249.90", "10",
+                "{\"releaseDate\":\"2026-12-01\",\"preOrderDiscount\":20}"));
+        assertEquals(10, staged.stockQuantity());
+    }
+
+    @Test
+    @DisplayName("shouldRequireGroupId_forSubscriptions")
+    void shouldRequireGroupId_forSubscriptions() {
+        assertEquals("SUBSCRIPTION requires metadata.GROUP_ID", rejection(record("SUBSCRIPTION", "19.90", null, "{}")));
+        assertEquals(ProductType.SUBSCRIPTION,
+                validator.validate(record("SUBSCRIPTION", "19.90", null, "{\"GROUP_ID\":\"NETFLIX\"}")).productType());
+    }
+
+    @Test
+    @DisplayName("shouldTakeDigitalLicensePool_fromLicensesWhenStockIsMissing")
+    void shouldTakeDigitalLicensePool_fromLicensesWhenStockIsMissing() {
+        assertEquals(500, validator.validate(record("DIGITAL", "59.90", null, "{\"licenses\":500}")).stockQuantity());
+        assertEquals(20, validator.validate(record("DIGITAL", "59.90", "20", "{\"licenses\":500}")).stockQuantity());
+        assertEquals("DIGITAL requires stock_quantity", rejection(record("DIGITAL", "59.90", null, null)));
+        assertEquals("metadata.licenses must be a non-negative integer",
+                rejection(record("DIGITAL", "59.90", null, "{\"licenses\":\"many\"}")));
+    }
+}
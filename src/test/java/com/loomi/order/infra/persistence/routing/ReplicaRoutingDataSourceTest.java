@@ -0,0 +1,93 @@
+package com.loomi.order.infra.persistence.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaReadContext.close();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("shouldUseReplica_forReadOnlyQueryTransaction")
+    void shouldUseReplica_forReadOnlyQueryTransaction() {
+        ReplicaReadContext.open(null);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.canServe(null)).thenReturn(true);
+
+        assertEquals(DataSourceRole.REPLICA, routing.determineCurrentLookupKey());
+        assertEquals(1.0, meterRegistry.get("datasource.query.reads").tag("target", "replica").counter().count());
+    }
+
+    @Test
+    @DisplayName("shouldUsePrimary_forWritesAndReadsOutsideQueries")
+    void shouldUsePrimary_forWritesAndReadsOutsideQueries() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(DataSourceRole.PRIMARY, routing.determineCurrentLookupKey());
+
+        ReplicaReadContext.open(null);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        assertEquals(DataSourceRole.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("shouldFallBackToPrimary_whenReplicaHasNotReachedToken")
+    void shouldFallBackToPrimary_whenReplicaHasNotReachedToken() {
+        long token = WalPosition.parse("16/B374D848");
+        ReplicaReadContext.open(token);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.canServe(token)).thenReturn(false);
+
+        assertEquals(DataSourceRole.PRIMARY, routing.determineCurrentLookupKey());
+        assertEquals(1.0, meterRegistry.get("datasource.query.reads").tag("target", "primary").counter().count());
+    }
+
+    @Test
+    @DisplayName("shouldCompareWalPositions_asUnsignedNumbers")
+    void shouldCompareWalPositions_asUnsignedNumbers() {
+        long position = WalPosition.parse("16/B374D848");
+
+        assertEquals("16/B374D848", WalPosition.format(position));
+        assertTrue(WalPosition.reached(WalPosition.parse("17/0"), position));
+        assertTrue(WalPosition.reached(WalPosition.parse("FFFFFFFF/0"), position));
+        assertThrows(IllegalArgumentException.class, () -> WalPosition.parse("16"));
+    }
+}
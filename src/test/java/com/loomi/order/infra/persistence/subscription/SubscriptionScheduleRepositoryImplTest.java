@@ -0,0 +1,44 @@
+package com.loomi.order.infra.persistence.subscription;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubscriptionScheduleRepositoryImpl Tests")
+class SubscriptionScheduleRepositoryImplTest {
+
+    @Mock
+    private SubscriptionScheduleJpaRepository jpaRepository;
+
+    @InjectMocks
+    private SubscriptionScheduleRepositoryImpl repository;
+
+    @Test
+    @DisplayName("shouldTruncateError_toLastErrorColumnWidth")
+    void shouldTruncateError_toLastErrorColumnWidth() {
+        var subscriptionId = UUID.randomUUID();
+        var claimId = UUID.randomUUID();
+        when(jpaRepository.markFailed(eq(subscriptionId), eq(claimId), any(), eq("ACTIVE"), any())).thenReturn(1);
+
+        assertTrue(repository.markFailed(subscriptionId, claimId, LocalDateTime.now(), false, "x".repeat(2_000)));
+
+        var error = ArgumentCaptor.forClass(String.class);
+        verify(jpaRepository).markFailed(eq(subscriptionId), eq(claimId), any(), eq("ACTIVE"), error.capture());
+        assertEquals(500, error.getValue().length());
+    }
+}
@@ -0,0 +1,81 @@
+package com.loomi.order.infra.producer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.loomi.order.domain.order.entity.OrderCreatedEvent;
+import com.loomi.order.domain.order.entity.OrderCreatedPayload;
+import com.loomi.order.domain.order.entity.OrderFailedEvent;
+import com.loomi.order.domain.order.entity.OrderPendingApprovalEvent;
+import com.loomi.order.domain.order.entity.OrderProcessedEvent;
+import com.loomi.order.domain.order.entity.OrderReleasedEvent;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.infra.event.producer.OrderEventPublisherImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Order Event Publisher Tests")
+class OrderEventPublisherImplTest {
+
+    @Mock
+    private KafkaTemplate<String, OrderCreatedEvent> orderCreatedTemplate;
+
+    @Mock
+    private KafkaTemplate<String, OrderProcessedEvent> orderProcessedTemplate;
+
+    @Mock
+    private KafkaTemplate<String, OrderFailedEvent> orderFailedTemplate;
+
+    @Mock
+    private KafkaTemplate<String, OrderPendingApprovalEvent> orderPendingApprovalTemplate;
+
+    @Mock
+    private KafkaTemplate<String, OrderReleasedEvent> orderReleasedTemplate;
+
+    private OrderEventPublisherImpl publisher;
+
+    @Captor
+    private ArgumentCaptor<ProducerRecord<String, OrderCreatedEvent>> created;
+
+    @Captor
+    private ArgumentCaptor<ProducerRecord<String, OrderFailedEvent>> failed;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new OrderEventPublisherImpl(orderCreatedTemplate, orderProcessedTemplate, orderFailedTemplate,
+                orderPendingApprovalTemplate, orderReleasedTemplate);
+        ReflectionTestUtils.setField(publisher, "orderCreatedTopic", "order-created");
+        ReflectionTestUtils.setField(publisher, "orderFailedTopic", "order-failed");
+    }
+
+    @Test
+    @DisplayName("shouldKeyOrderCreatedByCustomer_andOutcomesByOrder")
+    void shouldKeyOrderCreatedByCustomer_andOutcomesByOrder() {
+        var orderId = UUID.randomUUID();
+        var event = new OrderCreatedEvent(new OrderCreatedPayload(
+                orderId, "customer-1", OrderStatus.PENDING, BigDecimal.TEN, List.of()));
+
+        publisher.sendOrderCreatedEvent(event);
+        publisher.sendOrderFailedEvent(OrderFailedEvent.fromOrder(orderId, "error"));
+
+        verify(orderCreatedTemplate).send(created.capture());
+        verify(orderFailedTemplate).send(failed.capture());
+        assertEquals("customer-1", created.getValue().key());
+        assertEquals(orderId.toString(), failed.getValue().key());
+    }
+}
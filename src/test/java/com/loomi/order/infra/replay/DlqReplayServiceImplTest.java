@@ -0,0 +1,177 @@
+package com.loomi.order.infra.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loomi.order.app.config.DlqReplayConfig;
+import com.loomi.order.domain.event.dto.DlqReplayOptions;
+import com.loomi.order.domain.event.dto.DlqReplayStatus;
+import com.loomi.order.infra.event.replay.DlqReplayServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DlqReplayServiceImpl Tests")
+class DlqReplayServiceImplTest {
+
+    private static final String DLQ = "order-created-dlq";
+    private static final TopicPartition PARTITION = new TopicPartition(DLQ, 0);
+
+    @Mock
+    private ConsumerFactory<String, byte[]> consumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> template;
+
+    private MockConsumer<String, byte[]> consumer;
+    private SimpleMeterRegistry meterRegistry;
+    private DlqReplayServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void close() {
+                // kept open so the test can read the committed offsets
+            }
+        };
+        consumer.updatePartitions(DLQ, List.of(new PartitionInfo(DLQ, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.updateEndOffsets(Map.of(PARTITION, 3L));
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(record(0, 1_000, "org.springframework.kafka.KafkaException", "java.util.concurrent.TimeoutException"));
+            consumer.addRecord(record(1, 2_000, "org.springframework.kafka.KafkaException", "java.lang.IllegalStateException"));
+            consumer.addRecord(record(2, 3_000, "org.springframework.kafka.KafkaException", "java.util.concurrent.TimeoutException"));
+        });
+        lenient().when(consumerFactory.createConsumer(any(), any())).thenReturn(consumer);
+
+        var config = new DlqReplayConfig();
+        config.setPollTimeoutMs(10);
+        config.setMaxEmptyPolls(2);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new DlqReplayServiceImpl(consumerFactory, template, config, meterRegistry, new ObjectMapper(),
+                DLQ, "order-created");
+    }
+
+    private static ConsumerRecord<String, byte[]> record(long offset, long timestamp, String exception, String cause) {
+        var headers = new RecordHeaders();
+        headers.add(KafkaHeaders.DLT_EXCEPTION_FQCN, exception.getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN, cause.getBytes(StandardCharsets.UTF_8));
+        headers.add("correlation-id", "abc".getBytes(StandardCharsets.UTF_8));
+        return new ConsumerRecord<>(DLQ, 0, offset, timestamp, TimestampType.CREATE_TIME, 0, 0,
+                "event-" + offset, ("{\"offset\":" + offset + "}").getBytes(StandardCharsets.UTF_8), headers,
+                Optional.empty());
+    }
+
+    private static DlqReplayOptions options(String exceptionClass, boolean dryRun) {
+        return new DlqReplayOptions(null, null, exceptionClass, Set.of(), 1_000_000.0, 0, dryRun, false);
+    }
+
+    @Test
+    @DisplayName("shouldRepublishMatchingRecords_andCommitProgress")
+    @SuppressWarnings("unchecked")
+    void shouldRepublishMatchingRecords_andCommitProgress() {
+        when(template.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        var status = service.run(options("TimeoutException", false));
+
+        assertEquals(DlqReplayStatus.State.COMPLETED, status.state());
+        assertEquals(3, status.scanned());
+        assertEquals(2, status.replayed());
+        var sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(template, times(2)).send(sent.capture());
+        ProducerRecord<String, byte[]> first = sent.getAllValues().get(0);
+        assertEquals("order-created", first.topic());
+        assertEquals("event-0", first.key());
+        assertNull(first.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_FQCN));
+        assertTrue(first.headers().lastHeader("correlation-id") != null);
+        assertEquals(3L, consumer.committed(Set.of(PARTITION)).get(PARTITION).offset());
+        assertEquals(1.0, meterRegistry.counter("dlq.replay.records", "outcome", "skipped").count());
+    }
+
+    @Test
+    @DisplayName("shouldOnlyCount_whenDryRun")
+    void shouldOnlyCount_whenDryRun() {
+        var status = service.run(options(null, true));
+
+        assertEquals(DlqReplayStatus.State.COMPLETED, status.state());
+        assertEquals(3, status.matched());
+        assertEquals(0, status.replayed());
+        verify(template, never()).send(ArgumentMatchers.<ProducerRecord<String, byte[]>>any());
+        assertNull(consumer.committed(Set.of(PARTITION)).get(PARTITION));
+    }
+
+    @Test
+    @DisplayName("shouldKeepLastCheckpoint_whenRepublishFails")
+    void shouldKeepLastCheckpoint_whenRepublishFails() {
+        when(template.send(ArgumentMatchers.<ProducerRecord<String, byte[]>>any()))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        var status = service.run(options(null, false));
+
+        assertEquals(DlqReplayStatus.State.FAILED, status.state());
+        assertEquals(1, status.replayed());
+        assertEquals(2, status.failed());
+        assertNull(consumer.committed(Set.of(PARTITION)).get(PARTITION));
+    }
+
+    @Test
+    @DisplayName("shouldKeepProgressPerFilter_whenFiltersDiffer")
+    void shouldKeepProgressPerFilter_whenFiltersDiffer() {
+        var timeouts = DlqReplayServiceImpl.progressGroup("replay", options("TimeoutException", false));
+
+        assertEquals(timeouts, DlqReplayServiceImpl.progressGroup("replay",
+                new DlqReplayOptions(null, null, "TimeoutException", Set.of(), 10.0, 5, false, true)));
+        assertTrue(timeouts.startsWith("replay-"));
+        assertNotEquals(timeouts, DlqReplayServiceImpl.progressGroup("replay", options(null, false)));
+        assertNotEquals(timeouts, DlqReplayServiceImpl.progressGroup("replay", new DlqReplayOptions(
+                Instant.ofEpochMilli(2_000), null, "TimeoutException", Set.of(), null, 0, false, false)));
+    }
+
+    @Test
+    @DisplayName("shouldReadProgressFromTheFilterGroup_whenRunning")
+    void shouldReadProgressFromTheFilterGroup_whenRunning() {
+        service.run(options(null, true));
+
+        verify(consumerFactory).createConsumer(
+                DlqReplayServiceImpl.progressGroup("order-created-dlq-replay", options(null, true)), null);
+    }
+}
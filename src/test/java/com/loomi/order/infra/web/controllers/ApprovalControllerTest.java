@@ -0,0 +1,85 @@
+package com.loomi.order.infra.web.controllers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.loomi.order.domain.order.dto.ApprovalOutcome;
+import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.usecase.ApprovalService;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+
+@WebMvcTest(ApprovalController.class)
+@DisplayName("ApprovalController Tests")
+class ApprovalControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ApprovalService approvalService;
+
+    @Test
+    @DisplayName("Should list pending approvals with the page size capped")
+    void shouldListPendingApprovals_withCappedPageSize() throws Exception {
+        var order = Order.builder()
+                .id(UUID.randomUUID())
+                .customerId("customer-123")
+                .totalAmount(BigDecimal.valueOf(12_000))
+                .status(OrderStatus.PENDING_APPROVAL)
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30, 0))
+                .items(new ArrayList<>())
+                .build();
+        when(approvalService.pendingApprovals(500)).thenReturn(List.of(order));
+
+        mockMvc.perform(get("/api/approvals").param("limit", "10000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].order_id").value(order.id().toString()))
+                .andExpect(jsonPath("$.orders[0].status").value("PENDING_APPROVAL"));
+    }
+
+    @Test
+    @DisplayName("Should return one outcome per decision in the batch")
+    void shouldReturnOutcomePerDecision() throws Exception {
+        var orderId = UUID.randomUUID();
+        when(approvalService.decide(any()))
+                .thenReturn(List.of(ApprovalOutcome.of(orderId, ApprovalOutcome.Result.PROCESSED)));
+
+        mockMvc.perform(post("/api/approvals/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"decisions\":[{\"order_id\":\"" + orderId + "\",\"decision\":\"APPROVE\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].order_id").value(orderId.toString()))
+                .andExpect(jsonPath("$.results[0].result").value("PROCESSED"));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch with a decision missing its order id")
+    void shouldRejectBatch_whenDecisionHasNoOrderId() throws Exception {
+        mockMvc.perform(post("/api/approvals/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"decisions\":[{\"decision\":\"REJECT\"}]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(approvalService, never()).decide(any());
+    }
+}
@@ -1,8 +1,12 @@
 package com.loomi.order.infra.web.controllers;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -17,11 +21,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.loomi.order.app.service.admission.OrderAdmissionGate;
+import com.loomi.order.domain.exception.HttpException;
+import com.loomi.order.domain.order.dto.OrderSummary;
 import com.loomi.order.domain.order.entity.Order;
+import com.loomi.order.domain.order.exception.OrderAdmissionRejectedException;
 import com.loomi.order.domain.order.usecase.OrderService;
 import com.loomi.order.domain.order.valueobject.OrderStatus;
 
@@ -35,6 +44,9 @@ class OrderControllerTest {
     @MockitoBean
     private OrderService orderService;
 
+    @MockitoBean
+    private OrderAdmissionGate admissionGate;
+
     private UUID orderId1;
     private UUID orderId2;
     private String customerId;
@@ -62,12 +74,12 @@ class OrderControllerTest {
     @Test
     @DisplayName("Should return list of orders when customerId is provided")
     void shouldReturnListOfOrders_whenCustomerIdIsProvided() throws Exception {
-        List<Order> orders = List.of(
-                createTestOrder(orderId1, customerId, BigDecimal.valueOf(100.50), OrderStatus.PENDING, testCreatedAt),
-                createTestOrder(orderId2, customerId, BigDecimal.valueOf(250.75), OrderStatus.PROCESSED, testCreatedAt.plusDays(1))
+        List<OrderSummary> orders = List.of(
+                new OrderSummary(orderId1, customerId, OrderStatus.PENDING, BigDecimal.valueOf(100.50), 1, testCreatedAt),
+                new OrderSummary(orderId2, customerId, OrderStatus.PROCESSED, BigDecimal.valueOf(250.75), 2, testCreatedAt.plusDays(1))
         );
 
-        when(orderService.findOrdersByCustomerId(customerId)).thenReturn(orders);
+        when(orderService.findOrderSummaries(customerId)).thenReturn(orders);
 
         mockMvc.perform(get("/api/orders")
                 .param("customerId", customerId)
@@ -89,7 +101,7 @@ class OrderControllerTest {
     @Test
     @DisplayName("Should return empty list when customer has no orders")
     void shouldReturnEmptyList_whenCustomerHasNoOrders() throws Exception {
-        when(orderService.findOrdersByCustomerId(customerId)).thenReturn(List.of());
+        when(orderService.findOrderSummaries(customerId)).thenReturn(List.of());
 
         mockMvc.perform(get("/api/orders")
                 .param("customerId", customerId)
@@ -134,5 +146,40 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.orders").isArray())
                 .andExpect(jsonPath("$.orders.length()").value(0));
     }
-}
 
+    @Test
+    @DisplayName("Should return 429 with Retry-After when admission is rejected")
+    void shouldReturnTooManyRequests_whenAdmissionIsRejected() throws Exception {
+        when(admissionGate.admit(eq(customerId), any()))
+                .thenThrow(new OrderAdmissionRejectedException("server is saturated", 2));
+
+        mockMvc.perform(post("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"customer_id": "%s", "items": [{"product_id": "%s", "quantity": 1}]}
+                        """.formatted(customerId, UUID.randomUUID())))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"));
+    }
+
+    @Test
+    @DisplayName("Should return 409 when the cancellation window has closed")
+    void shouldReturnConflict_whenCancellationWindowHasClosed() throws Exception {
+        when(orderService.cancelOrder(orderId1))
+                .thenThrow(new HttpException(HttpStatus.CONFLICT, "Cancellation window closed"));
+
+        mockMvc.perform(post("/api/orders/{orderId}/cancel", orderId1))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Should return cancelled order when cancellation succeeds")
+    void shouldReturnCancelledOrder_whenCancellationSucceeds() throws Exception {
+        when(orderService.cancelOrder(orderId1)).thenReturn(
+                createTestOrder(orderId1, customerId, BigDecimal.TEN, OrderStatus.CANCELLED, testCreatedAt));
+
+        mockMvc.perform(post("/api/orders/{orderId}/cancel", orderId1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+}
@@ -0,0 +1,147 @@
+package com.loomi.order.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.loomi.order.app.config.StockReservationConfig;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.entity.Product;
+import com.loomi.order.domain.product.repository.ProductRepository;
+import com.loomi.order.infra.persistence.product.ProductRepositoryImpl;
+import com.loomi.order.infra.persistence.product.StockReservationServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds per second against a real Postgres for one hot SKU, unsharded and split into
+ * {@code loadtest.hot-sku.shards} sub-counters. Every hold commits on its own, as in the pipeline, so the
+ * numbers include the row lock and commit round trip that {@code HotSkuStockBenchmark} only models. Run with
+ * {@code mvn -B test -Dtest=HotSkuStockLoadTest -Dloadtest=true}; {@code loadtest.hot-sku.consumers} must stay
+ * below the connection pool size.
+ */
+@Slf4j
+@Tag("load")
+@Testcontainers
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ProductRepositoryImpl.class, StockReservationServiceImpl.class, StockReservationConfig.class,
+        SimpleMeterRegistry.class})
+class HotSkuStockLoadTest {
+
+    private static final int CONSUMERS = Integer.getInteger("loadtest.hot-sku.consumers", 8);
+    private static final int SHARDS = Integer.getInteger("loadtest.hot-sku.shards", 16);
+    private static final long DURATION_SECONDS = Long.getLong("loadtest.duration", 10);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("order")
+            .withUsername("appuser")
+            .withPassword("apppass");
+
+    @DynamicPropertySource
+    static void overrideProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> CONSUMERS + 2);
+    }
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockReservationServiceImpl reservations;
+
+    @Autowired
+    private StockReservationConfig config;
+
+    private ExecutorService consumers;
+
+    @BeforeEach
+    void setUp() {
+        consumers = Executors.newFixedThreadPool(CONSUMERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumers.shutdownNow();
+        config.getShardedProducts().clear();
+    }
+
+    private UUID hotSku(int shards) {
+        var productId = productRepository.save(Product.builder()
+                .name("Hot SKU " + shards)
+                .productType(ProductType.PRE_ORDER)
+                .price(new BigDecimal("299.90"))
+                .stockQuantity(Integer.MAX_VALUE / 2)
+                .isActive(true)
+                .build()).id();
+        if (shards > 1) {
+            config.getShardedProducts().put(productId, shards);
+            reservations.applySharding(productId, shards);
+        }
+        return productId;
+    }
+
+    private double holdsPerSecond(UUID productId) throws Exception {
+        var holds = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        var running = new ArrayList<Future<?>>();
+        long start = System.nanoTime();
+        for (int i = 0; i < CONSUMERS; i++) {
+            running.add(consumers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    if (reservations.hold(UUID.randomUUID(), productId, 1)) {
+                        holds.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (var consumer : running) {
+            consumer.get();
+        }
+        return holds.get() / ((System.nanoTime() - start) / 1e9);
+    }
+
+    @Test
+    @DisplayName("Should report hot SKU holds per second with and without stock shards")
+    void shouldReportHoldsPerSecond_withAndWithoutShards() throws Exception {
+        double single = holdsPerSecond(hotSku(1));
+        double sharded = holdsPerSecond(hotSku(SHARDS));
+
+        log.info("Hot SKU holds with {} consumers over {}s: 1 row={}/s {} shards={}/s",
+                CONSUMERS, DURATION_SECONDS, Math.round(single), SHARDS, Math.round(sharded));
+
+        assertThat(single).isPositive();
+        assertThat(sharded).isPositive();
+    }
+}
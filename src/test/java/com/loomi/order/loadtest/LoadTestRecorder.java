@@ -0,0 +1,116 @@
+package com.loomi.order.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.loomi.order.domain.order.valueobject.OrderError;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.dto.ProductType;
+
+class LoadTestRecorder {
+
+    private record InFlight(ProductType type, long sentNanos) {
+    }
+
+    private record Terminal(OrderStatus status, String reason, long receivedNanos) {
+    }
+
+    private final Map<UUID, InFlight> inFlight = new HashMap<>();
+    private final Map<UUID, Terminal> earlyTerminals = new HashMap<>();
+    private final List<Long> latenciesNanos = new ArrayList<>();
+    private final Map<ProductType, List<Long>> latenciesByType = new EnumMap<>(ProductType.class);
+    private final Map<OrderStatus, Integer> outcomes = new EnumMap<>(OrderStatus.class);
+    private final Map<String, Integer> errors = new TreeMap<>();
+    private final Map<Integer, Integer> httpErrors = new TreeMap<>();
+    private final AtomicInteger sent = new AtomicInteger();
+    private final AtomicInteger accepted = new AtomicInteger();
+
+    void sent() {
+        sent.incrementAndGet();
+    }
+
+    synchronized void accepted(UUID orderId, ProductType type, long sentNanos) {
+        accepted.incrementAndGet();
+        var request = new InFlight(type, sentNanos);
+        var early = earlyTerminals.remove(orderId);
+        if (early != null) {
+            complete(request, early);
+        } else {
+            inFlight.put(orderId, request);
+        }
+    }
+
+    synchronized void rejected(int httpStatus) {
+        httpErrors.merge(httpStatus, 1, Integer::sum);
+    }
+
+    synchronized void terminal(UUID orderId, OrderStatus status, String reason, long receivedNanos) {
+        var terminal = new Terminal(status, reason, receivedNanos);
+        var request = inFlight.remove(orderId);
+        if (request == null) {
+            earlyTerminals.put(orderId, terminal);
+        } else {
+            complete(request, terminal);
+        }
+    }
+
+    synchronized int pending() {
+        return inFlight.size();
+    }
+
+    int sentCount() {
+        return sent.get();
+    }
+
+    int acceptedCount() {
+        return accepted.get();
+    }
+
+    synchronized Snapshot snapshot() {
+        var byType = new EnumMap<ProductType, List<Long>>(ProductType.class);
+        latenciesByType.forEach((type, values) -> byType.put(type, List.copyOf(values)));
+        return new Snapshot(
+                List.copyOf(latenciesNanos),
+                byType,
+                new EnumMap<>(outcomes),
+                new TreeMap<>(errors),
+                new TreeMap<>(httpErrors),
+                inFlight.size());
+    }
+
+    private void complete(InFlight request, Terminal terminal) {
+        long latency = terminal.receivedNanos() - request.sentNanos();
+        latenciesNanos.add(latency);
+        latenciesByType.computeIfAbsent(request.type(), t -> new ArrayList<>()).add(latency);
+        outcomes.merge(terminal.status(), 1, Integer::sum);
+        if (terminal.status() == OrderStatus.FAILED) {
+            var reasons = terminal.reason() == null ? "" : terminal.reason();
+            for (var reason : reasons.split(",")) {
+                errors.merge(toOrderError(reason.trim()), 1, Integer::sum);
+            }
+        }
+    }
+
+    private static String toOrderError(String reason) {
+        try {
+            return OrderError.valueOf(reason).name();
+        } catch (IllegalArgumentException e) {
+            return "UNCLASSIFIED";
+        }
+    }
+
+    record Snapshot(
+            List<Long> latenciesNanos,
+            Map<ProductType, List<Long>> latenciesByType,
+            Map<OrderStatus, Integer> outcomes,
+            Map<String, Integer> errors,
+            Map<Integer, Integer> httpErrors,
+            int timedOut) {
+    }
+}
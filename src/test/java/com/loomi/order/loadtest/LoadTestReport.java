@@ -0,0 +1,97 @@
+package com.loomi.order.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.dto.ProductType;
+
+record LoadTestReport(
+        Instant startedAt,
+        double targetRatePerSecond,
+        long durationSeconds,
+        Map<ProductType, Integer> mix,
+        long seed,
+        int sent,
+        int accepted,
+        int completed,
+        int timedOut,
+        double throughputPerSecond,
+        Latency latency,
+        Map<ProductType, Latency> latencyByType,
+        Map<OrderStatus, Integer> outcomes,
+        Map<String, Integer> errors,
+        Map<Integer, Integer> httpErrors) {
+
+    record Latency(int count, double p50Ms, double p90Ms, double p95Ms, double p99Ms, double maxMs, double meanMs) {
+
+        static Latency of(List<Long> nanos) {
+            if (nanos.isEmpty()) {
+                return new Latency(0, 0, 0, 0, 0, 0, 0);
+            }
+            long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new Latency(
+                    sorted.length,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.90),
+                    percentile(sorted, 0.95),
+                    percentile(sorted, 0.99),
+                    toMillis(sorted[sorted.length - 1]),
+                    toMillis((long) Arrays.stream(sorted).average().orElse(0)));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return toMillis(sorted[Math.max(0, index)]);
+        }
+
+        private static double toMillis(long nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+
+    static LoadTestReport from(LoadTestSettings settings, Instant startedAt, long elapsedNanos,
+            LoadTestRecorder recorder) {
+        var snapshot = recorder.snapshot();
+        var byType = new EnumMap<ProductType, Latency>(ProductType.class);
+        snapshot.latenciesByType().forEach((type, values) -> byType.put(type, Latency.of(values)));
+        int completed = snapshot.latenciesNanos().size();
+
+        return new LoadTestReport(
+                startedAt,
+                settings.ratePerSecond(),
+                settings.duration().toSeconds(),
+                settings.mix(),
+                settings.seed(),
+                recorder.sentCount(),
+                recorder.acceptedCount(),
+                completed,
+                snapshot.timedOut(),
+                Math.round(completed / (elapsedNanos / 1e9) * 100) / 100.0,
+                Latency.of(snapshot.latenciesNanos()),
+                byType,
+                snapshot.outcomes(),
+                snapshot.errors(),
+                snapshot.httpErrors());
+    }
+
+    void writeTo(Path output) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), this);
+    }
+}
@@ -0,0 +1,50 @@
+package com.loomi.order.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.loomi.order.domain.product.dto.ProductType;
+
+record LoadTestSettings(
+        double ratePerSecond,
+        Duration duration,
+        Duration drainTimeout,
+        Map<ProductType, Integer> mix,
+        long seed,
+        Path output) {
+
+    private static final String DEFAULT_MIX = "PHYSICAL=40,DIGITAL=20,SUBSCRIPTION=15,PRE_ORDER=15,CORPORATE=10";
+
+    static LoadTestSettings fromSystemProperties() {
+        var timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        return new LoadTestSettings(
+                Double.parseDouble(System.getProperty("loadtest.rate", "20")),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("loadtest.duration", "30"))),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("loadtest.drain-timeout", "60"))),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Long.parseLong(System.getProperty("loadtest.seed", "42")),
+                Path.of(System.getProperty("loadtest.output", "target/loadtest/result-" + timestamp + ".json")));
+    }
+
+    static Map<ProductType, Integer> parseMix(String mix) {
+        var weights = new EnumMap<ProductType, Integer>(ProductType.class);
+        for (var entry : mix.split(",")) {
+            var parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(ProductType.valueOf(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Load test mix must have at least one positive weight");
+        }
+        return weights;
+    }
+}
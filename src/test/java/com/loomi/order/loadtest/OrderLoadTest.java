@@ -0,0 +1,273 @@
+package com.loomi.order.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.kafka.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loomi.order.domain.order.dto.CreateOrderItem;
+import com.loomi.order.domain.order.entity.OrderFailedEvent;
+import com.loomi.order.domain.order.entity.OrderPendingApprovalEvent;
+import com.loomi.order.domain.order.entity.OrderProcessedEvent;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
+import com.loomi.order.domain.product.dto.ProductType;
+import com.loomi.order.domain.product.dto.RawProductMetadata;
+import com.loomi.order.domain.product.entity.Product;
+import com.loomi.order.domain.product.repository.ProductRepository;
+import com.loomi.order.infra.event.codec.EventDeserializer;
+import com.loomi.order.infra.web.dto.CreateOrderRequest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Open-model load test: orders arrive at {@code loadtest.rate}/s regardless of response times and
+ * are tracked from POST until their terminal event. Run with {@code make loadtest}.
+ */
+@Slf4j
+@Tag("load")
+@Testcontainers
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrderLoadTest {
+
+    @Container
+    private static KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("apache/kafka:3.7.0"));
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("order")
+            .withUsername("appuser")
+            .withPassword("apppass");
+
+    @DynamicPropertySource
+    static void overrideProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.kafka.bootstrap-servers", kafka::getBootstrapServers);
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${kafka.topics.order-processed}")
+    private String orderProcessedTopic;
+
+    @Value("${kafka.topics.order-failed}")
+    private String orderFailedTopic;
+
+    @Value("${kafka.topics.order-pending-approval}")
+    private String orderPendingApprovalTopic;
+
+    private Map<ProductType, Product> createFixtures() {
+        var fixtures = new EnumMap<ProductType, Product>(ProductType.class);
+        fixtures.put(ProductType.PHYSICAL, saveProduct("Load Physical", ProductType.PHYSICAL, "89.90",
+                metadata("warehouseLocation", "SP")));
+        fixtures.put(ProductType.DIGITAL, saveProduct("Load Digital", ProductType.DIGITAL, "29.90",
+                new RawProductMetadata()));
+        fixtures.put(ProductType.SUBSCRIPTION, saveProduct("Load Subscription", ProductType.SUBSCRIPTION, "49.90",
+                metadata("GROUP_ID", "LOAD_GROUP")));
+        fixtures.put(ProductType.PRE_ORDER, saveProduct("Load Pre-order", ProductType.PRE_ORDER, "199.00",
+                metadata("releaseDate", LocalDate.now().plusDays(30).toString())));
+        fixtures.put(ProductType.CORPORATE, saveProduct("Load Corporate", ProductType.CORPORATE, "500.00",
+                new RawProductMetadata()));
+        return fixtures;
+    }
+
+    private Product saveProduct(String name, ProductType type, String price, RawProductMetadata metadata) {
+        return productRepository.save(Product.builder()
+                .name(name)
+                .productType(type)
+                .price(new BigDecimal(price))
+                .stockQuantity(1_000_000)
+                .isActive(true)
+                .metadata(metadata)
+                .build());
+    }
+
+    private static RawProductMetadata metadata(String key, Object value) {
+        var metadata = new RawProductMetadata();
+        metadata.put(key, value);
+        return metadata;
+    }
+
+    private CreateOrderRequest buildRequest(int sequence, Product product) {
+        var itemMetadata = switch (product.productType()) {
+            case PHYSICAL -> metadata("warehouseLocation", "SP");
+            case CORPORATE -> {
+                var corporate = metadata("cnpj", "12345678000199");
+                corporate.put("paymentTerms", "NET_30");
+                yield corporate;
+            }
+            default -> new RawProductMetadata();
+        };
+        var item = CreateOrderItem.builder()
+                .productId(product.id())
+                .quantity(1)
+                .metadata(itemMetadata)
+                .build();
+        return new CreateOrderRequest("load-customer-" + sequence, List.of(item));
+    }
+
+    private static ProductType pick(Map<ProductType, Integer> mix, Random random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = random.nextInt(total);
+        for (var entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    private Thread startTerminalTracker(LoadTestRecorder recorder, AtomicBoolean running) {
+        var props = new Properties();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "loadtest-" + UUID.randomUUID());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        var processed = new EventDeserializer<>(new JsonDeserializer<>(OrderProcessedEvent.class, objectMapper, false));
+        var failed = new EventDeserializer<>(new JsonDeserializer<>(OrderFailedEvent.class, objectMapper, false));
+        var pending = new EventDeserializer<>(
+                new JsonDeserializer<>(OrderPendingApprovalEvent.class, objectMapper, false));
+
+        var thread = new Thread(() -> {
+            try (var consumer = new KafkaConsumer<>(props, new StringDeserializer(), new ByteArrayDeserializer())) {
+                consumer.subscribe(List.of(orderProcessedTopic, orderFailedTopic, orderPendingApprovalTopic));
+                while (running.get()) {
+                    for (var record : consumer.poll(Duration.ofMillis(100))) {
+                        long now = System.nanoTime();
+                        if (record.topic().equals(orderProcessedTopic)) {
+                            var event = processed.deserialize(record.topic(), record.value());
+                            recorder.terminal(event.getPayload().getOrderId(), OrderStatus.PROCESSED, null, now);
+                        } else if (record.topic().equals(orderFailedTopic)) {
+                            var event = failed.deserialize(record.topic(), record.value());
+                            recorder.terminal(event.getPayload().getOrderId(), OrderStatus.FAILED,
+                                    event.getPayload().getReason(), now);
+                        } else {
+                            var event = pending.deserialize(record.topic(), record.value());
+                            recorder.terminal(event.getOrderId(), OrderStatus.PENDING_APPROVAL, null, now);
+                        }
+                    }
+                }
+            }
+        }, "loadtest-tracker");
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    @DisplayName("Should sustain configured arrival rate and report end-to-end latency")
+    void shouldSustainArrivalRateAndReportLatency() throws Exception {
+        var settings = LoadTestSettings.fromSystemProperties();
+        var fixtures = createFixtures();
+        var recorder = new LoadTestRecorder();
+        var running = new AtomicBoolean(true);
+        var tracker = startTerminalTracker(recorder, running);
+        var http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        var endpoint = URI.create("http://localhost:" + port + "/api/orders");
+        var random = new Random(settings.seed());
+        var responses = new ArrayList<CompletableFuture<?>>();
+
+        var startedAt = Instant.now();
+        long start = System.nanoTime();
+        long end = start + settings.duration().toNanos();
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / settings.ratePerSecond();
+        long nextArrival = start;
+
+        for (int sequence = 0; nextArrival < end; sequence++) {
+            LockSupport.parkNanos(nextArrival - System.nanoTime());
+            var type = pick(settings.mix(), random);
+            var body = objectMapper.writeValueAsString(buildRequest(sequence, fixtures.get(type)));
+            var request = HttpRequest.newBuilder(endpoint)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+
+            long sentNanos = System.nanoTime();
+            recorder.sent();
+            responses.add(http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null) {
+                            recorder.rejected(-1);
+                        } else if (response.statusCode() == 201) {
+                            var location = response.headers().firstValue("Location").orElseThrow();
+                            var orderId = UUID.fromString(location.substring(location.lastIndexOf('/') + 1));
+                            recorder.accepted(orderId, type, sentNanos);
+                        } else {
+                            recorder.rejected(response.statusCode());
+                        }
+                    }));
+
+            nextArrival += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+        }
+
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> null)
+                .get(settings.drainTimeout().toSeconds(), TimeUnit.SECONDS);
+        long drainDeadline = System.nanoTime() + settings.drainTimeout().toNanos();
+        while (recorder.pending() > 0 && System.nanoTime() < drainDeadline) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        long elapsed = System.nanoTime() - start;
+        running.set(false);
+        tracker.join();
+
+        var report = LoadTestReport.from(settings, startedAt, elapsed, recorder);
+        report.writeTo(settings.output());
+        log.info("Load test finished: sent={} accepted={} completed={} throughput={}/s p50={}ms p99={}ms -> {}",
+                report.sent(), report.accepted(), report.completed(), report.throughputPerSecond(),
+                report.latency().p50Ms(), report.latency().p99Ms(), settings.output().toAbsolutePath());
+
+        assertThat(report.sent()).isPositive();
+        assertThat(report.completed()).isPositive();
+    }
+}
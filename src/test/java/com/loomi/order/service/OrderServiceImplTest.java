@@ -1,15 +1,20 @@
 package com.loomi.order.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.mockito.ArgumentCaptor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,15 +24,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loomi.order.app.config.ReadModelConfig;
 import com.loomi.order.app.service.order.OrderServiceImpl;
+import com.loomi.order.app.service.product.PreOrderSlotAllocator;
+import com.loomi.order.domain.credit.usecase.CreditLedgerService;
 import com.loomi.order.domain.order.dto.CreateOrder;
 import com.loomi.order.domain.order.dto.CreateOrderItem;
 import com.loomi.order.domain.order.entity.Order;
 import com.loomi.order.domain.order.exception.OrderNotFoundException;
 import com.loomi.order.domain.event.usecase.OrderEventPublisher;
 import com.loomi.order.domain.order.repository.OrderRepository;
+import com.loomi.order.domain.order.repository.OrderSummaryRepository;
+import com.loomi.order.domain.order.valueobject.OrderItem;
+import com.loomi.order.domain.order.valueobject.OrderStatus;
 import com.loomi.order.domain.exception.HttpException;
 import com.loomi.order.domain.product.dto.ProductType;
 import com.loomi.order.domain.product.dto.RawProductMetadata;
@@ -47,6 +61,18 @@ public class OrderServiceImplTest {
     @Mock
     private OrderEventPublisher orderEventPublisher;
 
+    @Mock
+    private PreOrderSlotAllocator slotAllocator;
+
+    @Mock
+    private CreditLedgerService creditLedger;
+
+    @Mock
+    private OrderSummaryRepository orderSummaries;
+
+    @Spy
+    private ReadModelConfig readModelConfig = new ReadModelConfig();
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -91,6 +117,121 @@ public class OrderServiceImplTest {
             .build();
     }
 
+    private Order createPreOrder(OrderStatus status, LocalDate maxCancellationDate) {
+        var metadata = new RawProductMetadata();
+        metadata.put("maxCancellationDate", maxCancellationDate.toString());
+        var item = OrderItem.builder()
+            .productId(testProductId)
+            .quantity(2)
+            .productType(ProductType.PRE_ORDER)
+            .price(BigDecimal.valueOf(249.90))
+            .metadata(metadata)
+            .build();
+        return Order.builder()
+            .id(testOrderId)
+            .customerId("customer-123")
+            .status(status)
+            .items(new ArrayList<>(List.of(item)))
+            .build();
+    }
+
+    @Test
+    void shouldCancelOrderAndReleaseSlots_whenWithinCancellationWindow() {
+        Order order = createPreOrder(OrderStatus.PROCESSED, LocalDate.now().plusDays(3));
+        when(orderRepository.findById(testOrderId)).thenReturn(Optional.of(order));
+        when(orderRepository.transitionStatus(List.of(testOrderId), OrderStatus.PROCESSED, OrderStatus.CANCELLED))
+            .thenReturn(List.of(testOrderId));
+        when(slotAllocator.release(order)).thenReturn(1);
+
+        Order result = orderService.cancelOrder(testOrderId);
+
+        assertEquals(OrderStatus.CANCELLED, result.status());
+        verify(slotAllocator).release(order);
+        verify(creditLedger).release(testOrderId);
+        verify(orderSummaries).applyAll(argThat(changes -> changes.size() == 1
+                && changes.get(0).orderId().equals(testOrderId)
+                && changes.get(0).status() == OrderStatus.CANCELLED));
+    }
+
+    @Test
+    void shouldRejectCancellation_whenCancellationWindowHasClosed() {
+        Order order = createPreOrder(OrderStatus.PROCESSED, LocalDate.now().minusDays(1));
+        when(orderRepository.findById(testOrderId)).thenReturn(Optional.of(order));
+
+        HttpException thrown = assertThrows(HttpException.class, () -> orderService.cancelOrder(testOrderId));
+
+        assertEquals(HttpStatus.CONFLICT, thrown.status());
+        assertEquals(OrderStatus.PROCESSED, order.status());
+        verify(slotAllocator, never()).release(any());
+    }
+
+    @Test
+    void shouldRejectCancellation_whenProcessedItemHasNoCancellationWindow() {
+        Order order = createPreOrder(OrderStatus.PROCESSED, LocalDate.now().plusDays(3));
+        order.items().add(OrderItem.builder()
+            .productId(UUID.randomUUID())
+            .quantity(1)
+            .productType(ProductType.PHYSICAL)
+            .price(BigDecimal.valueOf(99.90))
+            .metadata(new RawProductMetadata())
+            .build());
+        when(orderRepository.findById(testOrderId)).thenReturn(Optional.of(order));
+
+        HttpException thrown = assertThrows(HttpException.class, () -> orderService.cancelOrder(testOrderId));
+
+        assertEquals(HttpStatus.CONFLICT, thrown.status());
+        verify(orderRepository, never()).transitionStatus(any(), any(), any());
+        verify(slotAllocator, never()).release(any());
+    }
+
+    @Test
+    void shouldRejectCancellation_andKeepReservations_whenStatusChangedConcurrently() {
+        Order order = createPreOrder(OrderStatus.PENDING_APPROVAL, LocalDate.now().plusDays(3));
+        when(orderRepository.findById(testOrderId)).thenReturn(Optional.of(order));
+        when(orderRepository.transitionStatus(List.of(testOrderId), OrderStatus.PENDING_APPROVAL, OrderStatus.CANCELLED))
+            .thenReturn(List.of());
+
+        HttpException thrown = assertThrows(HttpException.class, () -> orderService.cancelOrder(testOrderId));
+
+        assertEquals(HttpStatus.CONFLICT, thrown.status());
+        assertEquals(OrderStatus.PENDING_APPROVAL, order.status());
+        verify(slotAllocator, never()).release(any());
+        verify(creditLedger, never()).release(any());
+        verify(orderSummaries, never()).applyAll(any());
+    }
+
+    @Test
+    void shouldRejectCancellation_whenOrderIsStillPending() {
+        Order order = createPreOrder(OrderStatus.PENDING, LocalDate.now().plusDays(3));
+        when(orderRepository.findById(testOrderId)).thenReturn(Optional.of(order));
+
+        HttpException thrown = assertThrows(HttpException.class, () -> orderService.cancelOrder(testOrderId));
+
+        assertEquals(HttpStatus.CONFLICT, thrown.status());
+        verify(orderRepository, never()).transitionStatus(any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectCancellation_whenOrderIsArchived() {
+        Order archived = createPreOrder(OrderStatus.PROCESSED, LocalDate.now().plusDays(3));
+        when(orderRepository.findById(testOrderId)).thenReturn(Optional.empty());
+        when(orderRepository.findArchivedById(testOrderId)).thenReturn(Optional.of(archived));
+
+        HttpException thrown = assertThrows(HttpException.class, () -> orderService.cancelOrder(testOrderId));
+
+        assertEquals(HttpStatus.CONFLICT, thrown.status());
+        verify(orderRepository, never()).transitionStatus(any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnArchivedOrder_whenOrderWasArchived() {
+        Order archived = createTestOrder(testOrderId, "customer-123");
+        when(orderRepository.findById(testOrderId)).thenReturn(Optional.empty());
+        when(orderRepository.findArchivedById(testOrderId)).thenReturn(Optional.of(archived));
+
+        assertEquals(archived, orderService.consultOrder(testOrderId));
+    }
+
     @Test
     void shouldReturnOrder_whenOrderExists() {
         Order expectedOrder = createTestOrder(testOrderId, "customer-123");
@@ -284,4 +425,61 @@ public class OrderServiceImplTest {
         Order capturedOrder = orderCaptor.getValue();
         assertEquals(expectedTotal, capturedOrder.totalAmount());
     }
+
+    @Test
+    void shouldStoreOnlyRequestMetadata_whenProductMetadataIsOverlaid() throws Exception {
+        var productMetadata = new RawProductMetadata();
+        productMetadata.put("warehouseLocation", "SP");
+        productMetadata.put("paymentTerms", "NET_30");
+        Product product = createTestProduct(testProductId, ProductType.PHYSICAL)
+            .metadata(productMetadata)
+            .metadataVersion(3);
+
+        var requestMetadata = new RawProductMetadata();
+        requestMetadata.put("paymentTerms", "NET_60");
+        CreateOrder createOrder = createTestCreateOrder(List.of(CreateOrderItem.builder()
+            .productId(testProductId)
+            .quantity(1)
+            .metadata(requestMetadata)
+            .build()));
+
+        when(productRepository.findAllById(List.of(testProductId))).thenReturn(List.of(product));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var item = orderService.createOrder(createOrder).items().get(0);
+
+        assertEquals("SP", item.metadata().get("warehouseLocation"));
+        assertEquals("NET_60", item.metadata().get("paymentTerms"));
+        assertEquals(3, item.productMetadataVersion());
+        assertEquals("SP", productMetadata.get("warehouseLocation"));
+
+        var json = new ObjectMapper().writeValueAsString(item);
+        assertTrue(json.contains("\"paymentTerms\":\"NET_60\""));
+        assertFalse(json.contains("warehouseLocation"));
+    }
+
+    @Test
+    void shouldCollapseDuplicateProductLines_whenCreatingOrder() {
+        var firstMetadata = new RawProductMetadata();
+        firstMetadata.put("cnpj", "12345678000199");
+        var secondMetadata = new RawProductMetadata();
+        secondMetadata.put("paymentTerms", "NET_60");
+        CreateOrder createOrder = createTestCreateOrder(List.of(
+            createTestOrderItem(testProductId, 2).metadata(firstMetadata),
+            createTestOrderItem(testProductId, 3).metadata(secondMetadata)
+        ));
+
+        when(productRepository.findAllById(List.of(testProductId)))
+            .thenReturn(List.of(createTestProduct(testProductId, ProductType.CORPORATE)));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Order result = orderService.createOrder(createOrder);
+
+        assertEquals(1, result.items().size());
+        var item = result.items().get(0);
+        assertEquals(5, item.quantity());
+        assertEquals("12345678000199", item.metadata().get("cnpj"));
+        assertEquals("NET_60", item.metadata().get("paymentTerms"));
+        assertEquals(0, new BigDecimal("50.00").compareTo(result.totalAmount()));
+    }
 }